@@ -43,12 +43,18 @@ public final class ActorSchedulerConfiguration {
     final var metricsEnabled = schedulerConfiguration.metricsEnabled();
     final var prefix = schedulerConfiguration.schedulerPrefix();
     final var nodeId = schedulerConfiguration.nodeId();
+    final var colocatePartitionActors = schedulerConfiguration.colocatePartitionActors();
+    final var stealingDomainSize = schedulerConfiguration.stealingDomainSize();
+    final var virtualIoThreads = schedulerConfiguration.virtualIoThreads();
 
     final var scheduler =
         ActorScheduler.newActorScheduler()
             .setActorClock(actorClockConfiguration.getClock().orElse(null))
             .setCpuBoundActorThreadCount(cpuThreads)
             .setIoBoundActorThreadCount(ioThreads)
+            .setColocatePartitionActors(colocatePartitionActors)
+            .setStealingDomainSize(stealingDomainSize)
+            .setVirtualIoBoundActorThreads(virtualIoThreads)
             .setMeterRegistry(metricsEnabled ? registry : null)
             .setSchedulerName(String.format("%s-%s", prefix, nodeId))
             .setIdleStrategySupplier(idleStrategySupplier)
@@ -63,5 +69,8 @@ public final class ActorSchedulerConfiguration {
       int ioThreads,
       boolean metricsEnabled,
       String schedulerPrefix,
-      String nodeId) {}
+      String nodeId,
+      boolean colocatePartitionActors,
+      int stealingDomainSize,
+      boolean virtualIoThreads) {}
 }
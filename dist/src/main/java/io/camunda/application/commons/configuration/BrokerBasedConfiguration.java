@@ -73,7 +73,15 @@ public class BrokerBasedConfiguration {
     final var ioThreads = threadCfg.getIoThreadCount();
     final var metricsEnabled = properties.getExperimental().getFeatures().isEnableActorMetrics();
     final var nodeId = String.valueOf(properties.getCluster().getNodeId());
-    return new SchedulerConfiguration(cpuThreads, ioThreads, metricsEnabled, "Broker", nodeId);
+    return new SchedulerConfiguration(
+        cpuThreads,
+        ioThreads,
+        metricsEnabled,
+        "Broker",
+        nodeId,
+        threadCfg.isColocatePartitionActors(),
+        threadCfg.getStealingDomainSize(),
+        threadCfg.isVirtualIoThreads());
   }
 
   @ConditionalOnRestGatewayEnabled
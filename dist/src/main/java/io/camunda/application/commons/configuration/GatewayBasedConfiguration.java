@@ -93,7 +93,9 @@ public final class GatewayBasedConfiguration {
     final var ioThreads = 0;
     final var metricsEnabled = false;
     final var nodeId = properties.getCluster().getMemberId();
-    return new SchedulerConfiguration(cpuThreads, ioThreads, metricsEnabled, "Gateway", nodeId);
+    // The Gateway has no partitions, so there are no actors to co-locate.
+    return new SchedulerConfiguration(
+        cpuThreads, ioThreads, metricsEnabled, "Gateway", nodeId, false, 0, false);
   }
 
   @Bean
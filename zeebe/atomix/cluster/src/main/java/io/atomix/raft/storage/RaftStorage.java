@@ -65,6 +65,7 @@ public final class RaftStorage {
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
   private final boolean preallocateSegmentFiles;
+  private final int readAheadSize;
   private final MeterRegistry meterRegistry;
   private final RaftLogFlusher.Factory flusherFactory;
 
@@ -78,6 +79,7 @@ public final class RaftStorage {
       final ReceivableSnapshotStore persistedSnapshotStore,
       final int journalIndexDensity,
       final boolean preallocateSegmentFiles,
+      final int readAheadSize,
       final MeterRegistry meterRegistry) {
     this.prefix = prefix;
     this.partitionId = partitionId;
@@ -88,6 +90,7 @@ public final class RaftStorage {
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
     this.preallocateSegmentFiles = preallocateSegmentFiles;
+    this.readAheadSize = readAheadSize;
     this.meterRegistry = meterRegistry;
 
     try {
@@ -197,6 +200,7 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withJournalIndexDensity(journalIndexDensity)
         .withPreallocateSegmentFiles(preallocateSegmentFiles)
+        .withReadAheadSize(readAheadSize)
         .withMetaStore(metaStore)
         .withFlusher(flusherFactory.createFlusher(threadFactory))
         .build();
@@ -253,6 +257,7 @@ public final class RaftStorage {
         RaftLogFlusher.Factory::direct;
     private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
     private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+    private static final int DEFAULT_READ_AHEAD_SIZE = 0;
 
     // impossible value to make it clear it's unset and there's an error
     private static final int DEFAULT_PARTITION_ID = -1;
@@ -265,6 +270,7 @@ public final class RaftStorage {
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
     private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+    private int readAheadSize = DEFAULT_READ_AHEAD_SIZE;
     private int partitionId = DEFAULT_PARTITION_ID;
     private final MeterRegistry meterRegistry;
 
@@ -372,6 +378,18 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets how many bytes of a segment are read ahead of log readers which read sequentially, e.g.
+     * when replaying or exporting. By default, nothing is read ahead.
+     *
+     * @param readAheadSize the number of bytes to read ahead, or 0 to disable read ahead
+     * @return this builder for chaining
+     */
+    public Builder withReadAheadSize(final int readAheadSize) {
+      this.readAheadSize = readAheadSize;
+      return this;
+    }
+
     /**
      * The ID of the partition on which this storage resides.
      *
@@ -400,6 +418,7 @@ public final class RaftStorage {
           persistedSnapshotStore,
           journalIndexDensity,
           preallocateSegmentFiles,
+          readAheadSize,
           meterRegistry);
     }
   }
@@ -0,0 +1,190 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import static io.camunda.zeebe.journal.file.JournalMetricsDoc.GROUP_FLUSH_SIZE;
+import static io.camunda.zeebe.journal.file.JournalMetricsDoc.GROUP_FLUSH_TIME;
+
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.atomix.utils.concurrent.ThreadContextFactory;
+import io.camunda.zeebe.journal.CheckedJournalException;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalException;
+import io.camunda.zeebe.util.CloseableSilently;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link RaftLogFlusher.Factory} which shares a single flush schedule between the Raft logs of
+ * all partitions of a broker. Like the {@link DelayedFlusher}, calls to {@link
+ * RaftLogFlusher#flush(Journal)} are only signals that a journal has data to be flushed. Instead of
+ * scheduling a flush per partition, the journals are collected, and all journals which were
+ * signalled within the same window are flushed together, one after another, from a single thread.
+ *
+ * <p>This bounds the time a flush is delayed by the given delay, and reduces the number of times
+ * the disk is hit when many partitions write at the same time, e.g. on network attached disks where
+ * the latency of a flush dominates. Journals which fail to flush are kept and retried with the next
+ * window.
+ *
+ * <p>The flushers created by this factory are thread safe. Closing them only stops flushing the
+ * journal they were used with; the factory itself must be closed to stop the shared schedule.
+ */
+public final class GroupFlusher implements RaftLogFlusher.Factory, CloseableSilently {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(GroupFlusher.class);
+  private final Scheduler scheduler;
+  private final Duration delayTime;
+  private final DistributionSummary flushSize;
+  private final Timer flushTime;
+
+  private final Object scheduledMonitor = new Object();
+  private final Set<Journal> dirtyJournals = new LinkedHashSet<>();
+  private Scheduled scheduledFlush;
+
+  private boolean closed;
+
+  public GroupFlusher(
+      final Scheduler scheduler, final Duration delayTime, final MeterRegistry registry) {
+    this.scheduler = Objects.requireNonNull(scheduler, "must specify a scheduler");
+    this.delayTime = Objects.requireNonNull(delayTime, "must specify a valid flush delay");
+    Objects.requireNonNull(registry, "must specify a meter registry");
+
+    flushSize =
+        DistributionSummary.builder(GROUP_FLUSH_SIZE.getName())
+            .description(GROUP_FLUSH_SIZE.getDescription())
+            .serviceLevelObjectives(GROUP_FLUSH_SIZE.getDistributionSLOs())
+            .register(registry);
+    flushTime =
+        Timer.builder(GROUP_FLUSH_TIME.getName())
+            .description(GROUP_FLUSH_TIME.getDescription())
+            .serviceLevelObjectives(GROUP_FLUSH_TIME.getTimerSLOs())
+            .register(registry);
+  }
+
+  /**
+   * Returns a flusher which signals the shared schedule. The given thread factory is not used, as
+   * all flushes run on the scheduler of this factory.
+   */
+  @Override
+  public RaftLogFlusher createFlusher(final ThreadContextFactory ignored) {
+    return new GroupMemberFlusher();
+  }
+
+  @Override
+  public void close() {
+    synchronized (scheduledMonitor) {
+      closed = true;
+      dirtyJournals.clear();
+
+      if (scheduledFlush != null) {
+        scheduledFlush.cancel();
+        scheduledFlush = null;
+      }
+    }
+
+    scheduler.close();
+  }
+
+  private void scheduleFlush(final Journal journal) {
+    synchronized (scheduledMonitor) {
+      if (closed) {
+        LOGGER.debug("Skipped scheduling flush due to flusher being closed");
+        return;
+      }
+
+      dirtyJournals.add(journal);
+      if (scheduledFlush == null) {
+        LOGGER.trace("Scheduling group flush in {}", delayTime);
+        scheduledFlush = scheduler.schedule(delayTime, this::asyncFlush);
+      }
+    }
+  }
+
+  private void removeJournal(final Journal journal) {
+    synchronized (scheduledMonitor) {
+      dirtyJournals.remove(journal);
+    }
+  }
+
+  private void asyncFlush() {
+    final List<Journal> journals;
+    synchronized (scheduledMonitor) {
+      scheduledFlush = null;
+      journals = new ArrayList<>(dirtyJournals);
+      dirtyJournals.clear();
+    }
+
+    if (journals.isEmpty()) {
+      return;
+    }
+
+    LOGGER.trace("Flushing {} journals after {}", journals.size(), delayTime);
+
+    final List<Journal> failedJournals = new ArrayList<>();
+    final var sample = Timer.start();
+    for (final var journal : journals) {
+      try {
+        journal.flush();
+      } catch (final CheckedJournalException | JournalException | UncheckedIOException e) {
+        LOGGER.warn("Failed to flush journal, operation will be retried after {}", delayTime, e);
+        failedJournals.add(journal);
+      }
+    }
+    sample.stop(flushTime);
+    flushSize.record(journals.size());
+
+    failedJournals.forEach(this::scheduleFlush);
+  }
+
+  @Override
+  public String toString() {
+    return "GroupFlusher{"
+        + "scheduler="
+        + scheduler
+        + ", delay="
+        + delayTime
+        + ", scheduledFlush="
+        + scheduledFlush
+        + '}';
+  }
+
+  private final class GroupMemberFlusher implements RaftLogFlusher {
+    private Journal journal;
+    private boolean closed;
+
+    @Override
+    public synchronized void flush(final Journal journal) {
+      if (closed) {
+        LOGGER.debug("Skipped scheduling flush due to flusher being closed");
+        return;
+      }
+
+      this.journal = journal;
+      scheduleFlush(journal);
+    }
+
+    @Override
+    public synchronized void close() {
+      closed = true;
+      if (journal != null) {
+        removeJournal(journal);
+      }
+    }
+  }
+}
@@ -129,6 +129,18 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets how many bytes of a segment are read ahead of log readers which read sequentially, e.g.
+   * when replaying or exporting.
+   *
+   * @param readAheadSize the number of bytes to read ahead, or 0 to disable read ahead
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withReadAheadSize(final int readAheadSize) {
+    journalBuilder.withReadAheadSize(readAheadSize);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
@@ -28,6 +28,10 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link GroupFlusher} offers the same trade-off as {@link DelayedFlusher}, but shares a single
+ * flush schedule between the logs of all partitions of a broker, such that their flushes are
+ * grouped together.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
@@ -0,0 +1,194 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.atomix.utils.concurrent.ThreadContextFactory;
+import io.camunda.zeebe.journal.CheckedJournalException;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.file.JournalMetricsDoc;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class GroupFlusherTest {
+  private final TestScheduler scheduler = new TestScheduler();
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final GroupFlusher groupFlusher =
+      new GroupFlusher(scheduler, Duration.ofSeconds(5), meterRegistry);
+  private final ThreadContextFactory threadFactory = Mockito.mock(ThreadContextFactory.class);
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(groupFlusher);
+  }
+
+  @Test
+  void shouldScheduleSingleFlushForAllJournals() throws CheckedJournalException {
+    // given
+    final var firstJournal = Mockito.mock(Journal.class);
+    final var secondJournal = Mockito.mock(Journal.class);
+
+    // when
+    groupFlusher.createFlusher(threadFactory).flush(firstJournal);
+    groupFlusher.createFlusher(threadFactory).flush(secondJournal);
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).delay).isEqualTo(Duration.ofSeconds(5));
+    Mockito.verify(firstJournal, Mockito.never()).flush();
+    Mockito.verify(secondJournal, Mockito.never()).flush();
+  }
+
+  @Test
+  void shouldFlushAllJournalsWhenScheduledTaskIsRun() throws CheckedJournalException {
+    // given
+    final var firstJournal = Mockito.mock(Journal.class);
+    final var secondJournal = Mockito.mock(Journal.class);
+    final var firstFlusher = groupFlusher.createFlusher(threadFactory);
+    groupFlusher.createFlusher(threadFactory).flush(secondJournal);
+    firstFlusher.flush(firstJournal);
+    firstFlusher.flush(firstJournal);
+
+    // when
+    scheduler.runNext();
+
+    // then
+    Mockito.verify(firstJournal, Mockito.times(1)).flush();
+    Mockito.verify(secondJournal, Mockito.times(1)).flush();
+    assertThat(scheduler.operations).isEmpty();
+
+    final var flushSize = meterRegistry.get(JournalMetricsDoc.GROUP_FLUSH_SIZE.getName()).summary();
+    assertThat(flushSize.count()).isOne();
+    assertThat(flushSize.totalAmount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRescheduleOnlyFailedJournals() throws CheckedJournalException {
+    // given
+    final var failingJournal = Mockito.mock(Journal.class);
+    final var journal = Mockito.mock(Journal.class);
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot allocate memory")))
+        .when(failingJournal)
+        .flush();
+    groupFlusher.createFlusher(threadFactory).flush(failingJournal);
+    groupFlusher.createFlusher(threadFactory).flush(journal);
+
+    // when
+    scheduler.runNext();
+    Mockito.doNothing().when(failingJournal).flush();
+    scheduler.runNext();
+
+    // then
+    Mockito.verify(failingJournal, Mockito.times(2)).flush();
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldNotFlushJournalOfClosedFlusher() throws CheckedJournalException {
+    // given
+    final var closedJournal = Mockito.mock(Journal.class);
+    final var journal = Mockito.mock(Journal.class);
+    final var closedFlusher = groupFlusher.createFlusher(threadFactory);
+    closedFlusher.flush(closedJournal);
+    groupFlusher.createFlusher(threadFactory).flush(journal);
+
+    // when
+    closedFlusher.close();
+    closedFlusher.flush(closedJournal);
+    scheduler.runNext();
+
+    // then
+    Mockito.verify(closedJournal, Mockito.never()).flush();
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldCancelScheduledFlushOnClose() throws CheckedJournalException {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    groupFlusher.createFlusher(threadFactory).flush(journal);
+    final var scheduled = scheduler.operations.get(0);
+
+    // when
+    groupFlusher.close();
+
+    // then
+    assertThat(scheduled.cancelled).isTrue();
+  }
+
+  @Test
+  void shouldNotScheduleFlushWhenClosed() throws CheckedJournalException {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    final var flusher = groupFlusher.createFlusher(threadFactory);
+
+    // when
+    groupFlusher.close();
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).isEmpty();
+  }
+
+  private static final class TestScheduled implements Scheduled {
+    private final Duration delay;
+    private final Runnable operation;
+
+    private boolean cancelled;
+
+    private TestScheduled(final Duration delay, final Runnable operation) {
+      this.delay = delay;
+      this.operation = operation;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+
+    @Override
+    public boolean isDone() {
+      return cancelled;
+    }
+  }
+
+  private static final class TestScheduler implements Scheduler {
+    private final List<TestScheduled> operations = new ArrayList<>();
+
+    @Override
+    public Scheduled schedule(final long delay, final TimeUnit timeUnit, final Runnable callback) {
+      final var scheduled =
+          new TestScheduled(Duration.of(delay, timeUnit.toChronoUnit()), callback);
+      operations.add(scheduled);
+      return scheduled;
+    }
+
+    @Override
+    public Scheduled schedule(
+        final Duration initialDelay, final Duration interval, final Runnable callback) {
+      throw new UnsupportedOperationException("fixed rate scheduling unsupported");
+    }
+
+    private void runNext() {
+      operations.remove(0).operation.run();
+    }
+  }
+}
@@ -128,7 +128,7 @@ public final class PartitionManagerImpl
     managementService =
         new DefaultPartitionManagementService(
             clusterServices.getMembershipService(), clusterServices.getCommunicationService());
-    raftPartitionFactory = new RaftPartitionFactory(brokerCfg);
+    raftPartitionFactory = new RaftPartitionFactory(brokerCfg, meterRegistry);
   }
 
   public void start() {
@@ -260,6 +260,7 @@ public final class PartitionManagerImpl
             result.completeExceptionally(error);
           } else {
             partitions.clear();
+            raftPartitionFactory.close();
             topologyManager.closeAsync().onComplete(result);
           }
         });
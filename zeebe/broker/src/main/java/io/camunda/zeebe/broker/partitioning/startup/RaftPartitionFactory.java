@@ -12,12 +12,15 @@ import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
 import io.atomix.raft.storage.log.DelayedFlusher;
+import io.atomix.raft.storage.log.GroupFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher;
+import io.atomix.utils.concurrent.SingleThreadContext;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.raft.ZeebeEntryValidator;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.configuration.ExperimentalCfg;
 import io.camunda.zeebe.broker.system.configuration.RaftCfg.FlushConfig;
+import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.FileUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
@@ -27,13 +30,18 @@ import java.nio.file.Paths;
 import java.time.Duration;
 import org.slf4j.Logger;
 
-public final class RaftPartitionFactory {
+public final class RaftPartitionFactory implements CloseableSilently {
   public static final String GROUP_NAME = "raft-partition";
   private static final Logger LOG = Loggers.SYSTEM_LOGGER;
   private final BrokerCfg brokerCfg;
+  private final MeterRegistry meterRegistry;
 
-  public RaftPartitionFactory(final BrokerCfg brokerCfg) {
+  // shared by all partitions created by this factory, if configured; closed with the factory
+  private GroupFlusher groupFlusher;
+
+  public RaftPartitionFactory(final BrokerCfg brokerCfg, final MeterRegistry meterRegistry) {
     this.brokerCfg = brokerCfg;
+    this.meterRegistry = meterRegistry;
   }
 
   public RaftPartition createRaftPartition(
@@ -81,6 +89,7 @@ public final class RaftPartitionFactory {
     storageConfig.setFreeDiskSpace(
         brokerCfg.getData().getDisk().getFreeSpace().getReplication().toBytes());
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
+    storageConfig.setReadAheadSize((int) brokerCfg.getData().getLogReadAheadSize().toBytes());
     storageConfig.setPreallocateSegmentFiles(
         brokerCfg.getExperimental().getRaft().isPreallocateSegmentFiles());
 
@@ -116,7 +125,7 @@ public final class RaftPartitionFactory {
       final FlushConfig config, final ExperimentalCfg experimental) {
     // for backwards compatibility; remove this and flatten when this is removed
     if (experimental.isDisableExplicitRaftFlush()) {
-      return createFlusherFactory(new FlushConfig(false, Duration.ZERO));
+      return createFlusherFactory(new FlushConfig(false, Duration.ZERO, false));
     }
 
     return createFlusherFactory(config);
@@ -129,6 +138,10 @@ public final class RaftPartitionFactory {
         return RaftLogFlusher.Factory::direct;
       }
 
+      if (config.shared()) {
+        return getOrCreateGroupFlusher(delayTime);
+      }
+
       return threadFactory -> new DelayedFlusher(threadFactory.createContext(), delayTime);
     }
 
@@ -140,4 +153,22 @@ public final class RaftPartitionFactory {
 
     return RaftLogFlusher.Factory::noop;
   }
+
+  private synchronized GroupFlusher getOrCreateGroupFlusher(final Duration delayTime) {
+    if (groupFlusher == null) {
+      groupFlusher =
+          new GroupFlusher(
+              new SingleThreadContext("raft-group-flusher-%d"), delayTime, meterRegistry);
+    }
+
+    return groupFlusher;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (groupFlusher != null) {
+      groupFlusher.close();
+      groupFlusher = null;
+    }
+  }
 }
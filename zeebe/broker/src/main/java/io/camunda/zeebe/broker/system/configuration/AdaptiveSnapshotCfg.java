@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import java.time.Duration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configures when snapshots are taken in addition to the fixed snapshot period, based on how much
+ * work would have to be replayed after a fail-over.
+ */
+public final class AdaptiveSnapshotCfg implements ConfigurationEntry {
+
+  private static final Duration DEFAULT_CHECK_INTERVAL = Duration.ofSeconds(10);
+  private static final long DEFAULT_MAX_REPLAY_RECORDS = 1_000_000L;
+  private static final DataSize DEFAULT_MAX_MEMTABLE_SIZE = DataSize.ofMegabytes(256);
+  private static final Duration DEFAULT_MAX_REPLAY_TIME = Duration.ofMinutes(1);
+
+  private boolean enabled = false;
+  private Duration checkInterval = DEFAULT_CHECK_INTERVAL;
+  private long maxReplayRecords = DEFAULT_MAX_REPLAY_RECORDS;
+  private DataSize maxMemtableSize = DEFAULT_MAX_MEMTABLE_SIZE;
+  private Duration maxReplayTime = DEFAULT_MAX_REPLAY_TIME;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (checkInterval == null || !checkInterval.isPositive()) {
+      throw new IllegalArgumentException(
+          "checkInterval must be positive but was %s".formatted(checkInterval));
+    }
+    if (maxReplayRecords < 1) {
+      throw new IllegalArgumentException(
+          "maxReplayRecords must be >= 1 but was %s".formatted(maxReplayRecords));
+    }
+    if (maxMemtableSize == null || maxMemtableSize.toBytes() < 1) {
+      throw new IllegalArgumentException(
+          "maxMemtableSize must be positive but was %s".formatted(maxMemtableSize));
+    }
+    if (maxReplayTime == null || !maxReplayTime.isPositive()) {
+      throw new IllegalArgumentException(
+          "maxReplayTime must be positive but was %s".formatted(maxReplayTime));
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getCheckInterval() {
+    return checkInterval;
+  }
+
+  public void setCheckInterval(final Duration checkInterval) {
+    this.checkInterval = checkInterval;
+  }
+
+  public long getMaxReplayRecords() {
+    return maxReplayRecords;
+  }
+
+  public void setMaxReplayRecords(final long maxReplayRecords) {
+    this.maxReplayRecords = maxReplayRecords;
+  }
+
+  public DataSize getMaxMemtableSize() {
+    return maxMemtableSize;
+  }
+
+  public void setMaxMemtableSize(final DataSize maxMemtableSize) {
+    this.maxMemtableSize = maxMemtableSize;
+  }
+
+  public Duration getMaxReplayTime() {
+    return maxReplayTime;
+  }
+
+  public void setMaxReplayTime(final Duration maxReplayTime) {
+    this.maxReplayTime = maxReplayTime;
+  }
+
+  @Override
+  public String toString() {
+    return "AdaptiveSnapshotCfg{"
+        + "enabled="
+        + enabled
+        + ", checkInterval="
+        + checkInterval
+        + ", maxReplayRecords="
+        + maxReplayRecords
+        + ", maxMemtableSize="
+        + maxMemtableSize
+        + ", maxReplayTime="
+        + maxReplayTime
+        + '}';
+  }
+}
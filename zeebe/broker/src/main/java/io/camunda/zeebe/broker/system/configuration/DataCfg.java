@@ -29,8 +29,12 @@ public final class DataCfg implements ConfigurationEntry {
 
   private Duration snapshotPeriod = Duration.ofMinutes(5);
 
+  private AdaptiveSnapshotCfg adaptiveSnapshot = new AdaptiveSnapshotCfg();
+
   private int logIndexDensity = 100;
 
+  private DataSize logReadAheadSize = DataSize.ofBytes(0);
+
   // diskUsageMonitoring and watermark configs are deprecated and replaced by DiskCfg
   private Boolean diskUsageMonitoringEnabled;
   private Double diskUsageReplicationWatermark;
@@ -47,6 +51,7 @@ public final class DataCfg implements ConfigurationEntry {
     }
 
     backup.init(globalConfig, brokerBase);
+    adaptiveSnapshot.init(globalConfig, brokerBase);
 
     overrideDiskConfig();
     disk.init(globalConfig, brokerBase);
@@ -124,6 +129,14 @@ public final class DataCfg implements ConfigurationEntry {
     this.snapshotPeriod = snapshotPeriod;
   }
 
+  public AdaptiveSnapshotCfg getAdaptiveSnapshot() {
+    return adaptiveSnapshot;
+  }
+
+  public void setAdaptiveSnapshot(final AdaptiveSnapshotCfg adaptiveSnapshot) {
+    this.adaptiveSnapshot = adaptiveSnapshot;
+  }
+
   public int getLogIndexDensity() {
     return logIndexDensity;
   }
@@ -132,6 +145,14 @@ public final class DataCfg implements ConfigurationEntry {
     this.logIndexDensity = logIndexDensity;
   }
 
+  public DataSize getLogReadAheadSize() {
+    return logReadAheadSize;
+  }
+
+  public void setLogReadAheadSize(final DataSize logReadAheadSize) {
+    this.logReadAheadSize = logReadAheadSize;
+  }
+
   public void setDiskUsageMonitoringEnabled(final boolean diskUsageMonitoringEnabled) {
     this.diskUsageMonitoringEnabled = diskUsageMonitoringEnabled;
   }
@@ -177,8 +198,12 @@ public final class DataCfg implements ConfigurationEntry {
         + logSegmentSize
         + ", snapshotPeriod="
         + snapshotPeriod
+        + ", adaptiveSnapshot="
+        + adaptiveSnapshot
         + ", logIndexDensity="
         + logIndexDensity
+        + ", logReadAheadSize="
+        + logReadAheadSize
         + ", diskUsageMonitoringEnabled="
         + diskUsageMonitoringEnabled
         + ", diskUsageReplicationWatermark="
@@ -13,6 +13,7 @@ import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.camunda.zeebe.broker.system.configuration.backpressure.LimitCfg;
 import io.camunda.zeebe.broker.system.configuration.backpressure.RateLimitCfg;
+import io.camunda.zeebe.broker.system.configuration.backpressure.RequestQuotasCfg;
 import java.util.Objects;
 
 public class FlowControlCfg implements ConfigurationEntry {
@@ -20,6 +21,7 @@ public class FlowControlCfg implements ConfigurationEntry {
   private static final ObjectMapper MAPPER =
       JsonMapper.builder().addModule(new JavaTimeModule()).build();
   private LimitCfg request = null;
+  private RequestQuotasCfg quotas = null;
   private RateLimitCfg write = null;
 
   public FlowControlCfg() {}
@@ -32,6 +34,14 @@ public class FlowControlCfg implements ConfigurationEntry {
     this.request = request;
   }
 
+  public RequestQuotasCfg getQuotas() {
+    return quotas;
+  }
+
+  public void setQuotas(final RequestQuotasCfg quotas) {
+    this.quotas = quotas;
+  }
+
   public RateLimitCfg getWrite() {
     return write;
   }
@@ -42,7 +52,7 @@ public class FlowControlCfg implements ConfigurationEntry {
 
   @Override
   public int hashCode() {
-    return Objects.hash(request, write);
+    return Objects.hash(request, quotas, write);
   }
 
   @Override
@@ -53,7 +63,9 @@ public class FlowControlCfg implements ConfigurationEntry {
     if (!(o instanceof final FlowControlCfg that)) {
       return false;
     }
-    return Objects.equals(request, that.request) && Objects.equals(write, that.write);
+    return Objects.equals(request, that.request)
+        && Objects.equals(quotas, that.quotas)
+        && Objects.equals(write, that.write);
   }
 
   public static FlowControlCfg deserialize(final String serialized) throws JsonProcessingException {
@@ -13,8 +13,11 @@ import java.util.Set;
 public final class ProcessingCfg implements ConfigurationEntry {
 
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
+  private static final int DEFAULT_REPLAY_TRANSACTION_LIMIT = 1_000;
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
+  private int maxRecordsInReplayTransaction = DEFAULT_REPLAY_TRANSACTION_LIMIT;
   private boolean enableAsyncScheduledTasks = true;
+  private boolean enablePipelinedProcessing = false;
   private Duration scheduledTaskCheckInterval = Duration.ofSeconds(1);
   private Set<Long> skipPositions;
 
@@ -24,6 +27,11 @@ public final class ProcessingCfg implements ConfigurationEntry {
       throw new IllegalArgumentException(
           "maxCommandsInBatch must be >= 1 but was %s".formatted(maxCommandsInBatch));
     }
+    if (maxRecordsInReplayTransaction < 1) {
+      throw new IllegalArgumentException(
+          "maxRecordsInReplayTransaction must be >= 1 but was %s"
+              .formatted(maxRecordsInReplayTransaction));
+    }
     if (!scheduledTaskCheckInterval.isPositive()) {
       throw new IllegalArgumentException(
           "scheduledTaskCheckInterval must be positive but was %s"
@@ -39,6 +47,14 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public int getMaxRecordsInReplayTransaction() {
+    return maxRecordsInReplayTransaction;
+  }
+
+  public void setMaxRecordsInReplayTransaction(final int maxRecordsInReplayTransaction) {
+    this.maxRecordsInReplayTransaction = maxRecordsInReplayTransaction;
+  }
+
   public boolean isEnableAsyncScheduledTasks() {
     return enableAsyncScheduledTasks;
   }
@@ -47,6 +63,14 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.enableAsyncScheduledTasks = enableAsyncScheduledTasks;
   }
 
+  public boolean isEnablePipelinedProcessing() {
+    return enablePipelinedProcessing;
+  }
+
+  public void setEnablePipelinedProcessing(final boolean enablePipelinedProcessing) {
+    this.enablePipelinedProcessing = enablePipelinedProcessing;
+  }
+
   public Set<Long> skipPositions() {
     return skipPositions != null ? skipPositions : Set.of();
   }
@@ -60,8 +84,12 @@ public final class ProcessingCfg implements ConfigurationEntry {
     return "ProcessingCfg{"
         + "maxCommandsInBatch="
         + maxCommandsInBatch
+        + ", maxRecordsInReplayTransaction="
+        + maxRecordsInReplayTransaction
         + ", enableAsyncScheduledTasks="
         + enableAsyncScheduledTasks
+        + ", enablePipelinedProcessing="
+        + enablePipelinedProcessing
         + ", scheduledTaskCheckInterval="
         + scheduledTaskCheckInterval
         + '}';
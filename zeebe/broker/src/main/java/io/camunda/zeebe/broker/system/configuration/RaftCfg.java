@@ -11,7 +11,8 @@ import java.time.Duration;
 
 public final class RaftCfg implements ConfigurationEntry {
   public static final boolean DEFAULT_ENABLE_PRIORITY_ELECTION = true;
-  private static final FlushConfig DEFAULT_FLUSH_CONFIG = new FlushConfig(true, Duration.ZERO);
+  private static final FlushConfig DEFAULT_FLUSH_CONFIG =
+      new FlushConfig(true, Duration.ZERO, false);
 
   private boolean enablePriorityElection = DEFAULT_ENABLE_PRIORITY_ELECTION;
 
@@ -43,10 +44,17 @@ public final class RaftCfg implements ConfigurationEntry {
         + '}';
   }
 
-  public record FlushConfig(boolean enabled, Duration delayTime) {
-    public FlushConfig(final boolean enabled, final Duration delayTime) {
+  /**
+   * @param enabled if false, the Raft log is only flushed before a snapshot is taken
+   * @param delayTime if greater than zero, flushes are delayed by at most the given time
+   * @param shared if true and the delay is greater than zero, the flushes of all partitions of the
+   *     broker share a single schedule, and are grouped together
+   */
+  public record FlushConfig(boolean enabled, Duration delayTime, boolean shared) {
+    public FlushConfig(final boolean enabled, final Duration delayTime, final boolean shared) {
       this.enabled = enabled;
       this.delayTime = delayTime == null ? Duration.ZERO : delayTime;
+      this.shared = shared;
     }
   }
 }
@@ -9,10 +9,16 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.springframework.util.unit.DataSize;
 
 public final class RocksdbCfg implements ConfigurationEntry {
@@ -28,6 +34,8 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private Map<String, RocksdbColumnFamilyGroupCfg> columnFamilyGroups = new HashMap<>();
+  private Map<ZbColumnFamilies, DataSize> rowCacheSizes = new EnumMap<>(ZbColumnFamilies.class);
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -129,6 +137,23 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.accessMetrics = accessMetrics;
   }
 
+  public Map<String, RocksdbColumnFamilyGroupCfg> getColumnFamilyGroups() {
+    return columnFamilyGroups;
+  }
+
+  public void setColumnFamilyGroups(
+      final Map<String, RocksdbColumnFamilyGroupCfg> columnFamilyGroups) {
+    this.columnFamilyGroups = columnFamilyGroups;
+  }
+
+  public Map<ZbColumnFamilies, DataSize> getRowCacheSizes() {
+    return rowCacheSizes;
+  }
+
+  public void setRowCacheSizes(final Map<ZbColumnFamilies, DataSize> rowCacheSizes) {
+    this.rowCacheSizes = rowCacheSizes;
+  }
+
   public RocksDbConfiguration createRocksDbConfiguration() {
     return new RocksDbConfiguration()
         .setColumnFamilyOptions(columnFamilyOptions)
@@ -139,7 +164,16 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setColumnFamilyGroups(
+            columnFamilyGroups.entrySet().stream()
+                .map(group -> group.getValue().createColumnFamilyGroupConfiguration(group.getKey()))
+                .collect(Collectors.toCollection(ArrayList::new)))
+        .setRowCacheSizes(
+            rowCacheSizes.entrySet().stream()
+                .collect(
+                    Collectors.toMap(
+                        cache -> cache.getKey().getValue(), cache -> cache.getValue().toBytes())));
   }
 
   @Override
@@ -165,6 +199,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", columnFamilyGroups="
+        + columnFamilyGroups
+        + ", rowCacheSizes="
+        + rowCacheSizes
         + '}';
   }
 
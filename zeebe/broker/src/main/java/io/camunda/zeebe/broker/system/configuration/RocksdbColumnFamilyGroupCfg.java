@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyGroupConfiguration;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.ArrayList;
+import java.util.List;
+import org.rocksdb.CompactionStyle;
+import org.springframework.util.unit.DataSize;
+
+public final class RocksdbColumnFamilyGroupCfg {
+
+  private List<ZbColumnFamilies> columnFamilies = new ArrayList<>();
+  private DataSize blockSize = DataSize.ofBytes(ColumnFamilyGroupConfiguration.DEFAULT_BLOCK_SIZE);
+  private double bloomFilterBitsPerKey =
+      ColumnFamilyGroupConfiguration.DEFAULT_BLOOM_FILTER_BITS_PER_KEY;
+  private CompactionStyle compactionStyle = ColumnFamilyGroupConfiguration.DEFAULT_COMPACTION_STYLE;
+
+  public List<ZbColumnFamilies> getColumnFamilies() {
+    return columnFamilies;
+  }
+
+  public void setColumnFamilies(final List<ZbColumnFamilies> columnFamilies) {
+    this.columnFamilies = columnFamilies;
+  }
+
+  public DataSize getBlockSize() {
+    return blockSize;
+  }
+
+  public void setBlockSize(final DataSize blockSize) {
+    this.blockSize = blockSize;
+  }
+
+  public double getBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey;
+  }
+
+  public void setBloomFilterBitsPerKey(final double bloomFilterBitsPerKey) {
+    this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+  }
+
+  public CompactionStyle getCompactionStyle() {
+    return compactionStyle;
+  }
+
+  public void setCompactionStyle(final CompactionStyle compactionStyle) {
+    this.compactionStyle = compactionStyle;
+  }
+
+  public ColumnFamilyGroupConfiguration createColumnFamilyGroupConfiguration(final String name) {
+    final var group =
+        new ColumnFamilyGroupConfiguration(name)
+            .setBlockSize(blockSize.toBytes())
+            .setBloomFilterBitsPerKey(bloomFilterBitsPerKey)
+            .setCompactionStyle(compactionStyle);
+    columnFamilies.forEach(group::addColumnFamily);
+    return group;
+  }
+
+  @Override
+  public String toString() {
+    return "RocksdbColumnFamilyGroupCfg{"
+        + "columnFamilies="
+        + columnFamilies
+        + ", blockSize="
+        + blockSize
+        + ", bloomFilterBitsPerKey="
+        + bloomFilterBitsPerKey
+        + ", compactionStyle="
+        + compactionStyle
+        + '}';
+  }
+}
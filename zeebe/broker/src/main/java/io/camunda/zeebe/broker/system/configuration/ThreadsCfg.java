@@ -10,6 +10,17 @@ package io.camunda.zeebe.broker.system.configuration;
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private boolean colocatePartitionActors = false;
+  private int stealingDomainSize = 0;
+  private boolean virtualIoThreads = false;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (stealingDomainSize < 0) {
+      throw new IllegalArgumentException(
+          "stealingDomainSize must be >= 0 but was %s".formatted(stealingDomainSize));
+    }
+  }
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +38,30 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public boolean isColocatePartitionActors() {
+    return colocatePartitionActors;
+  }
+
+  public void setColocatePartitionActors(final boolean colocatePartitionActors) {
+    this.colocatePartitionActors = colocatePartitionActors;
+  }
+
+  public int getStealingDomainSize() {
+    return stealingDomainSize;
+  }
+
+  public void setStealingDomainSize(final int stealingDomainSize) {
+    this.stealingDomainSize = stealingDomainSize;
+  }
+
+  public boolean isVirtualIoThreads() {
+    return virtualIoThreads;
+  }
+
+  public void setVirtualIoThreads(final boolean virtualIoThreads) {
+    this.virtualIoThreads = virtualIoThreads;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +69,12 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", colocatePartitionActors="
+        + colocatePartitionActors
+        + ", stealingDomainSize="
+        + stealingDomainSize
+        + ", virtualIoThreads="
+        + virtualIoThreads
         + '}';
   }
 }
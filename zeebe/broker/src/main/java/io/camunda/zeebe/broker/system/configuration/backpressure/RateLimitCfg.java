@@ -42,7 +42,10 @@ public class RateLimitCfg {
             throttling.isEnabled(),
             throttling.getAcceptableBacklog(),
             throttling.getMinimumLimit(),
-            throttling.getResolution()));
+            throttling.getResolution(),
+            throttling.getAcceptableProcessingBacklog(),
+            throttling.getSmoothing(),
+            throttling.isThrottleOnDiskSpace()));
   }
 
   public Duration getRampUp() {
@@ -0,0 +1,201 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration.backpressure;
+
+import io.camunda.zeebe.logstreams.impl.flowcontrol.RequestQuotas;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+
+public class RequestQuotasCfg {
+  private double defaultTenantShare = 1.0;
+  private List<TenantQuotaCfg> tenants = new ArrayList<>();
+  private List<CommandQuotaCfg> commands = new ArrayList<>();
+
+  public double getDefaultTenantShare() {
+    return defaultTenantShare;
+  }
+
+  public void setDefaultTenantShare(final double defaultTenantShare) {
+    this.defaultTenantShare = defaultTenantShare;
+  }
+
+  public List<TenantQuotaCfg> getTenants() {
+    return tenants;
+  }
+
+  public void setTenants(final List<TenantQuotaCfg> tenants) {
+    this.tenants = tenants;
+  }
+
+  public List<CommandQuotaCfg> getCommands() {
+    return commands;
+  }
+
+  public void setCommands(final List<CommandQuotaCfg> commands) {
+    this.commands = commands;
+  }
+
+  public RequestQuotas buildQuotas() {
+    final var tenantShares = new HashMap<String, Double>();
+    for (final var tenant : tenants) {
+      tenantShares.put(tenant.getTenantId(), tenant.getShare());
+    }
+
+    final var commandShares = new HashMap<Intent, Double>();
+    for (final var command : commands) {
+      final var intent =
+          Intent.fromProtocolValue(ValueType.valueOf(command.getValueType()), command.getIntent());
+      if (intent == Intent.UNKNOWN) {
+        throw new IllegalArgumentException(
+            "Expected a known intent of value type %s for the command quota, but got %s"
+                .formatted(command.getValueType(), command.getIntent()));
+      }
+      commandShares.put(intent, command.getShare());
+    }
+
+    return new RequestQuotas(defaultTenantShare, tenantShares, commandShares);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(defaultTenantShare, tenants, commands);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof final RequestQuotasCfg that)) {
+      return false;
+    }
+    return Double.compare(defaultTenantShare, that.defaultTenantShare) == 0
+        && Objects.equals(tenants, that.tenants)
+        && Objects.equals(commands, that.commands);
+  }
+
+  @Override
+  public String toString() {
+    return "RequestQuotasCfg{"
+        + "defaultTenantShare="
+        + defaultTenantShare
+        + ", tenants="
+        + tenants
+        + ", commands="
+        + commands
+        + '}';
+  }
+
+  public static class TenantQuotaCfg {
+    private String tenantId;
+    private double share = 1.0;
+
+    public String getTenantId() {
+      return tenantId;
+    }
+
+    public void setTenantId(final String tenantId) {
+      this.tenantId = tenantId;
+    }
+
+    public double getShare() {
+      return share;
+    }
+
+    public void setShare(final double share) {
+      this.share = share;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(tenantId, share);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof final TenantQuotaCfg that)) {
+        return false;
+      }
+      return Objects.equals(tenantId, that.tenantId) && Double.compare(share, that.share) == 0;
+    }
+
+    @Override
+    public String toString() {
+      return "TenantQuotaCfg{" + "tenantId='" + tenantId + '\'' + ", share=" + share + '}';
+    }
+  }
+
+  public static class CommandQuotaCfg {
+    private String valueType;
+    private String intent;
+    private double share = 1.0;
+
+    public String getValueType() {
+      return valueType;
+    }
+
+    public void setValueType(final String valueType) {
+      this.valueType = valueType;
+    }
+
+    public String getIntent() {
+      return intent;
+    }
+
+    public void setIntent(final String intent) {
+      this.intent = intent;
+    }
+
+    public double getShare() {
+      return share;
+    }
+
+    public void setShare(final double share) {
+      this.share = share;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(valueType, intent, share);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof final CommandQuotaCfg that)) {
+        return false;
+      }
+      return Objects.equals(valueType, that.valueType)
+          && Objects.equals(intent, that.intent)
+          && Double.compare(share, that.share) == 0;
+    }
+
+    @Override
+    public String toString() {
+      return "CommandQuotaCfg{"
+          + "valueType='"
+          + valueType
+          + '\''
+          + ", intent='"
+          + intent
+          + '\''
+          + ", share="
+          + share
+          + '}';
+    }
+  }
+}
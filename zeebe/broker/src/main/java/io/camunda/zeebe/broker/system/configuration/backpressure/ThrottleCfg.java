@@ -15,6 +15,9 @@ public class ThrottleCfg {
   private int acceptableBacklog = 100_000;
   private int minimumLimit = 100;
   private Duration resolution = Duration.ofSeconds(15);
+  private int acceptableProcessingBacklog = 0;
+  private double smoothing = 1.0;
+  private boolean throttleOnDiskSpace = false;
 
   public boolean isEnabled() {
     return enabled;
@@ -48,9 +51,40 @@ public class ThrottleCfg {
     this.acceptableBacklog = acceptableBacklog;
   }
 
+  public int getAcceptableProcessingBacklog() {
+    return acceptableProcessingBacklog;
+  }
+
+  public void setAcceptableProcessingBacklog(final int acceptableProcessingBacklog) {
+    this.acceptableProcessingBacklog = acceptableProcessingBacklog;
+  }
+
+  public double getSmoothing() {
+    return smoothing;
+  }
+
+  public void setSmoothing(final double smoothing) {
+    this.smoothing = smoothing;
+  }
+
+  public boolean isThrottleOnDiskSpace() {
+    return throttleOnDiskSpace;
+  }
+
+  public void setThrottleOnDiskSpace(final boolean throttleOnDiskSpace) {
+    this.throttleOnDiskSpace = throttleOnDiskSpace;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(enabled, acceptableBacklog, minimumLimit, resolution);
+    return Objects.hash(
+        enabled,
+        acceptableBacklog,
+        minimumLimit,
+        resolution,
+        acceptableProcessingBacklog,
+        smoothing,
+        throttleOnDiskSpace);
   }
 
   @Override
@@ -64,7 +98,10 @@ public class ThrottleCfg {
     return enabled == that.enabled
         && acceptableBacklog == that.acceptableBacklog
         && minimumLimit == that.minimumLimit
-        && Objects.equals(resolution, that.resolution);
+        && Objects.equals(resolution, that.resolution)
+        && acceptableProcessingBacklog == that.acceptableProcessingBacklog
+        && Double.compare(smoothing, that.smoothing) == 0
+        && throttleOnDiskSpace == that.throttleOnDiskSpace;
   }
 
   @Override
@@ -78,6 +115,12 @@ public class ThrottleCfg {
         + minimumLimit
         + ", resolution="
         + resolution
+        + ", acceptableProcessingBacklog="
+        + acceptableProcessingBacklog
+        + ", smoothing="
+        + smoothing
+        + ", throttleOnDiskSpace="
+        + throttleOnDiskSpace
         + '}';
   }
 }
@@ -9,12 +9,15 @@ package io.camunda.zeebe.broker.system.configuration.engine;
 
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import org.springframework.util.unit.DataSize;
 
 public final class CachesCfg implements ConfigurationEntry {
   private int drgCacheCapacity = EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
   private int resourceCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
+  private DataSize elementInstanceCacheSize =
+      DataSize.ofBytes(EngineConfiguration.DEFAULT_ELEMENT_INSTANCE_CACHE_SIZE);
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -48,6 +51,14 @@ public final class CachesCfg implements ConfigurationEntry {
     this.resourceCacheCapacity = resourceCacheCapacity;
   }
 
+  public DataSize getElementInstanceCacheSize() {
+    return elementInstanceCacheSize;
+  }
+
+  public void setElementInstanceCacheSize(final DataSize elementInstanceCacheSize) {
+    this.elementInstanceCacheSize = elementInstanceCacheSize;
+  }
+
   @Override
   public String toString() {
     return "CachesCfg{"
@@ -59,6 +70,8 @@ public final class CachesCfg implements ConfigurationEntry {
         + processCacheCapacity
         + ", resourceCacheCapacity="
         + resourceCacheCapacity
+        + ", elementInstanceCacheSize="
+        + elementInstanceCacheSize
         + '}';
   }
 }
@@ -18,4 +18,13 @@ public interface DiskSpaceUsageListener {
 
   /** Will be called when disk space usage goes below the threshold after it was above it. */
   default void onDiskSpaceAvailable() {}
+
+  /**
+   * Will be called every time the disk space usage is checked, regardless of whether it crossed the
+   * threshold.
+   *
+   * @param freeDiskSpace the currently available disk space in bytes
+   * @param minFreeDiskSpace the disk space in bytes which must be available to keep processing
+   */
+  default void onDiskSpaceUsage(final long freeDiskSpace, final long minFreeDiskSpace) {}
 }
@@ -60,6 +60,8 @@ public class DiskSpaceUsageMonitorActor extends Actor implements DiskSpaceUsageM
         diskSpaceUsageListeners.forEach(DiskSpaceUsageListener::onDiskSpaceAvailable);
       }
     }
+    diskSpaceUsageListeners.forEach(
+        listener -> listener.onDiskSpaceUsage(freeDiskSpaceAvailable, minFreeDiskSpaceRequired));
   }
 
   @Override
@@ -42,8 +42,6 @@ public interface PartitionTransitionContext extends PartitionContext {
 
   int getNodeId();
 
-  LogStream getLogStream();
-
   void setLogStream(LogStream logStream);
 
   AsyncSnapshotDirector getSnapshotDirector();
@@ -476,6 +476,17 @@ public final class ZeebePartition extends Actor
         });
   }
 
+  @Override
+  public void onDiskSpaceUsage(final long freeDiskSpace, final long minFreeDiskSpace) {
+    actor.run(
+        () -> {
+          final var logStream = context.getLogStream();
+          if (logStream != null) {
+            logStream.getFlowControl().onDiskSpaceUsage(freeDiskSpace, minFreeDiskSpace);
+          }
+        });
+  }
+
   public int getPartitionId() {
     return context.getPartitionId();
   }
@@ -209,6 +209,9 @@ class ZeebePartitionAdminAccess implements PartitionAdminAccess {
             if (flowControlCfg.getRequest() != null) {
               flowControl.setRequestLimit(flowControlCfg.getRequest().buildLimit());
             }
+            if (flowControlCfg.getQuotas() != null) {
+              flowControl.setRequestQuotas(flowControlCfg.getQuotas().buildQuotas());
+            }
             future.complete(null);
           } catch (final Exception e) {
             LOG.error(
@@ -231,7 +234,10 @@ class ZeebePartitionAdminAccess implements PartitionAdminAccess {
           try {
             final FlowControlLimits limits =
                 new FlowControlLimits(
-                    flowControl.getRequestLimit(), flowControl.getWriteRateLimit());
+                    flowControl.getRequestLimit(),
+                    flowControl.getRequestQuotas(),
+                    flowControl.getWriteRateLimit(),
+                    flowControl.getWriteRateThrottleState());
             future.complete(limits);
           } catch (final Exception e) {
             LOG.error("Failure on getting the limit configuration of flow control.", e);
@@ -0,0 +1,227 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.partitions.impl;
+
+import io.camunda.zeebe.broker.system.configuration.AdaptiveSnapshotCfg;
+import io.camunda.zeebe.stream.impl.StreamProcessor;
+import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil.PartitionKeyNames;
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Meter.Type;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides whether a snapshot should be taken before the next scheduled one, based on how much work
+ * would have to be replayed if this partition had to take over now. The following signals are
+ * considered:
+ *
+ * <ul>
+ *   <li>the replay distance, i.e. the number of records between the position of the last snapshot
+ *       and the last processed position
+ *   <li>the size of the memtables of the state, which have to be rebuilt on replay
+ *   <li>the projected replay time, i.e. the replay distance divided by the rate at which the
+ *       processed position advanced recently
+ * </ul>
+ *
+ * <p>On followers, the processed position advances at the speed of the continuous replay, so the
+ * projection is close to the time a fail-over would take. On leaders, the position advances at the
+ * speed of processing, which is slower than replay, so the projection is an upper bound.
+ *
+ * <p>The replay distance and the projected replay time are always exported as metrics, but
+ * snapshots are only triggered if the policy is enabled. This class is not thread safe, and is
+ * meant to be used from the {@link AsyncSnapshotDirector} actor.
+ */
+public final class AdaptiveSnapshotPolicy {
+
+  // weight of the newest sample of the processing rate, smooths out short bursts and pauses
+  private static final double RATE_SMOOTHING_FACTOR = 0.3;
+
+  private final boolean enabled;
+  private final Duration checkInterval;
+  private final long maxReplayRecords;
+  private final long maxMemtableSize;
+  private final Duration maxReplayTime;
+  private final LongSupplier memtableSize;
+
+  private final AtomicLong replayDistance = new AtomicLong();
+  private final AtomicLong projectedReplayTime = new AtomicLong();
+
+  private long snapshotPosition;
+  private long lastSamplePosition = StreamProcessor.UNSET_POSITION;
+  private long lastSampleMillis;
+  private double recordsPerMilli;
+
+  /**
+   * @param cfg the configured thresholds
+   * @param snapshotPosition the processed position of the latest snapshot, or {@link
+   *     StreamProcessor#UNSET_POSITION} if there is none
+   * @param memtableSize supplies the current size of the memtables of the state in bytes
+   * @param registry the registry to export the metrics to
+   */
+  public AdaptiveSnapshotPolicy(
+      final AdaptiveSnapshotCfg cfg,
+      final long snapshotPosition,
+      final LongSupplier memtableSize,
+      final MeterRegistry registry) {
+    Objects.requireNonNull(cfg, "must specify a configuration");
+    Objects.requireNonNull(registry, "must specify a meter registry");
+    this.memtableSize = Objects.requireNonNull(memtableSize, "must specify a memtable size");
+    this.snapshotPosition = Math.max(snapshotPosition, 0);
+    enabled = cfg.isEnabled();
+    checkInterval = cfg.getCheckInterval();
+    maxReplayRecords = cfg.getMaxReplayRecords();
+    maxMemtableSize = cfg.getMaxMemtableSize().toBytes();
+    maxReplayTime = cfg.getMaxReplayTime();
+
+    final var distanceDoc = AdaptiveSnapshotMetricsDoc.REPLAY_DISTANCE;
+    Gauge.builder(distanceDoc.getName(), replayDistance, AtomicLong::longValue)
+        .description(distanceDoc.getDescription())
+        .register(registry);
+    final var replayTimeDoc = AdaptiveSnapshotMetricsDoc.PROJECTED_REPLAY_TIME;
+    TimeGauge.builder(
+            replayTimeDoc.getName(),
+            projectedReplayTime,
+            TimeUnit.MILLISECONDS,
+            AtomicLong::longValue)
+        .description(replayTimeDoc.getDescription())
+        .register(registry);
+  }
+
+  /** Returns how often {@link #evaluate(long, long)} is expected to be called. */
+  public Duration checkInterval() {
+    return checkInterval;
+  }
+
+  /**
+   * Resets the replay distance after a snapshot was persisted.
+   *
+   * @param processedPosition the processed position of the persisted snapshot
+   */
+  public void onSnapshotTaken(final long processedPosition) {
+    snapshotPosition = Math.max(snapshotPosition, processedPosition);
+    updateMetrics(Math.max(lastSamplePosition, snapshotPosition));
+  }
+
+  /**
+   * Updates the metrics with the given processed position, and decides whether a snapshot should be
+   * taken now.
+   *
+   * @param lastProcessedPosition the current last processed position of the stream processor
+   * @param nowMillis the current time in milliseconds
+   * @return the reason to take a snapshot, or {@link Trigger#NONE} if none is needed
+   */
+  public Trigger evaluate(final long lastProcessedPosition, final long nowMillis) {
+    updateRate(lastProcessedPosition, nowMillis);
+    updateMetrics(lastProcessedPosition);
+
+    if (!enabled || replayDistance.get() == 0) {
+      return Trigger.NONE;
+    }
+
+    if (replayDistance.get() >= maxReplayRecords) {
+      return Trigger.REPLAY_DISTANCE;
+    } else if (memtableSize.getAsLong() >= maxMemtableSize) {
+      return Trigger.MEMTABLE_SIZE;
+    } else if (projectedReplayTime.get() >= maxReplayTime.toMillis()) {
+      return Trigger.REPLAY_TIME;
+    }
+    return Trigger.NONE;
+  }
+
+  private void updateRate(final long lastProcessedPosition, final long nowMillis) {
+    final var elapsedMillis = nowMillis - lastSampleMillis;
+    final var processedRecords = lastProcessedPosition - lastSamplePosition;
+    if (lastSamplePosition != StreamProcessor.UNSET_POSITION
+        && elapsedMillis > 0
+        && processedRecords > 0) {
+      final var sampledRate = (double) processedRecords / elapsedMillis;
+      recordsPerMilli =
+          recordsPerMilli == 0
+              ? sampledRate
+              : RATE_SMOOTHING_FACTOR * sampledRate + (1 - RATE_SMOOTHING_FACTOR) * recordsPerMilli;
+    }
+
+    // an idle partition keeps its last known rate, as the replay speed does not depend on it
+    lastSamplePosition = lastProcessedPosition;
+    lastSampleMillis = nowMillis;
+  }
+
+  private void updateMetrics(final long lastProcessedPosition) {
+    final var distance = Math.max(lastProcessedPosition - snapshotPosition, 0);
+    replayDistance.set(distance);
+    projectedReplayTime.set(recordsPerMilli > 0 ? Math.round(distance / recordsPerMilli) : 0);
+  }
+
+  /** The reason why a snapshot should be taken. */
+  public enum Trigger {
+    NONE,
+    REPLAY_DISTANCE,
+    MEMTABLE_SIZE,
+    REPLAY_TIME
+  }
+
+  @SuppressWarnings("NullableProblems")
+  public enum AdaptiveSnapshotMetricsDoc implements ExtendedMeterDocumentation {
+    /** The number of records between the latest snapshot and the last processed position */
+    REPLAY_DISTANCE {
+      @Override
+      public String getDescription() {
+        return "The number of records between the latest snapshot and the last processed position";
+      }
+
+      @Override
+      public String getName() {
+        return "zeebe.snapshot.replay.distance";
+      }
+
+      @Override
+      public Type getType() {
+        return Meter.Type.GAUGE;
+      }
+
+      @Override
+      public KeyName[] getKeyNames() {
+        return PartitionKeyNames.values();
+      }
+    },
+
+    /**
+     * The projected time (in ms) to replay all records since the latest snapshot, if this partition
+     * had to take over now
+     */
+    PROJECTED_REPLAY_TIME {
+      @Override
+      public String getDescription() {
+        return "The projected time (in ms) to replay all records since the latest snapshot, if this partition had to take over now";
+      }
+
+      @Override
+      public String getName() {
+        return "zeebe.snapshot.projected.replay.time";
+      }
+
+      @Override
+      public Type getType() {
+        return Meter.Type.GAUGE;
+      }
+
+      @Override
+      public KeyName[] getKeyNames() {
+        return PartitionKeyNames.values();
+      }
+    }
+  }
+}
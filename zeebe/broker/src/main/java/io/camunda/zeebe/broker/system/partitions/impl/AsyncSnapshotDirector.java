@@ -10,14 +10,17 @@ package io.camunda.zeebe.broker.system.partitions.impl;
 import io.atomix.raft.RaftApplicationEntryCommittedPositionListener;
 import io.camunda.zeebe.broker.system.partitions.NoEntryAtSnapshotPosition;
 import io.camunda.zeebe.broker.system.partitions.StateController;
+import io.camunda.zeebe.broker.system.partitions.impl.AdaptiveSnapshotPolicy.Trigger;
 import io.camunda.zeebe.logstreams.impl.Loggers;
 import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotException;
 import io.camunda.zeebe.snapshots.SnapshotException.SnapshotNotFoundException;
 import io.camunda.zeebe.snapshots.TransientSnapshot;
+import io.camunda.zeebe.snapshots.impl.FileBasedSnapshotId;
 import io.camunda.zeebe.stream.impl.StreamProcessor;
 import io.camunda.zeebe.stream.impl.StreamProcessorMode;
 import io.camunda.zeebe.util.health.FailureListener;
@@ -60,6 +63,7 @@ public final class AsyncSnapshotDirector extends Actor
   private final Set<FailureListener> listeners = new HashSet<>();
   private final int partitionId;
   private final TreeMap<Long, ActorFuture<Void>> commitAwaiters = new TreeMap<>();
+  private final AdaptiveSnapshotPolicy adaptiveSnapshotPolicy;
   private CompletableActorFuture<PersistedSnapshot> ongoingSnapshotFuture;
 
   @SuppressWarnings("java:S3077") // allow volatile here, health is immutable
@@ -73,7 +77,8 @@ public final class AsyncSnapshotDirector extends Actor
       final StateController stateController,
       final Duration snapshotRate,
       final StreamProcessorMode streamProcessorMode,
-      final Callable<CompletableFuture<Void>> flushLog) {
+      final Callable<CompletableFuture<Void>> flushLog,
+      final AdaptiveSnapshotPolicy adaptiveSnapshotPolicy) {
     this.streamProcessor = streamProcessor;
     this.stateController = stateController;
     processorName = streamProcessor.getName();
@@ -82,6 +87,7 @@ public final class AsyncSnapshotDirector extends Actor
     actorName = buildActorName("SnapshotDirector", this.partitionId);
     this.streamProcessorMode = streamProcessorMode;
     this.flushLog = flushLog;
+    this.adaptiveSnapshotPolicy = adaptiveSnapshotPolicy;
     healthReport = HealthReport.healthy(this);
   }
 
@@ -102,6 +108,10 @@ public final class AsyncSnapshotDirector extends Actor
     final var firstSnapshotTime =
         RandomDuration.getRandomDurationMinuteBased(MINIMUM_SNAPSHOT_PERIOD, snapshotRate);
     actor.schedule(firstSnapshotTime, this::scheduleSnapshotOnRate);
+
+    if (adaptiveSnapshotPolicy != null) {
+      actor.runAtFixedRate(adaptiveSnapshotPolicy.checkInterval(), this::checkAdaptiveSnapshot);
+    }
   }
 
   @Override
@@ -147,13 +157,38 @@ public final class AsyncSnapshotDirector extends Actor
       final StateController stateController,
       final Duration snapshotRate,
       final Callable<CompletableFuture<Void>> flushLog) {
+    return ofReplayMode(
+        nodeId, partitionId, streamProcessor, stateController, snapshotRate, flushLog, null);
+  }
+
+  /**
+   * Create an AsyncSnapshotDirector that can take snapshot when the StreamProcessor is in
+   * continuous replay mode, and additionally whenever the given policy asks for one.
+   *
+   * @param nodeId id of this broker
+   * @param partitionId partition id
+   * @param streamProcessor stream processor for the partition
+   * @param stateController state controller that manages state
+   * @param snapshotRate rate at which the snapshot is taken
+   * @param adaptiveSnapshotPolicy policy to take snapshots between the scheduled ones, or null
+   * @return snapshot director
+   */
+  public static AsyncSnapshotDirector ofReplayMode(
+      final int nodeId,
+      final int partitionId,
+      final StreamProcessor streamProcessor,
+      final StateController stateController,
+      final Duration snapshotRate,
+      final Callable<CompletableFuture<Void>> flushLog,
+      final AdaptiveSnapshotPolicy adaptiveSnapshotPolicy) {
     return new AsyncSnapshotDirector(
         partitionId,
         streamProcessor,
         stateController,
         snapshotRate,
         StreamProcessorMode.REPLAY,
-        flushLog);
+        flushLog,
+        adaptiveSnapshotPolicy);
   }
 
   /**
@@ -174,13 +209,38 @@ public final class AsyncSnapshotDirector extends Actor
       final StateController stateController,
       final Duration snapshotRate,
       final Callable<CompletableFuture<Void>> flushLog) {
+    return ofProcessingMode(
+        nodeId, partitionId, streamProcessor, stateController, snapshotRate, flushLog, null);
+  }
+
+  /**
+   * Create an AsyncSnapshotDirector that can take snapshot when the StreamProcessor is in
+   * processing mode, and additionally whenever the given policy asks for one.
+   *
+   * @param nodeId id of this broker
+   * @param partitionId partition id
+   * @param streamProcessor stream processor for the partition
+   * @param stateController state controller that manages state
+   * @param snapshotRate rate at which the snapshot is taken
+   * @param adaptiveSnapshotPolicy policy to take snapshots between the scheduled ones, or null
+   * @return snapshot director
+   */
+  public static AsyncSnapshotDirector ofProcessingMode(
+      final int nodeId,
+      final int partitionId,
+      final StreamProcessor streamProcessor,
+      final StateController stateController,
+      final Duration snapshotRate,
+      final Callable<CompletableFuture<Void>> flushLog,
+      final AdaptiveSnapshotPolicy adaptiveSnapshotPolicy) {
     return new AsyncSnapshotDirector(
         partitionId,
         streamProcessor,
         stateController,
         snapshotRate,
         StreamProcessorMode.PROCESSING,
-        flushLog);
+        flushLog,
+        adaptiveSnapshotPolicy);
   }
 
   private void scheduleSnapshotOnRate() {
@@ -188,6 +248,31 @@ public final class AsyncSnapshotDirector extends Actor
     trySnapshot();
   }
 
+  private void checkAdaptiveSnapshot() {
+    if (ongoingSnapshotFuture != null) {
+      return;
+    }
+
+    streamProcessor
+        .getLastProcessedPositionAsync()
+        .onComplete(
+            (position, error) -> {
+              if (error != null) {
+                LOG.debug(ERROR_MSG_ON_RESOLVE_PROCESSED_POS, error);
+              } else if (position != StreamProcessor.UNSET_POSITION) {
+                final var trigger =
+                    adaptiveSnapshotPolicy.evaluate(position, ActorClock.currentTimeMillis());
+                if (trigger != Trigger.NONE) {
+                  LOG.debug(
+                      "Taking snapshot before the next scheduled one, triggered by {} at position {}",
+                      trigger,
+                      position);
+                  trySnapshot();
+                }
+              }
+            });
+  }
+
   /**
    * Directly take a snapshot, independently of the scheduled snapshots.
    *
@@ -256,6 +341,12 @@ public final class AsyncSnapshotDirector extends Actor
           if (snapshotError != null && inProgressSnapshot.pendingSnapshot != null) {
             inProgressSnapshot.pendingSnapshot.abort();
           }
+          if (snapshot != null && adaptiveSnapshotPolicy != null) {
+            adaptiveSnapshotPolicy.onSnapshotTaken(
+                FileBasedSnapshotId.ofFileName(snapshot.getId())
+                    .map(FileBasedSnapshotId::getProcessedPosition)
+                    .orElse(inProgressSnapshot.lowerBoundSnapshotPosition));
+          }
           // We allow only one ongoing snapshot. Reset the future to indicate there is
           // no ongoing snapshot.
           ongoingSnapshotFuture = null;
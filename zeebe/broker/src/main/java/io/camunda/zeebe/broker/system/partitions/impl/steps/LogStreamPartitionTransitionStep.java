@@ -80,6 +80,8 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
             flowControlCfg.getRequest() != null
                 ? flowControlCfg.getRequest().buildLimit()
                 : context.getBrokerCfg().getBackpressure().buildLimit())
+        .withRequestQuotas(
+            flowControlCfg.getQuotas() != null ? flowControlCfg.getQuotas().buildQuotas() : null)
         .withWriteRateLimit(
             flowControlCfg.getWrite() != null ? flowControlCfg.getWrite().buildLimit() : null)
         .withMeterRegistry(context.getPartitionTransitionMeterRegistry())
@@ -10,13 +10,19 @@ package io.camunda.zeebe.broker.system.partitions.impl.steps;
 import io.atomix.raft.RaftServer.Role;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionContext;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionStep;
+import io.camunda.zeebe.broker.system.partitions.impl.AdaptiveSnapshotPolicy;
 import io.camunda.zeebe.broker.system.partitions.impl.AsyncSnapshotDirector;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.metrics.RocksDbMetricsDoc;
 import io.camunda.zeebe.scheduler.SchedulingHints;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.snapshots.impl.FileBasedSnapshotId;
+import io.camunda.zeebe.stream.impl.StreamProcessor;
 import java.time.Duration;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
 
 public final class SnapshotDirectorPartitionTransitionStep implements PartitionTransitionStep {
 
@@ -52,6 +58,7 @@ public final class SnapshotDirectorPartitionTransitionStep implements PartitionT
       final Callable<CompletableFuture<Void>> flushLog = server::flushLog;
 
       final Duration snapshotPeriod = context.getBrokerCfg().getData().getSnapshotPeriod();
+      final var adaptiveSnapshotPolicy = createAdaptiveSnapshotPolicy(context);
       final AsyncSnapshotDirector director;
       if (targetRole == Role.LEADER) {
         director =
@@ -61,7 +68,8 @@ public final class SnapshotDirectorPartitionTransitionStep implements PartitionT
                 context.getStreamProcessor(),
                 context.getStateController(),
                 snapshotPeriod,
-                flushLog);
+                flushLog,
+                adaptiveSnapshotPolicy);
       } else {
         director =
             AsyncSnapshotDirector.ofReplayMode(
@@ -70,7 +78,8 @@ public final class SnapshotDirectorPartitionTransitionStep implements PartitionT
                 context.getStreamProcessor(),
                 context.getStateController(),
                 snapshotPeriod,
-                flushLog);
+                flushLog,
+                adaptiveSnapshotPolicy);
       }
 
       final var future =
@@ -97,6 +106,31 @@ public final class SnapshotDirectorPartitionTransitionStep implements PartitionT
     return "SnapshotDirector";
   }
 
+  private AdaptiveSnapshotPolicy createAdaptiveSnapshotPolicy(
+      final PartitionTransitionContext context) {
+    final var snapshotPosition =
+        context
+            .getPersistedSnapshotStore()
+            .getLatestSnapshot()
+            .flatMap(snapshot -> FileBasedSnapshotId.ofFileName(snapshot.getId()))
+            .map(FileBasedSnapshotId::getProcessedPosition)
+            .orElse(StreamProcessor.UNSET_POSITION);
+    final ZeebeDb<?> zeebeDb = context.getZeebeDb();
+    // summed up over all physical column families, including the column family groups
+    final LongSupplier memtableSize =
+        () ->
+            zeebeDb
+                .getProperty(RocksDbMetricsDoc.CUR_SIZE_ALL_MEM_TABLES.propertyName())
+                .map(Long::parseLong)
+                .orElse(0L);
+
+    return new AdaptiveSnapshotPolicy(
+        context.getBrokerCfg().getData().getAdaptiveSnapshot(),
+        snapshotPosition,
+        memtableSize,
+        context.getPartitionTransitionMeterRegistry());
+  }
+
   private boolean shouldInstallOnTransition(final Role newRole, final Role currentRole) {
     return newRole == Role.LEADER
         || (newRole == Role.FOLLOWER && currentRole != Role.CANDIDATE)
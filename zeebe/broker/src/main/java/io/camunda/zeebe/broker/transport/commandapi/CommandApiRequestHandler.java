@@ -19,6 +19,7 @@ import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.protocol.record.ExecuteCommandRequestDecoder;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.util.Either;
@@ -144,8 +145,14 @@ final class CommandApiRequestHandler
     }
 
     if (logStreamWriter.canWriteEvents(1, appendEntry.getLength())) {
+      final var tenantId =
+          value instanceof final TenantOwned tenantOwned
+              ? tenantOwned.getTenantId()
+              : TenantOwned.DEFAULT_TENANT_IDENTIFIER;
+      final var writeContext =
+          WriteContext.userCommand(metadata.getValueType(), metadata.getIntent(), tenantId);
       return logStreamWriter
-          .tryWrite(WriteContext.userCommand(metadata.getIntent()), appendEntry)
+          .tryWrite(writeContext, appendEntry)
           .map(ignore -> true)
           .mapLeft(error -> errorWriter.mapWriteError(partitionId, error));
     } else {
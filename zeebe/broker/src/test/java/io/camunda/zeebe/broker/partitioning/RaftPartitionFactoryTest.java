@@ -226,8 +226,22 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(value);
   }
 
+  @Test
+  void shouldSetReadAheadSize() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getData().setLogReadAheadSize(DataSize.ofMegabytes(4));
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getStorageConfig().getReadAheadSize())
+        .isEqualTo(4 * 1024 * 1024);
+  }
+
   private RaftPartition buildRaftPartition(final BrokerCfg brokerCfg) {
-    return new RaftPartitionFactory(brokerCfg)
+    return new RaftPartitionFactory(brokerCfg, meterRegistry)
         .createRaftPartition(
             new PartitionMetadata(
                 PartitionId.from("test", 1),
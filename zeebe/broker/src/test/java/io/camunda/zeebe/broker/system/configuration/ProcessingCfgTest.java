@@ -80,6 +80,43 @@ final class ProcessingCfgTest {
         .hasMessageContaining("maxCommandsInBatch must be >= 1");
   }
 
+  @Test
+  void shouldUseDefaultMaxRecordsInReplayTransaction() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final int limit = cfg.getMaxRecordsInReplayTransaction();
+
+    // then
+    assertThat(limit).isEqualTo(1000);
+  }
+
+  @Test
+  void shouldSetMaxRecordsInReplayTransactionFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final int limit = cfg.getMaxRecordsInReplayTransaction();
+
+    // then
+    assertThat(limit).isEqualTo(250);
+  }
+
+  @Test
+  void shouldRejectInvalidMaxRecordsInReplayTransaction() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxRecordsInReplayTransaction", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxRecordsInReplayTransaction must be >= 1");
+  }
+
   @Test
   void shouldEnableAsyncScheduledTasksByDefault() {
     // given
@@ -132,6 +169,45 @@ final class ProcessingCfgTest {
     assertThat(enabled).isTrue();
   }
 
+  @Test
+  void shouldDisablePipelinedProcessingByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var enabled = cfg.isEnablePipelinedProcessing();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
+  @Test
+  void shouldSetPipelinedProcessingFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnablePipelinedProcessing();
+
+    // then
+    assertThat(enabled).isTrue();
+  }
+
+  @Test
+  void shouldSetPipelinedProcessingFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.enablePipelinedProcessing", "false");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnablePipelinedProcessing();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
   @Test
   void shouldSetSkipPositions() {
     // given
@@ -9,9 +9,11 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
+import org.rocksdb.CompactionStyle;
 import org.springframework.util.unit.DataSize;
 
 public final class RocksdbCfgTest {
@@ -140,6 +142,42 @@ public final class RocksdbCfgTest {
     assertThat(rocksdb.getMaxOpenFiles()).isEqualTo(3);
   }
 
+  @Test
+  public void shouldSetColumnFamilyGroupsViaConfig() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // when
+    final var groups = rocksdb.createRocksDbConfiguration().getColumnFamilyGroups();
+
+    // then
+    assertThat(groups).hasSize(1);
+    final var group = groups.getFirst();
+    assertThat(group.getName()).isEqualTo("hot");
+    assertThat(group.getColumnFamilies())
+        .containsExactlyInAnyOrder(
+            ZbColumnFamilies.JOBS.getValue(), ZbColumnFamilies.TIMERS.getValue());
+    assertThat(group.getBlockSize()).isEqualTo(DataSize.ofKilobytes(4).toBytes());
+    assertThat(group.getBloomFilterBitsPerKey()).isEqualTo(12);
+    assertThat(group.getCompactionStyle()).isEqualTo(CompactionStyle.UNIVERSAL);
+  }
+
+  @Test
+  public void shouldSetRowCacheSizesViaConfig() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // when
+    final var rowCacheSizes = rocksdb.createRocksDbConfiguration().getRowCacheSizes();
+
+    // then
+    assertThat(rowCacheSizes)
+        .containsExactly(
+            Map.entry(ZbColumnFamilies.JOBS.getValue(), DataSize.ofMegabytes(8).toBytes()));
+  }
+
   @Test
   public void shouldSetColumnFamilyOptionsConfigFromEnvironmentVariables() {
     // given
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.Collections;
 import org.junit.jupiter.api.Test;
@@ -115,4 +116,66 @@ final class ThreadsCfgTest {
     // then
     assertThat(cpuThreadCount).isEqualTo(6);
   }
+
+  @Test
+  void shouldNotColocatePartitionActorsByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final boolean colocatePartitionActors = cfg.isColocatePartitionActors();
+
+    // then
+    assertThat(colocatePartitionActors).isFalse();
+  }
+
+  @Test
+  void shouldSetColocationAndStealingDomainFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final boolean colocatePartitionActors = cfg.isColocatePartitionActors();
+    final int stealingDomainSize = cfg.getStealingDomainSize();
+
+    // then
+    assertThat(colocatePartitionActors).isTrue();
+    assertThat(stealingDomainSize).isEqualTo(4);
+  }
+
+  @Test
+  void shouldRejectNegativeStealingDomainSize() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+    cfg.setStealingDomainSize(-1);
+
+    // when - then
+    assertThatThrownBy(() -> cfg.init(new BrokerCfg(), ""))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("stealingDomainSize");
+  }
+
+  @Test
+  void shouldNotUseVirtualIoThreadsByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final boolean virtualIoThreads = cfg.isVirtualIoThreads();
+
+    // then
+    assertThat(virtualIoThreads).isFalse();
+  }
+
+  @Test
+  void shouldSetVirtualIoThreadsFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final boolean virtualIoThreads = cfg.isVirtualIoThreads();
+
+    // then
+    assertThat(virtualIoThreads).isTrue();
+  }
 }
@@ -17,6 +17,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.raft.storage.log.entry.SerializedApplicationEntry;
+import io.camunda.zeebe.broker.system.configuration.AdaptiveSnapshotCfg;
+import io.camunda.zeebe.broker.system.partitions.impl.AdaptiveSnapshotPolicy;
 import io.camunda.zeebe.broker.system.partitions.impl.AsyncSnapshotDirector;
 import io.camunda.zeebe.broker.system.partitions.impl.StateControllerImpl;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
@@ -36,6 +38,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.assertj.core.api.InstanceOfAssertFactories;
+import org.awaitility.Awaitility;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -283,4 +286,34 @@ public final class AsyncSnapshottingTest {
         .withThrowableOfType(ExecutionException.class)
         .withMessageContaining("Flush failed");
   }
+
+  @Test
+  public void shouldTakeSnapshotWhenAdaptiveSnapshotPolicyTriggers() {
+    // given
+    final var cfg = new AdaptiveSnapshotCfg();
+    cfg.setEnabled(true);
+    cfg.setCheckInterval(Duration.ofMillis(100));
+    cfg.setMaxReplayRecords(10);
+    final var policy =
+        new AdaptiveSnapshotPolicy(
+            cfg, StreamProcessor.UNSET_POSITION, () -> 0L, new SimpleMeterRegistry());
+    when(mockStreamProcessor.getLastProcessedPositionAsync())
+        .thenReturn(CompletableActorFuture.completed(25L));
+
+    // when
+    asyncSnapshotDirector =
+        AsyncSnapshotDirector.ofReplayMode(
+            0,
+            1,
+            mockStreamProcessor,
+            snapshotController,
+            Duration.ofMinutes(5),
+            () -> CompletableFuture.completedFuture(null),
+            policy);
+    actorSchedulerRule.submitActor(asyncSnapshotDirector).join();
+
+    // then
+    Awaitility.await("until a snapshot is taken before the snapshot period elapsed")
+        .untilAsserted(() -> assertThat(persistedSnapshotStore.getLatestSnapshot()).isPresent());
+  }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.partitions.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.broker.system.configuration.AdaptiveSnapshotCfg;
+import io.camunda.zeebe.broker.system.partitions.impl.AdaptiveSnapshotPolicy.AdaptiveSnapshotMetricsDoc;
+import io.camunda.zeebe.broker.system.partitions.impl.AdaptiveSnapshotPolicy.Trigger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+final class AdaptiveSnapshotPolicyTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicLong memtableSize = new AtomicLong();
+  private final AdaptiveSnapshotCfg cfg = new AdaptiveSnapshotCfg();
+
+  @BeforeEach
+  void beforeEach() {
+    cfg.setEnabled(true);
+    cfg.setMaxReplayRecords(1_000);
+    cfg.setMaxMemtableSize(DataSize.ofMegabytes(1));
+    cfg.setMaxReplayTime(Duration.ofSeconds(10));
+  }
+
+  @Test
+  void shouldNotTriggerBelowThresholds() {
+    // given
+    final var policy = createPolicy(100);
+
+    // when
+    final var trigger = policy.evaluate(500, 0);
+
+    // then
+    assertThat(trigger).isEqualTo(Trigger.NONE);
+    assertThat(replayDistance()).isEqualTo(400);
+  }
+
+  @Test
+  void shouldTriggerOnReplayDistance() {
+    // given
+    final var policy = createPolicy(100);
+
+    // when
+    final var trigger = policy.evaluate(1_100, 0);
+
+    // then
+    assertThat(trigger).isEqualTo(Trigger.REPLAY_DISTANCE);
+  }
+
+  @Test
+  void shouldTriggerOnMemtableSize() {
+    // given
+    final var policy = createPolicy(100);
+    memtableSize.set(DataSize.ofMegabytes(1).toBytes());
+
+    // when
+    final var trigger = policy.evaluate(101, 0);
+
+    // then
+    assertThat(trigger).isEqualTo(Trigger.MEMTABLE_SIZE);
+  }
+
+  @Test
+  void shouldTriggerOnProjectedReplayTime() {
+    // given
+    cfg.setMaxReplayRecords(Long.MAX_VALUE);
+    final var policy = createPolicy(0);
+    policy.evaluate(10, 0);
+
+    // when - the position advances 10 records per second, so 110 records take 11 seconds
+    final var trigger = policy.evaluate(110, 10_000);
+
+    // then
+    assertThat(trigger).isEqualTo(Trigger.REPLAY_TIME);
+    assertThat(projectedReplayTimeMillis()).isEqualTo(11_000);
+  }
+
+  @Test
+  void shouldKeepRateWhenIdle() {
+    // given
+    cfg.setMaxReplayRecords(Long.MAX_VALUE);
+    final var policy = createPolicy(0);
+    policy.evaluate(10, 0);
+    policy.evaluate(60, 10_000);
+
+    // when
+    policy.evaluate(60, 100_000);
+
+    // then
+    assertThat(projectedReplayTimeMillis()).isEqualTo(12_000);
+  }
+
+  @Test
+  void shouldResetReplayDistanceWhenSnapshotIsTaken() {
+    // given
+    final var policy = createPolicy(100);
+    assertThat(policy.evaluate(1_100, 0)).isEqualTo(Trigger.REPLAY_DISTANCE);
+
+    // when
+    policy.onSnapshotTaken(1_050);
+
+    // then
+    assertThat(replayDistance()).isEqualTo(50);
+    assertThat(policy.evaluate(1_200, 1_000)).isEqualTo(Trigger.NONE);
+  }
+
+  @Test
+  void shouldOnlyExportMetricsWhenDisabled() {
+    // given
+    cfg.setEnabled(false);
+    final var policy = createPolicy(100);
+    memtableSize.set(DataSize.ofMegabytes(2).toBytes());
+
+    // when
+    final var trigger = policy.evaluate(10_000, 0);
+
+    // then
+    assertThat(trigger).isEqualTo(Trigger.NONE);
+    assertThat(replayDistance()).isEqualTo(9_900);
+  }
+
+  private AdaptiveSnapshotPolicy createPolicy(final long snapshotPosition) {
+    return new AdaptiveSnapshotPolicy(cfg, snapshotPosition, memtableSize::get, meterRegistry);
+  }
+
+  private double replayDistance() {
+    return meterRegistry.get(AdaptiveSnapshotMetricsDoc.REPLAY_DISTANCE.getName()).gauge().value();
+  }
+
+  private double projectedReplayTimeMillis() {
+    return meterRegistry
+        .get(AdaptiveSnapshotMetricsDoc.PROJECTED_REPLAY_TIME.getName())
+        .timeGauge()
+        .value(TimeUnit.MILLISECONDS);
+  }
+}
@@ -23,6 +23,8 @@ public final class EngineConfiguration {
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_FORM_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
+  // the maximum size (in bytes) of the element instances cached per partition; 0 disables the cache
+  public static final long DEFAULT_ELEMENT_INSTANCE_CACHE_SIZE = 16 * 1024 * 1024L;
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
   public static final int DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE = 12 * 1024;
@@ -36,6 +38,7 @@ public final class EngineConfiguration {
   private int formCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int resourceCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
+  private long elementInstanceCacheSize = DEFAULT_ELEMENT_INSTANCE_CACHE_SIZE;
 
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
@@ -102,6 +105,15 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public long getElementInstanceCacheSize() {
+    return elementInstanceCacheSize;
+  }
+
+  public EngineConfiguration setElementInstanceCacheSize(final long elementInstanceCacheSize) {
+    this.elementInstanceCacheSize = elementInstanceCacheSize;
+    return this;
+  }
+
   public Duration getJobsTimeoutCheckerPollingInterval() {
     return jobsTimeoutCheckerPollingInterval;
   }
@@ -0,0 +1,40 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import static io.camunda.zeebe.engine.metrics.EngineMetricsDoc.ELEMENT_INSTANCE_CACHE;
+
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.CacheResult;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.EngineKeyNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public final class ElementInstanceCacheMetrics {
+  private final Counter hits;
+  private final Counter misses;
+
+  public ElementInstanceCacheMetrics(final MeterRegistry meterRegistry) {
+    hits = registerCounter(meterRegistry, CacheResult.HIT);
+    misses = registerCounter(meterRegistry, CacheResult.MISS);
+  }
+
+  public void countHit() {
+    hits.increment();
+  }
+
+  public void countMiss() {
+    misses.increment();
+  }
+
+  private Counter registerCounter(final MeterRegistry meterRegistry, final CacheResult result) {
+    return Counter.builder(ELEMENT_INSTANCE_CACHE.getName())
+        .description(ELEMENT_INSTANCE_CACHE.getDescription())
+        .tag(EngineKeyNames.CACHE_RESULT.asString(), result.toString())
+        .register(meterRegistry);
+  }
+}
@@ -260,6 +260,34 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
       return new KeyName[] {EngineKeyNames.JOB_ACTION};
     }
 
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of element instance lookups served by (hit) or missing in (miss) the cache */
+  ELEMENT_INSTANCE_CACHE {
+    @Override
+    public String getDescription() {
+      return "Number of element instance lookups served by (hit) or missing in (miss) the cache";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.element.instance.cache.total";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {EngineKeyNames.CACHE_RESULT};
+    }
+
     @Override
     public KeyName[] getAdditionalKeyNames() {
       return PartitionKeyNames.values();
@@ -292,6 +320,14 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
       }
     },
 
+    /** The result of a cache lookup; see {@link CacheResult} for possible values. */
+    CACHE_RESULT {
+      @Override
+      public String asString() {
+        return "result";
+      }
+    },
+
     /** The possible actions performed on an incident; see {@link IncidentAction} for more. */
     INCIDENT_ACTION {
       @Override
@@ -392,6 +428,16 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
     }
   }
 
+  public enum CacheResult {
+    HIT,
+    MISS;
+
+    @Override
+    public String toString() {
+      return name().toLowerCase();
+    }
+  }
+
   public enum IncidentAction {
     CREATED,
     RESOLVED;
@@ -63,7 +63,7 @@ public final class BpmnIncidentBehavior {
 
     final var treePathProperties =
         new ElementTreePathBuilder()
-            .withElementInstanceProvider(elementInstanceState::getInstance)
+            .withElementInstanceProvider(elementInstanceState::getReadOnlyInstance)
             .withCallActivityIndexProvider(processState::getFlowElement)
             .withElementInstanceKey(context.getElementInstanceKey())
             .build();
@@ -61,7 +61,7 @@ public final class BpmnStateBehavior {
       final long flowScopeKey,
       final ProcessInstanceRecordValue processInstanceRecordValue) {
     return new ElementTreePathBuilder()
-        .withElementInstanceProvider(elementInstanceState::getInstance)
+        .withElementInstanceProvider(elementInstanceState::getReadOnlyInstance)
         .withCallActivityIndexProvider(processState::getFlowElement)
         .withElementInstanceKey(elementInstanceKey)
         .withFlowScopeKey(flowScopeKey)
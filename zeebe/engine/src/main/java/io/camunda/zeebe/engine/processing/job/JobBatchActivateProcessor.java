@@ -161,7 +161,7 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
 
     final var treePathProperties =
         new ElementTreePathBuilder()
-            .withElementInstanceProvider(elementInstanceState::getInstance)
+            .withElementInstanceProvider(elementInstanceState::getReadOnlyInstance)
             .withCallActivityIndexProvider(processState::getFlowElement)
             .withElementInstanceKey(job.getElementInstanceKey())
             .build();
@@ -100,50 +100,56 @@ final class JobBatchCollector {
                 AuthorizationResourceType.PROCESS_DEFINITION,
                 PermissionType.UPDATE_PROCESS_INSTANCE));
 
-    jobState.forEachActivatableJobs(
-        value.getTypeBuffer(),
-        tenantIds,
-        (key, jobRecord) -> {
-          if (!isAuthorizedForJob(jobRecord, authorizedProcessIds)) {
-            // Skip Jobs the user is not authorized for
-            return true;
-          }
-
-          // fill in the job record properties first in order to accurately estimate its size before
-          // adding it to the batch
-          final var deadline = record.getTimestamp() + value.getTimeout();
-          jobRecord.setDeadline(deadline).setWorker(value.getWorkerBuffer());
-          jobVariablesCollector.setJobVariables(requestedVariables, jobRecord);
-
-          // the expected length is based on the current record's length plus the length of the job
-          // record we would add to the batch, the number of bytes taken by the additional job key,
-          // as well as an 8 KB buffer.
-          final var jobRecordLength = jobRecord.getLength();
-          final var expectedEventLength =
-              record.getLength()
-                  + jobRecordLength
-                  + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
-          if (activatedCount.value <= maxActivatedCount
-              && canWriteEventOfLength.test(expectedEventLength)) {
-            appendJobToBatch(jobIterator, jobKeyIterator, key, jobRecord);
-            activatedCount.increment();
-
-            // track the count of activated jobs by their JobKind
-            jobCountPerJobKind.merge(jobRecord.getJobKind(), 1, Integer::sum);
-
-          } else {
-            // if no jobs were activated, then the current job is simply too large, and we cannot
-            // activate it
-            if (activatedCount.value == 0) {
-              unwritableJob.set(new TooLargeJob(key, jobRecord, expectedEventLength));
+    // jobs of the same scope, e.g. of a multi-instance body, share the variables of that scope
+    jobVariablesCollector.startBatch();
+    try {
+      jobState.forEachActivatableJobs(
+          value.getTypeBuffer(),
+          tenantIds,
+          (key, jobRecord) -> {
+            if (!isAuthorizedForJob(jobRecord, authorizedProcessIds)) {
+              // Skip Jobs the user is not authorized for
+              return true;
             }
 
-            value.setTruncated(true);
-            return false;
-          }
+            // fill in the job record properties first in order to accurately estimate its size
+            // before adding it to the batch
+            final var deadline = record.getTimestamp() + value.getTimeout();
+            jobRecord.setDeadline(deadline).setWorker(value.getWorkerBuffer());
+            jobVariablesCollector.setJobVariables(requestedVariables, jobRecord);
+
+            // the expected length is based on the current record's length plus the length of the
+            // job record we would add to the batch, the number of bytes taken by the additional
+            // job key, as well as an 8 KB buffer.
+            final var jobRecordLength = jobRecord.getLength();
+            final var expectedEventLength =
+                record.getLength()
+                    + jobRecordLength
+                    + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
+            if (activatedCount.value <= maxActivatedCount
+                && canWriteEventOfLength.test(expectedEventLength)) {
+              appendJobToBatch(jobIterator, jobKeyIterator, key, jobRecord);
+              activatedCount.increment();
+
+              // track the count of activated jobs by their JobKind
+              jobCountPerJobKind.merge(jobRecord.getJobKind(), 1, Integer::sum);
+
+            } else {
+              // if no jobs were activated, then the current job is simply too large, and we cannot
+              // activate it
+              if (activatedCount.value == 0) {
+                unwritableJob.set(new TooLargeJob(key, jobRecord, expectedEventLength));
+              }
+
+              value.setTruncated(true);
+              return false;
+            }
 
-          return activatedCount.value < maxActivatedCount;
-        });
+            return activatedCount.value < maxActivatedCount;
+          });
+    } finally {
+      jobVariablesCollector.finishBatch();
+    }
 
     if (unwritableJob.ref != null) {
       return Either.left(unwritableJob.ref);
@@ -167,7 +167,7 @@ public final class JobFailProcessor implements TypedRecordProcessor<JobRecord> {
 
     final var treePathProperties =
         new ElementTreePathBuilder()
-            .withElementInstanceProvider(elementInstanceState::getInstance)
+            .withElementInstanceProvider(elementInstanceState::getReadOnlyInstance)
             .withCallActivityIndexProvider(processState::getFlowElement)
             .withElementInstanceKey(value.getElementInstanceKey())
             .build();
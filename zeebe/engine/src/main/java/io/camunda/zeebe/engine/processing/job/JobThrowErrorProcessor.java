@@ -171,7 +171,7 @@ public class JobThrowErrorProcessor implements CommandProcessor<JobRecord> {
 
     final var treePathProperties =
         new ElementTreePathBuilder()
-            .withElementInstanceProvider(elementInstanceState::getInstance)
+            .withElementInstanceProvider(elementInstanceState::getReadOnlyInstance)
             .withCallActivityIndexProvider(processState::getFlowElement)
             .withElementInstanceKey(job.getElementInstanceKey())
             .build();
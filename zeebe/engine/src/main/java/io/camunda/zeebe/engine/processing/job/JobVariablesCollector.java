@@ -11,14 +11,15 @@ import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.engine.state.immutable.UserTaskState;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.msgpack.spec.MsgPackDocumentMerger;
 import io.camunda.zeebe.msgpack.value.DocumentValue;
-import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.Collection;
-import java.util.Map;
-import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public class JobVariablesCollector {
 
@@ -26,18 +27,47 @@ public class JobVariablesCollector {
   private final UserTaskState userTaskState;
   private final ElementInstanceState elementInstanceState;
 
+  private final MsgPackDocumentMerger documentMerger = new MsgPackDocumentMerger();
+  private final ExpandableArrayBuffer mergedVariablesBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer mergedVariablesView = new UnsafeBuffer(0, 0);
+
+  // the variables of the scopes enclosing the jobs of the current batch, by scope key
+  private final Long2ObjectHashMap<DirectBuffer> enclosingScopeVariables =
+      new Long2ObjectHashMap<>();
+  private final ExpandableArrayBuffer scopeVariablesBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer scopeVariablesView = new UnsafeBuffer(0, 0);
+  private boolean isCollectingBatch;
+
   public JobVariablesCollector(final ProcessingState processingState) {
     variableState = processingState.getVariableState();
     userTaskState = processingState.getUserTaskState();
     elementInstanceState = processingState.getElementInstanceState();
   }
 
+  /**
+   * Starts collecting the variables of a batch of jobs. Until {@link #finishBatch()} is called, the
+   * variables of the scope enclosing a job's element instance are only collected once, and reused
+   * for the other jobs within the same scope, e.g. the inner instances of a multi-instance body.
+   * The variables must not be modified before the batch is finished.
+   */
+  public void startBatch() {
+    isCollectingBatch = true;
+  }
+
+  /** Finishes the current batch, and releases the variables which were collected for it. */
+  public void finishBatch() {
+    isCollectingBatch = false;
+    enclosingScopeVariables.clear();
+  }
+
   public void setJobVariables(
       final Collection<DirectBuffer> requestedVariables, final JobRecord jobRecord) {
     final long elementInstanceKey = jobRecord.getElementInstanceKey();
     final DirectBuffer processVariables;
     if (elementInstanceKey < 0) {
       processVariables = DocumentValue.EMPTY_DOCUMENT;
+    } else if (isCollectingBatch) {
+      processVariables = collectScopeVariables(requestedVariables, elementInstanceKey);
     } else if (requestedVariables.isEmpty()) {
       processVariables = variableState.getVariablesAsDocument(elementInstanceKey);
     } else {
@@ -48,41 +78,88 @@ public class JobVariablesCollector {
     final DirectBuffer jobVariables =
         switch (jobRecord.getJobKind()) {
           case BPMN_ELEMENT, EXECUTION_LISTENER -> processVariables;
-          case TASK_LISTENER -> {
-            final var taskVariablesMap = getTaskVariables(requestedVariables, elementInstanceKey);
-
-            // merge the two variables maps favoring the task variables over process variables
-            final Map<String, Object> taskListenersVariables =
-                MsgPackConverter.convertToMap(processVariables);
-            taskListenersVariables.putAll(taskVariablesMap);
-            yield BufferUtil.wrapArray(MsgPackConverter.convertToMsgPack(taskListenersVariables));
-          }
+          case TASK_LISTENER ->
+              mergeTaskVariables(requestedVariables, elementInstanceKey, processVariables);
         };
 
     jobRecord.setVariables(jobVariables);
   }
 
-  private Map<String, Object> getTaskVariables(
-      final Collection<DirectBuffer> requestedVariables, final long elementInstanceKey) {
+  /**
+   * Collects the variables of the given scope by merging its local variables with the variables of
+   * its enclosing scope. The latter are cached for the current batch.
+   */
+  private DirectBuffer collectScopeVariables(
+      final Collection<DirectBuffer> requestedVariables, final long scopeKey) {
+    final var enclosingVariables = getEnclosingScopeVariables(requestedVariables, scopeKey);
+    final var localVariables = variableState.getVariablesLocalAsDocument(scopeKey);
+
+    documentMerger.wrap(scopeVariablesBuffer, 0);
+    if (requestedVariables.isEmpty()) {
+      documentMerger.addEntries(localVariables);
+    } else {
+      documentMerger.addEntries(localVariables, requestedVariables::contains);
+    }
+    documentMerger.addEntries(enclosingVariables);
+
+    scopeVariablesView.wrap(scopeVariablesBuffer, 0, documentMerger.finish());
+    return scopeVariablesView;
+  }
+
+  private DirectBuffer getEnclosingScopeVariables(
+      final Collection<DirectBuffer> requestedVariables, final long scopeKey) {
+    final long enclosingScopeKey = variableState.getParentScopeKey(scopeKey);
+    if (enclosingScopeKey < 0) {
+      return DocumentValue.EMPTY_DOCUMENT;
+    }
+
+    var variables = enclosingScopeVariables.get(enclosingScopeKey);
+    if (variables == null) {
+      // the requested variables are the same for all jobs of a batch
+      final var document =
+          requestedVariables.isEmpty()
+              ? variableState.getVariablesAsDocument(enclosingScopeKey)
+              : variableState.getVariablesAsDocument(enclosingScopeKey, requestedVariables);
+      variables = BufferUtil.cloneBuffer(document);
+      enclosingScopeVariables.put(enclosingScopeKey, variables);
+    }
+    return variables;
+  }
+
+  /**
+   * Merges the task variables and the process variables into one document. The task variables are
+   * added first, so they take precedence over process variables with the same name.
+   */
+  private DirectBuffer mergeTaskVariables(
+      final Collection<DirectBuffer> requestedVariables,
+      final long elementInstanceKey,
+      final DirectBuffer processVariables) {
+    documentMerger.wrap(mergedVariablesBuffer, 0);
+
+    final var taskVariables = getTaskVariables(elementInstanceKey);
+    if (taskVariables.capacity() > 0) {
+      if (requestedVariables.isEmpty()) {
+        documentMerger.addEntries(taskVariables);
+      } else {
+        documentMerger.addEntries(taskVariables, requestedVariables::contains);
+      }
+    }
+    documentMerger.addEntries(processVariables);
+
+    mergedVariablesView.wrap(mergedVariablesBuffer, 0, documentMerger.finish());
+    return mergedVariablesView;
+  }
+
+  private DirectBuffer getTaskVariables(final long elementInstanceKey) {
     final var elementInstance = elementInstanceState.getInstance(elementInstanceKey);
     if (elementInstance == null) {
-      return Map.of();
+      return DocumentValue.EMPTY_DOCUMENT;
     }
     final var userTaskIntermediateState =
         userTaskState.getIntermediateState(elementInstance.getUserTaskKey());
     if (userTaskIntermediateState == null) {
-      return Map.of();
-    }
-    final var taskVariables = userTaskIntermediateState.getRecord().getVariablesBuffer();
-    if (taskVariables.capacity() <= 0) {
-      return Map.of();
-    }
-    final Map<String, Object> taskVariablesMap = MsgPackConverter.convertToMap(taskVariables);
-    if (requestedVariables.isEmpty()) {
-      return taskVariablesMap;
+      return DocumentValue.EMPTY_DOCUMENT;
     }
-    return taskVariablesMap.entrySet().stream()
-        .filter(e -> requestedVariables.contains(BufferUtil.wrapString(e.getKey())))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    return userTaskIntermediateState.getRecord().getVariablesBuffer();
   }
 }
@@ -449,7 +449,7 @@ public class ProcessInstanceMigrationMigrateProcessor
     // recalculating the tree path is necessary because the element id changed
     final var elementTreePath =
         new ElementTreePathBuilder()
-            .withElementInstanceProvider(elementInstanceState::getInstance)
+            .withElementInstanceProvider(elementInstanceState::getReadOnlyInstance)
             .withCallActivityIndexProvider(processState::getFlowElement)
             .withElementInstanceKey(elementInstance.getKey())
             .withFlowScopeKey(elementInstance.getParentKey())
@@ -495,7 +495,7 @@ public class ProcessInstanceMigrationMigrateProcessor
     final var elementInstanceRecord = instance.getValue();
     final var elementTreePath =
         new ElementTreePathBuilder()
-            .withElementInstanceProvider(elementInstanceState::getInstance)
+            .withElementInstanceProvider(elementInstanceState::getReadOnlyInstance)
             .withCallActivityIndexProvider(processState::getFlowElement)
             .withElementInstanceKey(instance.getKey())
             .withFlowScopeKey(instance.getParentKey())
@@ -19,6 +19,19 @@ public interface ElementInstanceState {
 
   ElementInstance getInstance(long key);
 
+  /**
+   * Returns the element instance like {@link #getInstance(long)}, but the returned instance may be
+   * shared with the state and other callers, so it must not be modified. Use it for lookups which
+   * only read the instance, like walking up the flow scopes of a deep subprocess tree, to avoid
+   * copying the instance on every lookup.
+   *
+   * @param key the key of the element instance
+   * @return the element instance, or null if it doesn't exist
+   */
+  default ElementInstance getReadOnlyInstance(final long key) {
+    return getInstance(key);
+  }
+
   List<ElementInstance> getChildren(long parentKey);
 
   /**
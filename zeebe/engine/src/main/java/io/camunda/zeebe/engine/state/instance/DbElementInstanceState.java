@@ -17,6 +17,9 @@ import io.camunda.zeebe.db.impl.DbInt;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.ElementInstanceCacheMetrics;
+import io.camunda.zeebe.engine.state.instance.ElementInstanceCache.CachedElementInstance;
 import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
@@ -74,13 +77,27 @@ public final class DbElementInstanceState implements MutableElementInstanceState
   private final ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil>
       processInstanceKeyByProcessDefinitionKeyColumnFamily;
 
+  /** Cache of the element instances by key, or null if disabled */
+  private final ElementInstanceCache elementInstanceCache;
+
   public DbElementInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
-      final MutableVariableState variableState) {
+      final MutableVariableState variableState,
+      final EngineConfiguration config) {
 
     this.variableState = variableState;
 
+    if (config.getElementInstanceCacheSize() > 0) {
+      elementInstanceCache =
+          new ElementInstanceCache(
+              config.getElementInstanceCacheSize(),
+              new ElementInstanceCacheMetrics(zeebeDb.getMeterRegistry()));
+      transactionContext.addTransactionListener(elementInstanceCache);
+    } else {
+      elementInstanceCache = null;
+    }
+
     elementInstanceKey = new DbLong();
     parentKey =
         new DbForeignKey<>(
@@ -172,6 +189,9 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     parentKey.inner().wrapLong(parent);
     parentChildColumnFamily.deleteIfExists(parentChildKey);
     elementInstanceColumnFamily.deleteExisting(elementInstanceKey);
+    if (elementInstanceCache != null) {
+      elementInstanceCache.remove(key);
+    }
     variableState.removeScope(key);
     awaitProcessInstanceResultMetadataColumnFamily.deleteIfExists(elementInstanceKey);
     removeNumberOfTakenSequenceFlows(key);
@@ -203,6 +223,9 @@ public final class DbElementInstanceState implements MutableElementInstanceState
 
     elementInstanceColumnFamily.insert(elementInstanceKey, instance);
     parentChildColumnFamily.insert(parentChildKey, DbNil.INSTANCE);
+    if (elementInstanceCache != null) {
+      elementInstanceCache.invalidate(instance.getKey());
+    }
     variableState.createScope(elementInstanceKey.getValue(), parentKey.inner().getValue());
 
     final var recordValue = instance.getValue();
@@ -218,6 +241,9 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     elementInstanceKey.wrapLong(scopeInstance.getKey());
     parentKey.inner().wrapLong(scopeInstance.getParentKey());
     elementInstanceColumnFamily.update(elementInstanceKey, scopeInstance);
+    if (elementInstanceCache != null) {
+      elementInstanceCache.invalidate(scopeInstance.getKey());
+    }
   }
 
   @Override
@@ -316,9 +342,24 @@ public final class DbElementInstanceState implements MutableElementInstanceState
 
   @Override
   public ElementInstance getInstance(final long key) {
-    elementInstanceKey.wrapLong(key);
-    final ElementInstance elementInstance = elementInstanceColumnFamily.get(elementInstanceKey);
-    return copyElementInstance(elementInstance);
+    if (elementInstanceCache == null) {
+      elementInstanceKey.wrapLong(key);
+      final ElementInstance elementInstance = elementInstanceColumnFamily.get(elementInstanceKey);
+      return copyElementInstance(elementInstance);
+    }
+
+    final var cachedInstance = getCachedInstance(key);
+    return cachedInstance == ElementInstanceCache.ABSENT ? null : cachedInstance.copy();
+  }
+
+  @Override
+  public ElementInstance getReadOnlyInstance(final long key) {
+    if (elementInstanceCache == null) {
+      return getInstance(key);
+    }
+
+    final var cachedInstance = getCachedInstance(key);
+    return cachedInstance == ElementInstanceCache.ABSENT ? null : cachedInstance.shared();
   }
 
   @Override
@@ -332,10 +373,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
           this.parentKey,
           (key, value) -> {
             final DbLong childKey = key.second().inner();
-            final ElementInstance childInstance = getInstance(childKey.getValue());
-
-            final ElementInstance copiedElementInstance = copyElementInstance(childInstance);
-            children.add(copiedElementInstance);
+            children.add(getInstance(childKey.getValue()));
           });
     }
     return children;
@@ -479,19 +517,33 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     return hasActiveInstances.get();
   }
 
+  private CachedElementInstance getCachedInstance(final long key) {
+    final var cachedInstance = elementInstanceCache.get(key);
+    if (cachedInstance != null) {
+      return cachedInstance;
+    }
+
+    elementInstanceKey.wrapLong(key);
+    final ElementInstance elementInstance = elementInstanceColumnFamily.get(elementInstanceKey);
+    return elementInstanceCache.putRead(
+        key, elementInstance != null ? serialize(elementInstance) : null);
+  }
+
   private ElementInstance copyElementInstance(final ElementInstance elementInstance) {
     if (elementInstance != null) {
-      final byte[] bytes = new byte[elementInstance.getLength()];
-      final UnsafeBuffer buffer = new UnsafeBuffer(bytes);
-
-      elementInstance.write(buffer, 0);
-      final ElementInstance copiedElementInstance = new ElementInstance();
-      copiedElementInstance.wrap(buffer, 0, elementInstance.getLength());
-      return copiedElementInstance;
+      final var copy = new ElementInstance();
+      copy.copyFrom(elementInstance);
+      return copy;
     }
     return null;
   }
 
+  private static byte[] serialize(final ElementInstance elementInstance) {
+    final byte[] bytes = new byte[elementInstance.getLength()];
+    elementInstance.write(new UnsafeBuffer(bytes), 0);
+    return bytes;
+  }
+
   private void removeNumberOfTakenSequenceFlows(final long flowScopeKey) {
     this.flowScopeKey.wrapLong(flowScopeKey);
 
@@ -24,17 +24,22 @@ import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.LongHashSet;
+import org.agrona.collections.MutableBoolean;
+import org.agrona.collections.MutableInteger;
 import org.slf4j.Logger;
 
 public final class DbJobState implements JobState, MutableJobState {
 
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
+  // the amount of activatable jobs which are looked up together
+  private static final int ACTIVATABLE_JOBS_BATCH_SIZE = 32;
 
   // key => job record value
   // we need two separate wrapper to not interfere with get and put
@@ -72,6 +77,9 @@ public final class DbJobState implements JobState, MutableJobState {
       backoffColumnFamily;
   private long nextBackOffDueDate;
 
+  // keys of activatable jobs which are looked up together
+  private final List<DbLong> activatableJobKeys = new ArrayList<>(ACTIVATABLE_JOBS_BATCH_SIZE);
+
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
 
@@ -407,6 +415,7 @@ public final class DbJobState implements JobState, MutableJobState {
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
     jobTypeKey.wrapBuffer(type);
+    final var batchSize = new MutableInteger();
 
     activatableColumnFamily.whileEqualPrefix(
         jobTypeKey,
@@ -415,11 +424,19 @@ public final class DbJobState implements JobState, MutableJobState {
           final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
 
           if (tenantIds.contains(tenantId)) {
-            return visitJob(jobKey.getValue(), callback::apply);
+            activatableJobKey(batchSize.getAndIncrement()).wrapLong(jobKey.getValue());
+            if (batchSize.get() == ACTIVATABLE_JOBS_BATCH_SIZE) {
+              batchSize.set(0);
+              return visitJobs(activatableJobKeys, callback::apply);
+            }
           }
           // we want to continue with the iteration
           return true;
         }));
+
+    if (batchSize.get() > 0) {
+      visitJobs(activatableJobKeys.subList(0, batchSize.get()), callback::apply);
+    }
   }
 
   @Override
@@ -467,12 +484,60 @@ public final class DbJobState implements JobState, MutableJobState {
   boolean visitJob(final long jobKey, final BiPredicate<Long, JobRecord> callback) {
     final JobRecord job = getJob(jobKey);
     if (job == null) {
-      LOG.warn("Expected to find job with key {}, but no job found", jobKey);
+      warnMissingJob(jobKey);
       return true; // we want to continue with the iteration
     }
     return callback.test(jobKey, job);
   }
 
+  /**
+   * Looks up the given jobs in one batch, and visits them in the given order until the callback
+   * returns false.
+   *
+   * @return true if all jobs were visited, false if the callback stopped the visiting
+   */
+  private boolean visitJobs(
+      final List<DbLong> jobKeys, final BiPredicate<Long, JobRecord> callback) {
+    final var nextJobIndex = new MutableInteger();
+    final var stoppedByCallback = new MutableBoolean(false);
+
+    jobsColumnFamily.multiGet(
+        jobKeys,
+        (jobKey, jobRecordValue) -> {
+          // jobs which were not found are skipped by the multi get
+          while (jobKeys.get(nextJobIndex.get()) != jobKey) {
+            warnMissingJob(jobKeys.get(nextJobIndex.getAndIncrement()).getValue());
+          }
+          nextJobIndex.increment();
+
+          if (!callback.test(jobKey.getValue(), jobRecordValue.getRecord())) {
+            stoppedByCallback.set(true);
+            return false;
+          }
+          return true;
+        });
+
+    if (stoppedByCallback.get()) {
+      return false;
+    }
+
+    while (nextJobIndex.get() < jobKeys.size()) {
+      warnMissingJob(jobKeys.get(nextJobIndex.getAndIncrement()).getValue());
+    }
+    return true;
+  }
+
+  private DbLong activatableJobKey(final int index) {
+    if (index == activatableJobKeys.size()) {
+      activatableJobKeys.add(new DbLong());
+    }
+    return activatableJobKeys.get(index);
+  }
+
+  private void warnMissingJob(final long jobKey) {
+    LOG.warn("Expected to find job with key {}, but no job found", jobKey);
+  }
+
   private void createJobRecord(final long key, final JobRecord record) {
     jobKey.wrapLong(key);
     // do not persist variables in job state
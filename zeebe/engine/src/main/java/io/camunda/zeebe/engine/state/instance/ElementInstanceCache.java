@@ -0,0 +1,270 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.db.TransactionListener;
+import io.camunda.zeebe.engine.metrics.ElementInstanceCacheMetrics;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A bounded, least recently used cache of element instances by their key. It saves looking up and
+ * decoding the same element instances over and over again, e.g. the flow scopes of a deep
+ * subprocess tree, which are read on nearly every processing step.
+ *
+ * <p>Every cached element instance is kept serialized, and decoded once on first read-only access,
+ * see {@link CachedElementInstance}. Read-only lookups share the decoded instance, while callers
+ * which may modify the instance get a copy which is wrapped lazily around the serialized bytes, so
+ * only the properties they access are decoded.
+ *
+ * <p>Writes of the current transaction only invalidate the element instance, which is then read
+ * again from the state on the next access, to avoid encoding it a second time on every write. The
+ * changes of the current transaction are kept apart from the committed element instances, and only
+ * become part of the cache once the transaction is committed; if it is rolled back, they are
+ * discarded. Since the cache doesn't see the writes of other transaction contexts, it must only be
+ * used by the context it listens to.
+ *
+ * <p>The cache is not thread-safe, and the decoded instances are shared, so they must never be
+ * modified.
+ */
+final class ElementInstanceCache implements TransactionListener {
+
+  /** Marks an element instance which is known not to exist */
+  static final CachedElementInstance ABSENT = new CachedElementInstance(new byte[0]);
+
+  /** Marks an element instance which was changed by the current transaction, but not read since */
+  private static final CachedElementInstance INVALIDATED = new CachedElementInstance(new byte[0]);
+
+  /** Rough estimate of the memory used by a cache entry besides the value */
+  private static final int ENTRY_OVERHEAD = 80;
+
+  private final Long2ObjectHashMap<Entry> entries = new Long2ObjectHashMap<>();
+  private final Long2ObjectHashMap<CachedElementInstance> uncommittedEntries =
+      new Long2ObjectHashMap<>();
+  private final long capacity;
+  private final ElementInstanceCacheMetrics metrics;
+
+  // doubly linked list of the entries, from the most to the least recently used one
+  private Entry head;
+  private Entry tail;
+  private long size;
+
+  /**
+   * @param capacity the maximum size of the cached element instances in bytes
+   */
+  ElementInstanceCache(final long capacity, final ElementInstanceCacheMetrics metrics) {
+    this.capacity = capacity;
+    this.metrics = metrics;
+  }
+
+  /**
+   * @return the cached element instance, {@link #ABSENT} if it is known not to exist, or null if
+   *     it is not cached
+   */
+  CachedElementInstance get(final long key) {
+    CachedElementInstance value = uncommittedEntries.get(key);
+    if (value == INVALIDATED) {
+      value = null;
+    } else if (value == null) {
+      final var entry = entries.get(key);
+      if (entry != null) {
+        moveToHead(entry);
+        value = entry.value;
+      }
+    }
+
+    if (value != null) {
+      metrics.countHit();
+    } else {
+      metrics.countMiss();
+    }
+    return value;
+  }
+
+  /**
+   * Caches an element instance which was read from the state. If the current transaction changed
+   * the element instance, the value is kept with the changes of the transaction, since it is not
+   * committed yet.
+   *
+   * @param value the serialized element instance, or null if it doesn't exist
+   * @return the element instance, or {@link #ABSENT} if it doesn't exist
+   */
+  CachedElementInstance putRead(final long key, final byte[] value) {
+    final var cachedValue = value == null ? ABSENT : new CachedElementInstance(value);
+    final var uncommittedValue = uncommittedEntries.get(key);
+    if (uncommittedValue == INVALIDATED) {
+      uncommittedEntries.put(key, cachedValue);
+    } else if (uncommittedValue == null) {
+      put(key, cachedValue);
+    }
+    return cachedValue;
+  }
+
+  /** Invalidates an element instance which was inserted or updated by the current transaction. */
+  void invalidate(final long key) {
+    uncommittedEntries.put(key, INVALIDATED);
+  }
+
+  /** Marks an element instance as removed by the current transaction. */
+  void remove(final long key) {
+    uncommittedEntries.put(key, ABSENT);
+  }
+
+  /**
+   * @return the estimated memory used by the committed element instances in bytes
+   */
+  long size() {
+    return size;
+  }
+
+  @Override
+  public void onCommit() {
+    if (!uncommittedEntries.isEmpty()) {
+      uncommittedEntries.forEachLong(this::commit);
+      uncommittedEntries.clear();
+    }
+  }
+
+  @Override
+  public void onRollback() {
+    uncommittedEntries.clear();
+  }
+
+  private void commit(final long key, final CachedElementInstance value) {
+    if (value == INVALIDATED) {
+      evict(key);
+    } else {
+      put(key, value);
+    }
+  }
+
+  private void put(final long key, final CachedElementInstance value) {
+    evict(key);
+
+    final var entry = new Entry(key, value);
+    if (entry.size() > capacity) {
+      return;
+    }
+
+    entries.put(key, entry);
+    linkHead(entry);
+    size += entry.size();
+
+    while (size > capacity) {
+      final var eldest = tail;
+      unlink(eldest);
+      entries.remove(eldest.key);
+      size -= eldest.size();
+    }
+  }
+
+  private void evict(final long key) {
+    final var existing = entries.remove(key);
+    if (existing != null) {
+      unlink(existing);
+      size -= existing.size();
+    }
+  }
+
+  private void moveToHead(final Entry entry) {
+    if (entry != head) {
+      unlink(entry);
+      linkHead(entry);
+    }
+  }
+
+  private void linkHead(final Entry entry) {
+    entry.next = head;
+    if (head != null) {
+      head.previous = entry;
+    }
+    head = entry;
+    if (tail == null) {
+      tail = entry;
+    }
+  }
+
+  private void unlink(final Entry entry) {
+    if (entry.previous != null) {
+      entry.previous.next = entry.next;
+    } else {
+      head = entry.next;
+    }
+
+    if (entry.next != null) {
+      entry.next.previous = entry.previous;
+    } else {
+      tail = entry.previous;
+    }
+
+    entry.previous = null;
+    entry.next = null;
+  }
+
+  /**
+   * An element instance in the cache. It is kept serialized, and decoded on first read-only access.
+   */
+  static final class CachedElementInstance {
+    private final byte[] serialized;
+    private ElementInstance decoded;
+
+    private CachedElementInstance(final byte[] serialized) {
+      this.serialized = serialized;
+    }
+
+    /**
+     * @return the decoded element instance, which is shared with all other read-only callers and
+     *     must not be modified
+     */
+    ElementInstance shared() {
+      if (decoded == null) {
+        decoded = new ElementInstance();
+        decoded.wrap(new UnsafeBuffer(serialized), 0, serialized.length);
+      }
+      return decoded;
+    }
+
+    /**
+     * @return a new element instance which may be modified by the caller; its properties are only
+     *     decoded when they are accessed
+     */
+    ElementInstance copy() {
+      final var copy = new ElementInstance();
+      copy.wrapLazily(new UnsafeBuffer(serialized), 0, serialized.length);
+      return copy;
+    }
+
+    byte[] serialized() {
+      return serialized;
+    }
+
+    /**
+     * Estimates the memory used by the element instance, counting it as decoded. The decoded form
+     * is assumed to take about as much memory as the serialized one.
+     */
+    private long size() {
+      return 2L * serialized.length;
+    }
+  }
+
+  private static final class Entry {
+    private final long key;
+    private final CachedElementInstance value;
+    private Entry previous;
+    private Entry next;
+
+    private Entry(final long key, final CachedElementInstance value) {
+      this.key = key;
+      this.value = value;
+    }
+
+    private long size() {
+      return ENTRY_OVERHEAD + value.size();
+    }
+  }
+}
@@ -76,6 +76,8 @@ public final class StateQueryService implements QueryService {
     if (state == null) {
       // service is used for the first time, create state now
       // we don't need a key generator here, so we set it to unsupported
+      // the state is modified by the stream processor via another transaction context, which an
+      // element instance cache of this state would not see
       state =
           new ProcessingDbState(
               Protocol.DEPLOYMENT_PARTITION,
@@ -86,7 +88,7 @@ public final class StateQueryService implements QueryService {
               },
               new TransientPendingSubscriptionState(),
               new TransientPendingSubscriptionState(),
-              new EngineConfiguration(),
+              new EngineConfiguration().setElementInstanceCacheSize(0),
               clock);
     }
   }
@@ -15,6 +15,7 @@ import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.msgpack.spec.MsgPackDocumentMerger;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -26,7 +27,6 @@ import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
-import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.MutableInteger;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -53,8 +53,11 @@ public class DbVariableState implements MutableVariableState {
   private final DirectBuffer variableNameView = new UnsafeBuffer(0, 0);
 
   // collecting variables
-  private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
+  private final MsgPackDocumentMerger documentMerger = new MsgPackDocumentMerger();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
+  // keys of the variables to collect from a scope, which are looked up together
+  private final DbLong collectScopeKey = new DbLong();
+  private final List<DbCompositeKey<DbLong, DbString>> variableKeysToCollect = new ArrayList<>();
 
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
@@ -194,30 +197,16 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public DirectBuffer getVariablesAsDocument(final long scopeKey) {
+    documentMerger.wrap(documentResultBuffer, 0);
 
-    collectedVariables.clear();
-    writer.wrap(documentResultBuffer, 0);
-
-    writer.reserveMapHeader();
-
+    // the variables of the inner scopes are visited first and shadow the ones of outer scopes
     visitVariables(
         scopeKey,
-        name -> !collectedVariables.contains(name.getBuffer()),
-        (name, value) -> {
-          final DirectBuffer variableNameBuffer = name.getBuffer();
-          writer.writeString(variableNameBuffer);
-          writer.writeRaw(value.getValue());
-
-          // must create a new name wrapper, because we keep them all in the hashset at the same
-          // time
-          final MutableDirectBuffer nameView = new UnsafeBuffer(variableNameBuffer);
-          collectedVariables.add(nameView);
-        },
+        name -> !documentMerger.containsKey(name.getBuffer()),
+        (name, value) -> documentMerger.addEntry(name.getBuffer(), value.getValue()),
         () -> false);
 
-    writer.writeReservedMapHeader(0, collectedVariables.size());
-
-    resultView.wrap(documentResultBuffer, 0, writer.getOffset());
+    resultView.wrap(documentResultBuffer, 0, documentMerger.finish());
     return resultView;
   }
 
@@ -232,16 +221,11 @@ public class DbVariableState implements MutableVariableState {
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
-
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+    long currentScope = scopeKey;
+    do {
+      collectVariablesLocal(currentScope);
+      currentScope = getParentScopeKey(currentScope);
+    } while (!variablesToCollect.isEmpty() && currentScope >= 0);
 
     writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
 
@@ -316,6 +300,33 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  /**
+   * Looks up the remaining variables to collect in the given scope in one batch, writes the found
+   * ones to the document and removes them from the variables to collect.
+   */
+  private void collectVariablesLocal(final long scopeKey) {
+    collectScopeKey.wrapLong(scopeKey);
+
+    int keyCount = 0;
+    for (final DirectBuffer name : variablesToCollect) {
+      if (keyCount == variableKeysToCollect.size()) {
+        variableKeysToCollect.add(new DbCompositeKey<>(collectScopeKey, new DbString()));
+      }
+      variableKeysToCollect.get(keyCount++).second().wrapBuffer(name);
+    }
+
+    variablesColumnFamily.multiGet(
+        variableKeysToCollect.subList(0, keyCount),
+        (key, variable) -> {
+          final DirectBuffer name = key.second().getBuffer();
+          writer.writeString(name);
+          writer.writeRaw(variable.getValue());
+
+          variablesToCollect.remove(name);
+          return true;
+        });
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
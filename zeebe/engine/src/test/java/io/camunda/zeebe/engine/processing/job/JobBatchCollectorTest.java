@@ -13,6 +13,7 @@ import io.camunda.security.configuration.SecurityConfiguration;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.identity.AuthorizationCheckBehavior;
 import io.camunda.zeebe.engine.processing.job.JobBatchCollector.TooLargeJob;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.util.MockTypedRecord;
 import io.camunda.zeebe.engine.util.ProcessingStateExtension;
@@ -254,6 +255,68 @@ final class JobBatchCollectorTest {
             });
   }
 
+  @Test
+  void shouldCollectVariablesOfSharedEnclosingScope() {
+    // given - jobs of the same enclosing scope, e.g. the inner instances of a multi-instance body
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    final long enclosingScopeKey = state.getKeyGenerator().nextKey();
+    final long firstScopeKey = state.getKeyGenerator().nextKey();
+    final long secondScopeKey = state.getKeyGenerator().nextKey();
+    state.getVariableState().createScope(enclosingScopeKey, VariableState.NO_PARENT);
+    state.getVariableState().createScope(firstScopeKey, enclosingScopeKey);
+    state.getVariableState().createScope(secondScopeKey, enclosingScopeKey);
+    setVariables(enclosingScopeKey, Map.of("foo", "bar", "baz", "buz"));
+    createJobWithVariables(firstScopeKey, Map.of("item", "first"));
+    createJobWithVariables(secondScopeKey, Map.of("item", "second", "foo", "shadowed"));
+
+    // when
+    collector.collectJobs(record);
+
+    // then
+    final JobBatchRecord batchRecord = record.getValue();
+    JobBatchRecordValueAssert.assertThat(batchRecord)
+        .satisfies(
+            batch -> {
+              final List<JobRecordValue> activatedJobs = batch.getJobs();
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(0))
+                  .hasVariables(Map.of("item", "first", "foo", "bar", "baz", "buz"));
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(1))
+                  .hasVariables(Map.of("item", "second", "foo", "shadowed", "baz", "buz"));
+            });
+  }
+
+  @Test
+  void shouldFetchOnlyRequestedVariablesOfSharedEnclosingScope() {
+    // given
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    final long enclosingScopeKey = state.getKeyGenerator().nextKey();
+    final long firstScopeKey = state.getKeyGenerator().nextKey();
+    final long secondScopeKey = state.getKeyGenerator().nextKey();
+    state.getVariableState().createScope(enclosingScopeKey, VariableState.NO_PARENT);
+    state.getVariableState().createScope(firstScopeKey, enclosingScopeKey);
+    state.getVariableState().createScope(secondScopeKey, enclosingScopeKey);
+    setVariables(enclosingScopeKey, Map.of("foo", "bar", "baz", "buz"));
+    createJobWithVariables(firstScopeKey, Map.of("item", "first"));
+    createJobWithVariables(secondScopeKey, Map.of("item", "second", "foo", "shadowed"));
+    record.getValue().variables().add().wrap(BufferUtil.wrapString("foo"));
+    record.getValue().variables().add().wrap(BufferUtil.wrapString("item"));
+
+    // when
+    collector.collectJobs(record);
+
+    // then
+    final JobBatchRecord batchRecord = record.getValue();
+    JobBatchRecordValueAssert.assertThat(batchRecord)
+        .satisfies(
+            batch -> {
+              final List<JobRecordValue> activatedJobs = batch.getJobs();
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(0))
+                  .hasVariables(Map.of("item", "first", "foo", "bar"));
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(1))
+                  .hasVariables(Map.of("item", "second", "foo", "shadowed"));
+            });
+  }
+
   /**
    * This is specifically a regression test for #5525. It's possible for this test to become
    * outdated if we ever change how records are serialized, variables packed, etc. But it's a
@@ -0,0 +1,146 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.metrics.ElementInstanceCacheMetrics;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class ElementInstanceCacheTest {
+
+  private final ElementInstanceCache cache =
+      new ElementInstanceCache(300, new ElementInstanceCacheMetrics(new SimpleMeterRegistry()));
+
+  @Test
+  void shouldMissWritesOfCurrentTransaction() {
+    // given
+    cache.putRead(1, new byte[] {1});
+
+    // when
+    cache.invalidate(1);
+
+    // then
+    assertThat(cache.get(1)).isNull();
+  }
+
+  @Test
+  void shouldServeReadsAfterWritesOfCurrentTransaction() {
+    // given
+    cache.putRead(1, new byte[] {1});
+    cache.invalidate(1);
+
+    // when
+    cache.putRead(1, new byte[] {2});
+
+    // then
+    assertThat(cache.get(1).serialized()).containsExactly(2);
+  }
+
+  @Test
+  void shouldKeepWritesOnCommit() {
+    // given
+    cache.invalidate(1);
+    cache.putRead(1, new byte[] {1});
+    cache.remove(2);
+
+    // when
+    cache.onCommit();
+    cache.onRollback();
+
+    // then
+    assertThat(cache.get(1).serialized()).containsExactly(1);
+    assertThat(cache.get(2)).isSameAs(ElementInstanceCache.ABSENT);
+  }
+
+  @Test
+  void shouldEvictInvalidatedElementInstancesOnCommit() {
+    // given
+    cache.putRead(1, new byte[] {1});
+    cache.invalidate(1);
+
+    // when
+    cache.onCommit();
+
+    // then
+    assertThat(cache.get(1)).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void shouldDiscardWritesOnRollback() {
+    // given
+    cache.putRead(1, new byte[] {1});
+    cache.invalidate(1);
+    cache.putRead(1, new byte[] {2});
+    cache.remove(2);
+
+    // when
+    cache.onRollback();
+
+    // then
+    assertThat(cache.get(1).serialized()).containsExactly(1);
+    assertThat(cache.get(2)).isNull();
+  }
+
+  @Test
+  void shouldNotOverwriteRemovalsWithReads() {
+    // given
+    cache.remove(1);
+
+    // when
+    cache.putRead(1, new byte[] {1});
+    cache.onCommit();
+
+    // then
+    assertThat(cache.get(1)).isSameAs(ElementInstanceCache.ABSENT);
+  }
+
+  @Test
+  void shouldShareDecodedElementInstanceAndCopyOnRequest() {
+    // given
+    final var elementInstance =
+        new ElementInstance(
+            1, ProcessInstanceIntent.ELEMENT_ACTIVATED, new ProcessInstanceRecord());
+    final var serialized = new byte[elementInstance.getLength()];
+    elementInstance.write(new UnsafeBuffer(serialized), 0);
+    cache.putRead(1, serialized);
+
+    // when
+    final var cached = cache.get(1);
+    final var copy = cached.copy();
+    copy.setState(ProcessInstanceIntent.ELEMENT_COMPLETED);
+
+    // then
+    assertThat(cached.shared()).isSameAs(cache.get(1).shared());
+    assertThat(cached.shared().getState()).isEqualTo(ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    assertThat(copy).isNotSameAs(cached.shared());
+    assertThat(cached.copy().getState()).isEqualTo(ProcessInstanceIntent.ELEMENT_ACTIVATED);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedElementInstances() {
+    // given
+    cache.putRead(1, new byte[30]);
+    cache.putRead(2, new byte[30]);
+    cache.get(1);
+
+    // when
+    cache.putRead(3, new byte[30]);
+
+    // then
+    assertThat(cache.get(1)).isNotNull();
+    assertThat(cache.get(2)).isNull();
+    assertThat(cache.get(3)).isNotNull();
+    assertThat(cache.size()).isLessThanOrEqualTo(300);
+  }
+}
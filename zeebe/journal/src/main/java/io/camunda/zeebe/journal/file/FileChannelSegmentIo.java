@@ -0,0 +1,133 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import org.agrona.BitUtil;
+import org.agrona.CloseHelper;
+import org.agrona.IoUtil;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A {@link SegmentIo} which writes the segment with positional writes through a {@link
+ * FileChannel}, and reads it through a read-only memory mapping of the same file. Since both share
+ * the page cache of the file, committed ranges are immediately visible to readers.
+ *
+ * <p>Ranges are staged in an off-heap write buffer, which grows to the largest staged range. It's
+ * off-heap since the channel would otherwise copy heap buffers to a temporary direct buffer on
+ * every write.
+ */
+final class FileChannelSegmentIo implements SegmentIo {
+
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final int INITIAL_WRITE_BUFFER_CAPACITY = 64 * 1024;
+
+  private final FileChannel channel;
+  private final MappedByteBuffer buffer;
+  private final UnsafeBuffer stagedRange = new UnsafeBuffer(0, 0);
+  private ByteBuffer writeBuffer;
+  private int stagedPosition;
+  private int stagedLength;
+
+  /**
+   * @param channel an open, writable channel to the segment file; it's closed with this instance
+   * @param buffer a read-only mapping of the segment file
+   */
+  FileChannelSegmentIo(final FileChannel channel, final MappedByteBuffer buffer) {
+    this.channel = channel;
+    this.buffer = buffer;
+    writeBuffer = ByteBuffer.allocateDirect(INITIAL_WRITE_BUFFER_CAPACITY).order(ENDIANNESS);
+  }
+
+  @Override
+  public ByteBuffer buffer() {
+    return buffer;
+  }
+
+  @Override
+  public MutableDirectBuffer stage(final int position, final int length) {
+    if (writeBuffer.capacity() < length) {
+      writeBuffer =
+          ByteBuffer.allocateDirect(BitUtil.findNextPositivePowerOfTwo(length)).order(ENDIANNESS);
+    }
+
+    stagedPosition = position;
+    stagedLength = length;
+    stagedRange.wrap(writeBuffer, 0, length);
+    return stagedRange;
+  }
+
+  @Override
+  public void commit(final int position, final int length) {
+    final int offset = position - stagedPosition;
+    if (offset < 0 || offset + length > stagedLength) {
+      throw new IllegalArgumentException(
+          "Expected to commit a part of the staged range [%d, %d), but got [%d, %d)"
+              .formatted(
+                  stagedPosition, stagedPosition + stagedLength, position, position + length));
+    }
+
+    writeBuffer.limit(offset + length).position(offset);
+    try {
+      write(writeBuffer, position);
+    } finally {
+      writeBuffer.clear();
+    }
+  }
+
+  @Override
+  public void writeDescriptor(
+      final SegmentDescriptorSerializer serializer, final SegmentDescriptor descriptor) {
+    // start from the current content, as the serializer may skip writing older descriptors
+    final int length = descriptor.encodingLength();
+    final var descriptorBuffer = ByteBuffer.allocate(length).order(ENDIANNESS);
+    descriptorBuffer.put(0, buffer, 0, length);
+    serializer.writeTo(descriptor, descriptorBuffer);
+    write(descriptorBuffer, 0);
+  }
+
+  @Override
+  public void flush() {
+    try {
+      channel.force(false);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void flush(final int length) {
+    // a channel can only be flushed as a whole
+    flush();
+  }
+
+  @Override
+  public void close() {
+    IoUtil.unmap(buffer);
+    CloseHelper.quietClose(channel);
+  }
+
+  private void write(final ByteBuffer source, final long position) {
+    try {
+      long writePosition = position;
+      while (source.hasRemaining()) {
+        writePosition += channel.write(source, writePosition);
+      }
+    } catch (final IOException e) {
+      throw new JournalException(
+          String.format("Failed to write to segment at position %d", position), e);
+    }
+  }
+}
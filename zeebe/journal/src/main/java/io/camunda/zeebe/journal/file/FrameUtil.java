@@ -16,6 +16,7 @@
 package io.camunda.zeebe.journal.file;
 
 import java.nio.ByteBuffer;
+import org.agrona.MutableDirectBuffer;
 
 final class FrameUtil {
 
@@ -25,12 +26,12 @@ final class FrameUtil {
 
   private FrameUtil() {}
 
-  static void writeVersion(final ByteBuffer buffer, final int offset) {
-    write(buffer, offset, VERSION);
+  static void writeVersion(final MutableDirectBuffer buffer, final int offset) {
+    buffer.putByte(offset, VERSION);
   }
 
-  static void markAsIgnored(final ByteBuffer buffer, final int offset) {
-    write(buffer, offset, IGNORE);
+  static void markAsIgnored(final MutableDirectBuffer buffer, final int offset) {
+    buffer.putByte(offset, IGNORE);
   }
 
   /**
@@ -54,8 +55,4 @@ final class FrameUtil {
   static int getLength() {
     return LENGTH;
   }
-
-  private static void write(final ByteBuffer buffer, final int offset, final byte value) {
-    buffer.put(offset, value);
-  }
 }
@@ -31,6 +31,25 @@ interface JournalIndex {
    */
   void index(JournalRecord record, int position);
 
+  /**
+   * Indexes an entry which was indexed before, e.g. when restoring a persisted index. Unlike {@link
+   * #index(JournalRecord, int)}, the entry is always indexed.
+   *
+   * @param index the index of the record
+   * @param position the position of the record within its segment
+   * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+   */
+  void index(long index, int position, long asqn);
+
+  /**
+   * Visits the indexed entries between the given indexes (inclusive), ordered by index.
+   *
+   * @param fromIndex the lowest index to visit
+   * @param toIndex the highest index to visit
+   * @param visitor called for every indexed entry within the range
+   */
+  void forEach(long fromIndex, long toIndex, IndexedEntryVisitor visitor);
+
   /**
    * Looks up the position of the given index.
    *
@@ -89,4 +108,15 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  @FunctionalInterface
+  interface IndexedEntryVisitor {
+
+    /**
+     * @param index the index of the record
+     * @param position the position of the record within its segment
+     * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+     */
+    void visit(long index, int position, long asqn);
+  }
 }
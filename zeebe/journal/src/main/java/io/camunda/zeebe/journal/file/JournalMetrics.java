@@ -36,6 +36,7 @@ final class JournalMetrics {
   private final Timer appendLatency;
   private final Counter appendRate;
   private final Counter appendDataRate;
+  private final Counter readAheadDataRate;
   private final Timer seekLatency;
   private final MeterRegistry registry;
 
@@ -66,6 +67,10 @@ final class JournalMetrics {
         Counter.builder(APPEND_DATA_RATE.getName())
             .description(APPEND_DATA_RATE.getDescription())
             .register(registry);
+    readAheadDataRate =
+        Counter.builder(READ_AHEAD_DATA_RATE.getName())
+            .description(READ_AHEAD_DATA_RATE.getDescription())
+            .register(registry);
     seekLatency = makeTimer(SEEK_LATENCY);
   }
 
@@ -110,6 +115,10 @@ final class JournalMetrics {
     appendDataRate.increment(appendedBytes / 1024f);
   }
 
+  void observeReadAhead(final long readAheadBytes) {
+    readAheadDataRate.increment(readAheadBytes / 1024f);
+  }
+
   CloseableSilently observeAppendLatency() {
     return MicrometerUtil.timer(appendLatency, Timer.start(registry));
   }
@@ -213,6 +213,33 @@ public enum JournalMetricsDoc implements ExtendedMeterDocumentation {
       return new KeyName[] {PartitionKeyNames.PARTITION};
     }
   },
+  /** The rate in KiB at which segments are read ahead of sequential readers */
+  READ_AHEAD_DATA_RATE {
+    @Override
+    public String getName() {
+      return "atomix.journal.read.ahead.data.rate";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "The rate in KiB at which segments are read ahead of sequential readers";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "KiB";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
   /** The rate at which we append entries in the journal, by entry count */
   APPEND_RATE {
     @Override
@@ -262,6 +289,45 @@ public enum JournalMetricsDoc implements ExtendedMeterDocumentation {
       return new KeyName[] {PartitionKeyNames.PARTITION};
     }
   },
+  /** Number of journals flushed together by a broker-wide group flush */
+  GROUP_FLUSH_SIZE {
+    @Override
+    public String getName() {
+      return "atomix.journal.group.flush.size";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of journals flushed together by a broker-wide group flush";
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return new double[] {1, 2, 4, 8, 16, 32, 64, 128};
+    }
+  },
+  /** Time spent to flush all journals of a broker-wide group flush */
+  GROUP_FLUSH_TIME {
+    @Override
+    public String getName() {
+      return "atomix.journal.group.flush.time";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time spent to flush all journals of a broker-wide group flush";
+    }
+  },
   /** Distribution of time spent seeking to a specific index */
   SEEK_LATENCY {
     private final Duration[] buckets =
@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import org.agrona.IoUtil;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A {@link SegmentIo} which reads and writes the segment through a writable memory mapping of its
+ * file. Staged ranges are views of the mapping, so committing them is a no-op.
+ */
+final class MappedSegmentIo implements SegmentIo {
+
+  private final MappedByteBuffer buffer;
+  private final UnsafeBuffer mappedBuffer;
+  private final UnsafeBuffer stagedRange = new UnsafeBuffer(0, 0);
+
+  MappedSegmentIo(final MappedByteBuffer buffer) {
+    this.buffer = buffer;
+    mappedBuffer = new UnsafeBuffer(buffer);
+  }
+
+  @Override
+  public ByteBuffer buffer() {
+    return buffer;
+  }
+
+  @Override
+  public MutableDirectBuffer stage(final int position, final int length) {
+    stagedRange.wrap(mappedBuffer, position, length);
+    return stagedRange;
+  }
+
+  @Override
+  public void commit(final int position, final int length) {
+    // staged ranges are written to the mapping directly
+  }
+
+  @Override
+  public void writeDescriptor(
+      final SegmentDescriptorSerializer serializer, final SegmentDescriptor descriptor) {
+    serializer.writeTo(descriptor, buffer);
+  }
+
+  /**
+   * It's safe to sync a buffer via {@link MappedByteBuffer#force()} even after it has been unmapped
+   * (e.g. via {@link IoUtil#unmap(ByteBuffer)}.
+   *
+   * <p>Calling {@code msync} or {@code FlushViewOfFile} on pages which are not mapped returns an
+   * error, but does not generate a SIGSEGV nor a SIGBUS. Instead, it returns an error code, which
+   * OpenJDK reports by throwing an {@link java.io.UncheckedIOException}.
+   */
+  @Override
+  public void flush() {
+    buffer.force();
+  }
+
+  @Override
+  public void flush(final int length) {
+    buffer.force(0, length);
+  }
+
+  @Override
+  public void close() {
+    IoUtil.unmap(buffer);
+  }
+}
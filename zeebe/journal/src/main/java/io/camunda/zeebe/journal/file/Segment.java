@@ -25,12 +25,9 @@ import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.MappedByteBuffer;
 import java.nio.file.Files;
 import java.util.Set;
-import org.agrona.IoUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -50,8 +47,9 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private final JournalIndex index;
   private final SegmentWriter writer;
   private final Set<SegmentReader> readers = Sets.newConcurrentHashSet();
-  private final MappedByteBuffer buffer;
+  private final SegmentIo io;
   private final JournalMetrics metrics;
+  private final SegmentReadAhead readAhead;
 
   // This needs to be volatile in case the flushing is asynchronous
   private volatile boolean open = true;
@@ -62,18 +60,21 @@ final class Segment implements AutoCloseable, FlushableSegment {
       final SegmentFile file,
       final SegmentDescriptor descriptor,
       final SegmentDescriptorSerializer descriptorSerializer,
-      final MappedByteBuffer buffer,
+      final SegmentIo io,
       final long lastWrittenAsqn,
       final JournalIndex index,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final boolean compressRecords,
+      final SegmentReadAhead readAhead) {
     this.file = file;
+    this.readAhead = readAhead;
     this.descriptor = descriptor;
     this.descriptorSerializer = descriptorSerializer;
-    this.buffer = buffer;
+    this.io = io;
     this.index = index;
     this.metrics = metrics;
 
-    writer = createWriter(lastWrittenAsqn, metrics);
+    writer = createWriter(lastWrittenAsqn, metrics, compressRecords);
   }
 
   /**
@@ -105,17 +106,16 @@ final class Segment implements AutoCloseable, FlushableSegment {
   }
 
   /**
-   * It's safe to sync a buffer via {@link MappedByteBuffer#force()} even after it has been unmapped
-   * (e.g. via {@link IoUtil#unmap(ByteBuffer)}.
+   * It's safe to flush the segment via {@link SegmentIo#flush()} even after it has been closed.
    *
-   * <p>Calling {@code msync} or {@code FlushViewOfFile} on pages which are not mapped returns an
-   * error, but does not generate a SIGSEGV nor a SIGBUS. Instead, it returns an error code.
+   * <p>Flushing an unmapped buffer or a closed channel returns an error, but does not generate a
+   * SIGSEGV nor a SIGBUS. Instead, it returns an error code.
    *
    * <p>We verified that on OpenJDK, this is handled by throwing an {@link UncheckedIOException}
-   * with a message about being unable to allocate memory. There are no other exceptions (other than
-   * the usual suspects, like null pointers) possible, so it's safe to assume that if we get such an
-   * error on calling {@link MappedByteBuffer#force()}, but the segment is closed/deleted, then we
-   * can safely ignore it (as flushing doesn't matter in that case).
+   * with a message about being unable to allocate memory, or with a closed channel exception as
+   * cause. There are no other exceptions (other than the usual suspects, like null pointers)
+   * possible, so it's safe to assume that if we get such an error on flushing, but the segment is
+   * closed/deleted, then we can safely ignore it (as flushing doesn't matter in that case).
    *
    * <p>{@inheritDoc}
    *
@@ -126,7 +126,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
     final long lastIndex = lastIndex();
 
     try (final var ignored = metrics.observeSegmentFlush()) {
-      buffer.force();
+      io.flush();
     } catch (final UncheckedIOException e) {
       if (isOpen()) {
         throw new FlushException(e.getCause());
@@ -188,13 +188,23 @@ final class Segment implements AutoCloseable, FlushableSegment {
   SegmentReader createReader() {
     checkOpen();
     final SegmentReader reader =
-        new SegmentReader(buffer.asReadOnlyBuffer().position(0).order(ENDIANNESS), this, index);
+        new SegmentReader(
+            io.buffer().asReadOnlyBuffer().position(0).order(ENDIANNESS), this, index, readAhead);
     readers.add(reader);
     return reader;
   }
 
-  private SegmentWriter createWriter(final long lastWrittenAsqn, final JournalMetrics metrics) {
-    return new SegmentWriter(buffer, this, index, lastWrittenAsqn, metrics);
+  private SegmentWriter createWriter(
+      final long lastWrittenAsqn, final JournalMetrics metrics, final boolean compressRecords) {
+    return new SegmentWriter(io, this, index, lastWrittenAsqn, metrics, compressRecords);
+  }
+
+  /**
+   * Returns the position of the last entry written to this segment. As it's updated by the writer,
+   * it may be stale when called from another thread.
+   */
+  int lastEntryPosition() {
+    return writer.getLastEntryPosition();
   }
 
   /**
@@ -231,12 +241,15 @@ final class Segment implements AutoCloseable, FlushableSegment {
   public void close() {
     open = false;
     readers.forEach(SegmentReader::close);
-    IoUtil.unmap(buffer);
+    writer.close();
+    io.close();
   }
 
   /** Deletes the segment. */
   void delete() {
     open = false;
+    writer.close();
+    SegmentIndexFile.delete(file.indexFile());
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
@@ -251,7 +264,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
               readers.size()));
     }
     try {
-      IoUtil.unmap(buffer);
+      io.close();
       Files.deleteIfExists(file.getFileMarkedForDeletion());
     } catch (final IOException e) {
       LOG.warn(
@@ -284,13 +297,32 @@ final class Segment implements AutoCloseable, FlushableSegment {
   void updateDescriptor() {
     descriptor =
         descriptor.withUpdatedIndices(writer.getLastIndex(), writer.getLastEntryPosition());
-    descriptorSerializer.writeTo(descriptor, buffer);
+    io.writeDescriptor(descriptorSerializer, descriptor);
+  }
+
+  /**
+   * Persists the journal index entries of this segment, so that they can be restored on startup.
+   * Should only be called once the segment is sealed, i.e. no more entries are appended to it.
+   */
+  void writeIndexFile() {
+    SegmentIndexFile.write(file.indexFile(), descriptor, lastIndex(), index);
+  }
+
+  /**
+   * Restores the persisted journal index entries of this segment, if there are any which match it.
+   *
+   * @return true if the entries were restored, false otherwise
+   */
+  boolean loadIndexFile() {
+    return SegmentIndexFile.load(file.indexFile(), descriptor, lastIndex(), index);
   }
 
   void resetLastEntryInDescriptor() {
+    // the segment is truncated, so the persisted index entries may not match it anymore
+    SegmentIndexFile.delete(file.indexFile());
     descriptor = descriptor.reset();
-    descriptorSerializer.writeTo(descriptor, buffer);
+    io.writeDescriptor(descriptorSerializer, descriptor);
     // flush immediately to prevent inconsistencies between descriptor and actual last written entry
-    buffer.force(0, descriptor.encodingLength());
+    io.flush(descriptor.encodingLength());
   }
 }
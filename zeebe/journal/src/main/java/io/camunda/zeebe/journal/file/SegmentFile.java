@@ -33,6 +33,7 @@ public final class SegmentFile {
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
   private static final String DELETE_EXTENSION = "deleted";
+  private static final String INDEX_EXTENSION = "idx";
   private static final char DELETE_EXTENSION_SEPARATOR = '_';
   private final File file;
   private Path fileMarkedForDeletion;
@@ -125,6 +126,15 @@ public final class SegmentFile {
     return file.getName();
   }
 
+  /**
+   * Returns the file in which the journal index entries of the segment are persisted.
+   *
+   * @return The index file.
+   */
+  Path indexFile() {
+    return Path.of(file.getParent(), file.getName() + EXTENSION_SEPARATOR + INDEX_EXTENSION);
+  }
+
   Path getFileMarkedForDeletion() {
     if (fileMarkedForDeletion == null) {
       final String renamedFileName =
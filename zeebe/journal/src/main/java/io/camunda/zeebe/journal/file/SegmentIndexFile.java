@@ -0,0 +1,176 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the entries of the {@link JournalIndex} which belong to a sealed segment next to the
+ * segment file, so that they can be restored on startup instead of being rebuilt by reading the
+ * segment again.
+ *
+ * <p>The file is only a cache: it's written without flushing on the first journal flush after the
+ * segment was sealed, and if it is missing, doesn't match the segment, or its checksum is wrong,
+ * it's ignored and the segment is indexed lazily again.
+ *
+ * <p>Layout, little endian:
+ *
+ * <pre>
+ * | version (1) | segment id (8) | first index (8) | last index (8) | entry count (4) |
+ * | entries: index (8), position (4), asqn (8) ... | checksum of everything before (8) |
+ * </pre>
+ */
+final class SegmentIndexFile {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+
+  private static final byte VERSION = 1;
+  private static final int VERSION_OFFSET = 0;
+  private static final int SEGMENT_ID_OFFSET = VERSION_OFFSET + Byte.BYTES;
+  private static final int FIRST_INDEX_OFFSET = SEGMENT_ID_OFFSET + Long.BYTES;
+  private static final int LAST_INDEX_OFFSET = FIRST_INDEX_OFFSET + Long.BYTES;
+  private static final int ENTRY_COUNT_OFFSET = LAST_INDEX_OFFSET + Long.BYTES;
+  private static final int ENTRIES_OFFSET = ENTRY_COUNT_OFFSET + Integer.BYTES;
+  private static final int ENTRY_LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+  private SegmentIndexFile() {}
+
+  /**
+   * Writes the indexed entries of the given segment. Any previous file of the segment is replaced.
+   *
+   * @param path the path of the index file
+   * @param descriptor the descriptor of the segment
+   * @param lastIndex the last index of the segment
+   * @param index the journal index which contains the entries of the segment
+   */
+  static void write(
+      final Path path,
+      final SegmentDescriptor descriptor,
+      final long lastIndex,
+      final JournalIndex index) {
+    final var buffer = new ExpandableArrayBuffer(ENTRIES_OFFSET + 64 * ENTRY_LENGTH);
+    buffer.putByte(VERSION_OFFSET, VERSION);
+    buffer.putLong(SEGMENT_ID_OFFSET, descriptor.id(), ENDIANNESS);
+    buffer.putLong(FIRST_INDEX_OFFSET, descriptor.index(), ENDIANNESS);
+    buffer.putLong(LAST_INDEX_OFFSET, lastIndex, ENDIANNESS);
+
+    final int[] entryCount = {0};
+    index.forEach(
+        descriptor.index(),
+        lastIndex,
+        (entryIndex, position, asqn) -> {
+          final int offset = ENTRIES_OFFSET + entryCount[0] * ENTRY_LENGTH;
+          buffer.putLong(offset, entryIndex, ENDIANNESS);
+          buffer.putInt(offset + Long.BYTES, position, ENDIANNESS);
+          buffer.putLong(offset + Long.BYTES + Integer.BYTES, asqn, ENDIANNESS);
+          entryCount[0]++;
+        });
+    buffer.putInt(ENTRY_COUNT_OFFSET, entryCount[0], ENDIANNESS);
+
+    final int checksumOffset = ENTRIES_OFFSET + entryCount[0] * ENTRY_LENGTH;
+    final long checksum = new ChecksumGenerator().compute(buffer, 0, checksumOffset);
+    buffer.putLong(checksumOffset, checksum, ENDIANNESS);
+
+    try {
+      Files.write(path, Arrays.copyOf(buffer.byteArray(), checksumOffset + CHECKSUM_LENGTH));
+    } catch (final IOException e) {
+      // the index is only a cache, so the segment is still usable without it
+      LOG.warn("Failed to write index file {}, it will be rebuilt lazily", path, e);
+      delete(path);
+    }
+  }
+
+  /**
+   * Restores the indexed entries of the given segment, if the index file exists and matches the
+   * segment. An index file which doesn't match is deleted.
+   *
+   * @param path the path of the index file
+   * @param descriptor the descriptor of the segment
+   * @param lastIndex the last index of the segment, as found when loading it
+   * @param index the journal index to restore the entries to
+   * @return true if the entries were restored, false otherwise
+   */
+  static boolean load(
+      final Path path,
+      final SegmentDescriptor descriptor,
+      final long lastIndex,
+      final JournalIndex index) {
+    final byte[] content;
+    try {
+      content = Files.readAllBytes(path);
+    } catch (final NoSuchFileException e) {
+      return false;
+    } catch (final IOException e) {
+      LOG.warn("Failed to read index file {}, the segment will be indexed lazily", path, e);
+      return false;
+    }
+
+    final var buffer = new UnsafeBuffer(content);
+    if (!isValid(buffer, descriptor, lastIndex)) {
+      LOG.debug(
+          "Index file {} does not match segment {} with last index {}, deleting it",
+          path,
+          descriptor.id(),
+          lastIndex);
+      delete(path);
+      return false;
+    }
+
+    final int entryCount = buffer.getInt(ENTRY_COUNT_OFFSET, ENDIANNESS);
+    for (int i = 0; i < entryCount; i++) {
+      final int offset = ENTRIES_OFFSET + i * ENTRY_LENGTH;
+      index.index(
+          buffer.getLong(offset, ENDIANNESS),
+          buffer.getInt(offset + Long.BYTES, ENDIANNESS),
+          buffer.getLong(offset + Long.BYTES + Integer.BYTES, ENDIANNESS));
+    }
+
+    return true;
+  }
+
+  /** Deletes the index file, if it exists. */
+  static void delete(final Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete index file {}", path, e);
+    }
+  }
+
+  private static boolean isValid(
+      final UnsafeBuffer buffer, final SegmentDescriptor descriptor, final long lastIndex) {
+    if (buffer.capacity() < ENTRIES_OFFSET + CHECKSUM_LENGTH
+        || buffer.getByte(VERSION_OFFSET) != VERSION) {
+      return false;
+    }
+
+    final int entryCount = buffer.getInt(ENTRY_COUNT_OFFSET, ENDIANNESS);
+    final long checksumOffset = ENTRIES_OFFSET + (long) entryCount * ENTRY_LENGTH;
+    if (entryCount < 0 || checksumOffset + CHECKSUM_LENGTH != buffer.capacity()) {
+      return false;
+    }
+
+    final long checksum = new ChecksumGenerator().compute(buffer, 0, (int) checksumOffset);
+    return checksum == buffer.getLong((int) checksumOffset, ENDIANNESS)
+        && buffer.getLong(SEGMENT_ID_OFFSET, ENDIANNESS) == descriptor.id()
+        && buffer.getLong(FIRST_INDEX_OFFSET, ENDIANNESS) == descriptor.index()
+        && buffer.getLong(LAST_INDEX_OFFSET, ENDIANNESS) == lastIndex;
+  }
+}
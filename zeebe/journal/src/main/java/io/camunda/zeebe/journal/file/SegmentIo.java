@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * The I/O backend of a {@link Segment}, which defines how its content is read, written and flushed.
+ * See {@link SegmentIoMode} for the available implementations.
+ *
+ * <p>The content is always read through {@link #buffer()}. Writes are done in two steps: a range of
+ * the segment is first staged via {@link #stage(int, int)}, and then parts of it are committed via
+ * {@link #commit(int, int)}, which makes them visible in {@link #buffer()}. Only one range can be
+ * staged at a time, i.e. staging a new range discards the previous one.
+ *
+ * <p>Implementations are not thread safe, except for {@link #flush()}, which may be called
+ * concurrently to the writer.
+ */
+interface SegmentIo extends AutoCloseable {
+
+  /**
+   * Returns the content of the whole segment, in little endian order. It's shared between the
+   * writer and the readers, so callers which need their own position must duplicate it.
+   *
+   * @return the content of the segment
+   */
+  ByteBuffer buffer();
+
+  /**
+   * Stages the given range of the segment for writing. Offset 0 of the returned buffer corresponds
+   * to the given position in the segment. The returned buffer is only valid until the next call.
+   *
+   * @param position the position in the segment at which the range starts
+   * @param length the length of the range
+   * @return a buffer to write the content of the range to
+   */
+  MutableDirectBuffer stage(int position, int length);
+
+  /**
+   * Writes the given part of the staged range to the segment.
+   *
+   * @param position the position in the segment; must be within the staged range
+   * @param length the length to write; must be within the staged range
+   */
+  void commit(int position, int length);
+
+  /**
+   * Writes the given descriptor at the start of the segment.
+   *
+   * @param serializer the serializer to write the descriptor with
+   * @param descriptor the descriptor to write
+   */
+  void writeDescriptor(SegmentDescriptorSerializer serializer, SegmentDescriptor descriptor);
+
+  /**
+   * Flushes the whole segment to disk.
+   *
+   * @throws UncheckedIOException if the segment could not be flushed
+   */
+  void flush();
+
+  /**
+   * Flushes at least the first {@code length} bytes of the segment to disk.
+   *
+   * @param length the length to flush, starting from the beginning of the segment
+   * @throws UncheckedIOException if the segment could not be flushed
+   */
+  void flush(int length);
+
+  /** Releases the underlying resources, e.g. the mapping and file handles. Idempotent. */
+  @Override
+  void close();
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+/** Defines how the entries of a segment are written to and flushed to its file. */
+public enum SegmentIoMode {
+  /**
+   * Entries are written directly to a shared, writable memory mapping of the segment file, and
+   * flushed by syncing the mapping to disk. This is the default.
+   */
+  MAPPED,
+
+  /**
+   * Entries are serialized into an off-heap write buffer, and written to the segment file with
+   * positional writes through a {@link java.nio.channels.FileChannel}, which is also used to flush
+   * them to disk. Readers still read the entries through a read-only memory mapping of the file.
+   *
+   * <p>This avoids page faults on the write path when writing to pages of the segment file which
+   * were not accessed yet, and makes flushing independent of the mapping.
+   */
+  FILE_CHANNEL
+}
@@ -11,6 +11,7 @@ import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
@@ -32,6 +33,9 @@ final class SegmentLoader {
   private final SegmentAllocator allocator;
   private final long minFreeDiskSpace;
   private final JournalMetrics metrics;
+  private final SegmentIoMode ioMode;
+  private final boolean compressRecords;
+  private final SegmentReadAhead readAhead;
 
   SegmentLoader(final int minFreeDiskSpace, final JournalMetrics metrics) {
     this(minFreeDiskSpace, metrics, SegmentAllocator.fill());
@@ -39,9 +43,28 @@ final class SegmentLoader {
 
   SegmentLoader(
       final long minFreeDiskSpace, final JournalMetrics metrics, final SegmentAllocator allocator) {
+    this(
+        minFreeDiskSpace,
+        metrics,
+        allocator,
+        SegmentIoMode.MAPPED,
+        false,
+        SegmentReadAhead.DISABLED);
+  }
+
+  SegmentLoader(
+      final long minFreeDiskSpace,
+      final JournalMetrics metrics,
+      final SegmentAllocator allocator,
+      final SegmentIoMode ioMode,
+      final boolean compressRecords,
+      final SegmentReadAhead readAhead) {
     this.minFreeDiskSpace = minFreeDiskSpace;
     this.metrics = metrics;
     this.allocator = allocator;
+    this.ioMode = ioMode;
+    this.compressRecords = compressRecords;
+    this.readAhead = readAhead;
   }
 
   Segment createSegment(
@@ -49,20 +72,20 @@ final class SegmentLoader {
       final SegmentDescriptor descriptor,
       final long lastWrittenAsqn,
       final JournalIndex journalIndex) {
-    final MappedByteBuffer mappedSegment;
+    final SegmentIo io;
 
     final var descriptorSerializer = SegmentDescriptorSerializer.currentSerializer();
     try {
-      mappedSegment = mapNewSegment(segmentFile, descriptor);
+      io = mapNewSegment(segmentFile, descriptor);
     } catch (final IOException e) {
       throw new JournalException(
           String.format("Failed to create new segment file %s", segmentFile), e);
     }
 
     try {
-      descriptorSerializer.writeTo(descriptor, mappedSegment);
-      mappedSegment.force();
-    } catch (final InternalError e) {
+      io.writeDescriptor(descriptorSerializer, descriptor);
+      io.flush();
+    } catch (final InternalError | UncheckedIOException e) {
       throw new JournalException(
           String.format(
               "Failed to ensure durability of segment %s with descriptor %s, rolling back",
@@ -82,20 +105,15 @@ final class SegmentLoader {
     }
 
     return loadSegment(
-        segmentFile,
-        mappedSegment,
-        descriptor,
-        descriptorSerializer,
-        lastWrittenAsqn,
-        journalIndex);
+        segmentFile, io, descriptor, descriptorSerializer, lastWrittenAsqn, journalIndex);
   }
 
   UninitializedSegment createUninitializedSegment(
       final Path segmentFile, final SegmentDescriptor descriptor, final JournalIndex journalIndex) {
-    final MappedByteBuffer mappedSegment;
+    final SegmentIo io;
 
     try {
-      mappedSegment = mapNewSegment(segmentFile, descriptor);
+      io = mapNewSegment(segmentFile, descriptor);
     } catch (final IOException e) {
       throw new JournalException(
           String.format("Failed to create new segment file %s", segmentFile), e);
@@ -115,8 +133,10 @@ final class SegmentLoader {
         new SegmentFile(segmentFile.toFile()),
         descriptor.id(),
         descriptor.maxSegmentSize(),
-        mappedSegment,
-        journalIndex);
+        io,
+        journalIndex,
+        compressRecords,
+        readAhead);
   }
 
   Segment loadExistingSegment(
@@ -124,25 +144,28 @@ final class SegmentLoader {
     final var descriptorSerializer = SegmentDescriptorSerializer.currentSerializer();
     try (final var channel =
         FileChannel.open(segmentFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
-      MappedByteBuffer mappedSegment;
       final var initialMappedLength = Files.size(segmentFile);
-      mappedSegment = mapSegment(channel, initialMappedLength);
-      final var descriptor =
-          readDescriptor(descriptorSerializer, mappedSegment, segmentFile.getFileName().toString());
-
-      if (descriptor.maxSegmentSize() > initialMappedLength) {
-        // remap with actual size
-        IoUtil.unmap(mappedSegment);
-        mappedSegment = mapSegment(channel, descriptor.maxSegmentSize());
+      final var descriptorBuffer = mapSegment(channel, MapMode.READ_ONLY, initialMappedLength);
+      final SegmentDescriptor descriptor;
+      try {
+        descriptor =
+            readDescriptor(
+                descriptorSerializer, descriptorBuffer, segmentFile.getFileName().toString());
+      } finally {
+        IoUtil.unmap(descriptorBuffer);
       }
 
-      return loadSegment(
-          segmentFile,
-          mappedSegment,
-          descriptor,
-          descriptorSerializer,
-          lastWrittenAsqn,
-          journalIndex);
+      // map with the actual size, which may be greater than the file if it wasn't pre-allocated
+      final var io =
+          createSegmentIo(
+              segmentFile, channel, Math.max(descriptor.maxSegmentSize(), initialMappedLength));
+      final var segment =
+          loadSegment(
+              segmentFile, io, descriptor, descriptorSerializer, lastWrittenAsqn, journalIndex);
+      if (segment.loadIndexFile()) {
+        LOGGER.trace("Restored the index of segment {} from its index file", segment);
+      }
+      return segment;
     } catch (final IOException e) {
       throw new JournalException(
           String.format("Failed to load existing segment %s", segmentFile), e);
@@ -152,7 +175,7 @@ final class SegmentLoader {
   /* ---- Internal methods ------ */
   private Segment loadSegment(
       final Path file,
-      final MappedByteBuffer buffer,
+      final SegmentIo io,
       final SegmentDescriptor descriptor,
       final SegmentDescriptorSerializer descriptorSerializer,
       final long lastWrittenAsqn,
@@ -162,15 +185,36 @@ final class SegmentLoader {
         segmentFile,
         descriptor,
         descriptorSerializer,
-        buffer,
+        io,
         lastWrittenAsqn,
         journalIndex,
-        metrics);
+        metrics,
+        compressRecords,
+        readAhead);
   }
 
-  private MappedByteBuffer mapSegment(final FileChannel channel, final long segmentSize)
+  private SegmentIo createSegmentIo(
+      final Path segmentFile, final FileChannel channel, final long segmentSize)
       throws IOException {
-    final var mappedSegment = channel.map(MapMode.READ_WRITE, 0, segmentSize);
+    return switch (ioMode) {
+      case MAPPED -> new MappedSegmentIo(mapSegment(channel, MapMode.READ_WRITE, segmentSize));
+      case FILE_CHANNEL -> {
+        // the given channel is closed by the caller, so the backend needs its own
+        final var mappedSegment = mapSegment(channel, MapMode.READ_ONLY, segmentSize);
+        try {
+          yield new FileChannelSegmentIo(
+              FileChannel.open(segmentFile, StandardOpenOption.WRITE), mappedSegment);
+        } catch (final IOException e) {
+          IoUtil.unmap(mappedSegment);
+          throw e;
+        }
+      }
+    };
+  }
+
+  private MappedByteBuffer mapSegment(
+      final FileChannel channel, final MapMode mode, final long segmentSize) throws IOException {
+    final var mappedSegment = channel.map(mode, 0, segmentSize);
     mappedSegment.order(ENDIANNESS);
 
     return mappedSegment;
@@ -193,11 +237,13 @@ final class SegmentLoader {
     }
   }
 
-  private MappedByteBuffer mapNewSegment(final Path segmentPath, final SegmentDescriptor descriptor)
+  private SegmentIo mapNewSegment(final Path segmentPath, final SegmentDescriptor descriptor)
       throws IOException {
     final var maxSegmentSize = descriptor.maxSegmentSize();
 
     checkDiskSpace(segmentPath, maxSegmentSize);
+    // an index file left over from a previous segment with the same id doesn't belong to this one
+    SegmentIndexFile.delete(new SegmentFile(segmentPath.toFile()).indexFile());
 
     try (final var channel =
         FileChannel.open(
@@ -206,7 +252,7 @@ final class SegmentLoader {
             StandardOpenOption.WRITE,
             StandardOpenOption.CREATE_NEW)) {
       allocateSegment(maxSegmentSize, channel);
-      return mapSegment(channel, maxSegmentSize);
+      return createSegmentIo(segmentPath, channel, maxSegmentSize);
     } catch (final FileAlreadyExistsException e) {
       LOGGER.warn(
           "Failed to create segment {}: an unused file already existed, and will be replaced",
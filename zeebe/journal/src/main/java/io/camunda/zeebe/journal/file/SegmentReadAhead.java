@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads ahead of sequential {@link SegmentReader segment readers} in the background, so that the
+ * pages they are about to read are already in the page cache when they get there, instead of each
+ * page fault stalling the reader, e.g. when replaying or exporting cold segments.
+ *
+ * <p>The upcoming range is read from the segment file with a separate file channel, and discarded.
+ * The mapping of the segment is never touched, as it may be unmapped concurrently when the segment
+ * is deleted; reading a file which was deleted or moved meanwhile simply fails and is ignored.
+ */
+final class SegmentReadAhead {
+
+  /** Read ahead which does nothing. */
+  static final SegmentReadAhead DISABLED = new SegmentReadAhead(0, Runnable::run, null);
+
+  /** Number of consecutive reads after which a reader is considered to read sequentially. */
+  static final int SEQUENTIAL_READS_THRESHOLD = 16;
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentReadAhead.class);
+  private static final int CHUNK_SIZE = 64 * 1024;
+
+  private final int windowSize;
+  private final Executor executor;
+  private final JournalMetrics metrics;
+
+  /**
+   * @param windowSize the number of bytes to read ahead of a sequential reader, 0 to disable
+   * @param executor the executor on which the ranges are read
+   * @param metrics the metrics to observe the read ahead bytes
+   */
+  SegmentReadAhead(final int windowSize, final Executor executor, final JournalMetrics metrics) {
+    this.windowSize = windowSize;
+    this.executor = executor;
+    this.metrics = metrics;
+  }
+
+  boolean isEnabled() {
+    return windowSize > 0;
+  }
+
+  int windowSize() {
+    return windowSize;
+  }
+
+  /**
+   * Asynchronously reads the given range of the segment file into the page cache.
+   *
+   * @param file the segment file
+   * @param position the position in the file at which to start reading
+   * @param length the number of bytes to read
+   */
+  void readAhead(final Path file, final int position, final int length) {
+    try {
+      executor.execute(() -> read(file, position, length));
+      metrics.observeReadAhead(length);
+    } catch (final RejectedExecutionException e) {
+      LOG.trace("Skipped read ahead of {} as the executor rejected it", file, e);
+    }
+  }
+
+  private void read(final Path file, final int position, final int length) {
+    final var chunk = ByteBuffer.allocate(Math.min(CHUNK_SIZE, length));
+    try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long offset = position;
+      final long end = (long) position + length;
+      while (offset < end) {
+        chunk.clear().limit((int) Math.min(chunk.capacity(), end - offset));
+        final int read = channel.read(chunk, offset);
+        if (read < 0) {
+          return;
+        }
+        offset += read;
+      }
+    } catch (final IOException e) {
+      // the segment may have been deleted meanwhile, and the reader will fault the pages in anyway
+      LOG.trace("Failed to read ahead {} bytes of {} at {}", length, file, position, e);
+    }
+  }
+}
@@ -31,14 +31,23 @@ final class SegmentReader implements Iterator<JournalRecord> {
   private final JournalIndex index;
   private final Segment segment;
   private long currentIndex;
+  private final SBESerializer serializer = new SBESerializer();
   private final JournalRecordReaderUtil recordReader;
   private final int descriptorLength;
-
-  SegmentReader(final ByteBuffer buffer, final Segment segment, final JournalIndex index) {
+  private final SegmentReadAhead readAhead;
+  private int sequentialReads;
+  private int readAheadPosition;
+
+  SegmentReader(
+      final ByteBuffer buffer,
+      final Segment segment,
+      final JournalIndex index,
+      final SegmentReadAhead readAhead) {
     this.index = index;
     this.segment = segment;
+    this.readAhead = readAhead;
     descriptorLength = segment.descriptor().encodingLength();
-    recordReader = new JournalRecordReaderUtil(new SBESerializer());
+    recordReader = new JournalRecordReaderUtil(serializer);
     this.buffer = buffer;
     reset();
   }
@@ -57,22 +66,18 @@ final class SegmentReader implements Iterator<JournalRecord> {
 
   @Override
   public JournalRecord next() {
-    if (!hasNext()) {
-      throw new NoSuchElementException();
+    final var currentEntry = readNext();
+    if (readAhead.isEnabled()) {
+      readAhead();
     }
-
-    // Read version so that buffer's position is advanced.
-    FrameUtil.readVersion(buffer);
-
-    final var currentEntry = recordReader.read(buffer, getNextIndex());
-    // currentEntry should not be null as hasNext returns true
-    currentIndex = currentEntry.index();
     return currentEntry;
   }
 
   void reset() {
     buffer.position(descriptorLength);
     currentIndex = segment.index() - 1;
+    sequentialReads = 0;
+    readAheadPosition = 0;
   }
 
   void seek(final long index) {
@@ -94,7 +99,7 @@ final class SegmentReader implements Iterator<JournalRecord> {
 
     while (getNextIndex() < index && hasNext()) {
       final var nextPosition = buffer.position();
-      final var nextEntry = next();
+      final var nextEntry = readNext();
       if (shouldIndex) {
         this.index.index(nextEntry, nextPosition);
       }
@@ -102,6 +107,7 @@ final class SegmentReader implements Iterator<JournalRecord> {
   }
 
   void close() {
+    serializer.close();
     segment.onReaderClosed(this);
   }
 
@@ -109,6 +115,44 @@ final class SegmentReader implements Iterator<JournalRecord> {
     return currentIndex + 1;
   }
 
+  private JournalRecord readNext() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    // Read version so that buffer's position is advanced.
+    FrameUtil.readVersion(buffer);
+
+    final var currentEntry = recordReader.read(buffer, getNextIndex());
+    // currentEntry should not be null as hasNext returns true
+    currentIndex = currentEntry.index();
+    return currentEntry;
+  }
+
+  /**
+   * Once the reader reads sequentially, requests the next window to be read ahead whenever the
+   * reader is halfway through the previous one. Only the written part of the segment is read ahead,
+   * so a reader which follows the writer doesn't read anything ahead, as its pages are hot anyway.
+   */
+  private void readAhead() {
+    if (++sequentialReads < SegmentReadAhead.SEQUENTIAL_READS_THRESHOLD) {
+      return;
+    }
+
+    final int position = buffer.position();
+    final int windowSize = readAhead.windowSize();
+    if (position + windowSize / 2 < readAheadPosition) {
+      return;
+    }
+
+    final int start = Math.max(position, readAheadPosition);
+    final int end = (int) Math.min((long) position + windowSize, segment.lastEntryPosition());
+    if (end > start) {
+      readAhead.readAhead(segment.file().file().toPath(), start, end - start);
+      readAheadPosition = end;
+    }
+  }
+
   private void checkSegmentOpen() {
     Preconditions.checkState(
         segment.isOpen(), "Segment is already closed. Reader must reset to a valid index.");
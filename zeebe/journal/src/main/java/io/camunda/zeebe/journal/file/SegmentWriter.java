@@ -25,8 +25,8 @@ import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.journal.JournalException.SegmentFull;
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.record.JournalRecordReaderUtil;
-import io.camunda.zeebe.journal.record.JournalRecordSerializer;
 import io.camunda.zeebe.journal.record.PersistedJournalRecord;
+import io.camunda.zeebe.journal.record.RecordData;
 import io.camunda.zeebe.journal.record.RecordMetadata;
 import io.camunda.zeebe.journal.record.SBESerializer;
 import io.camunda.zeebe.journal.util.ChecksumGenerator;
@@ -34,18 +34,25 @@ import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.nio.BufferUnderflowException;
-import java.nio.MappedByteBuffer;
+import java.nio.ByteBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Segment writer. */
+/**
+ * Segment writer.
+ *
+ * <p>Entries are written through the segment's {@link SegmentIo}: each entry is staged with the
+ * marker which invalidates the next entry, and committed before its version is, such that an entry
+ * only becomes valid once it's completely written.
+ */
 final class SegmentWriter {
 
   private static final Logger LOG = LoggerFactory.getLogger(SegmentWriter.class);
 
-  private final MappedByteBuffer buffer;
+  private final SegmentIo io;
+  private final ByteBuffer buffer;
   private final Segment segment;
   private final JournalIndex index;
   private final long firstIndex;
@@ -55,24 +62,27 @@ final class SegmentWriter {
   private int lastEntryPosition;
   private final JournalRecordReaderUtil recordUtil;
   private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
-  private final JournalRecordSerializer serializer = new SBESerializer();
-  private final MutableDirectBuffer writeBuffer = new UnsafeBuffer();
+  private final SBESerializer serializer;
+  private final UnsafeBuffer readBuffer = new UnsafeBuffer();
   private final int descriptorLength;
   private final JournalMetrics metrics;
 
   SegmentWriter(
-      final MappedByteBuffer buffer,
+      final SegmentIo io,
       final Segment segment,
       final JournalIndex index,
       final long lastWrittenAsqn,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final boolean compressRecords) {
     this.segment = segment;
+    serializer = new SBESerializer(compressRecords);
     descriptorLength = segment.descriptor().encodingLength();
     recordUtil = new JournalRecordReaderUtil(serializer);
     this.index = index;
     firstIndex = segment.index();
-    this.buffer = buffer;
-    writeBuffer.wrap(buffer);
+    this.io = io;
+    buffer = io.buffer();
+    readBuffer.wrap(buffer);
     firstAsqn = lastWrittenAsqn + 1;
     lastAsqn = lastWrittenAsqn;
     lastEntryPosition = segment.descriptor().lastPosition();
@@ -124,15 +134,28 @@ final class SegmentWriter {
     final int startPosition = buffer.position();
     final int frameLength = FrameUtil.getLength();
     final int metadataLength = serializer.getMetadataLength();
+    final int recordLength = serializer.getSerializedLength(recordDataWriter.getLength());
+    if (!hasCapacity(startPosition, frameLength + metadataLength + recordLength)) {
+      return Either.left(new SegmentFull("Not enough space to write record"));
+    }
 
     // Write using sbe old version because the checksum is calculated based on that version. This is
     // to handle all append requests coming from leaders that are at versions 8.2.x or older.
+    final var frame = stageFrame(startPosition, frameLength + metadataLength + recordLength);
     final var writeResult =
         writeRecordAtOldVersion(
-            entryIndex, asqn, startPosition + frameLength + metadataLength, recordDataWriter);
+            entryIndex, asqn, frame, frameLength + metadataLength, recordDataWriter);
 
     return tryFinalizeAppend(
-        expectedChecksum, startPosition, frameLength, metadataLength, writeResult);
+        expectedChecksum,
+        startPosition,
+        frame,
+        frameLength,
+        metadataLength,
+        entryIndex,
+        asqn,
+        recordDataWriter,
+        writeResult);
   }
 
   Either<SegmentFull, JournalRecord> append(final long asqn, final BufferWriter recordDataWriter) {
@@ -150,13 +173,25 @@ final class SegmentWriter {
     final int startPosition = buffer.position();
     final int frameLength = FrameUtil.getLength();
     final int metadataLength = serializer.getMetadataLength();
+    final int recordLength = serializer.getSerializedLength(recordDataWriter.getLength());
+    if (!hasCapacity(startPosition, frameLength + metadataLength + recordLength)) {
+      return Either.left(new SegmentFull("Not enough space to write record"));
+    }
 
+    final var frame = stageFrame(startPosition, frameLength + metadataLength + recordLength);
     final var writeResult =
-        writeRecord(
-            entryIndex, asqn, startPosition + frameLength + metadataLength, recordDataWriter);
+        writeRecord(entryIndex, asqn, frame, frameLength + metadataLength, recordDataWriter);
 
     return tryFinalizeAppend(
-        expectedChecksum, startPosition, frameLength, metadataLength, writeResult);
+        expectedChecksum,
+        startPosition,
+        frame,
+        frameLength,
+        metadataLength,
+        entryIndex,
+        asqn,
+        recordDataWriter,
+        writeResult);
   }
 
   Either<SegmentFull, JournalRecord> append(
@@ -167,17 +202,33 @@ final class SegmentWriter {
     final int recordLength = serializedRecord.length;
     final int metadataLength = serializer.getMetadataLength();
 
-    if (startPosition + frameLength + metadataLength + recordLength > buffer.capacity()) {
+    if (!hasCapacity(startPosition, frameLength + metadataLength + recordLength)) {
       return Either.left(new SegmentFull("Not enough space to write record"));
     }
 
     // write serialized RecordData
-    writeBuffer.putBytes(startPosition + frameLength + metadataLength, serializedRecord);
+    final var frame = stageFrame(startPosition, frameLength + metadataLength + recordLength);
+    frame.putBytes(frameLength + metadataLength, serializedRecord);
 
-    finalizeAppend(expectedChecksum, startPosition, frameLength, metadataLength, recordLength);
+    finalizeAppend(
+        expectedChecksum, startPosition, frame, frameLength, metadataLength, recordLength, null);
     return Either.right(lastEntry);
   }
 
+  private boolean hasCapacity(final int startPosition, final int entryLength) {
+    return startPosition + entryLength <= buffer.capacity();
+  }
+
+  /**
+   * Stages the entry starting at the given position, and the marker of the next entry if it fits
+   * into the segment. Offset 0 of the returned buffer is the start of the entry.
+   */
+  private MutableDirectBuffer stageFrame(final int startPosition, final int entryLength) {
+    final int nextEntryOffset = startPosition + entryLength;
+    final int markerLength = nextEntryOffset < buffer.capacity() ? FrameUtil.getLength() : 0;
+    return io.stage(startPosition, entryLength + markerLength);
+  }
+
   private void verifyAsqnIsIncreasing(final long asqn) {
     if (asqn != SegmentedJournal.ASQN_IGNORE && asqn <= lastAsqn) {
       throw new InvalidAsqn(
@@ -200,14 +251,24 @@ final class SegmentWriter {
   private Either<SegmentFull, JournalRecord> tryFinalizeAppend(
       final Long expectedChecksum,
       final int startPosition,
+      final MutableDirectBuffer frame,
       final int frameLength,
       final int metadataLength,
+      final long entryIndex,
+      final long asqn,
+      final BufferWriter recordDataWriter,
       final Either<SegmentFull, Integer> writeResult) {
     return writeResult
         .map(
             recordLength -> {
               finalizeAppend(
-                  expectedChecksum, startPosition, frameLength, metadataLength, recordLength);
+                  expectedChecksum,
+                  startPosition,
+                  frame,
+                  frameLength,
+                  metadataLength,
+                  recordLength,
+                  copyIfCompressed(entryIndex, asqn, recordDataWriter, recordLength));
               return lastEntry;
             })
         .mapLeft(
@@ -217,16 +278,42 @@ final class SegmentWriter {
             });
   }
 
-  /** Writes record metadata and header. Update lastWrittenEntry. Update JournalIndex */
+  /**
+   * Returns a copy of the record's data if it was written compressed, such that the last written
+   * entry can be built from it instead of decompressing what was just compressed. Returns null
+   * otherwise, as uncompressed data can be read directly from the segment.
+   */
+  private RecordData copyIfCompressed(
+      final long entryIndex,
+      final long asqn,
+      final BufferWriter recordDataWriter,
+      final int recordLength) {
+    final int dataLength = recordDataWriter.getLength();
+    if (recordLength >= serializer.getSerializedLength(dataLength)) {
+      return null;
+    }
+
+    final var data = new UnsafeBuffer(new byte[dataLength]);
+    recordDataWriter.write(data, 0);
+    return new RecordData(entryIndex, asqn, data);
+  }
+
+  /**
+   * Writes record metadata and header, and commits the staged frame. Update lastWrittenEntry.
+   * Update JournalIndex
+   *
+   * @param data the data of the written record, or null to read it from the segment
+   */
   private void finalizeAppend(
       final Long expectedChecksum,
       final int startPosition,
+      final MutableDirectBuffer frame,
       final int frameLength,
       final int metadataLength,
-      final int recordLength) {
+      final int recordLength,
+      final RecordData data) {
     final long checksum =
-        checksumGenerator.compute(
-            buffer, startPosition + frameLength + metadataLength, recordLength);
+        checksumGenerator.compute(frame, frameLength + metadataLength, recordLength);
 
     if (expectedChecksum != null && expectedChecksum != checksum) {
       buffer.position(startPosition);
@@ -236,15 +323,22 @@ final class SegmentWriter {
               checksum, expectedChecksum));
     }
 
-    writeMetadata(startPosition, frameLength, recordLength, checksum);
+    writeMetadata(frame, frameLength, recordLength, checksum);
 
-    final int nextEntryOffset = startPosition + frameLength + metadataLength + recordLength;
-    invalidateNextEntry(nextEntryOffset);
+    final int appendedBytes = frameLength + metadataLength + recordLength;
+    int stagedBytes = appendedBytes;
+    if (frame.capacity() > appendedBytes) {
+      FrameUtil.markAsIgnored(frame, appendedBytes);
+      stagedBytes += FrameUtil.getLength();
+    }
 
-    updateLastWrittenEntry(startPosition, frameLength, metadataLength, recordLength);
-    FrameUtil.writeVersion(buffer, startPosition);
+    // commit everything but the version first, so that the entry only becomes valid once complete;
+    // a compressed record may be shorter than what was staged for it
+    io.commit(startPosition + frameLength, stagedBytes - frameLength);
+    updateLastWrittenEntry(startPosition, frameLength, metadataLength, recordLength, data);
+    FrameUtil.writeVersion(frame, 0);
+    io.commit(startPosition, frameLength);
 
-    final int appendedBytes = frameLength + metadataLength + recordLength;
     buffer.position(startPosition + appendedBytes);
     metrics.observeAppend(appendedBytes);
   }
@@ -253,9 +347,13 @@ final class SegmentWriter {
       final int startPosition,
       final int frameLength,
       final int metadataLength,
-      final int recordLength) {
-    final var metadata = serializer.readMetadata(writeBuffer, startPosition + frameLength);
-    final var data = serializer.readData(writeBuffer, startPosition + frameLength + metadataLength);
+      final int recordLength,
+      final RecordData writtenData) {
+    final var metadata = serializer.readMetadata(readBuffer, startPosition + frameLength);
+    final var data =
+        writtenData != null
+            ? writtenData
+            : serializer.readData(readBuffer, startPosition + frameLength + metadataLength);
     verifyNoIndexGap(data.index(), getNextIndex());
 
     lastEntry =
@@ -263,7 +361,7 @@ final class SegmentWriter {
             metadata,
             data,
             new UnsafeBuffer(
-                writeBuffer, startPosition + frameLength + metadataLength, recordLength));
+                readBuffer, startPosition + frameLength + metadataLength, recordLength));
     updateLastAsqn(lastEntry.asqn());
     index.index(lastEntry, startPosition);
     lastEntryPosition = startPosition;
@@ -274,22 +372,33 @@ final class SegmentWriter {
   }
 
   private void writeMetadata(
-      final int startPosition, final int frameLength, final int recordLength, final long checksum) {
+      final MutableDirectBuffer frame,
+      final int frameLength,
+      final int recordLength,
+      final long checksum) {
     final RecordMetadata recordMetadata = new RecordMetadata(checksum, recordLength);
-    serializer.writeMetadata(recordMetadata, writeBuffer, startPosition + frameLength);
+    serializer.writeMetadata(recordMetadata, frame, frameLength);
   }
 
   private Either<SegmentFull, Integer> writeRecord(
-      final long index, final long asqn, final int offset, final BufferWriter recordDataWriter) {
+      final long index,
+      final long asqn,
+      final MutableDirectBuffer frame,
+      final int offset,
+      final BufferWriter recordDataWriter) {
     return serializer
-        .writeData(index, asqn, recordDataWriter, writeBuffer, offset)
+        .writeData(index, asqn, recordDataWriter, frame, offset)
         .mapLeft(e -> new SegmentFull("Not enough space to write record"));
   }
 
   private Either<SegmentFull, Integer> writeRecordAtOldVersion(
-      final long index, final long asqn, final int offset, final BufferWriter recordDataWriter) {
+      final long index,
+      final long asqn,
+      final MutableDirectBuffer frame,
+      final int offset,
+      final BufferWriter recordDataWriter) {
     return serializer
-        .writeDataAtVersion(1, index, asqn, recordDataWriter, writeBuffer, offset)
+        .writeDataAtVersion(1, index, asqn, recordDataWriter, frame, offset)
         .mapLeft(e -> new SegmentFull("Not enough space to write record"));
   }
 
@@ -298,7 +407,8 @@ final class SegmentWriter {
       return;
     }
 
-    FrameUtil.markAsIgnored(buffer, position);
+    FrameUtil.markAsIgnored(io.stage(position, FrameUtil.getLength()), 0);
+    io.commit(position, FrameUtil.getLength());
   }
 
   private void jumpToLastEntry(final int lastPosition, final long lastIndex) {
@@ -375,7 +485,7 @@ final class SegmentWriter {
         "{} Found a corrupted or partially written entry at position {}. Considering it as a partially written entry and resetting the position.",
         e.getMessage(),
         position);
-    FrameUtil.markAsIgnored(buffer, position);
+    invalidateNextEntry(position);
     buffer.position(position);
     buffer.mark();
   }
@@ -407,4 +517,9 @@ final class SegmentWriter {
       invalidateNextEntry(buffer.position());
     }
   }
+
+  /** Releases the native memory held by the serializer to compress and decompress records. */
+  void close() {
+    serializer.close();
+  }
 }
@@ -22,6 +22,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import io.camunda.zeebe.journal.JournalMetaStore;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
+import java.util.concurrent.ForkJoinPool;
 
 /** Raft log builder. */
 @SuppressWarnings("UnusedReturnValue")
@@ -33,6 +34,9 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final SegmentIoMode DEFAULT_SEGMENT_IO_MODE = SegmentIoMode.MAPPED;
+  private static final boolean DEFAULT_COMPRESS_RECORDS = false;
+  private static final int DEFAULT_READ_AHEAD_SIZE = 0;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -44,6 +48,9 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private SegmentIoMode segmentIoMode = DEFAULT_SEGMENT_IO_MODE;
+  private boolean compressRecords = DEFAULT_COMPRESS_RECORDS;
+  private int readAheadSize = DEFAULT_READ_AHEAD_SIZE;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -145,6 +152,56 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets how entries are written to and flushed to the segment files. See {@link SegmentIoMode} for
+   * the available modes.
+   *
+   * <p>By default, this is {@link SegmentIoMode#MAPPED}.
+   *
+   * @param segmentIoMode the I/O mode of the segments
+   * @return this builder for chaining
+   * @throws NullPointerException if the {@code segmentIoMode} is {@code null}
+   */
+  public SegmentedJournalBuilder withSegmentIoMode(final SegmentIoMode segmentIoMode) {
+    this.segmentIoMode = checkNotNull(segmentIoMode, "segmentIoMode cannot be null");
+    return this;
+  }
+
+  /**
+   * Sets whether the data of large records is compressed when they are appended. Records are only
+   * compressed if this makes them smaller; records which were appended in serialized form, e.g.
+   * when replicated from a leader, are written as they are.
+   *
+   * <p>Compressed records can always be read, regardless of this setting, but not by versions which
+   * don't support compression. Enable it only once all brokers in the cluster support it.
+   *
+   * <p>By default, records are not compressed.
+   *
+   * @param compressRecords true to compress the data of large records, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withRecordCompression(final boolean compressRecords) {
+    this.compressRecords = compressRecords;
+    return this;
+  }
+
+  /**
+   * Sets how many bytes of a segment are read ahead of readers which read sequentially, e.g. when
+   * replaying or exporting. The upcoming bytes are read into the page cache in the background, so
+   * that the reader doesn't stall on page faults when the segments are not in the page cache.
+   *
+   * <p>By default, this is 0, i.e. nothing is read ahead.
+   *
+   * @param readAheadSize the number of bytes to read ahead, or 0 to disable read ahead
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if the {@code readAheadSize} is negative
+   */
+  public SegmentedJournalBuilder withReadAheadSize(final int readAheadSize) {
+    checkArgument(readAheadSize >= 0, "readAheadSize must be positive or zero");
+    this.readAheadSize = readAheadSize;
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -171,7 +228,18 @@ public class SegmentedJournalBuilder {
     final var journalMetrics = new JournalMetrics(meterRegistry);
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
-    final var segmentLoader = new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator);
+    final var readAhead =
+        readAheadSize > 0
+            ? new SegmentReadAhead(readAheadSize, ForkJoinPool.commonPool(), journalMetrics)
+            : SegmentReadAhead.DISABLED;
+    final var segmentLoader =
+        new SegmentLoader(
+            freeDiskSpace,
+            journalMetrics,
+            segmentAllocator,
+            segmentIoMode,
+            compressRecords,
+            readAhead);
     final var segmentsManager =
         new SegmentsManager(
             journalIndex,
@@ -22,12 +22,16 @@ import io.camunda.zeebe.journal.JournalException.SegmentSizeTooSmall;
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
 
 final class SegmentedJournalWriter {
   private final SegmentsManager segments;
   private final SegmentsFlusher flusher;
   private final JournalMetrics journalMetrics;
+  // sealed segments whose index file is written on the next flush, which may run concurrently
+  private final Queue<Segment> unpersistedIndexSegments = new ConcurrentLinkedQueue<>();
 
   private Segment currentSegment;
   private SegmentWriter currentWriter;
@@ -94,6 +98,7 @@ final class SegmentedJournalWriter {
   }
 
   void reset(final long index) {
+    unpersistedIndexSegments.clear();
     flusher.setLastFlushedIndex(index - 1);
     currentSegment = segments.resetSegments(index);
     currentWriter = currentSegment.writer();
@@ -103,6 +108,8 @@ final class SegmentedJournalWriter {
     // reset the last flushed index first to avoid corruption on restart in case of partial
     // truncation (e.g. the node crashed while deleting segments)
     flusher.setLastFlushedIndex(index);
+    // the index files of truncated segments wouldn't match them anymore
+    unpersistedIndexSegments.removeIf(segment -> segment.lastIndex() > index);
 
     // Delete all segments with first indexes greater than the given index.
     while (index < currentSegment.index() && currentSegment != segments.getFirstSegment()) {
@@ -124,10 +131,29 @@ final class SegmentedJournalWriter {
     // segment if only to cover cases such as truncating the log, where the next flush index may not
     // have been written yet but we still want to flush that segment after modifying it
     flusher.flush(segments.getTailSegments(flusher.nextFlushIndex()).values());
+    persistIndexOfSealedSegments();
+  }
+
+  /**
+   * Writes the index files of the segments sealed since the last flush. This is done when flushing
+   * rather than when sealing a segment, as the file is written synchronously, which would otherwise
+   * stall the append that rolls over to the next segment. Flushing already blocks on the disk, and
+   * may run on a different thread than appending. Deleting or truncating segments is mutually
+   * exclusive with flushing, so a segment which is still open hasn't been modified since it was
+   * sealed.
+   */
+  private void persistIndexOfSealedSegments() {
+    Segment segment;
+    while ((segment = unpersistedIndexSegments.poll()) != null) {
+      if (segment.isOpen()) {
+        segment.writeIndexFile();
+      }
+    }
   }
 
   private void createNewSegment() {
     currentSegment.updateDescriptor();
+    unpersistedIndexSegments.add(currentSegment);
     currentSegment = segments.getNextSegment();
     currentWriter = currentSegment.writer();
   }
@@ -87,7 +87,7 @@ final class SegmentsManager implements AutoCloseable {
 
     if (nextSegment != null) {
       try {
-        nextSegment.join();
+        nextSegment.join().close();
       } catch (final Exception e) {
         LOG.warn(
             "Next segment preparation failed during close, ignoring and proceeding to close", e);
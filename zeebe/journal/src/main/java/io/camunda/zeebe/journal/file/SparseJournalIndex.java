@@ -16,19 +16,28 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
 
+/**
+ * Indexes every n-th record, where n is the density. The indexed records are kept in sorted
+ * primitive arrays, which are binary searched, so indexing a record doesn't box or allocate (except
+ * when the arrays have to grow), and deleting from either end only moves a bound.
+ *
+ * <p>Records are usually indexed in order by the writer, but readers may also index records of
+ * older segments while seeking, possibly concurrently. A lock guards the arrays; lookups share it.
+ */
 final class SparseJournalIndex implements JournalIndex {
 
+  private static final int INITIAL_CAPACITY = 64;
+
   private final int density;
-  private final ConcurrentNavigableMap<Long, Integer> indexToPosition =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> asqnToIndex = new ConcurrentSkipListMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final ConcurrentNavigableMap<Long, Long> indexToAsqn = new ConcurrentSkipListMap<>();
+  private final StampedLock lock = new StampedLock();
+  // index -> position of the indexed records
+  private final SortedEntries positions = new SortedEntries();
+  // index -> asqn of the indexed records which have an asqn; since the asqn of records is
+  // increasing, the asqns are sorted as well
+  private final SortedEntries asqns = new SortedEntries();
 
   SparseJournalIndex(final int density) {
     this.density = density;
@@ -38,19 +47,67 @@ final class SparseJournalIndex implements JournalIndex {
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
     if (index % density == 0) {
-      indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
+      index(index, position, indexedEntry.asqn());
+    }
+  }
+
+  @Override
+  public void index(final long index, final int position, final long asqn) {
+    final var stamp = lock.writeLock();
+    try {
+      positions.put(index, position);
       if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
+        asqns.put(index, asqn);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final IndexedEntryVisitor visitor) {
+    final var stamp = lock.readLock();
+    try {
+      int asqnEntry = asqns.ceilingKey(fromIndex);
+      for (int entry = positions.ceilingKey(fromIndex);
+          entry != SortedEntries.NOT_FOUND && entry < positions.end();
+          entry++) {
+        final long index = positions.key(entry);
+        if (index > toIndex) {
+          break;
+        }
+
+        // both tables are sorted by index, and every index with an asqn also has a position
+        while (asqnEntry != SortedEntries.NOT_FOUND
+            && asqnEntry < asqns.end()
+            && asqns.key(asqnEntry) < index) {
+          asqnEntry++;
+        }
+        final long asqn =
+            asqnEntry != SortedEntries.NOT_FOUND
+                    && asqnEntry < asqns.end()
+                    && asqns.key(asqnEntry) == index
+                ? asqns.value(asqnEntry)
+                : SegmentedJournal.ASQN_IGNORE;
+
+        visitor.visit(index, (int) positions.value(entry), asqn);
       }
+    } finally {
+      lock.unlockRead(stamp);
     }
   }
 
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    final var stamp = lock.readLock();
+    try {
+      final int entry = positions.floorKey(index);
+      return entry != SortedEntries.NOT_FOUND
+          ? new IndexInfo(positions.key(entry), (int) positions.value(entry))
+          : null;
+    } finally {
+      lock.unlockRead(stamp);
+    }
   }
 
   @Override
@@ -60,46 +117,61 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
+    final var stamp = lock.readLock();
+    try {
+      final int entry = asqns.floorValue(asqn);
+      if (entry == SortedEntries.NOT_FOUND) {
+        return null;
       }
+
+      if (asqns.key(entry) <= indexUpperBound) {
+        return asqns.key(entry);
+      }
+
+      final int boundedEntry = asqns.floorKey(indexUpperBound);
+      return boundedEntry != SortedEntries.NOT_FOUND ? asqns.key(boundedEntry) : null;
+    } finally {
+      lock.unlockRead(stamp);
     }
-    return null;
   }
 
   @Override
   public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
+    final var stamp = lock.writeLock();
+    try {
+      positions.deleteAfter(index);
+      asqns.deleteAfter(index);
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
+    final var stamp = lock.writeLock();
+    try {
+      positions.deleteUntil(index);
 
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+      // keep the asqn of the last indexed record before the given index, so that an asqn lookup
+      // still finds a lower bound to start seeking from
+      final int asqnEntry = asqns.floorKey(index);
+      if (asqnEntry != SortedEntries.NOT_FOUND) {
+        asqns.deleteUntil(asqns.key(asqnEntry));
+      }
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public void clear() {
-    indexToPosition.clear();
-    indexToAsqn.clear();
-    asqnToIndex.clear();
+    final var stamp = lock.writeLock();
+    try {
+      positions.clear();
+      asqns.clear();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
   }
 
   @Override
@@ -111,4 +183,134 @@ final class SparseJournalIndex implements JournalIndex {
       return indexInfo.index() > index - density;
     }
   }
+
+  /**
+   * Entries sorted by their key, stored in the range [head, tail) of two parallel arrays. Deleting
+   * entries from the front only moves the head, which is reclaimed when the arrays are full.
+   */
+  private static final class SortedEntries {
+    private static final int NOT_FOUND = -1;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private long[] values = new long[INITIAL_CAPACITY];
+    private int head;
+    private int tail;
+
+    private long key(final int entry) {
+      return keys[entry];
+    }
+
+    private long value(final int entry) {
+      return values[entry];
+    }
+
+    private void put(final long key, final long value) {
+      // fast path: records are mostly indexed in order
+      if (head == tail || key > keys[tail - 1]) {
+        ensureCapacity();
+        keys[tail] = key;
+        values[tail] = value;
+        tail++;
+        return;
+      }
+
+      final int entry = Arrays.binarySearch(keys, head, tail, key);
+      if (entry >= 0) {
+        values[entry] = value;
+        return;
+      }
+
+      ensureCapacity();
+      // ensuring the capacity may have moved the entries, so search again
+      final int insertionPoint = -Arrays.binarySearch(keys, head, tail, key) - 1;
+      System.arraycopy(keys, insertionPoint, keys, insertionPoint + 1, tail - insertionPoint);
+      System.arraycopy(values, insertionPoint, values, insertionPoint + 1, tail - insertionPoint);
+      keys[insertionPoint] = key;
+      values[insertionPoint] = value;
+      tail++;
+    }
+
+    /** Returns the position after the last entry. */
+    private int end() {
+      return tail;
+    }
+
+    /** Returns the entry with the least key greater than or equal to the given key. */
+    private int ceilingKey(final long key) {
+      final int entry = Arrays.binarySearch(keys, head, tail, key);
+      if (entry >= 0) {
+        return entry;
+      }
+
+      final int ceiling = -entry - 1;
+      return ceiling < tail ? ceiling : NOT_FOUND;
+    }
+
+    /** Returns the entry with the greatest key less than or equal to the given key. */
+    private int floorKey(final long key) {
+      return floor(keys, key);
+    }
+
+    /** Returns the entry with the greatest value less than or equal to the given value. */
+    private int floorValue(final long value) {
+      return floor(values, value);
+    }
+
+    /** Deletes all entries with a key greater than the given key. */
+    private void deleteAfter(final long key) {
+      tail = floorKey(key) + 1;
+      if (tail <= head) {
+        clear();
+      }
+    }
+
+    /** Deletes all entries with a key less than the given key. */
+    private void deleteUntil(final long key) {
+      final int entry = floorKey(key);
+      if (entry != NOT_FOUND) {
+        head = keys[entry] == key ? entry : entry + 1;
+      }
+      if (head == tail) {
+        clear();
+      }
+    }
+
+    private void clear() {
+      head = 0;
+      tail = 0;
+    }
+
+    private int floor(final long[] sorted, final long needle) {
+      final int entry = Arrays.binarySearch(sorted, head, tail, needle);
+      if (entry >= 0) {
+        return entry;
+      }
+
+      final int floor = -entry - 2;
+      return floor >= head ? floor : NOT_FOUND;
+    }
+
+    private void ensureCapacity() {
+      if (tail < keys.length) {
+        return;
+      }
+
+      final int size = tail - head;
+      if (size <= keys.length / 2) {
+        // reclaim the space of the deleted entries instead of growing
+        System.arraycopy(keys, head, keys, 0, size);
+        System.arraycopy(values, head, values, 0, size);
+      } else {
+        final var grownKeys = new long[keys.length * 2];
+        final var grownValues = new long[values.length * 2];
+        System.arraycopy(keys, head, grownKeys, 0, size);
+        System.arraycopy(values, head, grownValues, 0, size);
+        keys = grownKeys;
+        values = grownValues;
+      }
+
+      head = 0;
+      tail = size;
+    }
+  }
 }
@@ -7,8 +7,6 @@
  */
 package io.camunda.zeebe.journal.file;
 
-import java.nio.MappedByteBuffer;
-
 /**
  * Holds a normal segment file that hasn't been written to and that has no {@link
  * SegmentDescriptor}.
@@ -17,8 +15,10 @@ record UninitializedSegment(
     SegmentFile file,
     long segmentId,
     int maxSegmentSize,
-    MappedByteBuffer buffer,
-    JournalIndex journalIndex) {
+    SegmentIo io,
+    JournalIndex journalIndex,
+    boolean compressRecords,
+    SegmentReadAhead readAhead) {
 
   /**
    * Creates a proper, initialized segment by writing a {@link SegmentDescriptor } with the given
@@ -33,14 +33,21 @@ record UninitializedSegment(
             .withMaxSegmentSize(maxSegmentSize)
             .build();
     final var descriptorSerializer = SegmentDescriptorSerializer.currentSerializer();
-    descriptorSerializer.writeTo(updatedDescriptor, buffer);
+    io.writeDescriptor(descriptorSerializer, updatedDescriptor);
     return new Segment(
         file,
         updatedDescriptor,
         descriptorSerializer,
-        buffer,
+        io,
         lastWrittenAsqn,
         journalIndex,
-        metrics);
+        metrics,
+        compressRecords,
+        readAhead);
+  }
+
+  /** Releases the resources of the segment, if it's not going to be used. */
+  public void close() {
+    io.close();
   }
 }
@@ -69,6 +69,16 @@ public interface JournalRecordSerializer {
    */
   int getMetadataLength();
 
+  /**
+   * Returns the maximum number of bytes required to write a {@link RecordData} with the given
+   * length of data to a buffer, i.e. the length returned by {@link #writeData(long, long,
+   * BufferWriter, MutableDirectBuffer, int)} on success, if the data is not compressed.
+   *
+   * @param dataLength the length of the record's data
+   * @return the maximum length of the serialized record data
+   */
+  int getSerializedLength(int dataLength);
+
   /**
    * Reads the {@link RecordMetadata} from the buffer at offset 0. A valid record must exist in the
    * buffer at this position.
@@ -8,6 +8,8 @@
 package io.camunda.zeebe.journal.record;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.file.CompressedRecordDataDecoder;
+import io.camunda.zeebe.journal.file.CompressedRecordDataEncoder;
 import io.camunda.zeebe.journal.file.MessageHeaderDecoder;
 import io.camunda.zeebe.journal.file.MessageHeaderEncoder;
 import io.camunda.zeebe.journal.file.RecordDataDecoder;
@@ -17,12 +19,37 @@ import io.camunda.zeebe.journal.file.RecordMetadataEncoder;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.nio.BufferOverflowException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
-/** The serializer that writes and reads a journal record according to the SBE schema defined. */
-public final class SBESerializer implements JournalRecordSerializer {
+/**
+ * The serializer that writes and reads a journal record according to the SBE schema defined.
+ *
+ * <p>If record compression is enabled, the data of large records is compressed with deflate, and
+ * written as a {@link CompressedRecordDataEncoder CompressedRecordData} instead of a {@link
+ * RecordDataEncoder RecordData}, but only if that is smaller than the uncompressed record. As the
+ * checksum covers the serialized record, it's computed over the compressed data, and the record is
+ * replicated as is. Compressed records are always read, regardless of whether compression is
+ * enabled.
+ *
+ * <p>Compressed data is decompressed into a shared chunk, which is only replaced by a new one once
+ * it's full. Records read before keep referring to the previous chunk, so their data stays valid
+ * without allocating a new buffer per record. The deflater and inflater hold native memory, which
+ * is released by {@link #close()}.
+ */
+public final class SBESerializer implements JournalRecordSerializer, AutoCloseable {
+
+  /** Records with less data than this are never compressed, as it rarely pays off. */
+  static final int MIN_COMPRESSED_DATA_LENGTH = 1024;
+
+  /** Size of the chunks compressed data is decompressed into, unless a record is larger. */
+  static final int DECOMPRESSION_CHUNK_SIZE = 64 * 1024;
+
   private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
   private final RecordMetadataEncoder metadataEncoder = new RecordMetadataEncoder();
   private final RecordDataEncoder recordEncoder = new RecordDataEncoder();
@@ -30,6 +57,31 @@ public final class SBESerializer implements JournalRecordSerializer {
   private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
   private final RecordMetadataDecoder metadataDecoder = new RecordMetadataDecoder();
   private final RecordDataDecoder recordDecoder = new RecordDataDecoder();
+  private final CompressedRecordDataEncoder compressedRecordEncoder =
+      new CompressedRecordDataEncoder();
+  private final CompressedRecordDataDecoder compressedRecordDecoder =
+      new CompressedRecordDataDecoder();
+
+  private final boolean compressRecords;
+  // created lazily, as most serializers either only read or don't compress
+  private ExpandableArrayBuffer uncompressedData;
+  private byte[] compressedData = new byte[0];
+  private Deflater deflater;
+  private Inflater inflater;
+  private byte[] decompressedData = new byte[0];
+  private int decompressedDataOffset;
+
+  public SBESerializer() {
+    this(false);
+  }
+
+  /**
+   * @param compressRecords whether to compress the data of records which are at least {@link
+   *     #MIN_COMPRESSED_DATA_LENGTH} bytes long
+   */
+  public SBESerializer(final boolean compressRecords) {
+    this.compressRecords = compressRecords;
+  }
 
   @Override
   public Either<BufferOverflowException, Integer> writeData(
@@ -38,6 +90,14 @@ public final class SBESerializer implements JournalRecordSerializer {
       final BufferWriter recordDataWriter,
       final MutableDirectBuffer writeBuffer,
       final int offset) {
+    if (compressRecords && recordDataWriter.getLength() >= MIN_COMPRESSED_DATA_LENGTH) {
+      final int writtenBytes =
+          writeCompressedData(index, asqn, recordDataWriter, writeBuffer, offset);
+      if (writtenBytes > 0) {
+        return Either.right(writtenBytes);
+      }
+    }
+
     return writeDataAtVersion(
         recordEncoder.sbeSchemaVersion(), index, asqn, recordDataWriter, writeBuffer, offset);
   }
@@ -116,6 +176,11 @@ public final class SBESerializer implements JournalRecordSerializer {
   @Override
   public RecordData readData(final DirectBuffer buffer, final int offset) {
     headerDecoder.wrap(buffer, offset);
+    if (headerDecoder.schemaId() == compressedRecordDecoder.sbeSchemaId()
+        && headerDecoder.templateId() == compressedRecordDecoder.sbeTemplateId()) {
+      return readCompressedData(buffer, offset);
+    }
+
     if (headerDecoder.schemaId() != recordDecoder.sbeSchemaId()
         || headerDecoder.templateId() != recordDecoder.sbeTemplateId()) {
       throw new CorruptedJournalException("Cannot read record. Header does not match.");
@@ -143,10 +208,148 @@ public final class SBESerializer implements JournalRecordSerializer {
         && headerDecoder.templateId() == metadataDecoder.sbeTemplateId());
   }
 
-  private int getSerializedLength(final int entryLength) {
+  @Override
+  public int getSerializedLength(final int entryLength) {
     return headerEncoder.encodedLength()
         + recordEncoder.sbeBlockLength()
         + RecordDataEncoder.dataHeaderLength()
         + entryLength;
   }
+
+  /**
+   * Writes the record with compressed data, if the compressed record is smaller than the
+   * uncompressed one and fits into the buffer.
+   *
+   * @return the number of bytes written, or -1 if nothing was written
+   */
+  private int writeCompressedData(
+      final long index,
+      final long asqn,
+      final BufferWriter recordDataWriter,
+      final MutableDirectBuffer writeBuffer,
+      final int offset) {
+    final int dataLength = recordDataWriter.getLength();
+    final int headerLength =
+        headerEncoder.encodedLength()
+            + compressedRecordEncoder.sbeBlockLength()
+            + CompressedRecordDataEncoder.dataHeaderLength();
+    final int maxCompressedLength =
+        Math.min(
+            getSerializedLength(dataLength) - headerLength - 1,
+            writeBuffer.capacity() - offset - headerLength);
+    if (maxCompressedLength <= 0) {
+      return -1;
+    }
+
+    if (uncompressedData == null) {
+      uncompressedData = new ExpandableArrayBuffer(dataLength);
+      deflater = new Deflater(Deflater.BEST_SPEED);
+    }
+    recordDataWriter.write(uncompressedData, 0);
+    ensureCompressedDataCapacity(maxCompressedLength);
+
+    deflater.reset();
+    deflater.setInput(uncompressedData.byteArray(), 0, dataLength);
+    deflater.finish();
+    final int compressedLength = deflater.deflate(compressedData, 0, maxCompressedLength);
+    if (!deflater.finished()) {
+      // not worth it, or doesn't fit
+      return -1;
+    }
+
+    headerEncoder
+        .wrap(writeBuffer, offset)
+        .blockLength(compressedRecordEncoder.sbeBlockLength())
+        .templateId(compressedRecordEncoder.sbeTemplateId())
+        .schemaId(compressedRecordEncoder.sbeSchemaId())
+        .version(compressedRecordEncoder.sbeSchemaVersion());
+
+    compressedRecordEncoder
+        .wrap(writeBuffer, offset + headerEncoder.encodedLength())
+        .index(index)
+        .asqn(asqn)
+        .uncompressedLength(dataLength)
+        .putData(compressedData, 0, compressedLength);
+
+    return headerEncoder.encodedLength() + compressedRecordEncoder.encodedLength();
+  }
+
+  private RecordData readCompressedData(final DirectBuffer buffer, final int offset) {
+    compressedRecordDecoder.wrap(
+        buffer,
+        offset + headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+
+    final long index = compressedRecordDecoder.index();
+    final long asqn = compressedRecordDecoder.asqn();
+    final int uncompressedLength = compressedRecordDecoder.uncompressedLength();
+    final int compressedLength = compressedRecordDecoder.dataLength();
+    ensureCompressedDataCapacity(compressedLength);
+    compressedRecordDecoder.getData(compressedData, 0, compressedLength);
+
+    if (inflater == null) {
+      inflater = new Inflater();
+    }
+
+    final int dataOffset = reserveDecompressedData(uncompressedLength);
+    inflater.reset();
+    inflater.setInput(compressedData, 0, compressedLength);
+    try {
+      final int inflatedLength = inflater.inflate(decompressedData, dataOffset, uncompressedLength);
+      if (inflatedLength != uncompressedLength || !inflater.finished()) {
+        throw new CorruptedJournalException(
+            "Expected to decompress record %d to %d bytes, but got %d bytes."
+                .formatted(index, uncompressedLength, inflatedLength));
+      }
+    } catch (final DataFormatException e) {
+      throw new CorruptedJournalException(
+          "Failed to decompress data of record %d.".formatted(index), e);
+    }
+
+    return new RecordData(
+        index, asqn, new UnsafeBuffer(decompressedData, dataOffset, uncompressedLength));
+  }
+
+  /**
+   * Reserves the given number of bytes in the current decompression chunk, or in a new one if it
+   * doesn't have enough space left. The previous chunk isn't reused, as records read from it may
+   * still be referenced.
+   *
+   * @return the offset of the reserved bytes in {@link #decompressedData}
+   */
+  private int reserveDecompressedData(final int length) {
+    if (decompressedData.length - decompressedDataOffset < length) {
+      decompressedData = new byte[Math.max(DECOMPRESSION_CHUNK_SIZE, length)];
+      decompressedDataOffset = 0;
+    }
+
+    final int offset = decompressedDataOffset;
+    decompressedDataOffset += length;
+    return offset;
+  }
+
+  /**
+   * Releases the native memory of the deflater and inflater, if any. The serializer recreates them
+   * if it's used again afterwards.
+   */
+  @Override
+  public void close() {
+    if (deflater != null) {
+      deflater.end();
+      deflater = null;
+      uncompressedData = null;
+    }
+
+    if (inflater != null) {
+      inflater.end();
+      inflater = null;
+    }
+  }
+
+  private void ensureCompressedDataCapacity(final int length) {
+    if (compressedData.length < length) {
+      compressedData = new byte[length];
+    }
+  }
 }
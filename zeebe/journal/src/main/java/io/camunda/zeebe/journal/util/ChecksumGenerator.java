@@ -16,11 +16,13 @@ public final class ChecksumGenerator {
   private final CRC32C crc32 = new CRC32C();
 
   public long compute(final DirectBuffer buffer, final int offset, final int length) {
+    // the buffer may only wrap a part of the underlying array or byte buffer
+    final int adjustedOffset = offset + buffer.wrapAdjustment();
     if (buffer.byteArray() != null) {
-      return compute(buffer.byteArray(), offset, length);
+      return compute(buffer.byteArray(), adjustedOffset, length);
     } else if (buffer.byteBuffer() != null) {
       // compute makes a copy of the ByteBuffer already
-      return compute(buffer.byteBuffer(), offset, length);
+      return compute(buffer.byteBuffer(), adjustedOffset, length);
     } else {
       throw new IllegalStateException(
           "Provided DirectBuffer does not have either a byteArray or a byteBuffer");
@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.file.LogCorrupter;
+import io.camunda.zeebe.journal.file.SegmentIoMode;
 import io.camunda.zeebe.journal.file.SegmentedJournal;
 import io.camunda.zeebe.journal.file.SegmentedJournalBuilder;
 import io.camunda.zeebe.journal.record.PersistedJournalRecord;
@@ -37,7 +38,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
-final class JournalTest {
+class JournalTest {
 
   @TempDir Path directory;
   final JournalMetaStore metaStore = new MockJournalMetastore();
@@ -454,6 +455,52 @@ final class JournalTest {
     assertThat(reader.next()).isEqualTo(secondRecord);
   }
 
+  @Test
+  void shouldReadCompressedRecordFromReopenedJournal() throws Exception {
+    // given
+    journal.close();
+    journal = openJournal(b -> b.withRecordCompression(true));
+    final var data = BufferUtil.wrapString("compressible".repeat(200));
+    final var appendedRecord = copyRecord(journal.append(new DirectBufferWriter().wrap(data)));
+    journal.close();
+
+    // when
+    journal = openJournal();
+    final JournalReader reader = journal.openReader();
+
+    // then
+    assertThat(appendedRecord.serializedRecord().capacity()).isLessThan(data.capacity());
+    assertThat(reader.hasNext()).isTrue();
+    final var readRecord = reader.next();
+    assertThat(readRecord).isEqualTo(appendedRecord);
+    assertThat(readRecord.data()).isEqualTo(data);
+  }
+
+  @Test
+  void shouldAppendSerializedCompressedRecord() throws Exception {
+    // given
+    final var data = BufferUtil.wrapString("compressible".repeat(200));
+    final JournalRecord compressedRecord;
+    try (final var leaderJournal =
+        openJournal(
+            b ->
+                b.withDirectory(directory.resolve("leader").toFile())
+                    .withRecordCompression(true))) {
+      compressedRecord = copyRecord(leaderJournal.append(new DirectBufferWriter().wrap(data)));
+    }
+
+    // when
+    journal.append(
+        compressedRecord.checksum(), BufferUtil.bufferAsArray(compressedRecord.serializedRecord()));
+
+    // then
+    final JournalReader reader = journal.openReader();
+    assertThat(reader.hasNext()).isTrue();
+    final var readRecord = reader.next();
+    assertThat(readRecord).isEqualTo(compressedRecord);
+    assertThat(readRecord.data()).isEqualTo(data);
+  }
+
   @Test
   void shouldNotReadDeletedEntries() {
     // given
@@ -573,6 +620,10 @@ final class JournalTest {
         BufferUtil.cloneBuffer(record.serializedRecord()));
   }
 
+  SegmentIoMode segmentIoMode() {
+    return SegmentIoMode.MAPPED;
+  }
+
   private SegmentedJournal openJournal() {
     return openJournal(b -> {});
   }
@@ -583,7 +634,8 @@ final class JournalTest {
             .withDirectory(directory.resolve("data").toFile())
             .withMaxSegmentSize(1024 * 1024) // speeds up certain tests, e.g. shouldCompact
             .withMetaStore(metaStore)
-            .withJournalIndexDensity(5);
+            .withJournalIndexDensity(5)
+            .withSegmentIoMode(segmentIoMode());
     option.accept(builder);
 
     return builder.build();
@@ -0,0 +1,158 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class SegmentReadAheadTest {
+
+  private static final int READ_AHEAD_SIZE = 4 * 1024;
+
+  @TempDir Path directory;
+
+  @AutoClose private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final BufferWriter recordDataWriter =
+      new DirectBufferWriter().wrap(BufferUtil.wrapString("test".repeat(16)));
+
+  private SegmentedJournal journal;
+  private JournalReader reader;
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietCloseAll(reader, journal);
+  }
+
+  @Test
+  void shouldReadAheadOfSequentialReader() {
+    // given
+    openJournal(READ_AHEAD_SIZE);
+    appendEntries(200);
+
+    // when
+    final var readEntries = readEntries(200);
+
+    // then
+    assertThat(readEntries).isEqualTo(200);
+    assertThat(readAheadKiB()).isGreaterThanOrEqualTo(READ_AHEAD_SIZE / 1024.0);
+  }
+
+  @Test
+  void shouldNotReadAheadBeforeReadsAreSequential() {
+    // given
+    openJournal(READ_AHEAD_SIZE);
+    appendEntries(200);
+
+    // when
+    readEntries(SegmentReadAhead.SEQUENTIAL_READS_THRESHOLD - 1);
+
+    // then
+    assertThat(readAheadKiB()).isZero();
+  }
+
+  @Test
+  void shouldStartOverAfterSeek() {
+    // given
+    openJournal(READ_AHEAD_SIZE);
+    appendEntries(200);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      reader.seek(100);
+      readEntries(SegmentReadAhead.SEQUENTIAL_READS_THRESHOLD - 1);
+    }
+
+    // then
+    assertThat(readAheadKiB()).isZero();
+  }
+
+  @Test
+  void shouldNotReadAheadOfWriter() {
+    // given
+    openJournal(READ_AHEAD_SIZE);
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      appendEntries(1);
+      readEntries(1);
+    }
+
+    // then
+    assertThat(readAheadKiB()).isZero();
+  }
+
+  @Test
+  void shouldNotReadAheadWhenDisabled() {
+    // given
+    openJournal(0);
+    appendEntries(200);
+
+    // when
+    final var readEntries = readEntries(200);
+
+    // then
+    assertThat(readEntries).isEqualTo(200);
+    assertThat(readAheadKiB()).isZero();
+  }
+
+  @Test
+  void shouldIgnoreMissingSegmentFile() {
+    // given
+    final var readAhead =
+        new SegmentReadAhead(READ_AHEAD_SIZE, Runnable::run, new JournalMetrics(meterRegistry));
+
+    // when - then
+    assertThatCode(() -> readAhead.readAhead(directory.resolve("missing.log"), 0, READ_AHEAD_SIZE))
+        .doesNotThrowAnyException();
+  }
+
+  private void openJournal(final int readAheadSize) {
+    journal =
+        SegmentedJournal.builder(meterRegistry)
+            .withDirectory(directory.resolve("data").toFile())
+            .withMaxSegmentSize(1024 * 1024)
+            .withMetaStore(new MockJournalMetastore())
+            .withReadAheadSize(readAheadSize)
+            .build();
+    reader = journal.openReader();
+  }
+
+  private void appendEntries(final int count) {
+    for (int i = 0; i < count; i++) {
+      journal.append(recordDataWriter);
+    }
+  }
+
+  private int readEntries(final int count) {
+    int readEntries = 0;
+    while (readEntries < count && reader.hasNext()) {
+      reader.next();
+      readEntries++;
+    }
+
+    return readEntries;
+  }
+
+  private double readAheadKiB() {
+    return meterRegistry.get(JournalMetricsDoc.READ_AHEAD_DATA_RATE.getName()).counter().count();
+  }
+}
@@ -33,10 +33,13 @@ import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -415,7 +418,7 @@ class SegmentedJournalTest {
   }
 
   @Test
-  void shouldNotUpdateIndexMappingsAfterRestartIfLastPositionIsInDescriptor() {
+  void shouldRestoreIndexMappingsOfSealedSegmentsAfterRestart() {
     // given
     final int entriesPerSegment = 2;
     journal = openJournal(entriesPerSegment);
@@ -431,11 +434,97 @@ class SegmentedJournalTest {
     // then
     final JournalIndex indexAfterRestart = journal.getJournalIndex();
 
-    assertThat(indexAfterRestart.lookup(firstIndex)).isNull();
+    assertThat(indexAfterRestart.lookup(firstIndex))
+        .isNotNull()
+        .isEqualTo(indexBeforeRestart.lookup(firstIndex));
+    assertThat(indexAfterRestart.lookupAsqn(1)).isEqualTo(firstIndex);
     assertThat(indexAfterRestart.lookup(thirdIndex))
         .isEqualTo(indexBeforeRestart.lookup(thirdIndex));
   }
 
+  @Test
+  void shouldIgnoreCorruptedIndexFileAfterRestart() throws Exception {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    journal.append(2, journalFactory.entry()).index();
+    journal.append(3, journalFactory.entry()).index();
+    journal.close();
+
+    final var indexFiles = findIndexFiles();
+    assertThat(indexFiles).hasSize(1);
+    Files.write(indexFiles.getFirst(), new byte[] {1, 2, 3});
+
+    // when
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(journal.getJournalIndex().lookup(firstIndex)).isNull();
+    assertThat(findIndexFiles()).isEmpty();
+    assertThat(journal.openReader().seekToAsqn(1)).isEqualTo(firstIndex);
+  }
+
+  @Test
+  void shouldRebuildIndexAfterRestartWithTruncatedIndexFile() throws Exception {
+    // given
+    final int entriesPerSegment = 4;
+    journal = openJournal(entriesPerSegment);
+    for (int i = 1; i <= entriesPerSegment + 1; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    final JournalIndex indexBeforeRestart = journal.getJournalIndex();
+    final var secondIndexedEntry = indexBeforeRestart.lookup(2);
+    journal.close();
+
+    final var indexFile = findIndexFiles().getFirst();
+    final var content = Files.readAllBytes(indexFile);
+    Files.write(indexFile, Arrays.copyOf(content, content.length - 1));
+
+    // when
+    journal = openJournal(entriesPerSegment);
+    journal.openReader().seek(3);
+
+    // then
+    assertThat(findIndexFiles()).isEmpty();
+    assertThat(journal.getJournalIndex().lookup(2)).isEqualTo(secondIndexedEntry);
+  }
+
+  @Test
+  void shouldWriteIndexFileOfSealedSegmentOnFlush() throws Exception {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    assertThat(findIndexFiles()).isEmpty();
+
+    // when
+    journal.flush();
+
+    // then
+    assertThat(findIndexFiles()).hasSize(1);
+  }
+
+  @Test
+  void shouldDeleteIndexFileOfTruncatedSegment() throws Exception {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    journal.append(2, journalFactory.entry()).index();
+    journal.append(3, journalFactory.entry()).index();
+    journal.flush();
+    assertThat(findIndexFiles()).hasSize(1);
+
+    // when
+    journal.deleteAfter(firstIndex);
+
+    // then
+    assertThat(findIndexFiles()).isEmpty();
+  }
+
   @Test
   void shouldContinueAppendAfterDetectingPartiallyWrittenDescriptor() throws Exception {
     // given
@@ -920,6 +1009,12 @@ class SegmentedJournalTest {
         .hasMessage("Nope, no free space.");
   }
 
+  private List<Path> findIndexFiles() throws IOException {
+    try (final var files = Files.walk(directory)) {
+      return files.filter(file -> file.getFileName().toString().endsWith(".idx")).toList();
+    }
+  }
+
   private SegmentedJournal openJournal(final int entriesPerSegment) {
     return openJournal("test", entriesPerSegment);
   }
@@ -265,4 +265,95 @@ class SparseJournalIndexTest {
     assertThat(index.hasIndexed(11)).isFalse();
     assertThat(index.hasIndexed(100)).isFalse();
   }
+
+  @Test
+  void shouldIndexOutOfOrder() {
+    // given - a reader may index an older segment after the writer indexed a newer one
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(20, 200), 8);
+    index.index(asJournalRecord(10, 100), 4);
+
+    // when
+    index.index(asJournalRecord(15, 150), 6);
+    index.index(asJournalRecord(5, 50), 2);
+
+    // then
+    assertThat(index.lookup(12)).isEqualTo(new IndexInfo(10, 4));
+    assertThat(index.lookup(17)).isEqualTo(new IndexInfo(15, 6));
+    assertThat(index.lookup(7)).isEqualTo(new IndexInfo(5, 2));
+    assertThat(index.lookupAsqn(160)).isEqualTo(15);
+    assertThat(index.lookupAsqn(250)).isEqualTo(20);
+  }
+
+  @Test
+  void shouldIndexSameRecordAgain() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 2);
+    index.index(asJournalRecord(10, 100), 4);
+
+    // when
+    index.index(asJournalRecord(5, 50), 2);
+
+    // then
+    assertThat(index.lookup(9)).isEqualTo(new IndexInfo(5, 2));
+    assertThat(index.lookup(10)).isEqualTo(new IndexInfo(10, 4));
+    assertThat(index.lookupAsqn(99)).isEqualTo(5);
+  }
+
+  @Test
+  void shouldSkipRecordsWithoutAsqn() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 2);
+    index.index(asJournalRecord(10, SegmentedJournal.ASQN_IGNORE), 4);
+
+    // when
+    index.index(asJournalRecord(15, 150), 6);
+
+    // then
+    assertThat(index.lookup(12)).isEqualTo(new IndexInfo(10, 4));
+    assertThat(index.lookupAsqn(149)).isEqualTo(5);
+    assertThat(index.lookupAsqn(150, 12)).isEqualTo(5);
+  }
+
+  @Test
+  void shouldIndexManyRecordsWhileCompacting() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(1);
+
+    // when - index and compact repeatedly, as when segments are rolled over and deleted
+    for (long i = 1; i <= 10_000; i++) {
+      index.index(asJournalRecord(i, i * 10), (int) i);
+      if (i % 1_000 == 0) {
+        index.deleteUntil(i - 500);
+      }
+    }
+
+    // then
+    assertThat(index.lookup(9_499)).isNull();
+    assertThat(index.lookup(9_500)).isEqualTo(new IndexInfo(9_500, 9_500));
+    assertThat(index.lookup(20_000)).isEqualTo(new IndexInfo(10_000, 10_000));
+    assertThat(index.lookupAsqn(95_005)).isEqualTo(9_500);
+    assertThat(index.lookupAsqn(Long.MAX_VALUE, 9_999)).isEqualTo(9_999);
+  }
+
+  @Test
+  void shouldIndexAfterTruncation() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 2);
+    index.index(asJournalRecord(10, 100), 4);
+    index.index(asJournalRecord(15, 150), 6);
+    index.deleteAfter(7);
+
+    // when - the truncated records are replaced by new ones
+    index.index(asJournalRecord(10, 80), 8);
+
+    // then
+    assertThat(index.lookup(12)).isEqualTo(new IndexInfo(10, 8));
+    assertThat(index.lookup(17)).isEqualTo(new IndexInfo(10, 8));
+    assertThat(index.lookupAsqn(100)).isEqualTo(10);
+    assertThat(index.lookupAsqn(79)).isEqualTo(5);
+  }
 }
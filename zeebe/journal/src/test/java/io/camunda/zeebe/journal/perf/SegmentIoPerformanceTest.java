@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.perf;
+
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.file.SegmentIoMode;
+import io.camunda.zeebe.journal.file.SegmentedJournal;
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the throughput of appending to and flushing the journal with memory mapped segments and
+ * with segments written through a file channel (see {@link SegmentIoMode}).
+ *
+ * <p>The journal is reset after every iteration, so each iteration starts with an empty segment and
+ * the disk usage stays bounded. The results depend heavily on the underlying disk, which is why
+ * there is no reference score to assert against; run it with the JMH runner on the target hardware,
+ * e.g. {@code java -cp <test classpath> org.openjdk.jmh.Main SegmentIoPerformanceTest}.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class SegmentIoPerformanceTest {
+  private static final int MAX_SEGMENT_SIZE = 128 * 1024 * 1024;
+
+  @Param({"MAPPED", "FILE_CHANNEL"})
+  public SegmentIoMode segmentIoMode;
+
+  /** The size of the data of each appended entry in bytes */
+  @Param({"128", "4096"})
+  public int entrySize;
+
+  private final DirectBufferWriter entryWriter = new DirectBufferWriter();
+  private Path tempDir;
+  private Journal journal;
+
+  @Setup
+  public void setup() throws Exception {
+    tempDir = Files.createTempDirectory("segment-io");
+
+    final var entry = new byte[entrySize];
+    ThreadLocalRandom.current().nextBytes(entry);
+    entryWriter.wrap(new UnsafeBuffer(entry));
+
+    journal =
+        SegmentedJournal.builder(new SimpleMeterRegistry())
+            .withDirectory(tempDir.toFile())
+            .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+            .withMetaStore(new MockJournalMetastore())
+            .withSegmentIoMode(segmentIoMode)
+            .build();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    journal.close();
+    FileUtil.deleteFolder(tempDir);
+  }
+
+  @TearDown(Level.Iteration)
+  public void resetJournal() {
+    journal.reset(journal.getLastIndex() + 1);
+  }
+
+  @Benchmark
+  public JournalRecord measureAppend() {
+    return journal.append(entryWriter);
+  }
+
+  @Benchmark
+  public JournalRecord measureAppendAndFlush() throws FlushException {
+    final var record = journal.append(entryWriter);
+    journal.flush();
+    return record;
+  }
+}
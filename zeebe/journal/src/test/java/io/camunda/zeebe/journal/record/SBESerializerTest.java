@@ -12,7 +12,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
+import java.util.Random;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -63,6 +65,89 @@ final class SBESerializerTest {
     assertThat(recordRead.data()).isEqualTo(record.data());
   }
 
+  @Test
+  void shouldCompressLargeRecord() {
+    // given
+    final var compressingSerializer = new SBESerializer(true);
+    final var data = BufferUtil.wrapString("compressible".repeat(200));
+    final var largeRecord = new RecordData(1, 2, data);
+    final var largeWriteBuffer = new UnsafeBuffer(new byte[4096]);
+
+    // when
+    final int writtenLength =
+        compressingSerializer.writeData(largeRecord, largeWriteBuffer, 0).get();
+
+    // then
+    assertThat(writtenLength).isLessThan(serializer.getSerializedLength(data.capacity()));
+    assertThat(serializer.readData(largeWriteBuffer, 0)).isEqualTo(largeRecord);
+  }
+
+  @Test
+  void shouldNotCompressSmallRecord() {
+    // given
+    final var compressingSerializer = new SBESerializer(true);
+
+    // when
+    final int writtenLength = compressingSerializer.writeData(record, writeBuffer, 0).get();
+
+    // then
+    assertThat(writtenLength).isEqualTo(serializer.getSerializedLength(record.data().capacity()));
+    assertThat(serializer.readData(writeBuffer, 0)).isEqualTo(record);
+  }
+
+  @Test
+  void shouldNotCompressRecordIfNotSmaller() {
+    // given
+    final var compressingSerializer = new SBESerializer(true);
+    final var bytes = new byte[SBESerializer.MIN_COMPRESSED_DATA_LENGTH];
+    new Random(42).nextBytes(bytes);
+    final var incompressibleRecord = new RecordData(1, 2, new UnsafeBuffer(bytes));
+    final var largeWriteBuffer = new UnsafeBuffer(new byte[4096]);
+
+    // when
+    final int writtenLength =
+        compressingSerializer.writeData(incompressibleRecord, largeWriteBuffer, 0).get();
+
+    // then
+    assertThat(writtenLength).isEqualTo(serializer.getSerializedLength(bytes.length));
+    assertThat(serializer.readData(largeWriteBuffer, 0)).isEqualTo(incompressibleRecord);
+  }
+
+  @Test
+  void shouldKeepDataOfPreviouslyReadCompressedRecords() {
+    // given
+    final var compressingSerializer = new SBESerializer(true);
+    final var firstRecord = new RecordData(1, 2, BufferUtil.wrapString("first".repeat(400)));
+    final var secondRecord = new RecordData(2, 3, BufferUtil.wrapString("second".repeat(400)));
+    final var largeWriteBuffer = new UnsafeBuffer(new byte[4096]);
+    final int firstLength =
+        compressingSerializer.writeData(firstRecord, largeWriteBuffer, 0).get();
+    compressingSerializer.writeData(secondRecord, largeWriteBuffer, firstLength);
+
+    // when
+    final var firstRead = serializer.readData(largeWriteBuffer, 0);
+    final var secondRead = serializer.readData(largeWriteBuffer, firstLength);
+
+    // then
+    assertThat(firstRead).isEqualTo(firstRecord);
+    assertThat(secondRead).isEqualTo(secondRecord);
+  }
+
+  @Test
+  void shouldThrowExceptionWhenCompressedDataIsInvalid() {
+    // given
+    final var compressingSerializer = new SBESerializer(true);
+    final var data = BufferUtil.wrapString("compressible".repeat(200));
+    final var largeWriteBuffer = new UnsafeBuffer(new byte[4096]);
+    final int writtenLength =
+        compressingSerializer.writeData(new RecordData(1, 2, data), largeWriteBuffer, 0).get();
+    largeWriteBuffer.setMemory(writtenLength - 16, 16, (byte) 0xFF);
+
+    // when - then
+    assertThatThrownBy(() -> serializer.readData(largeWriteBuffer, 0))
+        .isInstanceOf(CorruptedJournalException.class);
+  }
+
   @Test
   void shouldWriteMetadata() {
     // given - when
@@ -17,6 +17,7 @@ import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.LAST_WRITTEN_
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.PARTITION_LOAD;
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.RECORD_APPENDED;
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.REQUEST_LIMIT;
+import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.REQUEST_QUOTA_EXHAUSTED;
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.TOTAL_APPEND_TRY_COUNT;
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.TOTAL_DEFERRED_APPEND_COUNT;
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.TOTAL_DROPPED_REQUESTS;
@@ -29,6 +30,8 @@ import io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.FlowControlContext;
 import io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.FlowControlKeyNames;
 import io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.FlowControlOutcome;
 import io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.RecordAppendedKeyNames;
+import io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.RequestQuota;
+import io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.RequestQuotaKeyNames;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl.Rejection;
 import io.camunda.zeebe.logstreams.impl.log.LogAppendEntryMetadata;
 import io.camunda.zeebe.logstreams.log.WriteContext;
@@ -49,7 +52,10 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 public final class LogStreamMetrics {
@@ -65,6 +71,8 @@ public final class LogStreamMetrics {
   private final Map3D<RecordType, ValueType, Intent, Counter> recordAppended = Map3D.simple();
   private final Table<FlowControlContext, FlowControlOutcome, Counter> flowControlOutcome =
       Table.ofEnum(FlowControlContext.class, FlowControlOutcome.class, Counter[]::new);
+  private final Map<RequestQuota, Map<String, Counter>> requestQuotaExhausted =
+      new EnumMap<>(RequestQuota.class);
 
   private final MeterRegistry registry;
   private final Counter deferredAppends;
@@ -83,6 +91,10 @@ public final class LogStreamMetrics {
     commitLatency = MicrometerUtil.buildTimer(COMMIT_LATENCY).register(registry);
     appendLatency = MicrometerUtil.buildTimer(WRITE_LATENCY).register(registry);
 
+    for (final var quota : RequestQuota.values()) {
+      requestQuotaExhausted.put(quota, new ConcurrentHashMap<>());
+    }
+
     registerGauge(INFLIGHT_APPENDS, inflightAppends);
     registerGauge(INFLIGHT_REQUESTS, inflightAppends);
     registerGauge(REQUEST_LIMIT, requestLimit);
@@ -185,6 +197,17 @@ public final class LogStreamMetrics {
         .increment(batchMetadata.size());
   }
 
+  /**
+   * Counts a request rejected because of an exhausted quota. A counter is registered per class, so
+   * callers must only pass classes out of a bounded set, e.g. configured tenants or intents.
+   */
+  public void requestQuotaExhausted(final RequestQuota quota, final String quotaClass) {
+    requestQuotaExhausted
+        .get(quota)
+        .computeIfAbsent(quotaClass, ignored -> registerRequestQuotaCounter(quota, quotaClass))
+        .increment();
+  }
+
   public void setExportingRate(final long value) {
     exportingRate.set(value);
   }
@@ -220,6 +243,14 @@ public final class LogStreamMetrics {
         .register(registry);
   }
 
+  private Counter registerRequestQuotaCounter(final RequestQuota quota, final String quotaClass) {
+    return Counter.builder(REQUEST_QUOTA_EXHAUSTED.getName())
+        .description(REQUEST_QUOTA_EXHAUSTED.getDescription())
+        .tag(RequestQuotaKeyNames.QUOTA.asString(), quota.getValue())
+        .tag(RequestQuotaKeyNames.CLASS.asString(), quotaClass)
+        .register(registry);
+  }
+
   private void registerGauge(final ExtendedMeterDocumentation doc, final AtomicLong gauge) {
     Gauge.builder(doc.getName(), gauge, AtomicLong::get)
         .description(doc.getDescription())
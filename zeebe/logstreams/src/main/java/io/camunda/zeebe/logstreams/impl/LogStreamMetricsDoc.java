@@ -43,6 +43,34 @@ public enum LogStreamMetricsDoc implements ExtendedMeterDocumentation {
     }
   },
 
+  /** Number of user commands rejected because of a request quota */
+  REQUEST_QUOTA_EXHAUSTED {
+    @Override
+    public String getDescription() {
+      return "The count of user commands rejected because a tenant or a command exhausted its quota, organized by quota and class";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.flow.control.quota.exhausted";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return RequestQuotaKeyNames.values();
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
   /** Number of deferred appends due to backpressure */
   TOTAL_DEFERRED_APPEND_COUNT {
     @Override
@@ -498,6 +526,43 @@ public enum LogStreamMetricsDoc implements ExtendedMeterDocumentation {
     }
   }
 
+  /** Possible tags for the {@link #REQUEST_QUOTA_EXHAUSTED} metric */
+  public enum RequestQuotaKeyNames implements KeyName {
+    /** The kind of quota which was exhausted, see {@link RequestQuota} */
+    QUOTA {
+      @Override
+      public String asString() {
+        return "quota";
+      }
+    },
+
+    /**
+     * The tenant id, or the value type and intent of the command, which exhausted its quota.
+     * Tenants without an explicit quota are reported together as {@code other}.
+     */
+    CLASS {
+      @Override
+      public String asString() {
+        return "class";
+      }
+    }
+  }
+
+  public enum RequestQuota {
+    TENANT("tenant"),
+    COMMAND("command");
+
+    private final String value;
+
+    RequestQuota(final String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
   public enum FlowControlOutcome {
     ACCEPTED("accepted"),
     WRITE_RATE_LIMIT_EXHAUSTED("writeRateLimitExhausted"),
@@ -18,7 +18,6 @@ import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.logstreams.log.WriteContext.Internal;
 import io.camunda.zeebe.logstreams.log.WriteContext.UserCommand;
 import io.camunda.zeebe.logstreams.storage.LogStorage.AppendListener;
-import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.util.Either;
 import java.time.Duration;
@@ -30,25 +29,29 @@ import java.util.TreeMap;
  * Maintains a view of in-flight entries as they are being appended, written, committed and finally
  * processed.
  *
- * <p>If enabled, a write rate limiter is used to limit the rate of appends to the log storage.
- * Additionally, a request limiter is used to limit the amount of unprocessed user commands to
- * ensure fast response times.
+ * <p>If enabled, a write rate limiter is used to limit the rate of appends to the log storage. The
+ * write rate can be throttled further based on the exporting backlog, the processing backlog and
+ * the free disk space, see {@link RateLimitThrottle}. Additionally, a request limiter is used to
+ * limit the amount of unprocessed user commands to ensure fast response times, with {@link
+ * RequestQuotas} bounding the share of that limit a single tenant or kind of command may use.
  *
  * <h3>Thread safety</h3>
  *
  * Access patterns:
  *
  * <ol>
- *   <li>Calls to {@link #tryAcquire(WriteContext, List)} from the sequencer, serialized through the
- *       sequencers write lock.
+ *   <li>Calls to {@link #tryAcquire(WriteContext, List)} from the sequencer, concurrently by all
+ *       writers. The request and write rate limiters are thread-safe.
  *   <li>Calls to {@link #onAppend(InFlightEntry, long)} from the sequencer, serialized through the
- *       sequencers write lock.
+ *       single writer which appends at a time.
  *   <li>Calls to {@link #onWrite(long, long)} from the log storage, serialized through the single
  *       raft thread.
  *   <li>Calls to {@link #onCommit(long, long)} from the log storage, serialized through the single
  *       raft thread.
  *   <li>Calls to {@link #onProcessed(long)} from the stream processor, serialized through the
  *       stream processor actor.
+ *   <li>Calls to {@link #onDiskSpaceUsage(long, long)} from the partition, serialized through the
+ *       partition actor.
  * </ol>
  *
  * The order in which these methods are called is weakly constrained:
@@ -79,7 +82,8 @@ public final class FlowControl implements AppendListener {
   private final LogStreamMetrics metrics;
   private RateLimit writeRateLimit;
   private Limit requestLimit;
-  private Limiter<Intent> processingLimiter;
+  private RequestQuotas requestQuotas = RequestQuotas.disabled();
+  private Limiter<UserCommand> processingLimiter;
   private RateLimiter writeRateLimiter;
   private final RateMeasurement exportingRate =
       new RateMeasurement(
@@ -91,6 +95,8 @@ public final class FlowControl implements AppendListener {
   private volatile long lastWrittenPosition = -1;
   private volatile long lastProcessedPosition = -1;
   private volatile long lastExportedPosition;
+  private volatile long freeDiskSpace = -1;
+  private volatile long minFreeDiskSpace = -1;
 
   private final NavigableMap<Long, InFlightEntry> inFlight = new TreeMap<>();
 
@@ -100,7 +106,16 @@ public final class FlowControl implements AppendListener {
 
   public FlowControl(
       final LogStreamMetrics metrics, final Limit requestLimit, final RateLimit writeRateLimit) {
+    this(metrics, requestLimit, RequestQuotas.disabled(), writeRateLimit);
+  }
+
+  public FlowControl(
+      final LogStreamMetrics metrics,
+      final Limit requestLimit,
+      final RequestQuotas requestQuotas,
+      final RateLimit writeRateLimit) {
     this.metrics = metrics;
+    this.requestQuotas = requestQuotas != null ? requestQuotas : RequestQuotas.disabled();
     setRequestLimit(requestLimit);
     setWriteRateLimit(writeRateLimit);
   }
@@ -134,8 +149,8 @@ public final class FlowControl implements AppendListener {
         // Internal commands are always accepted for incident response and maintenance.
         return Either.right(new InFlightEntry(metrics, batchMetadata, null));
       }
-      case UserCommand(final var intent) -> {
-        requestListener = processingLimiter.acquire(intent).orElse(null);
+      case final UserCommand command -> {
+        requestListener = processingLimiter.acquire(command).orElse(null);
         if (requestListener == null) {
           return Either.left(Rejection.RequestLimitExhausted);
         }
@@ -206,10 +221,29 @@ public final class FlowControl implements AppendListener {
     updateWriteRateThrottle();
   }
 
+  /**
+   * Updates the free disk space, which is used as a signal to throttle the write rate when it gets
+   * close to the minimum required.
+   *
+   * @param freeDiskSpace the free disk space in bytes
+   * @param minFreeDiskSpace the free disk space in bytes which is required to keep processing
+   */
+  public void onDiskSpaceUsage(final long freeDiskSpace, final long minFreeDiskSpace) {
+    this.freeDiskSpace = freeDiskSpace;
+    this.minFreeDiskSpace = minFreeDiskSpace;
+    updateWriteRateThrottle();
+  }
+
   private void updateWriteRateThrottle() {
+    final var lastWrittenPosition = this.lastWrittenPosition;
     if (writeRateThrottle != null && lastWrittenPosition != -1 && lastExportedPosition != -1) {
+      final var lastProcessedPosition = this.lastProcessedPosition;
       writeRateThrottle.update(
-          ActorClock.currentTimeMillis(), lastWrittenPosition - lastExportedPosition);
+          ActorClock.currentTimeMillis(),
+          lastWrittenPosition - lastExportedPosition,
+          lastProcessedPosition == -1 ? -1 : lastWrittenPosition - lastProcessedPosition,
+          freeDiskSpace,
+          minFreeDiskSpace);
     }
   }
 
@@ -221,14 +255,32 @@ public final class FlowControl implements AppendListener {
     this.requestLimit = requestLimit;
     processingLimiter =
         requestLimit != null
-            ? new CommandRateLimiterBuilder().limit(requestLimit).build(metrics)
+            ? new CommandRateLimiterBuilder().limit(requestLimit).build(metrics, requestQuotas)
             : new NoopLimiter<>();
   }
 
+  public RequestQuotas getRequestQuotas() {
+    return requestQuotas;
+  }
+
+  /**
+   * Replaces the request quotas. As the quotas are applied by the request limiter, this resets the
+   * limiter like {@link #setRequestLimit(Limit)} does.
+   */
+  public void setRequestQuotas(final RequestQuotas requestQuotas) {
+    this.requestQuotas = requestQuotas != null ? requestQuotas : RequestQuotas.disabled();
+    setRequestLimit(requestLimit);
+  }
+
   public RateLimit getWriteRateLimit() {
     return writeRateLimit;
   }
 
+  /** Returns the state of the write rate throttling, or null if throttling is disabled. */
+  public ThrottleState getWriteRateThrottleState() {
+    return writeRateThrottle.state();
+  }
+
   public void setWriteRateLimit(final RateLimit writeRateLimit) {
     this.writeRateLimit = writeRateLimit;
     writeRateLimiter = writeRateLimit == null ? null : writeRateLimit.limiter();
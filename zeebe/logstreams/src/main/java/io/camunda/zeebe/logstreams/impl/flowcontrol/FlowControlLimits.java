@@ -9,4 +9,8 @@ package io.camunda.zeebe.logstreams.impl.flowcontrol;
 
 import com.netflix.concurrency.limits.Limit;
 
-public record FlowControlLimits(Limit requestLimiter, RateLimit writeRateLimit) {}
+public record FlowControlLimits(
+    Limit requestLimiter,
+    RequestQuotas requestQuotas,
+    RateLimit writeRateLimit,
+    ThrottleState writeRateThrottle) {}
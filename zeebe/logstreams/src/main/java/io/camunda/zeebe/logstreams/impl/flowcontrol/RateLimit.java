@@ -42,8 +42,28 @@ public record RateLimit(boolean enabled, int limit, Duration rampUp, Throttling
     return RateLimiter.create(limit, rampUp);
   }
 
+  /**
+   * Configures how the write rate is throttled when the partition cannot keep up with it.
+   *
+   * @param enabled whether the write rate is throttled at all
+   * @param acceptableBacklog the number of written but not yet exported records which is tolerated
+   * @param minRate the rate below which the write rate is never throttled
+   * @param resolution how often the throttled rate is recalculated
+   * @param acceptableProcessingBacklog the number of written but not yet processed records which is
+   *     tolerated; 0 to ignore the processing backlog
+   * @param smoothing how far the rate moves towards the newly calculated rate on every update,
+   *     between 0 (exclusive) and 1 (inclusive); 1 applies the calculated rate immediately
+   * @param throttleOnDiskSpace whether the write rate is also throttled when the free disk space
+   *     approaches the minimum required to keep processing
+   */
   public record Throttling(
-      boolean enabled, long acceptableBacklog, long minRate, Duration resolution) {
+      boolean enabled,
+      long acceptableBacklog,
+      long minRate,
+      Duration resolution,
+      long acceptableProcessingBacklog,
+      double smoothing,
+      boolean throttleOnDiskSpace) {
     public Throttling {
       Objects.requireNonNull(resolution, "resolution must not be null");
 
@@ -56,6 +76,37 @@ public record RateLimit(boolean enabled, int limit, Duration rampUp, Throttling
       if (enabled && minRate < 0) {
         throw new IllegalArgumentException("minRate must be greater than 0");
       }
+      if (enabled && acceptableProcessingBacklog < 0) {
+        throw new IllegalArgumentException("acceptableProcessingBacklog must not be negative");
+      }
+      if (enabled && (smoothing <= 0 || smoothing > 1)) {
+        throw new IllegalArgumentException("smoothing must be greater than 0 and at most 1");
+      }
+    }
+
+    public Throttling(
+        final boolean enabled,
+        final long acceptableBacklog,
+        final long minRate,
+        final Duration resolution) {
+      this(enabled, acceptableBacklog, minRate, resolution, 0, 1);
+    }
+
+    public Throttling(
+        final boolean enabled,
+        final long acceptableBacklog,
+        final long minRate,
+        final Duration resolution,
+        final long acceptableProcessingBacklog,
+        final double smoothing) {
+      this(
+          enabled,
+          acceptableBacklog,
+          minRate,
+          resolution,
+          acceptableProcessingBacklog,
+          smoothing,
+          false);
     }
 
     static Throttling disabled() {
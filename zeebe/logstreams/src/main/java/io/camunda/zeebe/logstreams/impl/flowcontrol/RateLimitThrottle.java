@@ -11,14 +11,31 @@ import static java.lang.Math.clamp;
 
 import com.google.common.util.concurrent.RateLimiter;
 import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.ThrottleState.Signal;
 import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Throttles a rate limiter based on another rate measurement. */
+/**
+ * Throttles a rate limiter based on feedback from the partition. Every signal yields a factor of
+ * how far it is within its acceptable bounds:
+ *
+ * <ul>
+ *   <li>the exporting backlog, relative to the acceptable backlog
+ *   <li>the processing backlog, relative to the acceptable processing backlog, if configured
+ *   <li>the free disk space above the minimum required, relative to that minimum, if enabled and
+ *       known
+ * </ul>
+ *
+ * The most restrictive factor is applied to the observed exporting rate. A factor above 2 lifts the
+ * throttling. Instead of jumping to the calculated rate, the limiter moves towards it by the
+ * configured smoothing on every update, to avoid oscillating between extremes. Once it is within 1%
+ * of the limit of the calculated rate, it snaps to it, so it doesn't approach it forever.
+ */
 @SuppressWarnings("UnstableApiUsage")
 final class RateLimitThrottle {
   private static final Logger LOG = LoggerFactory.getLogger(RateLimitThrottle.class);
+  private static final double SNAP_TOLERANCE = 0.01;
 
   private final AtomicLong lastUpdate = new AtomicLong(-1);
 
@@ -29,6 +46,7 @@ final class RateLimitThrottle {
   private final long resolution;
   private final boolean enabled;
   private final double minRate;
+  private volatile ThrottleState state;
 
   RateLimitThrottle(
       final LogStreamMetrics metrics,
@@ -42,9 +60,25 @@ final class RateLimitThrottle {
     resolution = limit == null ? -1 : limit.throttling().resolution().toMillis();
     enabled = limit != null && limit.enabled() && limit.throttling().enabled();
     minRate = limit == null ? -1 : limit.throttling().minRate();
+    state = enabled ? ThrottleState.unthrottled(limit.limit()) : null;
   }
 
-  public void update(final long timestamp, final long backlog) {
+  /**
+   * Recalculates the write rate, unless the last update is more recent than the resolution.
+   *
+   * @param timestamp the current time in milliseconds
+   * @param exportingBacklog the number of written but not yet exported records
+   * @param processingBacklog the number of written but not yet processed records, or -1 if unknown
+   * @param freeDiskSpace the free disk space in bytes, or -1 if unknown
+   * @param minFreeDiskSpace the free disk space in bytes which is required to keep processing, or
+   *     -1 if unknown
+   */
+  public void update(
+      final long timestamp,
+      final long exportingBacklog,
+      final long processingBacklog,
+      final long freeDiskSpace,
+      final long minFreeDiskSpace) {
     if (!enabled) {
       return;
     }
@@ -53,24 +87,70 @@ final class RateLimitThrottle {
       return;
     }
 
-    final var factor = limit.throttling().acceptableBacklog() / (double) backlog;
+    final var throttling = limit.throttling();
+    var factor = throttling.acceptableBacklog() / (double) exportingBacklog;
+    var limitedBy = Signal.EXPORTING;
+
+    if (throttling.acceptableProcessingBacklog() > 0 && processingBacklog >= 0) {
+      final var processingFactor =
+          throttling.acceptableProcessingBacklog() / (double) processingBacklog;
+      if (processingFactor < factor) {
+        factor = processingFactor;
+        limitedBy = Signal.PROCESSING;
+      }
+    }
+
+    if (throttling.throttleOnDiskSpace() && minFreeDiskSpace > 0 && freeDiskSpace >= 0) {
+      final var diskFactor = (freeDiskSpace - minFreeDiskSpace) / (double) minFreeDiskSpace;
+      if (diskFactor < factor) {
+        factor = diskFactor;
+        limitedBy = Signal.DISK;
+      }
+    }
+
     final var rate = measurement.rate();
-    final double adjustedRate =
+    final double targetRate =
         factor > 2 ? limit.limit() : clamp(factor * rate, minRate, limit.limit());
+    final var currentRate = limiter.getRate();
+    final double smoothedRate =
+        clamp(
+            currentRate + throttling.smoothing() * (targetRate - currentRate),
+            minRate,
+            limit.limit());
+    final double adjustedRate =
+        Math.abs(targetRate - smoothedRate) <= SNAP_TOLERANCE * limit.limit()
+            ? targetRate
+            : smoothedRate;
     if (adjustedRate < limit.limit()) {
       LOG.debug(
-          "Throttling to {}, {} of observed rate {}, Current backlog {}, acceptable {}",
+          "Throttling to {}, {} of observed rate {} limited by {}. Current backlog {}, acceptable"
+              + " {}; processing backlog {}, acceptable {}; free disk space {}, minimum {}",
           String.format("%.2f", adjustedRate),
           String.format("%.2f", factor),
           rate,
-          backlog,
-          limit.throttling().acceptableBacklog());
+          limitedBy,
+          exportingBacklog,
+          throttling.acceptableBacklog(),
+          processingBacklog,
+          throttling.acceptableProcessingBacklog(),
+          freeDiskSpace,
+          minFreeDiskSpace);
+    } else {
+      limitedBy = Signal.NONE;
     }
     limiter.setRate(adjustedRate);
+    state =
+        new ThrottleState(
+            adjustedRate, exportingBacklog, processingBacklog, freeDiskSpace, limitedBy);
     metrics.setWriteRateMaxLimit(limit.limit());
     metrics.setWriteRateLimit(adjustedRate);
   }
 
+  /** Returns the state of the last update, or null if throttling is disabled. */
+  ThrottleState state() {
+    return state;
+  }
+
   private boolean canSkipUpdate(final long timestamp) {
     return lastUpdate.updateAndGet(
             lastUpdate -> {
@@ -9,16 +9,26 @@ package io.camunda.zeebe.logstreams.impl.flowcontrol;
 
 import com.netflix.concurrency.limits.limiter.AbstractLimiter;
 import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.RequestQuota;
+import io.camunda.zeebe.logstreams.log.WriteContext.UserCommand;
 import io.camunda.zeebe.protocol.record.intent.CommandDistributionIntent;
 import io.camunda.zeebe.protocol.record.intent.DeploymentDistributionIntent;
 import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
-public final class RequestLimiter extends AbstractLimiter<Intent> {
+/**
+ * Limits the number of in-flight user commands. Commands which complete work, like job completions,
+ * are always accepted. All other commands are additionally subject to the {@link RequestQuotas},
+ * which bound the share of the limit a single tenant or kind of command may use.
+ */
+public final class RequestLimiter extends AbstractLimiter<UserCommand> {
 
   private static final Set<? extends Intent> WHITE_LISTED_COMMANDS =
       Set.of(
@@ -30,21 +40,78 @@ public final class RequestLimiter extends AbstractLimiter<Intent> {
           DeploymentDistributionIntent.COMPLETE,
           CommandDistributionIntent.ACKNOWLEDGE);
   private final LogStreamMetrics metrics;
+  private final RequestQuotas quotas;
+  private static final int RETIRED = -1;
+  private final Map<String, AtomicInteger> inflightByTenant = new ConcurrentHashMap<>();
 
-  private RequestLimiter(final CommandRateLimiterBuilder builder, final LogStreamMetrics metrics) {
+  private RequestLimiter(
+      final CommandRateLimiterBuilder builder,
+      final LogStreamMetrics metrics,
+      final RequestQuotas quotas) {
     super(builder);
     this.metrics = metrics;
+    this.quotas = quotas;
     metrics.setInflightRequests(0);
     metrics.setRequestLimit(getLimit());
   }
 
   @Override
-  public Optional<Listener> acquire(final Intent intent) {
-    if (getInflight() >= getLimit() && !WHITE_LISTED_COMMANDS.contains(intent)) {
+  public Optional<Listener> acquire(final UserCommand command) {
+    final var intent = command.intent();
+    if (WHITE_LISTED_COMMANDS.contains(intent)) {
+      return Optional.of(createListener());
+    }
+
+    final var limit = getLimit();
+    final var inflight = getInflight();
+    if (inflight >= limit) {
+      return createRejectedListener();
+    }
+
+    if (inflight >= limit * quotas.commandShare(intent)) {
+      metrics.requestQuotaExhausted(
+          RequestQuota.COMMAND, command.valueType().name() + "." + intent.name());
       return createRejectedListener();
     }
-    final Listener listener = createListener();
-    return Optional.of(listener);
+
+    if (!quotas.hasTenantQuotas()) {
+      return Optional.of(createListener());
+    }
+
+    final var tenantId = command.tenantId();
+    final var tenantLimit = Math.max(1, limit * quotas.tenantShare(tenantId));
+    final var tenantInflight = tryAcquireTenant(tenantId, tenantLimit);
+    if (tenantInflight == null) {
+      metrics.requestQuotaExhausted(RequestQuota.TENANT, quotas.tenantClass(tenantId));
+      return createRejectedListener();
+    }
+
+    return Optional.of(new TenantListener(createListener(), tenantId, tenantInflight));
+  }
+
+  /**
+   * Takes an in-flight spot of the tenant if it has one left. The counter is only incremented while
+   * it is below the limit, so concurrent callers can never exceed it together. Counters which drop
+   * to 0 are retired and removed, see {@link TenantListener#release()}; a caller which raced with
+   * that retries with a fresh counter.
+   *
+   * @return the tenant's counter if a spot was taken, otherwise null
+   */
+  private AtomicInteger tryAcquireTenant(final String tenantId, final double tenantLimit) {
+    while (true) {
+      final var tenantInflight =
+          inflightByTenant.computeIfAbsent(tenantId, ignored -> new AtomicInteger());
+      final var previous =
+          tenantInflight.getAndUpdate(
+              inflight -> inflight == RETIRED || inflight >= tenantLimit ? inflight : inflight + 1);
+      if (previous == RETIRED) {
+        Thread.onSpinWait();
+      } else if (previous >= tenantLimit) {
+        return null;
+      } else {
+        return tenantInflight;
+      }
+    }
   }
 
   @Override
@@ -65,8 +132,50 @@ public final class RequestLimiter extends AbstractLimiter<Intent> {
       return this;
     }
 
-    public RequestLimiter build(final LogStreamMetrics metrics) {
-      return new RequestLimiter(this, metrics);
+    public RequestLimiter build(final LogStreamMetrics metrics, final RequestQuotas quotas) {
+      return new RequestLimiter(this, metrics, quotas);
+    }
+  }
+
+  /**
+   * Releases the in-flight spot of the tenant together with the one of the limiter. Once the tenant
+   * has no commands in-flight anymore, its counter is removed so that the map does not grow with
+   * every tenant which ever sent a command.
+   */
+  private final class TenantListener implements Listener {
+    private final Listener delegate;
+    private final String tenantId;
+    private final AtomicInteger tenantInflight;
+
+    private TenantListener(
+        final Listener delegate, final String tenantId, final AtomicInteger tenantInflight) {
+      this.delegate = delegate;
+      this.tenantId = tenantId;
+      this.tenantInflight = tenantInflight;
+    }
+
+    @Override
+    public void onSuccess() {
+      release();
+      delegate.onSuccess();
+    }
+
+    @Override
+    public void onIgnore() {
+      release();
+      delegate.onIgnore();
+    }
+
+    @Override
+    public void onDropped() {
+      release();
+      delegate.onDropped();
+    }
+
+    private void release() {
+      if (tenantInflight.decrementAndGet() == 0 && tenantInflight.compareAndSet(0, RETIRED)) {
+        inflightByTenant.remove(tenantId, tenantInflight);
+      }
     }
   }
 }
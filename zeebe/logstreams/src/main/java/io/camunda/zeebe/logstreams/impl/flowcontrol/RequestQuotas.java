@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Admission quotas for user commands, applied on top of the request limit. The request limit bounds
+ * the number of in-flight user commands in total; quotas bound the share of that limit which a
+ * single tenant, or a single kind of command, may occupy. This keeps one tenant from starving all
+ * others, and lets commands which complete work in before commands which create more of it.
+ *
+ * <p>Shares are fractions of the current request limit, greater than 0 and at most 1, where 1 means
+ * no quota. Commands which the request limiter always accepts, like job completions, are not
+ * subject to quotas either.
+ *
+ * @param defaultTenantShare the share of every tenant without an explicit share
+ * @param tenantShares the shares of specific tenants, by tenant id
+ * @param commandShares the shares of specific commands, by intent
+ */
+public record RequestQuotas(
+    double defaultTenantShare,
+    Map<String, Double> tenantShares,
+    Map<Intent, Double> commandShares) {
+
+  /** The metrics class of all tenants without an explicit share, see {@link #tenantClass(String)} */
+  static final String OTHER_TENANTS = "other";
+
+  public RequestQuotas {
+    Objects.requireNonNull(tenantShares, "tenantShares must not be null");
+    Objects.requireNonNull(commandShares, "commandShares must not be null");
+    validateShare(defaultTenantShare, "defaultTenantShare");
+    tenantShares.forEach((tenant, share) -> validateShare(share, "share of tenant " + tenant));
+    commandShares.forEach((intent, share) -> validateShare(share, "share of command " + intent));
+
+    tenantShares = Map.copyOf(tenantShares);
+    commandShares = Map.copyOf(commandShares);
+  }
+
+  public static RequestQuotas disabled() {
+    return new RequestQuotas(1, Map.of(), Map.of());
+  }
+
+  double tenantShare(final String tenantId) {
+    return tenantShares.getOrDefault(tenantId, defaultTenantShare);
+  }
+
+  /**
+   * Returns the class under which exhausted quotas of the given tenant are reported. Only tenants
+   * with an explicit share are reported individually, so that the number of metrics stays bounded
+   * by the configuration instead of growing with every tenant which sends commands.
+   */
+  String tenantClass(final String tenantId) {
+    return tenantShares.containsKey(tenantId) ? tenantId : OTHER_TENANTS;
+  }
+
+  double commandShare(final Intent intent) {
+    return commandShares.getOrDefault(intent, 1.0);
+  }
+
+  boolean hasTenantQuotas() {
+    return defaultTenantShare < 1 || !tenantShares.isEmpty();
+  }
+
+  private static void validateShare(final double share, final String name) {
+    if (share <= 0 || share > 1) {
+      throw new IllegalArgumentException(
+          "%s must be greater than 0 and at most 1, but was %s".formatted(name, share));
+    }
+  }
+}
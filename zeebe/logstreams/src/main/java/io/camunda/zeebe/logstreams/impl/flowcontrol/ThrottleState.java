@@ -0,0 +1,37 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+/**
+ * The outcome of the last update of the write rate throttling, together with the feedback signals
+ * it was based on. Signals which were not available are reported as -1.
+ *
+ * @param rate the write rate which is currently applied
+ * @param exportingBacklog the number of written but not yet exported records
+ * @param processingBacklog the number of written but not yet processed records
+ * @param freeDiskSpace the free disk space in bytes
+ * @param limitedBy the signal which restricted the rate the most
+ */
+public record ThrottleState(
+    double rate,
+    long exportingBacklog,
+    long processingBacklog,
+    long freeDiskSpace,
+    Signal limitedBy) {
+
+  static ThrottleState unthrottled(final double rate) {
+    return new ThrottleState(rate, -1, -1, -1, Signal.NONE);
+  }
+
+  public enum Signal {
+    NONE,
+    EXPORTING,
+    PROCESSING,
+    DISK
+  }
+}
@@ -9,6 +9,7 @@ package io.camunda.zeebe.logstreams.impl.log;
 
 import com.netflix.concurrency.limits.Limit;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.RequestQuotas;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBuilder;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
@@ -24,6 +25,7 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private String logName;
   private InstantSource clock;
   private Limit requestLimit;
+  private RequestQuotas requestQuotas;
   private RateLimit writeRateLimit;
   private MeterRegistry meterRegistry;
 
@@ -63,6 +65,12 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withRequestQuotas(final RequestQuotas requestQuotas) {
+    this.requestQuotas = requestQuotas;
+    return this;
+  }
+
   @Override
   public LogStreamBuilder withWriteRateLimit(final RateLimit writeRateLimit) {
     this.writeRateLimit = writeRateLimit;
@@ -86,6 +94,7 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
         logStorage,
         clock,
         requestLimit,
+        requestQuotas,
         writeRateLimit,
         meterRegistry);
   }
@@ -12,6 +12,7 @@ import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
 import io.camunda.zeebe.logstreams.impl.Loggers;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.RequestQuotas;
 import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
@@ -45,6 +46,7 @@ public final class LogStreamImpl implements LogStream, CommitListener {
       final LogStorage logStorage,
       final InstantSource clock,
       final Limit requestLimit,
+      final RequestQuotas requestQuotas,
       final RateLimit writeRateLimit,
       final MeterRegistry meterRegistry) {
     this.logName = logName;
@@ -52,7 +54,8 @@ public final class LogStreamImpl implements LogStream, CommitListener {
     this.partitionId = partitionId;
     this.logStorage = logStorage;
     flowControl =
-        new FlowControl(new LogStreamMetrics(meterRegistry), requestLimit, writeRateLimit);
+        new FlowControl(
+            new LogStreamMetrics(meterRegistry), requestLimit, requestQuotas, writeRateLimit);
     sequencer =
         new Sequencer(
             logStorage,
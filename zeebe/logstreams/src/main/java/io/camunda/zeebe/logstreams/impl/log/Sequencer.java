@@ -24,7 +24,12 @@ import java.io.Closeable;
 import java.time.InstantSource;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,19 +37,42 @@ import org.slf4j.LoggerFactory;
  * The sequencer takes concurrent {@link #tryWrite(WriteContext, List, long) tryWrite} calls and
  * serializes them, assigning positions to all entries. Writes that are accepted are written
  * directly to the {@link LogStorage}.
+ *
+ * <p>Writers don't take a lock. A writer reserves the positions of its batch with an atomic add,
+ * which fixes the order of the batch in the log, and publishes it to a bounded multi-producer,
+ * single-consumer queue. Batches are appended to the log storage by a single consumer at a time,
+ * strictly in the order of their reserved positions. There is no dedicated consumer thread: a
+ * writer becomes the consumer if no other writer is, appends the published batches up to and
+ * including its own, and then wakes up the writer of the next batch to take over. All other writers
+ * park until their batch was appended or they are woken up to take over.
+ *
+ * <p>If appending a batch fails, its writer is notified, and all later batches are moved down by
+ * the positions of the failed batch, so the positions in the log stay contiguous.
  */
 final class Sequencer implements LogStreamWriter, Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(Sequencer.class);
+  // every writer publishes at most one batch at a time, so this is only reached with more writers
+  private static final int QUEUE_CAPACITY = 1024;
+  private static final long FULL_QUEUE_PARK_NANOS = 1_000;
   private final int maxFragmentSize;
 
-  private volatile long position;
+  private final AtomicLong reservedPosition;
   private volatile boolean isClosed = false;
-  private final ReentrantLock lock = new ReentrantLock();
+  private final ManyToOneConcurrentArrayQueue<PendingBatch> pendingBatches =
+      new ManyToOneConcurrentArrayQueue<>(QUEUE_CAPACITY);
+  private final AtomicBoolean consuming = new AtomicBoolean();
   private final LogStorage logStorage;
   private final InstantSource clock;
   private final SequencerMetrics sequencerMetrics;
   private final FlowControl flowControl;
 
+  // only accessed by the current consumer
+  private final Long2ObjectHashMap<PendingBatch> publishedBatches = new Long2ObjectHashMap<>();
+  private final Consumer<PendingBatch> collectPublishedBatch =
+      batch -> publishedBatches.put(batch.reservedPosition(), batch);
+  private long nextReservedPosition;
+  private long failedPositions;
+
   Sequencer(
       final LogStorage logStorage,
       final long initialPosition,
@@ -55,7 +83,8 @@ final class Sequencer implements LogStreamWriter, Closeable {
     LOG.trace("Starting new sequencer at position {}", initialPosition);
     this.logStorage = logStorage;
     this.clock = Objects.requireNonNull(clock);
-    position = initialPosition;
+    reservedPosition = new AtomicLong(initialPosition);
+    nextReservedPosition = initialPosition;
     this.maxFragmentSize = maxFragmentSize;
     this.sequencerMetrics =
         Objects.requireNonNull(sequencerMetrics, "must specify sequencer metrics");
@@ -107,19 +136,20 @@ final class Sequencer implements LogStreamWriter, Closeable {
     final int batchSize = appendEntries.size();
     final int batchLength = calculateBatchLength(appendEntries);
 
-    lock.lock();
     try {
-      final var currentPosition = position;
-      final var highestPosition = currentPosition + batchSize - 1;
-      final var sequencedBatch =
-          new SequencedBatch(
-              clock.millis(), currentPosition, sourcePosition, appendEntries, batchLength);
-      flowControl.onAppend(inFlightEntry, highestPosition);
-      logStorage.append(currentPosition, highestPosition, sequencedBatch, flowControl);
-      position = currentPosition + batchSize;
-      return Either.right(highestPosition);
+      // nothing may fail between reserving and publishing, the consumer waits for every reservation
+      final var pending =
+          new PendingBatch(
+              Thread.currentThread(),
+              reservedPosition.getAndAdd(batchSize),
+              appendEntries,
+              sourcePosition,
+              batchLength,
+              inFlightEntry);
+      publish(pending);
+      awaitAppended(pending);
+      return pending.result();
     } finally {
-      lock.unlock();
       sequencerMetrics.observeBatchLengthBytes(batchLength);
       sequencerMetrics.observeBatchSize(batchSize);
     }
@@ -127,15 +157,235 @@ final class Sequencer implements LogStreamWriter, Closeable {
 
   /**
    * Closes the sequencer. After closing, writes are rejected but reads are still allowed to drain
-   * the queue. Closing the sequencer is not atomic so some writes may occur shortly after closing.
+   * the queue. Batches which were published but not appended yet are rejected as well. Closing the
+   * sequencer is not atomic so some writes may occur shortly after closing.
    */
   @Override
   public void close() {
     LOG.info("Closing sequencer for writing");
     isClosed = true;
+
+    // if another writer is consuming, the remaining batches are rejected by it or its successor
+    tryConsume(null);
+  }
+
+  private void publish(final PendingBatch pending) {
+    while (!pendingBatches.offer(pending)) {
+      if (!tryConsume(null)) {
+        LockSupport.parkNanos(this, FULL_QUEUE_PARK_NANOS);
+      }
+    }
+  }
+
+  private void awaitAppended(final PendingBatch pending) {
+    while (!pending.isDone()) {
+      tryConsume(pending);
+      if (!pending.isDone()) {
+        // woken up once the batch is done, or when it is this writer's turn to consume
+        LockSupport.park(this);
+      }
+    }
+  }
+
+  /**
+   * Becomes the consumer if no other writer is, and appends the published batches in order until
+   * the given batch is done. Afterwards, wakes up the writer of the next batch to take over.
+   *
+   * <p>A batch which is published while the consumer stops would otherwise be missed: its writer
+   * may have failed to become the consumer just before. That's why the consumer checks the queue
+   * again after stopping, and hands over once more if something was published in the meantime.
+   *
+   * @param own the batch of the calling writer, or null to consume everything which was published
+   * @return true if the caller was the consumer, false if another writer is consuming
+   */
+  private boolean tryConsume(final PendingBatch own) {
+    if (!consuming.compareAndSet(false, true)) {
+      return false;
+    }
+
+    do {
+      final Thread successor;
+      try {
+        consume(own);
+        successor = nextWriter();
+      } finally {
+        consuming.set(false);
+      }
+
+      if (successor != null) {
+        LockSupport.unpark(successor);
+      }
+    } while (!pendingBatches.isEmpty() && consuming.compareAndSet(false, true));
+
+    return true;
+  }
+
+  /**
+   * Appends the published batches in order of their reserved positions, until the given batch is
+   * done or the next batch was not published yet. Must only be called by the consumer.
+   */
+  private void consume(final PendingBatch own) {
+    while (own == null || !own.isDone()) {
+      pendingBatches.drain(collectPublishedBatch);
+      if (isClosed) {
+        rejectPublishedBatches();
+        return;
+      }
+
+      final var next = publishedBatches.remove(nextReservedPosition);
+      if (next == null) {
+        return;
+      }
+      appendBatch(next);
+    }
+  }
+
+  /**
+   * Returns the writer of the next batch to append, if it was published already, or null. Once the
+   * sequencer is closed, rejects the published batches instead. Must only be called by the consumer.
+   */
+  private Thread nextWriter() {
+    pendingBatches.drain(collectPublishedBatch);
+    if (isClosed) {
+      // rejected batches leave gaps in the reserved positions, so there may be no next batch
+      rejectPublishedBatches();
+      return null;
+    }
+
+    final var next = publishedBatches.get(nextReservedPosition);
+    return next == null ? null : next.writer();
+  }
+
+  private void rejectPublishedBatches() {
+    publishedBatches.values().forEach(PendingBatch::reject);
+    publishedBatches.clear();
+  }
+
+  private void appendBatch(final PendingBatch pending) {
+    final var batchSize = pending.entries().size();
+    nextReservedPosition += batchSize;
+
+    final var currentPosition = pending.reservedPosition() - failedPositions;
+    final var highestPosition = currentPosition + batchSize - 1;
+    final var sequencedBatch =
+        new SequencedBatch(
+            clock.millis(),
+            currentPosition,
+            pending.sourcePosition(),
+            pending.entries(),
+            pending.batchLength());
+
+    try {
+      flowControl.onAppend(pending.inFlightEntry(), highestPosition);
+      logStorage.append(currentPosition, highestPosition, sequencedBatch, flowControl);
+    } catch (final Throwable e) {
+      failedPositions += batchSize;
+      pending.fail(e);
+      return;
+    }
+
+    pending.complete(highestPosition);
   }
 
   private static boolean isEntryValid(final LogAppendEntry entry) {
     return entry.recordValue() != null && entry.recordMetadata() != null;
   }
+
+  /**
+   * A batch which was published by a writer, and the outcome of appending it. The outcome is only
+   * set by the consumer, and read by the batch's own writer once {@link #isDone()}.
+   */
+  private static final class PendingBatch {
+    private final Thread writer;
+    private final long reservedPosition;
+    private final List<LogAppendEntry> entries;
+    private final long sourcePosition;
+    private final int batchLength;
+    private final InFlightEntry inFlightEntry;
+
+    private long highestPosition;
+    private WriteFailure rejection;
+    private Throwable failure;
+    private volatile boolean done;
+
+    private PendingBatch(
+        final Thread writer,
+        final long reservedPosition,
+        final List<LogAppendEntry> entries,
+        final long sourcePosition,
+        final int batchLength,
+        final InFlightEntry inFlightEntry) {
+      this.writer = writer;
+      this.reservedPosition = reservedPosition;
+      this.entries = entries;
+      this.sourcePosition = sourcePosition;
+      this.batchLength = batchLength;
+      this.inFlightEntry = inFlightEntry;
+    }
+
+    private Thread writer() {
+      return writer;
+    }
+
+    private long reservedPosition() {
+      return reservedPosition;
+    }
+
+    private List<LogAppendEntry> entries() {
+      return entries;
+    }
+
+    private long sourcePosition() {
+      return sourcePosition;
+    }
+
+    private int batchLength() {
+      return batchLength;
+    }
+
+    private InFlightEntry inFlightEntry() {
+      return inFlightEntry;
+    }
+
+    private boolean isDone() {
+      return done;
+    }
+
+    private void complete(final long highestPosition) {
+      this.highestPosition = highestPosition;
+      markDone();
+    }
+
+    private void reject() {
+      inFlightEntry.cleanup();
+      rejection = WriteFailure.CLOSED;
+      markDone();
+    }
+
+    private void fail(final Throwable failure) {
+      this.failure = failure;
+      markDone();
+    }
+
+    private void markDone() {
+      done = true;
+      LockSupport.unpark(writer);
+    }
+
+    /**
+     * @return the highest position of the appended batch, or the reason it was rejected
+     * @throws RuntimeException if appending the batch failed
+     */
+    private Either<WriteFailure, Long> result() {
+      if (failure instanceof final RuntimeException e) {
+        throw e;
+      } else if (failure instanceof final Error e) {
+        throw e;
+      } else if (failure != null) {
+        throw new IllegalStateException("Failed to append batch", failure);
+      }
+
+      return rejection != null ? Either.left(rejection) : Either.right(highestPosition);
+    }
+  }
 }
@@ -59,12 +59,16 @@ final class LogAppendEntrySerializer {
               .formatted(writeBufferOffset));
     }
 
-    if (value.getLength() == 0) {
+    // computing the length of a msgpack value walks the whole value, so only do it once
+    final var metadataLength = metadata.getLength();
+    final var valueLength = value.getLength();
+
+    if (valueLength == 0) {
       throw new IllegalArgumentException(
           "Expected to serialize an entry with a value, but the entry's value reports a length of 0");
     }
 
-    if (metadata.getLength() == 0) {
+    if (metadataLength == 0) {
       throw new IllegalArgumentException(
           "Expected to serialize an entry with metadata, but the entry's metadata reports a length of 0");
     }
@@ -81,8 +85,7 @@ final class LogAppendEntrySerializer {
               .formatted(entryTimestamp));
     }
 
-    final var metadataLength = metadata.getLength();
-    final var framedEntryLength = framedLength(entry);
+    final var framedEntryLength = framedLength(metadataLength, valueLength);
 
     // Write the dispatcher framing
     DataFrameDescriptor.setFramedLength(writeBuffer, writeBufferOffset, framedEntryLength);
@@ -105,8 +108,11 @@ final class LogAppendEntrySerializer {
   }
 
   static int framedLength(final LogAppendEntry entry) {
+    return framedLength(entry.recordMetadata().getLength(), entry.recordValue().getLength());
+  }
+
+  private static int framedLength(final int metadataLength, final int valueLength) {
     return DataFrameDescriptor.framedLength(
-        LogEntryDescriptor.headerLength(entry.recordMetadata().getLength())
-            + entry.recordValue().getLength());
+        LogEntryDescriptor.headerLength(metadataLength) + valueLength);
   }
 }
@@ -9,6 +9,7 @@ package io.camunda.zeebe.logstreams.log;
 
 import com.netflix.concurrency.limits.Limit;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.RequestQuotas;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.InstantSource;
@@ -55,6 +56,15 @@ public interface LogStreamBuilder {
 
   LogStreamBuilder withRequestLimit(Limit requestLimit);
 
+  /**
+   * Sets the quotas which bound the share of the request limit a single tenant or kind of command
+   * may use.
+   *
+   * @param requestQuotas the quotas, or null to not apply any
+   * @return this builder
+   */
+  LogStreamBuilder withRequestQuotas(RequestQuotas requestQuotas);
+
   LogStreamBuilder withWriteRateLimit(RateLimit writeRateLimit);
 
   /**
@@ -7,11 +7,13 @@
  */
 package io.camunda.zeebe.logstreams.log;
 
+import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 
 public sealed interface WriteContext {
-  static WriteContext userCommand(final Intent intent) {
-    return new UserCommand(intent);
+  static WriteContext userCommand(
+      final ValueType valueType, final Intent intent, final String tenantId) {
+    return new UserCommand(valueType, intent, tenantId);
   }
 
   static WriteContext processingResult() {
@@ -30,7 +32,7 @@ public sealed interface WriteContext {
     return Internal.INSTANCE;
   }
 
-  record UserCommand(Intent intent) implements WriteContext {}
+  record UserCommand(ValueType valueType, Intent intent, String tenantId) implements WriteContext {}
 
   final class ProcessingResult implements WriteContext {
     private static final ProcessingResult INSTANCE = new ProcessingResult();
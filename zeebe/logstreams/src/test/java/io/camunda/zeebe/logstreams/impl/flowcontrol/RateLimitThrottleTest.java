@@ -0,0 +1,186 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit.Throttling;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.ThrottleState.Signal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("UnstableApiUsage")
+final class RateLimitThrottleTest {
+  private static final int LIMIT = 5000;
+  private static final long OBSERVED_RATE = 1000;
+
+  private final AtomicLong clock = new AtomicLong();
+  private final RateMeasurement exportingRate =
+      new RateMeasurement(clock::get, Duration.ofMinutes(5), Duration.ofSeconds(10));
+
+  @BeforeEach
+  void observeExportingRate() {
+    exportingRate.observe(0);
+    clock.set(10_000);
+    exportingRate.observe(OBSERVED_RATE * 10);
+  }
+
+  @Test
+  void shouldThrottleOnExportingBacklog() {
+    // given
+    final var throttle = createThrottle(new Throttling(true, 1000, 100, Duration.ofSeconds(1)));
+
+    // when
+    throttle.update(clock.get(), 2000, -1, -1, -1);
+
+    // then
+    assertThat(throttle.state().rate()).isCloseTo(OBSERVED_RATE / 2.0, within(0.1));
+    assertThat(throttle.state().limitedBy()).isEqualTo(Signal.EXPORTING);
+  }
+
+  @Test
+  void shouldThrottleOnProcessingBacklog() {
+    // given
+    final var throttle =
+        createThrottle(new Throttling(true, 1000, 100, Duration.ofSeconds(1), 1000, 1));
+
+    // when
+    throttle.update(clock.get(), 100, 4000, -1, -1);
+
+    // then
+    assertThat(throttle.state().rate()).isCloseTo(OBSERVED_RATE / 4.0, within(0.1));
+    assertThat(throttle.state().limitedBy()).isEqualTo(Signal.PROCESSING);
+    assertThat(throttle.state().processingBacklog()).isEqualTo(4000);
+  }
+
+  @Test
+  void shouldIgnoreProcessingBacklogIfNotConfigured() {
+    // given
+    final var throttle =
+        createThrottle(new Throttling(true, 1000, 100, Duration.ofSeconds(1), 0, 1));
+
+    // when
+    throttle.update(clock.get(), 100, 4000, -1, -1);
+
+    // then
+    assertThat(throttle.state().rate()).isEqualTo(LIMIT);
+    assertThat(throttle.state().limitedBy()).isEqualTo(Signal.NONE);
+  }
+
+  @Test
+  void shouldThrottleWhenFreeDiskSpaceRunsLow() {
+    // given
+    final var throttle =
+        createThrottle(new Throttling(true, 1000, 100, Duration.ofSeconds(1), 1000, 1, true));
+
+    // when
+    throttle.update(clock.get(), 100, 100, 1500, 1000);
+
+    // then
+    assertThat(throttle.state().rate()).isCloseTo(OBSERVED_RATE / 2.0, within(0.1));
+    assertThat(throttle.state().limitedBy()).isEqualTo(Signal.DISK);
+  }
+
+  @Test
+  void shouldIgnoreFreeDiskSpaceIfNotEnabled() {
+    // given
+    final var throttle =
+        createThrottle(new Throttling(true, 1000, 100, Duration.ofSeconds(1), 1000, 1, false));
+
+    // when
+    throttle.update(clock.get(), 100, 100, 1500, 1000);
+
+    // then
+    assertThat(throttle.state().rate()).isEqualTo(LIMIT);
+    assertThat(throttle.state().limitedBy()).isEqualTo(Signal.NONE);
+  }
+
+  @Test
+  void shouldNotThrottleBelowMinimumRate() {
+    // given
+    final var throttle = createThrottle(new Throttling(true, 1000, 100, Duration.ofSeconds(1)));
+
+    // when
+    throttle.update(clock.get(), 1_000_000, -1, -1, -1);
+
+    // then
+    assertThat(throttle.state().rate()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldApproachCalculatedRateSmoothly() {
+    // given
+    final var throttle =
+        createThrottle(new Throttling(true, 1000, 100, Duration.ofSeconds(1), 0, 0.5));
+
+    // when
+    throttle.update(clock.get(), 2000, -1, -1, -1);
+    final var firstRate = throttle.state().rate();
+    throttle.update(clock.get() + 1000, 2000, -1, -1, -1);
+    final var secondRate = throttle.state().rate();
+
+    // then
+    assertThat(firstRate).isCloseTo((LIMIT + 500) / 2.0, within(0.1));
+    assertThat(secondRate).isCloseTo((firstRate + 500) / 2.0, within(0.1));
+  }
+
+  @Test
+  void shouldSkipUpdatesWithinResolution() {
+    // given
+    final var throttle = createThrottle(new Throttling(true, 1000, 100, Duration.ofSeconds(1)));
+    throttle.update(clock.get(), 2000, -1, -1, -1);
+
+    // when
+    throttle.update(clock.get() + 999, 0, -1, -1, -1);
+
+    // then
+    assertThat(throttle.state().rate()).isCloseTo(OBSERVED_RATE / 2.0, within(0.1));
+  }
+
+  @Test
+  void shouldLiftThrottlingWithoutBacklog() {
+    // given
+    final var throttle = createThrottle(new Throttling(true, 1000, 100, Duration.ofSeconds(1)));
+    throttle.update(clock.get(), 2000, -1, -1, -1);
+
+    // when
+    throttle.update(clock.get() + 1000, 0, -1, -1, -1);
+
+    // then
+    assertThat(throttle.state().rate()).isEqualTo(LIMIT);
+    assertThat(throttle.state().limitedBy()).isEqualTo(Signal.NONE);
+  }
+
+  @Test
+  void shouldSnapToLimitWhenLiftingThrottlingSmoothly() {
+    // given
+    final var throttle =
+        createThrottle(new Throttling(true, 1000, 100, Duration.ofSeconds(1), 0, 0.5));
+    throttle.update(clock.get(), 2000, -1, -1, -1);
+
+    // when -- without smoothing snapping, the rate would only approach the limit
+    for (int i = 1; i <= 10; i++) {
+      throttle.update(clock.get() + i * 1000L, 0, -1, -1, -1);
+    }
+
+    // then
+    assertThat(throttle.state().rate()).isEqualTo(LIMIT);
+    assertThat(throttle.state().limitedBy()).isEqualTo(Signal.NONE);
+  }
+
+  private RateLimitThrottle createThrottle(final Throttling throttling) {
+    final var limit = new RateLimit(true, LIMIT, Duration.ZERO, throttling);
+    return new RateLimitThrottle(
+        new LogStreamMetrics(new SimpleMeterRegistry()), limit, limit.limiter(), exportingRate);
+  }
+}
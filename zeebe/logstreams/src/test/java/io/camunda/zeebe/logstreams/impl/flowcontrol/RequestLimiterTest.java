@@ -0,0 +1,201 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.netflix.concurrency.limits.limit.FixedLimit;
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc;
+import io.camunda.zeebe.logstreams.log.WriteContext.UserCommand;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+final class RequestLimiterTest {
+  private static final int LIMIT = 10;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void shouldRejectCommandWhenCommandQuotaIsExhausted() {
+    // given
+    final var limiter =
+        createLimiter(new RequestQuotas(1, Map.of(), Map.of(MessageIntent.PUBLISH, 0.5)));
+    acquire(limiter, 5, publishMessage("tenant"));
+
+    // when
+    final var publish = limiter.acquire(publishMessage("tenant"));
+    final var create = limiter.acquire(createInstance("tenant"));
+
+    // then
+    assertThat(publish).isEmpty();
+    assertThat(create).isPresent();
+    assertThat(exhaustedCount("command", "MESSAGE.PUBLISH")).isOne();
+  }
+
+  @Test
+  void shouldRejectCommandWhenTenantQuotaIsExhausted() {
+    // given
+    final var limiter = createLimiter(new RequestQuotas(0.3, Map.of("big", 0.8), Map.of()));
+    acquire(limiter, 3, createInstance("small"));
+
+    // when
+    final var small = limiter.acquire(createInstance("small"));
+    final var big = limiter.acquire(createInstance("big"));
+
+    // then
+    assertThat(small).isEmpty();
+    assertThat(big).isPresent();
+    assertThat(exhaustedCount("tenant", "other")).isOne();
+  }
+
+  @Test
+  void shouldReportTenantsWithExplicitQuotaSeparately() {
+    // given
+    final var limiter = createLimiter(new RequestQuotas(1, Map.of("big", 0.2), Map.of()));
+    acquire(limiter, 2, createInstance("big"));
+
+    // when
+    final var big = limiter.acquire(createInstance("big"));
+
+    // then
+    assertThat(big).isEmpty();
+    assertThat(exhaustedCount("tenant", "big")).isOne();
+  }
+
+  @Test
+  void shouldNotExceedTenantQuotaWithConcurrentRequests() throws Exception {
+    // given
+    final var limiter = createLimiter(new RequestQuotas(0.3, Map.of(), Map.of()));
+    final var held = new AtomicInteger();
+    final var maxHeld = new AtomicInteger();
+    final var executor = Executors.newFixedThreadPool(8);
+
+    // when
+    try {
+      final var tasks =
+          IntStream.range(0, 8)
+              .mapToObj(
+                  i ->
+                      CompletableFuture.runAsync(
+                          () -> {
+                            for (int j = 0; j < 10_000; j++) {
+                              limiter
+                                  .acquire(createInstance("tenant"))
+                                  .ifPresent(
+                                      listener -> {
+                                        maxHeld.accumulateAndGet(
+                                            held.incrementAndGet(), Math::max);
+                                        held.decrementAndGet();
+                                        listener.onSuccess();
+                                      });
+                            }
+                          },
+                          executor))
+              .toArray(CompletableFuture[]::new);
+      CompletableFuture.allOf(tasks).get(30, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // then
+    assertThat(maxHeld).hasValueBetween(1, 3);
+    acquire(limiter, 3, createInstance("tenant"));
+    assertThat(limiter.acquire(createInstance("tenant"))).isEmpty();
+  }
+
+  @Test
+  void shouldReleaseTenantQuotaOnResponse() {
+    // given
+    final var limiter = createLimiter(new RequestQuotas(0.3, Map.of(), Map.of()));
+    final var first = limiter.acquire(createInstance("tenant")).orElseThrow();
+    acquire(limiter, 2, createInstance("tenant"));
+    assertThat(limiter.acquire(createInstance("tenant"))).isEmpty();
+
+    // when
+    first.onSuccess();
+
+    // then
+    assertThat(limiter.acquire(createInstance("tenant"))).isPresent();
+  }
+
+  @Test
+  void shouldAlwaysAcceptWhitelistedCommands() {
+    // given
+    final var limiter =
+        createLimiter(new RequestQuotas(1, Map.of("tenant", 0.1), Map.of(JobIntent.COMPLETE, 0.1)));
+    acquire(limiter, LIMIT, createInstance("other"));
+
+    // when
+    final var complete =
+        limiter.acquire(new UserCommand(ValueType.JOB, JobIntent.COMPLETE, "tenant"));
+
+    // then
+    assertThat(complete).isPresent();
+  }
+
+  @Test
+  void shouldNotLimitTenantsWithoutTenantQuotas() {
+    // given
+    final var limiter = createLimiter(RequestQuotas.disabled());
+
+    // when
+    acquire(limiter, LIMIT, createInstance("tenant"));
+
+    // then
+    assertThat(limiter.acquire(createInstance("tenant"))).isEmpty();
+    assertThat(meterRegistry.find(LogStreamMetricsDoc.REQUEST_QUOTA_EXHAUSTED.getName()).counter())
+        .isNull();
+  }
+
+  private RequestLimiter createLimiter(final RequestQuotas quotas) {
+    return RequestLimiter.builder()
+        .limit(FixedLimit.of(LIMIT))
+        .build(new LogStreamMetrics(meterRegistry), quotas);
+  }
+
+  private void acquire(final RequestLimiter limiter, final int count, final UserCommand command) {
+    IntStream.range(0, count)
+        .forEach(
+            i -> assertThat(limiter.acquire(command)).describedAs("request %d", i).isPresent());
+  }
+
+  private double exhaustedCount(final String quota, final String quotaClass) {
+    return meterRegistry
+        .get(LogStreamMetricsDoc.REQUEST_QUOTA_EXHAUSTED.getName())
+        .tag("quota", quota)
+        .tag("class", quotaClass)
+        .counter()
+        .count();
+  }
+
+  private static UserCommand publishMessage(final String tenantId) {
+    return command(ValueType.MESSAGE, MessageIntent.PUBLISH, tenantId);
+  }
+
+  private static UserCommand createInstance(final String tenantId) {
+    return command(
+        ValueType.PROCESS_INSTANCE_CREATION, ProcessInstanceCreationIntent.CREATE, tenantId);
+  }
+
+  private static UserCommand command(
+      final ValueType valueType, final Intent intent, final String tenantId) {
+    return new UserCommand(valueType, intent, tenantId);
+  }
+}
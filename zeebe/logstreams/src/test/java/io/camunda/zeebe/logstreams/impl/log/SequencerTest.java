@@ -8,11 +8,13 @@
 package io.camunda.zeebe.logstreams.impl.log;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 
 import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.logstreams.storage.LogStorageReader;
@@ -23,8 +25,13 @@ import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.InstantSource;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+import java.util.stream.IntStream;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
@@ -128,6 +135,193 @@ final class SequencerTest {
     Mockito.verify(logStorage).append(eq(1L), eq(3L), any(BufferWriter.class), any());
   }
 
+  @Test
+  void reusesPositionsAfterFailedAppend() {
+    // given
+    final var logStorage = Mockito.mock(LogStorage.class);
+    final var logStreamMetrics = new LogStreamMetrics(new SimpleMeterRegistry());
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            new FlowControl(logStreamMetrics));
+    Mockito.doThrow(new IllegalStateException("expected"))
+        .doNothing()
+        .when(logStorage)
+        .append(eq(1L), eq(1L), any(BufferWriter.class), any());
+    Assertions.assertThatThrownBy(
+            () -> sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()))
+        .isInstanceOf(IllegalStateException.class);
+
+    // when
+    final var result = sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+
+    // then
+    EitherAssert.assertThat(result).isRight().right().isEqualTo(1L);
+    Mockito.verify(logStorage, Mockito.times(2))
+        .append(eq(1L), eq(1L), any(BufferWriter.class), any());
+  }
+
+  @Test
+  void reportsFailedAppendToItsWriterAndKeepsPositionsContiguous() throws InterruptedException {
+    // given
+    final var numberOfWriters = 8;
+    final var batchesPerWriter = 10_000;
+    final var logStorage = new VerifyingLogStorage(source -> source % 7 == 0);
+    final var logStreamMetrics = new LogStreamMetrics(new SimpleMeterRegistry());
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            new FlowControl(logStreamMetrics));
+    final var entries = List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults());
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+    final var appendedPositions = new ConcurrentLinkedQueue<Long>();
+
+    // when -- every writer writes batches with distinct source positions
+    final var writers = new Thread[numberOfWriters];
+    for (int i = 0; i < numberOfWriters; i++) {
+      final var writerId = i;
+      writers[i] =
+          new Thread(
+              () -> {
+                for (int batch = 0; batch < batchesPerWriter; batch++) {
+                  final long source = (long) batch * numberOfWriters + writerId;
+                  try {
+                    final var result = sequencer.tryWrite(WriteContext.internal(), entries, source);
+                    Assertions.assertThat(source % 7).isNotZero();
+                    Assertions.assertThat(result.isRight()).isTrue();
+                    appendedPositions.add(result.get());
+                  } catch (final IllegalStateException e) {
+                    // only the writer of the failed batch is notified of the failure
+                    Assertions.assertThat(e).hasMessage("expected failure of " + source);
+                  }
+                }
+              });
+      writers[i].setUncaughtExceptionHandler((t, e) -> testFailures.add(e));
+    }
+    for (final var writer : writers) {
+      writer.start();
+    }
+    for (final var writer : writers) {
+      writer.join();
+    }
+
+    // then -- VerifyingLogStorage did not throw, and writers got exactly the appended positions
+    Assertions.assertThat(testFailures).isEmpty();
+    Assertions.assertThat(appendedPositions)
+        .hasSize(logStorage.appendedBatches)
+        .doesNotHaveDuplicates()
+        .allSatisfy(
+            position -> Assertions.assertThat(position).isBetween(2L, logStorage.position));
+    Assertions.assertThat(logStorage.position).isEqualTo(2L * logStorage.appendedBatches);
+  }
+
+  @Test
+  void appendsBatchesOfContendingWritersInOrderWithoutGaps() throws InterruptedException {
+    // given
+    final var numberOfWriters = 16;
+    final var batchesPerWriter = 10_000;
+    final var logStorage = new VerifyingLogStorage();
+    final var logStreamMetrics = new LogStreamMetrics(new SimpleMeterRegistry());
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            new FlowControl(logStreamMetrics));
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+    final var writtenEntries = new AtomicLong();
+
+    // when -- writers write batches of different sizes, so their reservations interleave
+    final var writers = new Thread[numberOfWriters];
+    for (int i = 0; i < numberOfWriters; i++) {
+      final var entries =
+          IntStream.rangeClosed(0, i % 4).mapToObj(ignored -> TestEntry.ofDefaults()).toList();
+      writers[i] =
+          new Thread(
+              () -> {
+                var lastPosition = 0L;
+                for (int batch = 0; batch < batchesPerWriter; batch++) {
+                  final var result = sequencer.tryWrite(WriteContext.internal(), entries);
+                  EitherAssert.assertThat(result).isRight();
+                  Assertions.assertThat(result.get())
+                      .isGreaterThanOrEqualTo(lastPosition + entries.size());
+                  lastPosition = result.get();
+                  writtenEntries.addAndGet(entries.size());
+                }
+              });
+      writers[i].setUncaughtExceptionHandler((t, e) -> testFailures.add(e));
+    }
+    for (final var writer : writers) {
+      writer.start();
+    }
+    for (final var writer : writers) {
+      writer.join();
+    }
+
+    // then -- VerifyingLogStorage did not throw, so batches were appended in order without gaps
+    Assertions.assertThat(testFailures).isEmpty();
+    Assertions.assertThat(logStorage.appendedBatches).isEqualTo(numberOfWriters * batchesPerWriter);
+    Assertions.assertThat(logStorage.position).isEqualTo(writtenEntries.get());
+  }
+
+  @Test
+  void rejectsPendingBatchesOnClose() throws Exception {
+    // given
+    final var appendStarted = new CountDownLatch(1);
+    final var releaseAppend = new CountDownLatch(1);
+    final var logStorage = Mockito.mock(LogStorage.class);
+    Mockito.doAnswer(
+            invocation -> {
+              appendStarted.countDown();
+              releaseAppend.await();
+              return null;
+            })
+        .when(logStorage)
+        .append(eq(1L), eq(1L), any(BufferWriter.class), any());
+    final var logStreamMetrics = new LogStreamMetrics(new SimpleMeterRegistry());
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            new FlowControl(logStreamMetrics));
+    final var executor = Executors.newFixedThreadPool(2);
+
+    try {
+      final var appendingWrite =
+          executor.submit(
+              () -> sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()));
+      appendStarted.await();
+      final var pendingWrite =
+          executor.submit(
+              () -> sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()));
+
+      // when -- the second write is rejected, whether it was published before closing or not
+      sequencer.close();
+      releaseAppend.countDown();
+
+      // then
+      EitherAssert.assertThat(appendingWrite.get()).isRight().right().isEqualTo(1L);
+      EitherAssert.assertThat(pendingWrite.get()).isLeft().left().isEqualTo(WriteFailure.CLOSED);
+      Mockito.verify(logStorage).append(anyLong(), anyLong(), any(BufferWriter.class), any());
+    } finally {
+      releaseAppend.countDown();
+      executor.shutdownNow();
+    }
+  }
+
   @Test
   void maintainsPositionWithSingleWriterAndSingleEntry() throws InterruptedException {
     // given
@@ -282,7 +476,20 @@ final class SequencerTest {
 
   private static final class VerifyingLogStorage implements LogStorage {
 
+    private final LongPredicate shouldFail;
     private long position = -1;
+    private int appendedBatches;
+
+    private VerifyingLogStorage() {
+      this(source -> false);
+    }
+
+    /**
+     * @param shouldFail decides by the source position of a batch whether appending it fails
+     */
+    private VerifyingLogStorage(final LongPredicate shouldFail) {
+      this.shouldFail = shouldFail;
+    }
 
     @Override
     public LogStorageReader newReader() {
@@ -298,7 +505,12 @@ final class SequencerTest {
       if (position != -1) {
         Assertions.assertThat(lowestPosition).isEqualTo(position + 1);
       }
+      final var sourcePosition = ((SequencedBatch) bufferWriter).sourcePosition();
+      if (shouldFail.test(sourcePosition)) {
+        throw new IllegalStateException("expected failure of " + sourcePosition);
+      }
       position = highestPosition;
+      appendedBatches++;
       listener.onCommit(position, highestPosition);
     }
 
@@ -9,6 +9,7 @@ package io.camunda.zeebe.logstreams.util;
 
 import com.netflix.concurrency.limits.Limit;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.RequestQuotas;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBuilder;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
@@ -62,6 +63,12 @@ public final class TestLogStreamBuilder implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public TestLogStreamBuilder withRequestQuotas(final RequestQuotas requestQuotas) {
+    delegate.withRequestQuotas(requestQuotas);
+    return this;
+  }
+
   @Override
   public TestLogStreamBuilder withWriteRateLimit(final RateLimit writeRateLimiter) {
     delegate.withWriteRateLimit(writeRateLimiter);
@@ -0,0 +1,251 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.msgpack.spec;
+
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.function.Predicate;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Merges the top-level entries of MsgPack documents, e.g. the variables of several scopes, into a
+ * single document in one pass. An entry is only added if the document doesn't contain its key yet,
+ * i.e. entries which are added first take precedence over later ones with the same key.
+ *
+ * <p>Keys and values are copied as raw bytes, without decoding them. The keys which were added are
+ * indexed in an open addressing hash table, which refers to the keys in the result buffer, so
+ * checking for duplicates doesn't allocate. Keys are hashed a word at a time.
+ *
+ * <p>The merger is reusable: {@link #wrap(MutableDirectBuffer, int)} starts a new document, which
+ * is complete once {@link #finish()} was called. Keys are expected to be strings.
+ */
+public final class MsgPackDocumentMerger {
+
+  private static final int INITIAL_CAPACITY = 64;
+  private static final int NO_ENTRY = -1;
+  private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackReader reader = new MsgPackReader();
+  private final UnsafeBuffer keyView = new UnsafeBuffer(0, 0);
+
+  // open addressing hash table of entry indices; the entries refer to the keys in the result
+  private int[] table = newTable(INITIAL_CAPACITY);
+  private int[] keyOffsets = new int[INITIAL_CAPACITY / 2];
+  private int[] keyLengths = new int[INITIAL_CAPACITY / 2];
+  private int[] keyHashes = new int[INITIAL_CAPACITY / 2];
+  private int size;
+
+  private MutableDirectBuffer result;
+  private int resultOffset;
+
+  /**
+   * Starts a new document, which is written to the given buffer at the given offset. If the buffer
+   * is not expandable, it must be large enough to hold the merged document.
+   */
+  public MsgPackDocumentMerger wrap(final MutableDirectBuffer buffer, final int offset) {
+    if (size > 0) {
+      Arrays.fill(table, NO_ENTRY);
+      size = 0;
+    }
+
+    result = buffer;
+    resultOffset = offset;
+    writer.wrap(buffer, offset);
+    writer.reserveMapHeader();
+    return this;
+  }
+
+  /**
+   * Adds the given entry, unless the document already contains the key.
+   *
+   * @param key the key, without the MsgPack string header
+   * @param value the encoded MsgPack value
+   * @return true if the entry was added, false if the document already contains the key
+   */
+  public boolean addEntry(final DirectBuffer key, final DirectBuffer value) {
+    return addEntry(key, 0, key.capacity(), value, 0, value.capacity());
+  }
+
+  /**
+   * Adds all top-level entries of the given document whose key the merged document doesn't contain
+   * yet.
+   *
+   * @param document an encoded MsgPack map
+   */
+  public void addEntries(final DirectBuffer document) {
+    addEntries(document, key -> true);
+  }
+
+  /**
+   * Adds all top-level entries of the given document which are accepted by the given filter and
+   * whose key the merged document doesn't contain yet.
+   *
+   * @param document an encoded MsgPack map
+   * @param keyFilter evaluated with a view of each key, which must not be kept
+   */
+  public void addEntries(final DirectBuffer document, final Predicate<DirectBuffer> keyFilter) {
+    reader.wrap(document, 0, document.capacity());
+
+    final int entries = reader.readMapHeader();
+    for (int i = 0; i < entries; i++) {
+      final int keyLength = reader.readStringLength();
+      final int keyOffset = reader.getOffset();
+      reader.skipBytes(keyLength);
+
+      final int valueOffset = reader.getOffset();
+      reader.skipValue();
+      final int valueLength = reader.getOffset() - valueOffset;
+
+      keyView.wrap(document, keyOffset, keyLength);
+      if (keyFilter.test(keyView)) {
+        addEntry(document, keyOffset, keyLength, document, valueOffset, valueLength);
+      }
+    }
+  }
+
+  /**
+   * @param key the key, without the MsgPack string header
+   * @return true if the document contains the given key
+   */
+  public boolean containsKey(final DirectBuffer key) {
+    final int hash = hash(key, 0, key.capacity());
+    return table[findSlot(key, 0, key.capacity(), hash)] != NO_ENTRY;
+  }
+
+  /**
+   * @return the number of entries of the document
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Completes the document by writing its map header.
+   *
+   * @return the length of the merged document
+   */
+  public int finish() {
+    writer.writeReservedMapHeader(resultOffset, size);
+    return writer.getOffset() - resultOffset;
+  }
+
+  private boolean addEntry(
+      final DirectBuffer key,
+      final int keyOffset,
+      final int keyLength,
+      final DirectBuffer value,
+      final int valueOffset,
+      final int valueLength) {
+    final int hash = hash(key, keyOffset, keyLength);
+    final int slot = findSlot(key, keyOffset, keyLength, hash);
+    if (table[slot] != NO_ENTRY) {
+      return false;
+    }
+
+    writer.writeStringHeader(keyLength);
+    final int resultKeyOffset = writer.getOffset();
+    writer.writeRaw(key, keyOffset, keyLength);
+    writer.writeRaw(value, valueOffset, valueLength);
+
+    insert(slot, resultKeyOffset, keyLength, hash);
+    return true;
+  }
+
+  private int findSlot(
+      final DirectBuffer key, final int keyOffset, final int keyLength, final int hash) {
+    final int mask = table.length - 1;
+    int slot = hash & mask;
+
+    int entry;
+    while ((entry = table[slot]) != NO_ENTRY) {
+      if (keyHashes[entry] == hash
+          && keyLengths[entry] == keyLength
+          && equals(result, keyOffsets[entry], key, keyOffset, keyLength)) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    return slot;
+  }
+
+  private void insert(final int slot, final int keyOffset, final int keyLength, final int hash) {
+    if (size == keyOffsets.length) {
+      keyOffsets = Arrays.copyOf(keyOffsets, size * 2);
+      keyLengths = Arrays.copyOf(keyLengths, size * 2);
+      keyHashes = Arrays.copyOf(keyHashes, size * 2);
+    }
+
+    keyOffsets[size] = keyOffset;
+    keyLengths[size] = keyLength;
+    keyHashes[size] = hash;
+    table[slot] = size;
+    size++;
+
+    // keep the load factor at or below 0.5, so that probe sequences stay short
+    if (size * 2 > table.length) {
+      rehash(table.length * 2);
+    }
+  }
+
+  private void rehash(final int capacity) {
+    table = newTable(capacity);
+    final int mask = capacity - 1;
+    for (int entry = 0; entry < size; entry++) {
+      int slot = keyHashes[entry] & mask;
+      while (table[slot] != NO_ENTRY) {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = entry;
+    }
+  }
+
+  private static int[] newTable(final int capacity) {
+    final var table = new int[capacity];
+    Arrays.fill(table, NO_ENTRY);
+    return table;
+  }
+
+  private static int hash(final DirectBuffer buffer, final int offset, final int length) {
+    long hash = length * HASH_MULTIPLIER;
+
+    int index = 0;
+    for (; index + Long.BYTES <= length; index += Long.BYTES) {
+      hash = (hash ^ buffer.getLong(offset + index, ByteOrder.LITTLE_ENDIAN)) * HASH_MULTIPLIER;
+      hash ^= hash >>> 32;
+    }
+    for (; index < length; index++) {
+      hash = (hash ^ buffer.getByte(offset + index)) * HASH_MULTIPLIER;
+    }
+
+    return (int) (hash ^ (hash >>> 29));
+  }
+
+  private static boolean equals(
+      final DirectBuffer first,
+      final int firstOffset,
+      final DirectBuffer second,
+      final int secondOffset,
+      final int length) {
+    int index = 0;
+    for (; index + Long.BYTES <= length; index += Long.BYTES) {
+      if (first.getLong(firstOffset + index) != second.getLong(secondOffset + index)) {
+        return false;
+      }
+    }
+    for (; index < length; index++) {
+      if (first.getByte(firstOffset + index) != second.getByte(secondOffset + index)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.msgpack.spec;
+
+import static io.camunda.zeebe.msgpack.spec.MsgPackUtil.encodeMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class MsgPackDocumentMergerTest {
+
+  private final MsgPackDocumentMerger merger = new MsgPackDocumentMerger();
+  private final ExpandableArrayBuffer resultBuffer = new ExpandableArrayBuffer(16);
+
+  @Test
+  void shouldKeepFirstEntryOfDuplicateKeys() {
+    // given
+    final var first =
+        encodeMsgPack(
+            p -> p.packMapHeader(2).packString("a").packLong(1).packString("b").packLong(2));
+    final var second =
+        encodeMsgPack(
+            p -> p.packMapHeader(2).packString("b").packLong(3).packString("c").packLong(4));
+
+    // when
+    merger.wrap(resultBuffer, 0);
+    merger.addEntries(first);
+    merger.addEntries(second);
+    final int length = merger.finish();
+
+    // then
+    assertThat(decode(length)).containsExactly(entry("a", 1L), entry("b", 2L), entry("c", 4L));
+  }
+
+  @Test
+  void shouldAddSingleEntries() {
+    // given
+    merger.wrap(resultBuffer, 0);
+
+    // when
+    final var added = merger.addEntry(string("a"), encodeMsgPack(p -> p.packLong(1)));
+    final var duplicate = merger.addEntry(string("a"), encodeMsgPack(p -> p.packLong(2)));
+
+    // then
+    assertThat(added).isTrue();
+    assertThat(duplicate).isFalse();
+    assertThat(merger.containsKey(string("a"))).isTrue();
+    assertThat(merger.containsKey(string("b"))).isFalse();
+    assertThat(decode(merger.finish())).containsExactly(entry("a", 1L));
+  }
+
+  @Test
+  void shouldFilterEntries() {
+    // given
+    final var document =
+        encodeMsgPack(
+            p -> p.packMapHeader(2).packString("a").packLong(1).packString("b").packLong(2));
+
+    // when
+    merger.wrap(resultBuffer, 0);
+    merger.addEntries(document, key -> key.equals(string("b")));
+
+    // then
+    assertThat(decode(merger.finish())).containsExactly(entry("b", 2L));
+  }
+
+  @Test
+  void shouldMergeManyEntries() {
+    // given
+    final var document =
+        encodeMsgPack(
+            p -> {
+              p.packMapHeader(1_000);
+              for (int i = 0; i < 1_000; i++) {
+                p.packString("variable-with-a-longer-name-" + i).packLong(i);
+              }
+            });
+
+    // when
+    merger.wrap(resultBuffer, 0);
+    merger.addEntries(document);
+    merger.addEntries(document);
+    final int length = merger.finish();
+
+    // then
+    final var merged = decode(length);
+    assertThat(merged).hasSize(1_000).containsEntry("variable-with-a-longer-name-999", 999L);
+    assertThat(merger.size()).isEqualTo(1_000);
+  }
+
+  @Test
+  void shouldStartNewDocumentOnWrap() {
+    // given
+    merger.wrap(resultBuffer, 0);
+    merger.addEntry(string("a"), encodeMsgPack(p -> p.packLong(1)));
+    merger.finish();
+
+    // when
+    merger.wrap(resultBuffer, 0);
+    merger.addEntry(string("a"), encodeMsgPack(p -> p.packLong(2)));
+
+    // then
+    assertThat(decode(merger.finish())).containsExactly(entry("a", 2L));
+  }
+
+  private static DirectBuffer string(final String value) {
+    return new UnsafeBuffer(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private Map<String, Long> decode(final int length) {
+    final var reader = new MsgPackReader().wrap(resultBuffer, 0, length);
+    final var entries = new LinkedHashMap<String, Long>();
+
+    final int size = reader.readMapHeader();
+    for (int i = 0; i < size; i++) {
+      final int keyLength = reader.readStringLength();
+      final var key = resultBuffer.getStringWithoutLengthUtf8(reader.getOffset(), keyLength);
+      reader.skipBytes(keyLength);
+      entries.put(key, reader.readInteger());
+    }
+
+    assertThat(reader.getOffset()).isEqualTo(length);
+    return entries;
+  }
+}
@@ -11,6 +11,7 @@ import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.ObjectValue;
 import io.camunda.zeebe.util.buffer.BufferReader;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -41,17 +42,42 @@ public class UnpackedObject extends ObjectValue implements Recyclable, BufferRea
     try {
       read(reader);
     } catch (final Exception e) {
-      throw new RuntimeException(
-          "Could not deserialize object ["
-              + getClass().getSimpleName()
-              + "]. Deserialization stuck at offset "
-              + reader.getOffset()
-              + " of length "
-              + length,
-          e);
+      throw newDeserializationException(length, e);
     }
   }
 
+  /**
+   * Wraps the given buffer like {@link #wrap(DirectBuffer, int, int)}, but decodes the property
+   * values only on first access. Properties which are not accessed are written by copying their
+   * encoded bytes. The buffer must not be changed as long as the object is used.
+   *
+   * @see ObjectValue#readLazily(MsgPackReader)
+   */
+  public void wrapLazily(final DirectBuffer buff, final int offset, final int length) {
+    reset();
+    reader.wrap(buff, offset, length);
+    try {
+      readLazily(reader);
+    } catch (final Exception e) {
+      throw newDeserializationException(length, e);
+    }
+  }
+
+  /**
+   * Copies the contents of {@code source} into a newly allocated buffer and wraps it lazily. Since
+   * the copy owns the buffer, properties which are not accessed afterwards are passed through, i.e.
+   * written by splicing their encoded bytes into the output instead of decoding and encoding them
+   * again. This keeps copying records with large documents cheap.
+   *
+   * @param source the source writer
+   * @throws NullPointerException if source is null
+   */
+  @Override
+  public void copyFrom(final BufferWriter source) {
+    final var buffer = BufferUtil.createCopy(source);
+    wrapLazily(buffer, 0, buffer.capacity());
+  }
+
   @Override
   public int getLength() {
     return getEncodedLength();
@@ -62,4 +88,15 @@ public class UnpackedObject extends ObjectValue implements Recyclable, BufferRea
     writer.wrap(buffer, offset);
     write(writer);
   }
+
+  private RuntimeException newDeserializationException(final int length, final Exception e) {
+    return new RuntimeException(
+        "Could not deserialize object ["
+            + getClass().getSimpleName()
+            + "]. Deserialization stuck at offset "
+            + reader.getOffset()
+            + " of length "
+            + length,
+        e);
+  }
 }
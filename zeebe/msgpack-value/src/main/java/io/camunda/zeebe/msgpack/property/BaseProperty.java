@@ -14,6 +14,7 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.BaseValue;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import java.util.Objects;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final StringValue key;
@@ -21,6 +22,11 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final T defaultValue;
   protected boolean isSet;
 
+  // the encoded value, if the property was read lazily and the value was not decoded yet
+  private final UnsafeBuffer encodedValue = new UnsafeBuffer(0, 0);
+  private boolean isEncoded;
+  private MsgPackReader encodedValueReader;
+
   public BaseProperty(final T value) {
     this(StringValue.EMPTY_STRING, value);
   }
@@ -40,11 +46,13 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   public void set() {
     isSet = true;
+    isEncoded = false;
   }
 
   @Override
   public void reset() {
     isSet = false;
+    isEncoded = false;
     value.reset();
   }
 
@@ -58,6 +66,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   protected T resolveValue() {
     if (isSet) {
+      decodeIfEncoded();
       return value;
     } else if (defaultValue != null) {
       return defaultValue;
@@ -68,6 +77,10 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   public int getEncodedLength() {
+    if (isEncoded) {
+      return key.getEncodedLength() + encodedValue.capacity();
+    }
+
     return key.getEncodedLength() + resolveValue().getEncodedLength();
   }
 
@@ -76,7 +89,27 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     set();
   }
 
+  /**
+   * Reads the property without decoding its value. The value only remembers where it is encoded in
+   * the reader's buffer, and is decoded on first access; if it is never accessed, it is written by
+   * copying the encoded bytes. The buffer must therefore not be changed until the property is reset
+   * or read again.
+   */
+  public void readLazily(final MsgPackReader reader) {
+    final int offset = reader.getOffset();
+    reader.skipValue();
+    encodedValue.wrap(reader.getBuffer(), offset, reader.getOffset() - offset);
+    isSet = true;
+    isEncoded = true;
+  }
+
   public void write(final MsgPackWriter writer) {
+    if (isEncoded) {
+      key.write(writer);
+      writer.writeRaw(encodedValue);
+      return;
+    }
+
     T valueToWrite = value;
     if (!isSet) {
       valueToWrite = defaultValue;
@@ -101,8 +134,27 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     }
   }
 
+  private void decodeIfEncoded() {
+    if (!isEncoded) {
+      return;
+    }
+
+    if (encodedValueReader == null) {
+      encodedValueReader = new MsgPackReader();
+    }
+
+    isEncoded = false;
+    encodedValueReader.wrap(encodedValue, 0, encodedValue.capacity());
+    try {
+      value.read(encodedValueReader);
+    } catch (final Exception e) {
+      throw new MsgpackPropertyException(key, e);
+    }
+  }
+
   @Override
   public int hashCode() {
+    decodeIfEncoded();
     return Objects.hash(getKey(), value, defaultValue, isSet);
   }
 
@@ -123,6 +175,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public String toString() {
+    decodeIfEncoded();
     final StringBuilder builder = new StringBuilder();
     builder.append(key.toString());
     builder.append(" => ");
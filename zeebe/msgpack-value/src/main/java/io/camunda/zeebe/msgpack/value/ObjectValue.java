@@ -95,6 +95,23 @@ public class ObjectValue extends BaseValue {
 
   @Override
   public void read(final MsgPackReader reader) {
+    read(reader, false);
+  }
+
+  /**
+   * Reads the object without decoding the values of its declared properties; each value is only
+   * decoded when it is accessed for the first time. This is cheaper than {@link
+   * #read(MsgPackReader)} if only a few properties are accessed, but the reader's buffer must not
+   * be changed as long as the object is used. A malformed property value is only detected on
+   * access.
+   *
+   * @see BaseProperty#readLazily(MsgPackReader)
+   */
+  public void readLazily(final MsgPackReader reader) {
+    read(reader, true);
+  }
+
+  private void read(final MsgPackReader reader, final boolean lazily) {
     final int mapSize = reader.readMapHeader();
 
     for (int i = 0; i < mapSize; ++i) {
@@ -117,7 +134,11 @@ public class ObjectValue extends BaseValue {
       }
 
       try {
-        prop.read(reader);
+        if (lazily) {
+          prop.readLazily(reader);
+        } else {
+          prop.read(reader);
+        }
       } catch (final Exception e) {
         throw new RuntimeException(String.format("Could not read property '%s'", prop.getKey()), e);
       }
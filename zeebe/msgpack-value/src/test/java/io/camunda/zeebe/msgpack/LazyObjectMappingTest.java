@@ -0,0 +1,164 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.msgpack;
+
+import static io.camunda.zeebe.msgpack.MsgPackUtil.encodeMsgPack;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.msgpack.POJO.POJOEnum;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class LazyObjectMappingTest {
+
+  private final POJO pojo = new POJO();
+  private DirectBuffer encoded;
+
+  @BeforeEach
+  void setup() {
+    final var original = new POJO();
+    original.setEnum(POJOEnum.BAR);
+    original.setLong(456456L);
+    original.setInt(123);
+    original.setString(wrapString("foo"));
+    original.setBinary(wrapString("bar"));
+    original.setPacked(ObjectMappingTest.MSGPACK_BUF1);
+    original.nestedObject().setLong(24L);
+    encoded = write(original);
+  }
+
+  @Test
+  void shouldDecodePropertiesOnAccess() {
+    // when
+    pojo.wrapLazily(encoded, 0, encoded.capacity());
+
+    // then
+    assertThat(pojo.getEnum()).isEqualTo(POJOEnum.BAR);
+    assertThat(pojo.getLong()).isEqualTo(456456L);
+    assertThat(pojo.getInt()).isEqualTo(123);
+    assertThat(pojo.getString()).isEqualTo(wrapString("foo"));
+    assertThat(pojo.getBinary()).isEqualTo(wrapString("bar"));
+    assertThat(pojo.getPacked()).isEqualTo(ObjectMappingTest.MSGPACK_BUF1);
+    assertThat(pojo.nestedObject().getLong()).isEqualTo(24L);
+  }
+
+  @Test
+  void shouldWriteUnaccessedPropertiesAsEncoded() {
+    // given
+    pojo.wrapLazily(encoded, 0, encoded.capacity());
+
+    // when
+    final var written = write(pojo);
+
+    // then
+    assertThat(written).isEqualTo(encoded);
+  }
+
+  @Test
+  void shouldWriteModifiedProperties() {
+    // given
+    pojo.wrapLazily(encoded, 0, encoded.capacity());
+
+    // when
+    pojo.setLong(1L);
+    pojo.nestedObject().setLong(2L);
+    final var written = write(pojo);
+
+    // then
+    final var decoded = new POJO();
+    decoded.wrap(written);
+    assertThat(decoded.getLong()).isEqualTo(1L);
+    assertThat(decoded.nestedObject().getLong()).isEqualTo(2L);
+    assertThat(decoded.getInt()).isEqualTo(123);
+    assertThat(decoded.getString()).isEqualTo(wrapString("foo"));
+  }
+
+  @Test
+  void shouldBeEqualToEagerlyDecodedObject() {
+    // given
+    final var eager = new POJO();
+    eager.wrap(encoded);
+
+    // when
+    pojo.wrapLazily(encoded, 0, encoded.capacity());
+
+    // then
+    assertThat(pojo).isEqualTo(eager);
+    assertThat(pojo.toString()).isEqualTo(eager.toString());
+  }
+
+  @Test
+  void shouldNotKeepLazilyReadValuesOnReset() {
+    // given
+    pojo.wrapLazily(encoded, 0, encoded.capacity());
+
+    // when
+    pojo.reset();
+
+    // then
+    assertThatThrownBy(pojo::getLength).isInstanceOf(MsgpackPropertyException.class);
+  }
+
+  @Test
+  void shouldPassThroughPropertiesOfCopy() {
+    // given
+    final var source = new POJO();
+    source.wrap(encoded);
+
+    // when
+    pojo.copyFrom(source);
+    source.setLong(1L);
+    source.nestedObject().setLong(2L);
+
+    // then
+    assertThat(write(pojo)).isEqualTo(encoded);
+    assertThat(pojo.getLong()).isEqualTo(456456L);
+    assertThat(pojo.nestedObject().getLong()).isEqualTo(24L);
+  }
+
+  @Test
+  void shouldFailOnAccessOfMalformedValue() {
+    // given
+    final var malformed =
+        encodeMsgPack(
+            w -> {
+              w.writeMapHeader(7);
+              w.writeString(wrapString("enumProp"));
+              w.writeString(wrapString(POJOEnum.BAR.toString()));
+              w.writeString(wrapString("binaryProp"));
+              w.writeBinary(wrapString("bar"));
+              w.writeString(wrapString("stringProp"));
+              w.writeString(wrapString("foo"));
+              w.writeString(wrapString("packedProp"));
+              w.writeRaw(ObjectMappingTest.MSGPACK_BUF1);
+              w.writeString(wrapString("longProp"));
+              w.writeString(wrapString("not a long"));
+              w.writeString(wrapString("intProp"));
+              w.writeInteger(123);
+              w.writeString(wrapString("objectProp"));
+              w.writeRaw(ObjectMappingTest.MSGPACK_BUF1);
+            });
+    pojo.wrapLazily(malformed, 0, malformed.capacity());
+
+    // when - then
+    assertThat(pojo.getInt()).isEqualTo(123);
+    assertThatThrownBy(pojo::getLong)
+        .isInstanceOf(MsgpackPropertyException.class)
+        .hasMessageContaining("longProp");
+  }
+
+  private DirectBuffer write(final POJO object) {
+    final var buffer = new UnsafeBuffer(new byte[object.getLength()]);
+    object.write(buffer, 0);
+    return buffer;
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.perf;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackDocumentMerger;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link MsgPackReader} and {@link MsgPackWriter} on a variable document, independent
+ * of any record. Skipping is what the engine does to find the bounds of a document, e.g. when
+ * reading a record lazily, while reading every token is the lower bound of any full decoding.
+ * Merging writes the document over itself, i.e. every key is looked up twice and written once.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MsgPackPerformanceTest {
+  private static final int WRITTEN_ENTRIES = 50;
+  private static final DirectBuffer[] KEYS = new DirectBuffer[WRITTEN_ENTRIES];
+
+  static {
+    for (int i = 0; i < WRITTEN_ENTRIES; i++) {
+      KEYS[i] = wrapString("variable" + i);
+    }
+  }
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackDocumentMerger merger = new MsgPackDocumentMerger();
+  private final MutableDirectBuffer writeBuffer = new UnsafeBuffer(new byte[4 * 1024]);
+  private DirectBuffer document;
+
+  @Setup
+  public void setup() {
+    document = RecordSerializationPerformanceTest.createVariables();
+  }
+
+  @JMHTest("measureReadDocument")
+  void shouldReadDocumentWithinDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured locally
+    final var referenceScore = 550_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @Benchmark
+  public int measureSkipDocument() {
+    reader.wrap(document, 0, document.capacity());
+    reader.skipValue();
+    return reader.getOffset();
+  }
+
+  @Benchmark
+  public long measureReadDocument() {
+    reader.wrap(document, 0, document.capacity());
+
+    long remainingValues = 1;
+    long readValues = 0;
+    while (remainingValues > 0) {
+      final var token = reader.readToken();
+      remainingValues--;
+      readValues++;
+
+      switch (token.getType()) {
+        case MAP -> remainingValues += 2L * token.getSize();
+        case ARRAY -> remainingValues += token.getSize();
+        default -> {}
+      }
+    }
+
+    return readValues;
+  }
+
+  @Benchmark
+  public int measureWriteDocument() {
+    writer.wrap(writeBuffer, 0);
+    writer.writeMapHeader(WRITTEN_ENTRIES);
+    for (int i = 0; i < WRITTEN_ENTRIES; i++) {
+      writer.writeString(KEYS[i]);
+      writer.writeInteger(i * 1_000L);
+    }
+
+    return writer.getOffset();
+  }
+
+  @Benchmark
+  public int measureMergeDocuments() {
+    merger.wrap(writeBuffer, 0);
+    merger.addEntries(document);
+    merger.addEntries(document);
+    return merger.finish();
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.perf;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapArray;
+
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.BpmnEventType;
+import io.camunda.zeebe.protocol.record.value.VariableDocumentUpdateSemantic;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures encoding and decoding of representative record values, i.e. the work done for every
+ * record the stream processor, the replay and the exporters read or write.
+ *
+ * <p>The job and variable document records carry a variable document with nested objects and
+ * arrays, as documents make up most of the bytes of real records.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RecordSerializationPerformanceTest {
+
+  @Param({"JOB", "PROCESS_INSTANCE", "VARIABLE_DOCUMENT"})
+  public RecordType recordType;
+
+  private UnpackedObject record;
+  private UnpackedObject target;
+  private DirectBuffer encoded;
+  private MutableDirectBuffer writeBuffer;
+
+  @Setup
+  public void setup() {
+    record = recordType.create();
+    target = recordType.newInstance();
+    encoded = BufferUtil.createCopy(record);
+    writeBuffer = new UnsafeBuffer(new byte[encoded.capacity()]);
+  }
+
+  @JMHTest("measureDecode")
+  void shouldDecodeWithinDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured locally
+    final var referenceScore = 240_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("recordType", "JOB")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("measureEncode")
+  void shouldEncodeWithinDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured locally
+    final var referenceScore = 1_400_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("recordType", "JOB")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("measurePassThrough")
+  void shouldPassThroughWithinDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured locally
+    final var referenceScore = 5_000_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("recordType", "VARIABLE_DOCUMENT")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @Benchmark
+  public DirectBuffer measureEncode() {
+    record.write(writeBuffer, 0);
+    return writeBuffer;
+  }
+
+  @Benchmark
+  public UnpackedObject measureDecode() {
+    target.wrap(encoded);
+    return target;
+  }
+
+  @Benchmark
+  public UnpackedObject measureLazyDecode() {
+    target.wrapLazily(encoded, 0, encoded.capacity());
+    return target;
+  }
+
+  /** Reads a record and writes it again without accessing it, e.g. like a follow-up event. */
+  @Benchmark
+  public DirectBuffer measurePassThrough() {
+    target.wrapLazily(encoded, 0, encoded.capacity());
+    target.write(writeBuffer, 0);
+    return writeBuffer;
+  }
+
+  @Benchmark
+  public UnpackedObject measureCopy() {
+    target.copyFrom(record);
+    return target;
+  }
+
+  /** Returns a variable document with flat, nested and array values */
+  static DirectBuffer createVariables() {
+    final var variables = new LinkedHashMap<String, Object>();
+    for (int i = 0; i < 20; i++) {
+      variables.put("string" + i, "value-" + i);
+      variables.put("number" + i, i * 1_000L);
+    }
+
+    variables.put(
+        "order",
+        Map.of(
+            "id",
+            "order-1",
+            "customer",
+            Map.of("name", "Jane Doe", "address", Map.of("city", "Berlin", "zip", "10115")),
+            "items",
+            List.of(
+                Map.of("sku", "A-1", "quantity", 2, "price", 9.99),
+                Map.of("sku", "B-2", "quantity", 1, "price", 24.5),
+                Map.of("sku", "C-3", "quantity", 5, "price", 0.5))));
+    variables.put("tags", List.of("priority", "express", "gift"));
+
+    return wrapArray(MsgPackConverter.convertToMsgPack(variables));
+  }
+
+  public enum RecordType {
+    JOB(JobRecord::new) {
+      @Override
+      UnpackedObject create() {
+        return new JobRecord()
+            .setType("payment-service")
+            .setWorker("payment-worker-1")
+            .setRetries(3)
+            .setDeadline(1_700_000_000_000L)
+            .setTimeout(300_000L)
+            .setBpmnProcessId("order-process")
+            .setProcessDefinitionKey(2251799813685249L)
+            .setProcessDefinitionVersion(3)
+            .setProcessInstanceKey(2251799813685251L)
+            .setElementId("charge-payment")
+            .setElementInstanceKey(2251799813685263L)
+            .setCustomHeaders(
+                wrapArray(
+                    MsgPackConverter.convertToMsgPack(
+                        Map.of("method", "credit-card", "currency", "EUR"))))
+            .setVariables(createVariables());
+      }
+    },
+
+    PROCESS_INSTANCE(ProcessInstanceRecord::new) {
+      @Override
+      UnpackedObject create() {
+        return new ProcessInstanceRecord()
+            .setBpmnProcessId("order-process")
+            .setVersion(3)
+            .setProcessDefinitionKey(2251799813685249L)
+            .setProcessInstanceKey(2251799813685251L)
+            .setElementId("charge-payment")
+            .setFlowScopeKey(2251799813685251L)
+            .setBpmnElementType(BpmnElementType.SERVICE_TASK)
+            .setBpmnEventType(BpmnEventType.UNSPECIFIED)
+            .setParentProcessInstanceKey(-1L)
+            .setParentElementInstanceKey(-1L)
+            .setElementInstancePath(List.of(List.of(2251799813685251L, 2251799813685263L)))
+            .setProcessDefinitionPath(List.of(2251799813685249L))
+            .setCallingElementPath(List.of());
+      }
+    },
+
+    VARIABLE_DOCUMENT(VariableDocumentRecord::new) {
+      @Override
+      UnpackedObject create() {
+        return new VariableDocumentRecord()
+            .setScopeKey(2251799813685251L)
+            .setUpdateSemantics(VariableDocumentUpdateSemantic.PROPAGATE)
+            .setVariables(createVariables());
+      }
+    };
+
+    private final Supplier<UnpackedObject> factory;
+
+    RecordType(final Supplier<UnpackedObject> factory) {
+      this.factory = factory;
+    }
+
+    /** Returns a record with representative values */
+    abstract UnpackedObject create();
+
+    UnpackedObject newInstance() {
+      return factory.get();
+    }
+  }
+}
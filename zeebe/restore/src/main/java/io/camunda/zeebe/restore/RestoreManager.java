@@ -62,7 +62,8 @@ public class RestoreManager {
       return CompletableFuture.failedFuture(e);
     }
 
-    final var partitionToRestore = collectPartitions();
+    final var raftPartitionFactory = new RaftPartitionFactory(configuration, meterRegistry);
+    final var partitionToRestore = collectPartitions(raftPartitionFactory);
 
     final var partitionIds = partitionToRestore.stream().map(p -> p.partition().id().id()).toList();
     LOG.info("Restoring partitions {}", partitionIds);
@@ -71,6 +72,7 @@ public class RestoreManager {
             partitionToRestore.stream()
                 .map(partition -> restorePartition(partition, backupId, validateConfig))
                 .toArray(CompletableFuture[]::new))
+        .whenComplete((ok, error) -> raftPartitionFactory.close())
         .exceptionallyComposeAsync(error -> logFailureAndDeleteDataDirectory(dataDirectory, error));
   }
 
@@ -121,14 +123,14 @@ public class RestoreManager {
         .whenComplete((ok, error) -> MicrometerUtil.close(registry));
   }
 
-  private Set<InstrumentedRaftPartition> collectPartitions() {
+  private Set<InstrumentedRaftPartition> collectPartitions(
+      final RaftPartitionFactory raftPartitionFactory) {
     final var localBrokerId = configuration.getCluster().getNodeId();
     final var localMember = MemberId.from(String.valueOf(localBrokerId));
     final var clusterTopology =
         new PartitionDistribution(
             StaticConfigurationGenerator.getStaticConfiguration(configuration, localMember)
                 .generatePartitionDistribution());
-    final var raftPartitionFactory = new RaftPartitionFactory(configuration);
 
     return clusterTopology.partitions().stream()
         .filter(partitionMetadata -> partitionMetadata.members().contains(localMember))
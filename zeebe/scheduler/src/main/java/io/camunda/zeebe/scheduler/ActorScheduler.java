@@ -62,6 +62,7 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
 
     final ActorTask task = actor.actor.task;
     task.setActorMetrics(metrics.scoped(actor.getName()));
+    task.setPartitionId(partitionIdOf(actor));
 
     return switch (schedulingHints) {
       case CPU_BOUND -> actorTaskExecutor.submitCpuBound(task);
@@ -69,6 +70,19 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     };
   }
 
+  private static int partitionIdOf(final Actor actor) {
+    final String partitionId = actor.getContext().get(Actor.ACTOR_PROP_PARTITION_ID);
+    if (partitionId == null) {
+      return ActorTask.NO_PARTITION;
+    }
+
+    try {
+      return Integer.parseInt(partitionId);
+    } catch (final NumberFormatException e) {
+      return ActorTask.NO_PARTITION;
+    }
+  }
+
   private void checkRunningState() {
     if (state.get() != SchedulerState.RUNNING) {
       throw new IllegalStateException("Actor scheduler is not running");
@@ -138,6 +152,9 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private Supplier<IdleStrategy> idleStrategySupplier =
         ActorSchedulerBuilder::defaultIdleStrategySupplier;
     private ActorMetrics actorMetrics = ActorMetrics.disabled();
+    private boolean colocatePartitionActors = false;
+    private int stealingDomainSize = 0;
+    private boolean virtualIoBoundActorThreads = false;
 
     public static IdleStrategy defaultIdleStrategySupplier() {
       return new BackoffIdleStrategy(
@@ -202,6 +219,56 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public boolean isColocatePartitionActors() {
+      return colocatePartitionActors;
+    }
+
+    /**
+     * If enabled, the actors of the same partition are always queued on the same thread (per thread
+     * group), instead of the thread which woke them up, so that they share the caches of the core
+     * this thread runs on. Idle threads can still steal them.
+     */
+    public ActorSchedulerBuilder setColocatePartitionActors(final boolean colocatePartitionActors) {
+      this.colocatePartitionActors = colocatePartitionActors;
+      return this;
+    }
+
+    public int getStealingDomainSize() {
+      return stealingDomainSize;
+    }
+
+    /**
+     * Sets the number of consecutive threads (per thread group) which form a stealing domain. Idle
+     * threads first try to steal work from their own domain, e.g. the threads sharing a socket when
+     * the threads are pinned accordingly. Zero means all threads of a group form a single domain.
+     */
+    public ActorSchedulerBuilder setStealingDomainSize(final int stealingDomainSize) {
+      if (stealingDomainSize < 0) {
+        throw new IllegalArgumentException(
+            "Expected stealing domain size to be >= 0, but was %d".formatted(stealingDomainSize));
+      }
+      this.stealingDomainSize = stealingDomainSize;
+      return this;
+    }
+
+    public boolean isVirtualIoBoundActorThreads() {
+      return virtualIoBoundActorThreads;
+    }
+
+    /**
+     * If enabled, the loops of the I/O bound threads are executed by virtual threads (see {@link
+     * VirtualActorThread}), so that an actor blocking on I/O does not occupy a platform thread. As
+     * virtual threads are cheap, the I/O bound thread count can then be much higher than the number
+     * of cores, which reduces the chance that I/O bound actors queue behind each other. This
+     * overrides the {@link #setActorThreadFactory(ActorThreadFactory) thread factory} for the I/O
+     * bound threads.
+     */
+    public ActorSchedulerBuilder setVirtualIoBoundActorThreads(
+        final boolean virtualIoBoundActorThreads) {
+      this.virtualIoBoundActorThreads = virtualIoBoundActorThreads;
+      return this;
+    }
+
     public ActorThreadFactory getActorThreadFactory() {
       return actorThreadFactory;
     }
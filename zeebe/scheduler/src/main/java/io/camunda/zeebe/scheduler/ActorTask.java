@@ -32,6 +32,9 @@ import org.slf4j.LoggerFactory;
  */
 @SuppressWarnings("restriction")
 public class ActorTask {
+  /** Marks a task whose actor does not belong to any partition. */
+  public static final int NO_PARTITION = -1;
+
   private static final Logger LOG = LoggerFactory.getLogger(ActorTask.class);
   private static final AtomicReferenceFieldUpdater<ActorTask, ActorLifecyclePhase>
       LIFECYCLE_UPDATER =
@@ -61,6 +64,7 @@ public class ActorTask {
   private volatile Queue<ActorJob> submittedJobs = new ClosedQueue();
 
   private ActorMetricsScoped metrics = ActorMetricsScoped.NOOP;
+  private int partitionId = NO_PARTITION;
 
   public ActorTask(final Actor actor) {
     this.actor = actor;
@@ -546,6 +550,17 @@ public class ActorTask {
     metrics = scoped;
   }
 
+  /**
+   * @return the id of the partition the actor belongs to, or {@link #NO_PARTITION}
+   */
+  int getPartitionId() {
+    return partitionId;
+  }
+
+  void setPartitionId(final int partitionId) {
+    this.partitionId = partitionId;
+  }
+
   /** Describes an actor's scheduling state */
   public enum TaskSchedulingState {
     NOT_SCHEDULED,
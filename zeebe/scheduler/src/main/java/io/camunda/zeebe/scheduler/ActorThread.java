@@ -165,9 +165,13 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
      * This implementation takes advantage of the fact that ActorTaskRunner extends Thread
      * itself. If we can cast down, the current thread is the current ActorTaskRunner.
      */
-    return Thread.currentThread() instanceof ActorThread
-        ? (ActorThread) Thread.currentThread()
-        : null;
+    final Thread thread = Thread.currentThread();
+    if (thread instanceof final ActorThread actorThread) {
+      return actorThread;
+    }
+
+    // virtual threads cannot extend ActorThread, so they are tracked separately
+    return thread.isVirtual() ? VirtualActorThread.currentRunner() : null;
   }
 
   public static ActorThread ensureCalledFromActorThread(final String methodName) {
@@ -208,12 +212,24 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   @Override
   public synchronized void start() {
     if (STATE_HANDLE.compareAndSet(this, ActorThreadState.NEW, ActorThreadState.RUNNING)) {
-      super.start();
+      startRunner();
     } else {
       throw new IllegalStateException("Cannot start runner, not in state 'NEW'.");
     }
   }
 
+  /** Starts the thread which executes {@link #run()}, by default this platform thread itself. */
+  protected void startRunner() {
+    super.start();
+  }
+
+  /**
+   * @return the thread which executes {@link #run()}, and which is parked while there is no work
+   */
+  protected Thread runner() {
+    return this;
+  }
+
   @Override
   public void run() {
     idleStrategy.init();
@@ -291,7 +307,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
 
     public void hintWorkAvailable() {
-      LockSupport.unpark(ActorThread.this);
+      LockSupport.unpark(runner());
     }
 
     protected void onIdle() {
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorThreadFactory;
 import io.camunda.zeebe.util.Loggers;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
@@ -22,34 +23,43 @@ public abstract class ActorThreadGroup {
   protected final WorkStealingGroup tasks;
   protected final int numOfThreads;
   private final String schedulerName;
+  private final boolean colocatePartitionActors;
 
   public ActorThreadGroup(
       final String groupName,
       final int numOfThreads,
       final ActorSchedulerBuilder builder,
       final String schedulerName) {
+    this(groupName, numOfThreads, builder, schedulerName, builder.getActorThreadFactory());
+  }
+
+  protected ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final ActorSchedulerBuilder builder,
+      final String schedulerName,
+      final ActorThreadFactory threadFactory) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
+    colocatePartitionActors = builder.isColocatePartitionActors();
 
-    tasks = new WorkStealingGroup(numOfThreads);
+    tasks = new WorkStealingGroup(numOfThreads, builder.getStealingDomainSize());
 
     threads = new ActorThread[numOfThreads];
 
     for (int t = 0; t < numOfThreads; t++) {
       final String threadName = String.format("%s-%d", groupName, t);
       final ActorThread thread =
-          builder
-              .getActorThreadFactory()
-              .newThread(
-                  threadName,
-                  t,
-                  this,
-                  tasks,
-                  builder.getActorClock(),
-                  builder.getActorTimerQueue(),
-                  builder.getActorMetrics(),
-                  builder.getIdleStrategySupplier().get());
+          threadFactory.newThread(
+              threadName,
+              t,
+              this,
+              tasks,
+              builder.getActorClock(),
+              builder.getActorTimerQueue(),
+              builder.getActorMetrics(),
+              builder.getIdleStrategySupplier().get());
 
       threads[t] = thread;
     }
@@ -57,7 +67,17 @@ public abstract class ActorThreadGroup {
 
   public void submit(final ActorTask actorTask) {
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    final boolean isCurrentGroup = current != null && current.getActorThreadGroup() == this;
+
+    if (colocatePartitionActors && actorTask.getPartitionId() != ActorTask.NO_PARTITION) {
+      // all actors of a partition share a home thread, so that they hand over work through the
+      // caches of the same core; idle threads may still steal them to balance the load
+      final int threadId = Math.floorMod(actorTask.getPartitionId(), numOfThreads);
+      tasks.submit(actorTask, threadId);
+      if (!isCurrentGroup || current.getRunnerId() != threadId) {
+        threads[threadId].hintWorkAvailable();
+      }
+    } else if (isCurrentGroup) {
       tasks.submit(actorTask, current.getRunnerId());
     } else {
       final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
@@ -13,6 +13,12 @@ public final class IoThreadGroup extends ActorThreadGroup {
 
   public IoThreadGroup(final ActorSchedulerBuilder builder) {
     super(
-        "zb-fs-workers", builder.getIoBoundActorThreadCount(), builder, builder.getSchedulerName());
+        "zb-fs-workers",
+        builder.getIoBoundActorThreadCount(),
+        builder,
+        builder.getSchedulerName(),
+        builder.isVirtualIoBoundActorThreads()
+            ? VirtualActorThread::new
+            : builder.getActorThreadFactory());
   }
 }
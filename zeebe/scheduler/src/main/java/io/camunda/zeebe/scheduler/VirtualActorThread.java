@@ -0,0 +1,82 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.SleepingIdleStrategy;
+
+/**
+ * An {@link ActorThread} whose loop is executed by a virtual thread instead of by itself. When an
+ * actor blocks on I/O, the virtual thread is unmounted and its carrier thread is free to run the
+ * loops of other runners, so a group can have many more runners than there are platform threads
+ * without reserving one platform thread per runner.
+ *
+ * <p>The scheduling of actor tasks is the same as for platform threads, so an actor is still only
+ * ever executed by one runner at a time. Note that blocking while holding a monitor (i.e. inside a
+ * {@code synchronized} block) pins the virtual thread to its carrier.
+ *
+ * <p>The given idle strategy is replaced by one which parks right away. The spinning and yielding
+ * phases of a {@link org.agrona.concurrent.BackoffIdleStrategy} keep the virtual thread mounted, so
+ * an idle runner would hold on to a carrier thread that other runners could use. Parking unmounts
+ * it instead, and the runner is still woken up as soon as work is available, as that unparks it.
+ * It parks for at most the maximum park period of the default backoff, so timers are still checked
+ * at least that often.
+ */
+public final class VirtualActorThread extends ActorThread {
+  private static final ThreadLocal<ActorThread> CURRENT = new ThreadLocal<>();
+
+  private volatile Thread runner;
+
+  public VirtualActorThread(
+      final String name,
+      final int id,
+      final ActorThreadGroup threadGroup,
+      final TaskScheduler taskScheduler,
+      final ActorClock clock,
+      final ActorTimerQueue timerQueue,
+      final ActorMetrics actorMetrics,
+      final IdleStrategy idleStrategy) {
+    super(
+        name,
+        id,
+        threadGroup,
+        taskScheduler,
+        clock,
+        timerQueue,
+        actorMetrics,
+        new SleepingIdleStrategy(ActorSchedulerBuilder.DEFAULT_MAX_PARK_PERIOD_NS));
+  }
+
+  /**
+   * @return the runner executed by the current virtual thread, or null if there is none
+   */
+  static ActorThread currentRunner() {
+    return CURRENT.get();
+  }
+
+  @Override
+  protected void startRunner() {
+    runner = Thread.ofVirtual().name(getName()).start(this::runOnVirtualThread);
+  }
+
+  @Override
+  protected Thread runner() {
+    return runner;
+  }
+
+  private void runOnVirtualThread() {
+    CURRENT.set(this);
+    try {
+      run();
+    } finally {
+      CURRENT.remove();
+    }
+  }
+}
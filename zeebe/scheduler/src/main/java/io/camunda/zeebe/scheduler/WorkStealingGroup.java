@@ -11,13 +11,31 @@ import static io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState.QUEUED;
 
 import java.util.concurrent.ThreadLocalRandom;
 
-/** Workstealing group maintains a queue per thread. */
+/**
+ * Workstealing group maintains a queue per thread. The threads can be split into stealing domains
+ * of consecutive threads, in which case an idle thread first tries to steal from the other threads
+ * of its own domain before it steals from any other thread.
+ */
 public final class WorkStealingGroup implements TaskScheduler {
   private final int numOfThreads;
+  private final int stealingDomainSize;
   private final ActorTaskQueue[] taskQueues;
 
   public WorkStealingGroup(final int numOfThreads) {
+    this(numOfThreads, numOfThreads);
+  }
+
+  /**
+   * @param numOfThreads the number of threads of the group
+   * @param stealingDomainSize the number of consecutive threads which form a stealing domain; a
+   *     value less than 1 or greater than the number of threads results in a single domain
+   */
+  public WorkStealingGroup(final int numOfThreads, final int stealingDomainSize) {
     this.numOfThreads = numOfThreads;
+    this.stealingDomainSize =
+        stealingDomainSize < 1 || stealingDomainSize > numOfThreads
+            ? numOfThreads
+            : stealingDomainSize;
     taskQueues = new ActorTaskQueue[numOfThreads];
     for (int i = 0; i < numOfThreads; i++) {
       taskQueues[i] = new ActorTaskQueue();
@@ -60,6 +78,22 @@ public final class WorkStealingGroup implements TaskScheduler {
    * there is more work to do than there is resources (threads) to run it.
    */
   private ActorTask trySteal(final ActorThread currentThread) {
+    final int thiefId = currentThread.getRunnerId();
+    final int domainStart = thiefId - thiefId % stealingDomainSize;
+    final int domainEnd = Math.min(domainStart + stealingDomainSize, numOfThreads);
+    final int domainThreads = domainEnd - domainStart;
+
+    // prefer victims of the same domain, which are more likely to share caches with the thief
+    final ActorTask stolenActor = trySteal(thiefId, domainStart, domainThreads);
+    if (stolenActor != null || domainThreads == numOfThreads) {
+      return stolenActor;
+    }
+
+    // the remaining threads, starting right after the thief's domain and wrapping around
+    return trySteal(thiefId, domainEnd, numOfThreads - domainThreads);
+  }
+
+  private ActorTask trySteal(final int thiefId, final int firstVictimId, final int victimCount) {
     /*
      * This implementation uses a random offset into the runner array. The idea is to
      *
@@ -75,12 +109,12 @@ public final class WorkStealingGroup implements TaskScheduler {
      * Experimental verification of the effectiveness of the optimization has not been conducted yet.
      * Also, the optimization only makes sense if the system uses at least 3 runners.
      */
-    final int offset = ThreadLocalRandom.current().nextInt(numOfThreads);
+    final int offset = ThreadLocalRandom.current().nextInt(victimCount);
 
-    for (int i = offset; i < offset + numOfThreads; i++) {
-      final int runnerId = i % numOfThreads;
+    for (int i = offset; i < offset + victimCount; i++) {
+      final int runnerId = (firstVictimId + i % victimCount) % numOfThreads;
 
-      if (runnerId != currentThread.getRunnerId()) {
+      if (runnerId != thiefId) {
         final ActorTask stolenActor = taskQueues[runnerId].trySteal();
 
         if (stolenActor != null) {
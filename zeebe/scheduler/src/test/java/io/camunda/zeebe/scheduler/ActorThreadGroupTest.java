@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.Test;
+
+final class ActorThreadGroupTest {
+
+  private final Set<Integer> hintedThreads = ConcurrentHashMap.newKeySet();
+
+  @Test
+  void shouldQueuePartitionActorOnItsHomeThread() {
+    // given
+    final var group = newThreadGroup(true);
+    final var task = newTask(6);
+
+    // when
+    group.submit(task);
+
+    // then
+    assertThat(hintedThreads).containsExactly(2);
+  }
+
+  @Test
+  void shouldQueuePartitionActorsOnSameThread() {
+    // given
+    final var group = newThreadGroup(true);
+
+    // when
+    group.submit(newTask(1));
+    group.submit(newTask(5));
+    group.submit(newTask(1));
+
+    // then
+    assertThat(hintedThreads).containsExactly(1);
+  }
+
+  @Test
+  void shouldQueueActorWithoutPartitionOnAnyThread() {
+    // given
+    final var group = newThreadGroup(true);
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      group.submit(newTask(ActorTask.NO_PARTITION));
+    }
+
+    // then - the threads are picked randomly
+    assertThat(hintedThreads).hasSizeGreaterThan(1);
+  }
+
+  @Test
+  void shouldNotColocateIfDisabled() {
+    // given
+    final var group = newThreadGroup(false);
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      group.submit(newTask(1));
+    }
+
+    // then - the threads are picked randomly
+    assertThat(hintedThreads).hasSizeGreaterThan(1);
+  }
+
+  private ActorThreadGroup newThreadGroup(final boolean colocatePartitionActors) {
+    final var builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(4)
+            .setColocatePartitionActors(colocatePartitionActors)
+            .setActorThreadFactory(
+                (name, id, threadGroup, taskScheduler, clock, timerQueue, metrics, idleStrategy) ->
+                    new ActorThread(
+                        name, id, threadGroup, taskScheduler, clock, timerQueue, metrics) {
+                      @Override
+                      public void hintWorkAvailable() {
+                        hintedThreads.add(id);
+                      }
+                    });
+    return new CpuThreadGroup(builder);
+  }
+
+  private static ActorTask newTask(final int partitionId) {
+    final var task = new Actor() {}.actor.task;
+    task.setPartitionId(partitionId);
+    return task;
+  }
+}
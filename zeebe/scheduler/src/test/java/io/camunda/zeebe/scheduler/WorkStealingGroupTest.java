@@ -0,0 +1,94 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+final class WorkStealingGroupTest {
+
+  @Test
+  void shouldStealFromOwnDomainFirst() throws Exception {
+    // given - two domains of two threads each
+    final var group = new WorkStealingGroup(4, 2);
+    final var sameDomainTask = newTask();
+    final var otherDomainTask = newTask();
+    group.submit(otherDomainTask, 3);
+    group.submit(sameDomainTask, 1);
+
+    // when
+    final var stolen = getNextTask(group, 0);
+
+    // then
+    assertThat(stolen).isSameAs(sameDomainTask);
+  }
+
+  @Test
+  void shouldStealFromOtherDomainIfOwnDomainIsIdle() throws Exception {
+    // given
+    final var group = new WorkStealingGroup(4, 2);
+    final var otherDomainTask = newTask();
+    group.submit(otherDomainTask, 2);
+
+    // when
+    final var stolen = getNextTask(group, 0);
+
+    // then
+    assertThat(stolen).isSameAs(otherDomainTask);
+  }
+
+  @Test
+  void shouldStealFromLastIncompleteDomain() throws Exception {
+    // given - the last domain only consists of thread 4
+    final var group = new WorkStealingGroup(5, 2);
+    final var task = newTask();
+    group.submit(task, 0);
+
+    // when
+    final var stolen = getNextTask(group, 4);
+
+    // then
+    assertThat(stolen).isSameAs(task);
+  }
+
+  @Test
+  void shouldPreferOwnQueueOverStealing() throws Exception {
+    // given
+    final var group = new WorkStealingGroup(2);
+    final var ownTask = newTask();
+    group.submit(newTask(), 1);
+    group.submit(ownTask, 0);
+
+    // when
+    final var next = getNextTask(group, 0);
+
+    // then
+    assertThat(next).isSameAs(ownTask);
+  }
+
+  private static ActorTask newTask() {
+    return new Actor() {}.actor.task;
+  }
+
+  private static ActorTask getNextTask(final WorkStealingGroup group, final int runnerId)
+      throws Exception {
+    final var result = new CompletableFuture<ActorTask>();
+    final var thread =
+        new ActorThread("test-" + runnerId, runnerId, null, group, null, null, null) {
+          @Override
+          public void run() {
+            result.complete(group.getNextTask());
+          }
+        };
+    thread.start();
+    return result.get(5, TimeUnit.SECONDS);
+  }
+}
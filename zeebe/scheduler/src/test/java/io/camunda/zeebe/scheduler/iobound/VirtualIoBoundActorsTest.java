@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler.iobound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorThread;
+import io.camunda.zeebe.scheduler.ActorThreadGroup;
+import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class VirtualIoBoundActorsTest {
+
+  private final ActorScheduler.ActorSchedulerBuilder builder =
+      ActorScheduler.newActorScheduler()
+          .setCpuBoundActorThreadCount(1)
+          .setIoBoundActorThreadCount(4)
+          .setVirtualIoBoundActorThreads(true);
+  private ActorScheduler scheduler;
+
+  @BeforeEach
+  void beforeEach() {
+    scheduler = builder.build();
+    scheduler.start();
+  }
+
+  @AfterEach
+  void afterEach() throws Exception {
+    scheduler.close();
+  }
+
+  @Test
+  void shouldRunIoBoundActorOnVirtualThread() {
+    // given
+    final var threadGroup = new AtomicReference<ActorThreadGroup>();
+    final var isVirtual = new AtomicReference<Boolean>();
+    final var actor =
+        new Actor() {
+          @Override
+          protected void onActorStarting() {
+            threadGroup.set(ActorThread.current().getActorThreadGroup());
+            isVirtual.set(Thread.currentThread().isVirtual());
+          }
+        };
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // then
+    assertThat(threadGroup.get()).isSameAs(builder.getIoBoundActorThreads());
+    assertThat(isVirtual.get()).isTrue();
+  }
+
+  @Test
+  void shouldRunOtherActorsWhileIoBoundActorsBlock() {
+    // given
+    final var unblock = new CountDownLatch(1);
+    final var blockingActors = new ArrayList<BlockingActor>();
+    final var blocked = new ArrayList<ActorFuture<Void>>();
+    for (int i = 0; i < 3; i++) {
+      final var blockingActor = new BlockingActor();
+      scheduler.submitActor(blockingActor, SchedulingHints.ioBound()).join();
+      blockingActors.add(blockingActor);
+    }
+    blockingActors.forEach(blockingActor -> blocked.add(blockingActor.block(unblock)));
+
+    // when
+    final var otherActor = new BlockingActor();
+    scheduler.submitActor(otherActor, SchedulingHints.ioBound()).join();
+    final var result = otherActor.block(new CountDownLatch(0));
+
+    // then
+    assertThat(result).succeedsWithin(Duration.ofSeconds(10));
+    assertThat(blocked).noneMatch(ActorFuture::isDone);
+    unblock.countDown();
+    assertThat(blocked).allSatisfy(f -> assertThat(f).succeedsWithin(Duration.ofSeconds(10)));
+  }
+
+  @Test
+  void shouldKeepCpuBoundActorsOnPlatformThreads() {
+    // given
+    final var isVirtual = new AtomicReference<Boolean>();
+    final var actor =
+        new Actor() {
+          @Override
+          protected void onActorStarting() {
+            isVirtual.set(Thread.currentThread().isVirtual());
+          }
+        };
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.cpuBound()).join();
+
+    // then
+    assertThat(isVirtual.get()).isFalse();
+  }
+
+  private static final class BlockingActor extends Actor {
+    ActorFuture<Void> block(final CountDownLatch latch) {
+      return actor.call(
+          () -> {
+            try {
+              latch.await();
+            } catch (final InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+    }
+  }
+}
@@ -53,6 +53,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Queue;
 import java.util.function.BooleanSupplier;
 import org.slf4j.Logger;
 
@@ -94,6 +95,14 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>If pipelined processing is enabled, the responses and post-commit tasks of a batch are not
+ * executed before the next record is read. Once the follow-up records were written and the state
+ * was committed, they are queued and executed in order, while the next command is already
+ * processed. The transactional guarantees are the same, as a command is still only processed after
+ * the previous transaction was committed, and a write failure still rolls back the current
+ * transaction. Only the side effects, which are executed after the commit anyway, may lag behind.
+ * The number of queued side effects is bounded, processing waits if the limit is reached.
  */
 public final class ProcessingStateMachine {
 
@@ -116,7 +125,10 @@ public final class ProcessingStateMachine {
       "Expected to invoke processed listener for record {} successfully, but exception was thrown.";
   private static final String NOTIFY_SKIPPED_LISTENER_ERROR_MESSAGE =
       "Expected to invoke skipped listener for record '{} {}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_EXECUTE_PIPELINED_SIDE_EFFECT_ABORTED =
+      "Expected to execute side effects for record at position {} successfully, but exception was thrown.";
   private static final Duration PROCESSING_RETRY_DELAY = Duration.ofMillis(250);
+  private static final int MAX_PENDING_SIDE_EFFECTS = 32;
   private static final String ERROR_MESSAGE_HANDLING_PROCESSING_ERROR_FAILED =
       "Expected to process command '{} {}' successfully on stream processor, but caught unexpected exception. Failed to handle the exception gracefully.";
   private final EventFilter processingFilter;
@@ -163,6 +175,10 @@ public final class ProcessingStateMachine {
   private final ScheduledCommandCache scheduledCommandCache;
   private volatile ErrorHandlingPhase errorHandlingPhase = ErrorHandlingPhase.NO_ERROR;
   private final ControllableStreamClock clock;
+  private final boolean pipelinedProcessing;
+  // side effects of committed batches which were not executed yet, only used when pipelined
+  private final Queue<PendingSideEffects> pendingSideEffects = new ArrayDeque<>();
+  private boolean executingPendingSideEffects;
 
   public ProcessingStateMachine(
       final StreamProcessorContext context,
@@ -197,6 +213,7 @@ public final class ProcessingStateMachine {
             .and(record -> !record.shouldSkipProcessing())
             .and(context.processingFilter());
     clock = context.getClock();
+    pipelinedProcessing = context.enablePipelinedProcessing();
   }
 
   private void skipRecord() {
@@ -231,7 +248,10 @@ public final class ProcessingStateMachine {
               && lastWrittenPosition <= previousRecord.getPosition();
     }
 
-    if (shouldProcessNext.getAsBoolean() && hasNext && !inProcessing) {
+    if (shouldProcessNext.getAsBoolean()
+        && hasNext
+        && !inProcessing
+        && !hasTooManyPendingSideEffects()) {
       currentRecord = logStreamReader.next();
 
       if (processingFilter.applies(currentRecord)) {
@@ -593,25 +613,29 @@ public final class ProcessingStateMachine {
       // we might have nothing to write but likely something to send as response
       // means we will not mark the record as skipped
       writeFuture = CompletableActorFuture.completed(true);
+    } else if (pipelinedProcessing && tryWritePendingRecords(sourceRecordPosition)) {
+      // the write was accepted right away, so there is no need to go through the retry strategy
+      writeFuture = CompletableActorFuture.completed(true);
     } else {
       writeFuture =
           writeRetryStrategy.runWithRetry(
-              () -> {
-                final var writeResult =
-                    logStreamWriter.tryWrite(
-                        WriteContext.processingResult(), pendingWrites, sourceRecordPosition);
-                if (writeResult.isRight()) {
-                  writtenPosition = writeResult.get();
-                  return true;
-                } else {
-                  return false;
-                }
-              },
-              abortCondition);
+              () -> tryWritePendingRecords(sourceRecordPosition), abortCondition);
     }
     return writeFuture;
   }
 
+  private boolean tryWritePendingRecords(final long sourceRecordPosition) {
+    final var writeResult =
+        logStreamWriter.tryWrite(
+            WriteContext.processingResult(), pendingWrites, sourceRecordPosition);
+    if (writeResult.isRight()) {
+      writtenPosition = writeResult.get();
+      return true;
+    } else {
+      return false;
+    }
+  }
+
   private void writeRecords() {
     final ActorFuture<Boolean> writeFuture = writeWithRetryAsync();
     actor.runOnCompletion(
@@ -661,7 +685,11 @@ public final class ProcessingStateMachine {
                 });
           } else {
             scheduledCommandCache.remove(metadata.getIntent(), currentRecord.getKey());
-            executeSideEffects();
+            if (pipelinedProcessing) {
+              pipelineSideEffects();
+            } else {
+              executeSideEffects();
+            }
           }
         });
   }
@@ -669,29 +697,7 @@ public final class ProcessingStateMachine {
   private void executeSideEffects() {
     final ActorFuture<Boolean> retryFuture =
         sideEffectsRetryStrategy.runWithRetry(
-            () -> {
-              // TODO refactor this into two parallel tasks, which are then combined, and on the
-              // completion of which the process continues
-              for (final var processingResponse : pendingResponses) {
-                final var responseWriter = context.getCommandResponseWriter();
-
-                final var responseValue = processingResponse.responseValue();
-                final var recordMetadata = responseValue.recordMetadata();
-                responseWriter
-                    .intent(recordMetadata.getIntent())
-                    .key(responseValue.key())
-                    .recordType(recordMetadata.getRecordType())
-                    .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
-                    .rejectionType(recordMetadata.getRejectionType())
-                    .partitionId(context.getPartitionId())
-                    .valueType(recordMetadata.getValueType())
-                    .valueWriter(responseValue.recordValue())
-                    .tryWriteResponse(
-                        processingResponse.requestStreamId(), processingResponse.requestId());
-              }
-              return executePostCommitTasks();
-            },
-            abortCondition);
+            () -> executeSideEffects(pendingResponses, currentProcessingResult), abortCondition);
 
     actor.runOnCompletion(
         retryFuture,
@@ -712,9 +718,97 @@ public final class ProcessingStateMachine {
         });
   }
 
-  private boolean executePostCommitTasks() {
+  /**
+   * Queues the side effects of the committed batch and continues with the next record, without
+   * waiting for them to be executed. The processed listener is notified right away, as the command
+   * is only valid until the next record is read.
+   */
+  private void pipelineSideEffects() {
+    notifyProcessedListener(typedCommand);
+    pendingSideEffects.add(
+        new PendingSideEffects(
+            currentRecord.getPosition(),
+            List.copyOf(pendingResponses),
+            currentProcessingResult,
+            processingTimer));
+    if (!executingPendingSideEffects) {
+      executingPendingSideEffects = true;
+      actor.submit(this::executePendingSideEffects);
+    }
+
+    markProcessingCompleted();
+    actor.submit(this::tryToReadNextRecord);
+  }
+
+  /**
+   * Executes the oldest queued side effects. Unlike the retry strategies, which retry before any
+   * other job of the actor, a retry is submitted as a new job, such that the next command can be
+   * processed in the meantime.
+   */
+  private void executePendingSideEffects() {
+    final var sideEffects = pendingSideEffects.peek();
+
+    boolean done;
+    try {
+      done =
+          executeSideEffects(sideEffects.responses(), sideEffects.processingResult())
+              || abortCondition.getAsBoolean();
+    } catch (final Exception e) {
+      LOG.error(ERROR_MESSAGE_EXECUTE_PIPELINED_SIDE_EFFECT_ABORTED, sideEffects.position(), e);
+      done = true;
+    }
+
+    if (!done) {
+      actor.submit(this::executePendingSideEffects);
+      return;
+    }
+
+    // observe the processing duration
+    sideEffects.processingTimer().close();
+
+    final var wasBlockingProcessing = hasTooManyPendingSideEffects();
+    pendingSideEffects.remove();
+    if (pendingSideEffects.isEmpty()) {
+      executingPendingSideEffects = false;
+    } else {
+      actor.submit(this::executePendingSideEffects);
+    }
+
+    if (wasBlockingProcessing) {
+      actor.submit(this::tryToReadNextRecord);
+    }
+  }
+
+  private boolean hasTooManyPendingSideEffects() {
+    return pendingSideEffects.size() >= MAX_PENDING_SIDE_EFFECTS;
+  }
+
+  private boolean executeSideEffects(
+      final Collection<ProcessingResponse> responses, final ProcessingResult processingResult) {
+    // TODO refactor this into two parallel tasks, which are then combined, and on the
+    // completion of which the process continues
+    for (final var processingResponse : responses) {
+      final var responseWriter = context.getCommandResponseWriter();
+
+      final var responseValue = processingResponse.responseValue();
+      final var recordMetadata = responseValue.recordMetadata();
+      responseWriter
+          .intent(recordMetadata.getIntent())
+          .key(responseValue.key())
+          .recordType(recordMetadata.getRecordType())
+          .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
+          .rejectionType(recordMetadata.getRejectionType())
+          .partitionId(context.getPartitionId())
+          .valueType(recordMetadata.getValueType())
+          .valueWriter(responseValue.recordValue())
+          .tryWriteResponse(processingResponse.requestStreamId(), processingResponse.requestId());
+    }
+    return executePostCommitTasks(processingResult);
+  }
+
+  private boolean executePostCommitTasks(final ProcessingResult processingResult) {
     try (final var timer = processingMetrics.startBatchProcessingPostCommitTasksTimer()) {
-      return currentProcessingResult.executePostCommitTasks();
+      return processingResult.executePostCommitTasks();
     }
   }
 
@@ -772,6 +866,12 @@ public final class ProcessingStateMachine {
   private record BatchProcessingStepResult(
       List<TypedRecord<?>> toProcess, List<LogAppendEntry> toWrite) {}
 
+  private record PendingSideEffects(
+      long position,
+      Collection<ProcessingResponse> responses,
+      ProcessingResult processingResult,
+      CloseableSilently processingTimer) {}
+
   @FunctionalInterface
   private interface NextProcessingStep {
     void run() throws Exception;
@@ -38,7 +38,15 @@ import java.util.List;
 import java.util.function.BooleanSupplier;
 import org.slf4j.Logger;
 
-/** Represents the state machine to replay events and rebuild the state. */
+/**
+ * Represents the state machine to replay events and rebuild the state.
+ *
+ * <p>Events are applied batch by batch, but multiple batches are applied in the same transaction,
+ * until the configured number of records is reached or there is nothing more to read. This avoids
+ * committing a transaction and scheduling a new actor job for every single batch, which dominates
+ * the replay time when there are many small batches. If a transaction fails, all of its batches are
+ * read and applied again.
+ */
 public final class ReplayStateMachine implements LogRecordAwaiter {
 
   private static final Logger LOG = Loggers.PROCESSOR_LOGGER;
@@ -71,6 +79,9 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   // current iteration
   private long lastSourceEventPosition = StreamProcessor.UNSET_POSITION;
   private long batchSourceEventPosition = StreamProcessor.UNSET_POSITION;
+  private long transactionSourceEventPosition = StreamProcessor.UNSET_POSITION;
+  private int transactionRecordCount;
+  private Batch currentBatch;
 
   private long snapshotPosition;
   private long lastReadRecordPosition = StreamProcessor.UNSET_POSITION;
@@ -86,6 +97,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final ReplayMetrics replayMetrics;
   private final List<RecordProcessor> recordProcessors;
   private final int partitionId;
+  private final int maxRecordsInReplayTransaction;
 
   public ReplayStateMachine(
       final List<RecordProcessor> recordProcessors,
@@ -107,6 +119,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     logStream = context.getLogStream();
     logStreamBatchReader = new LogStreamBatchReaderImpl(context.getLogStreamReader());
     replayMetrics = new ReplayMetrics(context.getMeterRegistry());
+    maxRecordsInReplayTransaction = context.getMaxRecordsInReplayTransaction();
   }
 
   /**
@@ -159,22 +172,26 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
         currentState = State.REPLAY_EVENT;
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
-        final var batch = logStreamBatchReader.next();
+        final var lastReadPositionBefore = lastReadRecordPosition;
+        final var lastReplayedPositionBefore = lastReplayedEventPosition;
         replayStrategy
-            .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
+            .runWithRetry(
+                () -> tryToReplayBatches(lastReadPositionBefore, lastReplayedPositionBefore),
+                abortCondition)
             .onComplete(
                 (success, failure) -> {
                   if (failure != null) {
                     throw new RuntimeException(
                         "Failed to replay batch at '%s %s'"
-                            .formatted(batch.current(), typedEvent.getMetadata()),
+                            .formatted(currentBatch.current(), typedEvent.getMetadata()),
                         failure);
                   } else {
                     // observe the replay duration
                     replayDurationTimer.close();
-                    // the position should be visible only after the batch is replayed successfully
+                    // the position should be visible only after the batches are replayed
+                    // successfully
                     lastSourceEventPosition =
-                        Math.max(lastSourceEventPosition, batchSourceEventPosition);
+                        Math.max(lastSourceEventPosition, transactionSourceEventPosition);
                     replayMetrics.setLastSourcePosition(lastSourceEventPosition);
                     actor.submit(this::replayNextEvent);
                   }
@@ -196,22 +213,44 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
   }
 
-  private boolean tryToReplayBatch(final Batch batch) throws Exception {
+  /**
+   * Replays the next batches in one transaction, at least one and at most as many as fit into the
+   * record limit of a transaction.
+   *
+   * @param lastReadPositionBefore the position of the last record read before this transaction
+   * @param lastReplayedPositionBefore the position of the last event replayed before this
+   *     transaction
+   */
+  private boolean tryToReplayBatches(
+      final long lastReadPositionBefore, final long lastReplayedPositionBefore) throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
       zeebeDbTransaction.rollback();
-      // reading the whole batch from the beginning again
-      batch.head();
+      // reading all batches of the transaction from the beginning again
+      lastReadRecordPosition = lastReadPositionBefore;
+      lastReplayedEventPosition = lastReplayedPositionBefore;
+      logStreamBatchReader.seekToNextBatch(
+          lastReadPositionBefore != StreamProcessor.UNSET_POSITION
+              ? lastReadPositionBefore
+              : snapshotPosition);
     }
 
+    transactionSourceEventPosition = StreamProcessor.UNSET_POSITION;
+    transactionRecordCount = 0;
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     zeebeDbTransaction.run(
         () -> {
-          batch.forEachRemaining(this::replayEvent);
-
-          if (batchSourceEventPosition > snapshotPosition) {
-            lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
-          }
+          do {
+            currentBatch = logStreamBatchReader.next();
+            currentBatch.forEachRemaining(this::replayEvent);
+
+            if (batchSourceEventPosition > snapshotPosition) {
+              lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
+            }
+            transactionSourceEventPosition =
+                Math.max(transactionSourceEventPosition, batchSourceEventPosition);
+          } while (transactionRecordCount < maxRecordsInReplayTransaction
+              && logStreamBatchReader.hasNext());
         });
 
     zeebeDbTransaction.commit();
@@ -270,6 +309,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
    */
   private void onRecordReplayed(final LoggedEvent currentEvent) {
     replayMetrics.event();
+    transactionRecordCount++;
     final var sourceEventPosition = currentEvent.getSourceEventPosition();
     final var currentPosition = currentEvent.getPosition();
     final var currentRecordKey = currentEvent.getKey();
@@ -147,6 +147,11 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.getMaxRecordsInReplayTransaction() < 1) {
+      throw new IllegalArgumentException(
+          "Replay transaction limit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxRecordsInReplayTransaction()));
+    }
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
@@ -154,11 +159,22 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder maxRecordsInReplayTransaction(
+      final int maxRecordsInReplayTransaction) {
+    streamProcessorContext.maxRecordsInReplayTransaction(maxRecordsInReplayTransaction);
+    return this;
+  }
+
   public StreamProcessorBuilder setEnableAsyncScheduledTasks(final boolean enabled) {
     streamProcessorContext.setEnableAsyncScheduledTasks(enabled);
     return this;
   }
 
+  public StreamProcessorBuilder setEnablePipelinedProcessing(final boolean enabled) {
+    streamProcessorContext.setEnablePipelinedProcessing(enabled);
+    return this;
+  }
+
   public StreamProcessorBuilder processingFilter(final EventFilter processingFilter) {
     streamProcessorContext.processingFilter(processingFilter);
     return this;
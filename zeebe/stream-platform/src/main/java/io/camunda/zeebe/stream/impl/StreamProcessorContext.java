@@ -30,6 +30,7 @@ import java.util.function.BooleanSupplier;
 public final class StreamProcessorContext implements ReadonlyStreamProcessorContext {
 
   public static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 100;
+  public static final int DEFAULT_MAX_RECORDS_IN_REPLAY_TRANSACTION = 1_000;
   private static final StreamProcessorListener NOOP_LISTENER = processedCommand -> {};
   private ActorControl actor;
   private LogStream logStream;
@@ -52,7 +53,9 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private volatile StreamProcessor.Phase phase = Phase.INITIAL;
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private int maxRecordsInReplayTransaction = DEFAULT_MAX_RECORDS_IN_REPLAY_TRANSACTION;
   private boolean enableAsyncScheduledTasks = true;
+  private boolean enablePipelinedProcessing = false;
   private EventFilter processingFilter = e -> true;
   private ControllableStreamClock clock;
   private MeterRegistry meterRegistry;
@@ -223,11 +226,34 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return maxCommandsInBatch;
   }
 
+  public StreamProcessorContext maxRecordsInReplayTransaction(
+      final int maxRecordsInReplayTransaction) {
+    this.maxRecordsInReplayTransaction = maxRecordsInReplayTransaction;
+    return this;
+  }
+
+  public int getMaxRecordsInReplayTransaction() {
+    return maxRecordsInReplayTransaction;
+  }
+
   public StreamProcessorContext setEnableAsyncScheduledTasks(final boolean enabled) {
     enableAsyncScheduledTasks = enabled;
     return this;
   }
 
+  public StreamProcessorContext setEnablePipelinedProcessing(final boolean enabled) {
+    enablePipelinedProcessing = enabled;
+    return this;
+  }
+
+  /**
+   * @return true if the processing of the next command may start before the responses and
+   *     post-commit tasks of the previous one were executed, false otherwise
+   */
+  public boolean enablePipelinedProcessing() {
+    return enablePipelinedProcessing;
+  }
+
   public EventFilter processingFilter() {
     return processingFilter;
   }
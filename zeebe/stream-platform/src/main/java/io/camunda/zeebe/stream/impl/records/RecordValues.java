@@ -27,11 +27,16 @@ public final class RecordValues {
     eventCache = Collections.unmodifiableMap(cache);
   }
 
+  /**
+   * Reads the value of the given event into a cached record value of the given type. The value is
+   * read lazily, i.e. its properties are only decoded when they are accessed, since processors,
+   * event appliers and exporters often only access a few of them. The returned value is therefore
+   * only valid as long as the event is.
+   */
   public UnifiedRecordValue readRecordValue(final LoggedEvent event, final ValueType valueType) {
     final UnifiedRecordValue value = eventCache.get(valueType);
     if (value != null) {
-      value.reset();
-      event.readValue(value);
+      value.wrapLazily(event.getValueBuffer(), event.getValueOffset(), event.getValueLength());
     }
     return value;
   }
@@ -30,6 +30,7 @@ import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.util.RecordToWrite;
 import io.camunda.zeebe.stream.util.Records;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
+import io.camunda.zeebe.util.exception.RecoverableException;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -390,4 +391,64 @@ final class StreamProcessorReplayTest {
     // then
     assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(19L);
   }
+
+  @Test
+  void shouldReplayBatchesInSeparateTransactionsWhenLimitIsReached() {
+    // given
+    writeBatchesWithEvents(3);
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.maxRecordsInReplayTransaction(1));
+
+    // then
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    verify(recordProcessor, TIMEOUT.times(3)).replay(any());
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(5L));
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastWrittenPositionAsync().join()).isEqualTo(6L));
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(5);
+  }
+
+  @Test
+  void shouldReplayAllBatchesOfTransactionAgainOnRetry() {
+    // given
+    writeBatchesWithEvents(3);
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    doAnswer(invocation -> null)
+        .doThrow(new RecoverableException("expected"))
+        .doAnswer(invocation -> null)
+        .when(recordProcessor)
+        .replay(any());
+
+    // when
+    final var streamProcessor = streamPlatform.startStreamProcessor();
+
+    // then
+    // the first batch is replayed twice, as the whole transaction is rolled back
+    verify(recordProcessor, TIMEOUT.times(5)).replay(any());
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(5L));
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastWrittenPositionAsync().join()).isEqualTo(6L));
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(5);
+    assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(3L);
+  }
+
+  private void writeBatchesWithEvents(final int count) {
+    for (int i = 0; i < count; i++) {
+      streamPlatform.writeBatch(
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+          RecordToWrite.event()
+              .key(Protocol.encodePartitionId(1, i + 1))
+              .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+              .causedBy(0));
+    }
+  }
 }
@@ -709,6 +709,66 @@ public final class StreamProcessorTest {
     verify(mockPostCommitTask, TIMEOUT.times(1)).flush();
   }
 
+  @Test
+  void shouldProcessNextCommandWhilePostCommitTaskIsRetriedWhenPipelined() {
+    // given
+    final var defaultMockedRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var mockPostCommitTask = mock(PostCommitTask.class);
+    when(mockPostCommitTask.flush()).thenReturn(false);
+
+    final var resultBuilder = new BufferedProcessingResultBuilder((c, s) -> true);
+    resultBuilder.appendPostCommitTask(mockPostCommitTask);
+    when(defaultMockedRecordProcessor.process(any(), any()))
+        .thenReturn(resultBuilder.build())
+        .thenReturn(EmptyProcessingResult.INSTANCE);
+
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(), true, cfg -> cfg.setEnablePipelinedProcessing(true));
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(defaultMockedRecordProcessor, TIMEOUT.times(2)).process(any(), any());
+    verify(mockPostCommitTask, TIMEOUT.atLeast(5)).flush();
+  }
+
+  @Test
+  void shouldExecutePostCommitTasksInOrderWhenPipelined() {
+    // given
+    final var defaultMockedRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var firstPostCommitTask = mock(PostCommitTask.class);
+    final var secondPostCommitTask = mock(PostCommitTask.class);
+    when(firstPostCommitTask.flush()).thenReturn(false, false, true);
+    when(secondPostCommitTask.flush()).thenReturn(true);
+
+    when(defaultMockedRecordProcessor.process(any(), any()))
+        .thenReturn(
+            new BufferedProcessingResultBuilder((c, s) -> true)
+                .appendPostCommitTask(firstPostCommitTask)
+                .build())
+        .thenReturn(
+            new BufferedProcessingResultBuilder((c, s) -> true)
+                .appendPostCommitTask(secondPostCommitTask)
+                .build());
+
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(), true, cfg -> cfg.setEnablePipelinedProcessing(true));
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    final InOrder inOrder = inOrder(firstPostCommitTask, secondPostCommitTask);
+    inOrder.verify(firstPostCommitTask, TIMEOUT.times(3)).flush();
+    inOrder.verify(secondPostCommitTask, TIMEOUT.times(1)).flush();
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(2)).onProcessed(any());
+  }
+
   @Test
   public void shouldUpdateStateOnSuccessfulProcessing() {
     // given
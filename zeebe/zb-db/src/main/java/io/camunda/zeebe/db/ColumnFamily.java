@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db;
 
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -44,6 +45,21 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Looks up the values of all given keys in one batch, which is cheaper than calling {@link
+   * #get(DbKey)} for each key. The visitor is called for each key which exists in the column
+   * family, in the order of the given keys; keys which don't exist are skipped. The visitor can
+   * indicate via the return value, whether the visiting should continue or not.
+   *
+   * <p>The visitor receives the given key instances. Be aware that the given DbValue wraps the
+   * stored value and reflects the current visiting step, like when iterating. Since all keys are
+   * read before visiting, the keys must be separate instances.
+   *
+   * @param keys the keys to look up
+   * @param visitor the visitor which visits the found key-value pairs
+   */
+  void multiGet(List<KeyType> keys, KeyValuePairVisitor<KeyType, ValueType> visitor);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
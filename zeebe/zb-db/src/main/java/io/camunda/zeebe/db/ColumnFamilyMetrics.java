@@ -17,4 +17,10 @@ public interface ColumnFamilyMetrics {
   CloseableSilently measureDeleteLatency();
 
   CloseableSilently measureIterateLatency();
+
+  /** Counts a get which was served by the row cache of the column family */
+  void countCacheHit();
+
+  /** Counts a get which was not served by the row cache of the column family */
+  void countCacheMiss();
 }
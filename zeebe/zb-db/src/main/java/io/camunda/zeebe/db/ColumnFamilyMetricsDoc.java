@@ -53,6 +53,41 @@ public enum ColumnFamilyMetricsDoc implements ExtendedMeterDocumentation {
       return KEYS;
     }
 
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of gets per column family which were served by the row cache or not */
+  ROW_CACHE {
+    private static final KeyName[] KEYS =
+        new KeyName[] {
+          PartitionKeyNames.PARTITION,
+          ColumnFamilyMetricsKeyName.COLUMN_FAMILY,
+          ColumnFamilyMetricsKeyName.RESULT
+        };
+
+    @Override
+    public String getName() {
+      return "zeebe.rocksdb.row.cache";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of gets per column family which were served by the row cache (hit) or not (miss)";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return KEYS;
+    }
+
     @Override
     public KeyName[] getAdditionalKeyNames() {
       return PartitionKeyNames.values();
@@ -77,6 +112,13 @@ public enum ColumnFamilyMetricsDoc implements ExtendedMeterDocumentation {
       public String asString() {
         return "operation";
       }
+    },
+    /** Whether a get was served by the row cache, with value {@link CacheResult} */
+    RESULT {
+      @Override
+      public String asString() {
+        return "result";
+      }
     }
   }
 
@@ -101,4 +143,18 @@ public enum ColumnFamilyMetricsDoc implements ExtendedMeterDocumentation {
       return name;
     }
   }
+
+  public enum CacheResult {
+    HIT("hit"),
+    MISS("miss");
+    private final String name;
+
+    CacheResult(final String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+  }
 }
@@ -0,0 +1,27 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Is notified when a transaction of a {@link TransactionContext} ends. This allows keeping state
+ * derived from the transaction's writes, e.g. a cache, consistent with the database.
+ *
+ * <p>Listeners are called on the thread which ends the transaction, after the database committed or
+ * rolled back the changes.
+ */
+public interface TransactionListener {
+
+  /** Called after the changes of the transaction were committed. */
+  void onCommit();
+
+  /**
+   * Called after the changes of the transaction were discarded. Note that this may also be called
+   * right after a commit, in which case there are no changes left to discard.
+   */
+  void onRollback();
+}
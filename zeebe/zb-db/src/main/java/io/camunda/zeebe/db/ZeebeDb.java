@@ -52,6 +52,13 @@ public interface ZeebeDb<ColumnFamilyType extends Enum<? extends EnumValue> & En
    */
   void createSnapshot(File snapshotDir);
 
+  /**
+   * Returns the value of a database property, e.g. the size of the memtables. Numeric properties
+   * which are reported per column family cover all physical column families of the database.
+   *
+   * @param propertyName the name of the property
+   * @return the value of the property, or empty if it is unknown
+   */
   Optional<String> getProperty(String propertyName);
 
   TransactionContext createContext();
@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import io.camunda.zeebe.protocol.EnumValue;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import org.rocksdb.CompactionStyle;
+
+/**
+ * Describes a group of logical column families which should be stored in a dedicated, physical
+ * RocksDB column family instead of the shared default one. Each group has its own LSM tree,
+ * memtables and compaction schedule, which allows separating hot, short-lived data (e.g. jobs or
+ * timers) from long-lived data (e.g. process definitions or variables).
+ *
+ * <p>Logical column families are identified by their {@link EnumValue#getValue()}, which is the
+ * same value that is used as key prefix. Keys keep their prefix when stored in a group, so data can
+ * be moved between physical column families without rewriting the keys.
+ */
+public final class ColumnFamilyGroupConfiguration {
+
+  public static final long DEFAULT_BLOCK_SIZE = 32 * 1024L;
+  public static final double DEFAULT_BLOOM_FILTER_BITS_PER_KEY = 10;
+  public static final CompactionStyle DEFAULT_COMPACTION_STYLE = CompactionStyle.LEVEL;
+
+  private final String name;
+  private final Set<Integer> columnFamilies = new HashSet<>();
+  private long blockSize = DEFAULT_BLOCK_SIZE;
+  private double bloomFilterBitsPerKey = DEFAULT_BLOOM_FILTER_BITS_PER_KEY;
+  private CompactionStyle compactionStyle = DEFAULT_COMPACTION_STYLE;
+
+  public ColumnFamilyGroupConfiguration(final String name) {
+    this.name = Objects.requireNonNull(name);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Set<Integer> getColumnFamilies() {
+    return columnFamilies;
+  }
+
+  public ColumnFamilyGroupConfiguration addColumnFamily(final EnumValue columnFamily) {
+    columnFamilies.add(columnFamily.getValue());
+    return this;
+  }
+
+  public ColumnFamilyGroupConfiguration addColumnFamily(final int columnFamilyValue) {
+    columnFamilies.add(columnFamilyValue);
+    return this;
+  }
+
+  public long getBlockSize() {
+    return blockSize;
+  }
+
+  public ColumnFamilyGroupConfiguration setBlockSize(final long blockSize) {
+    this.blockSize = blockSize;
+    return this;
+  }
+
+  public double getBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey;
+  }
+
+  public ColumnFamilyGroupConfiguration setBloomFilterBitsPerKey(
+      final double bloomFilterBitsPerKey) {
+    this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+    return this;
+  }
+
+  public CompactionStyle getCompactionStyle() {
+    return compactionStyle;
+  }
+
+  /**
+   * Sets the compaction style of the group. FIFO compaction is not supported, as it drops the
+   * oldest data once the column family grows too large, which would lose state.
+   */
+  public ColumnFamilyGroupConfiguration setCompactionStyle(final CompactionStyle compactionStyle) {
+    if (compactionStyle == CompactionStyle.FIFO) {
+      throw new IllegalArgumentException(
+          "Expected compaction style of column family group '%s' to be LEVEL or UNIVERSAL, but was FIFO"
+              .formatted(name));
+    }
+    this.compactionStyle = compactionStyle;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "ColumnFamilyGroupConfiguration{"
+        + "name='"
+        + name
+        + '\''
+        + ", columnFamilies="
+        + columnFamilies
+        + ", blockSize="
+        + blockSize
+        + ", bloomFilterBitsPerKey="
+        + bloomFilterBitsPerKey
+        + ", compactionStyle="
+        + compactionStyle
+        + '}';
+  }
+}
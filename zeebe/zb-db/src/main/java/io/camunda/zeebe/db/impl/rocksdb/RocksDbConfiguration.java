@@ -7,6 +7,10 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 public final class RocksDbConfiguration {
@@ -43,6 +47,14 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  /**
+   * Every key starts with its 8 bytes column family prefix, and most keys continue with a long
+   * (e.g. the element instance key of a scope). Extracting the first 16 bytes as prefix lets the
+   * prefix bloom filters rule out SST files and memtables which contain none of the keys of a given
+   * scope, instead of only ruling out those which contain nothing of the column family.
+   */
+  public static final int DEFAULT_PREFIX_EXTRACTOR_LENGTH = 2 * Long.BYTES;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -52,6 +64,39 @@ public final class RocksDbConfiguration {
 
   private boolean sstPartitioningEnabled = DEFAULT_SST_PARTITIONING_ENABLED;
 
+  /**
+   * The maximum length of the key prefix which is extracted to build the prefix bloom filters, and
+   * which is used for prefix seeks. Keys which are shorter are used as a whole. Prefix iterations
+   * over shorter prefixes cannot use the prefix bloom filters, and fall back to a total order seek
+   * bounded by the end of the prefix. Must be at least 8 bytes, i.e. the column family prefix.
+   *
+   * <p>https://github.com/facebook/rocksdb/wiki/Prefix-Seek
+   */
+  private int prefixExtractorLength = DEFAULT_PREFIX_EXTRACTOR_LENGTH;
+
+  /**
+   * Groups of logical column families which are stored in their own physical RocksDB column family,
+   * each with its own options. Column families which are not part of any group remain in the
+   * default column family. Empty by default, i.e. everything is stored in the default column
+   * family.
+   *
+   * <p>NOTE: with more than one physical column family, atomic flush is enabled to keep snapshots
+   * consistent across column families even if the WAL is disabled.
+   */
+  private List<ColumnFamilyGroupConfiguration> columnFamilyGroups = new ArrayList<>();
+
+  /**
+   * Sizes in bytes of the row caches of logical column families, keyed by the column family value.
+   * A row cache keeps the most recently read and committed values of a column family in memory, so
+   * repeated gets of the same key skip RocksDB, e.g. when a command reads an entity which was
+   * written by the previous one. Writes go through to RocksDB and are only applied to the cache
+   * once their transaction is committed. Empty by default, i.e. no column family is cached.
+   *
+   * <p>NOTE: the caches are only kept up to date with the writes done through this database
+   * instance.
+   */
+  private Map<Integer, Long> rowCacheSizes = new HashMap<>();
+
   /**
    * Defines how many files are kept open by RocksDB, per default it is unlimited (-1). This is done
    * for performance reasons, if we set a value higher then zero it needs to keep track of open
@@ -155,4 +200,32 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public int getPrefixExtractorLength() {
+    return prefixExtractorLength;
+  }
+
+  public RocksDbConfiguration setPrefixExtractorLength(final int prefixExtractorLength) {
+    this.prefixExtractorLength = prefixExtractorLength;
+    return this;
+  }
+
+  public Map<Integer, Long> getRowCacheSizes() {
+    return rowCacheSizes;
+  }
+
+  public RocksDbConfiguration setRowCacheSizes(final Map<Integer, Long> rowCacheSizes) {
+    this.rowCacheSizes = rowCacheSizes;
+    return this;
+  }
+
+  public List<ColumnFamilyGroupConfiguration> getColumnFamilyGroups() {
+    return columnFamilyGroups;
+  }
+
+  public RocksDbConfiguration setColumnFamilyGroups(
+      final List<ColumnFamilyGroupConfiguration> columnFamilyGroups) {
+    this.columnFamilyGroups = columnFamilyGroups;
+    return this;
+  }
 }
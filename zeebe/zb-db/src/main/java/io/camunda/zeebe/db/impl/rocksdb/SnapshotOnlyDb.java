@@ -13,14 +13,18 @@ import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbOptions;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.agrona.CloseHelper;
 import org.rocksdb.Checkpoint;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -90,10 +94,28 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
 
   static <ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
       ZeebeDb<ColumnFamilyType> openDb(
-          final Options options, final String path, final List<AutoCloseable> managedResources)
+          final RocksDbOptions options,
+          final String path,
+          final List<AutoCloseable> managedResources)
           throws RocksDBException {
-    final RocksDB db = RocksDB.openReadOnly(options, path);
+    // all column families must be opened, otherwise they would be missing from the snapshot
+    final List<byte[]> cfNames = new ArrayList<>();
+    try (final var listOptions = new Options(options.dbOptions(), options.cfOptions())) {
+      cfNames.addAll(RocksDB.listColumnFamilies(listOptions, path));
+    }
+    if (cfNames.isEmpty()) {
+      // the database does not exist, let RocksDB fail on open
+      cfNames.add(RocksDB.DEFAULT_COLUMN_FAMILY);
+    }
+
+    final var cfDescriptors =
+        cfNames.stream()
+            .map(name -> new ColumnFamilyDescriptor(name, options.cfOptions()))
+            .toList();
+    final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
+    final RocksDB db = RocksDB.openReadOnly(options.dbOptions(), path, cfDescriptors, cfHandles);
     managedResources.add(db);
+    managedResources.addAll(cfHandles);
 
     return new SnapshotOnlyDb<>(db, managedResources);
   }
@@ -12,16 +12,20 @@ import io.camunda.zeebe.db.ConsistencyChecksSettings;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbOptions;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbOptions.ColumnFamilyGroupOptions;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.function.Supplier;
 import org.agrona.CloseHelper;
 import org.rocksdb.BlockBasedTableConfig;
@@ -32,9 +36,9 @@ import org.rocksdb.CompactionStyle;
 import org.rocksdb.CompressionType;
 import org.rocksdb.DBOptions;
 import org.rocksdb.DataBlockIndexType;
+import org.rocksdb.Filter;
 import org.rocksdb.IndexType;
 import org.rocksdb.LRUCache;
-import org.rocksdb.Options;
 import org.rocksdb.RateLimiter;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -47,6 +51,9 @@ public final class ZeebeRocksDbFactory<
         ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
     implements ZeebeDbFactory<ColumnFamilyType> {
 
+  private static final String DEFAULT_COLUMN_FAMILY_NAME =
+      new String(RocksDB.DEFAULT_COLUMN_FAMILY, StandardCharsets.UTF_8);
+
   static {
     RocksDB.loadLibrary();
   }
@@ -89,17 +96,16 @@ public final class ZeebeRocksDbFactory<
   public ZeebeDb<ColumnFamilyType> openSnapshotOnlyDb(final File pathName) {
     final List<AutoCloseable> managedResources = Collections.synchronizedList(new ArrayList<>());
     final var options = prepareOptions(managedResources);
-    final var snapshotOnlyOptions =
-        new Options(options.dbOptions(), options.cfOptions())
-            // only open existing databases
-            .setCreateIfMissing(false)
-            // this can slow down open significantly if there are many SST files
-            .setSkipCheckingSstFileSizesOnDbOpen(true);
-    managedResources.add(snapshotOnlyOptions);
+    options
+        .dbOptions()
+        // only open existing databases
+        .setCreateIfMissing(false)
+        .setCreateMissingColumnFamilies(false)
+        // this can slow down open significantly if there are many SST files
+        .setSkipCheckingSstFileSizesOnDbOpen(true);
 
     try {
-      return SnapshotOnlyDb.openDb(
-          snapshotOnlyOptions, pathName.getAbsolutePath(), managedResources);
+      return SnapshotOnlyDb.openDb(options, pathName.getAbsolutePath(), managedResources);
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(managedResources);
       throw new IllegalStateException(
@@ -108,15 +114,23 @@ public final class ZeebeRocksDbFactory<
   }
 
   private RocksDbOptions prepareOptions(final List<AutoCloseable> managedResources) {
+    if (rocksDbConfiguration.getPrefixExtractorLength() < Long.BYTES) {
+      throw new IllegalStateException(
+          "Expected prefix extractor length to cover at least the column family prefix of %d bytes, but was %d"
+              .formatted(Long.BYTES, rocksDbConfiguration.getPrefixExtractorLength()));
+    }
+
     // column family options have to be closed as last
     final var columnFamilyOptions = createColumnFamilyOptions(managedResources);
     managedResources.add(columnFamilyOptions);
-    final var dbOptions = createDefaultDbOptions(managedResources);
+    final var groupOptions = createColumnFamilyGroupOptions(managedResources);
+    final var dbOptions = createDefaultDbOptions(managedResources, !groupOptions.isEmpty());
     managedResources.add(dbOptions);
-    return new RocksDbOptions(dbOptions, columnFamilyOptions);
+    return new RocksDbOptions(dbOptions, columnFamilyOptions, groupOptions);
   }
 
-  private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
+  private DBOptions createDefaultDbOptions(
+      final List<AutoCloseable> closeables, final boolean hasColumnFamilyGroups) {
     final var props = new Properties();
     props.put("file_checksum_gen_factory", "FileChecksumGenCrc32cFactory");
     //    Enables full file checksum
@@ -129,8 +143,12 @@ public final class ZeebeRocksDbFactory<
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
-            .setCreateMissingColumnFamilies(false)
+            // by default we only use the default CF, but column family groups are created on
+            // demand
+            .setCreateMissingColumnFamilies(hasColumnFamilyGroups)
+            // with multiple CFs and a disabled WAL, flushing all CFs atomically is the only way to
+            // guarantee that checkpoints are consistent across column families
+            .setAtomicFlush(hasColumnFamilyGroups)
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
             .setAvoidFlushDuringRecovery(true)
@@ -165,7 +183,7 @@ public final class ZeebeRocksDbFactory<
   }
 
   /**
-   * @return Options which are used on all column families
+   * @return Options which are used on the default column family
    */
   ColumnFamilyOptions createColumnFamilyOptions(final List<AutoCloseable> closeables) {
     final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
@@ -175,7 +193,74 @@ public final class ZeebeRocksDbFactory<
       return createFromUserOptions(userProvidedColumnFamilyOptions);
     }
 
-    return createDefaultColumnFamilyOptions(closeables);
+    final var filter = new BloomFilter(10, false);
+    closeables.add(filter);
+    return createDefaultColumnFamilyOptions(
+        createTableFormatConfig(
+            closeables, ColumnFamilyGroupConfiguration.DEFAULT_BLOCK_SIZE, filter));
+  }
+
+  /**
+   * Creates the options of each configured column family group. These are based on the same options
+   * as the default column family, but use the group's own table and compaction settings.
+   *
+   * @return options for each column family group, which are opened as separate physical column
+   *     families
+   */
+  List<ColumnFamilyGroupOptions> createColumnFamilyGroupOptions(
+      final List<AutoCloseable> closeables) {
+    final var groups = rocksDbConfiguration.getColumnFamilyGroups();
+    final var groupOptions = new ArrayList<ColumnFamilyGroupOptions>(groups.size());
+    final var assignedColumnFamilies = new HashSet<Integer>();
+    final var groupNames = new HashSet<String>();
+
+    for (final var group : groups) {
+      if (DEFAULT_COLUMN_FAMILY_NAME.equals(group.getName()) || !groupNames.add(group.getName())) {
+        throw new IllegalStateException(
+            "Expected column family group names to be unique and to differ from '%s', but got '%s'"
+                .formatted(DEFAULT_COLUMN_FAMILY_NAME, group.getName()));
+      }
+
+      for (final var columnFamily : group.getColumnFamilies()) {
+        if (!assignedColumnFamilies.add(columnFamily)) {
+          throw new IllegalStateException(
+              "Expected each column family to be assigned to at most one group, but column family %d is assigned to multiple groups"
+                  .formatted(columnFamily));
+        }
+      }
+
+      final var options = createColumnFamilyGroupOptions(closeables, group);
+      closeables.add(options);
+      groupOptions.add(
+          new ColumnFamilyGroupOptions(
+              group.getName(), Set.copyOf(group.getColumnFamilies()), options));
+    }
+
+    return groupOptions;
+  }
+
+  private ColumnFamilyOptions createColumnFamilyGroupOptions(
+      final List<AutoCloseable> closeables, final ColumnFamilyGroupConfiguration group) {
+    final var filter = new BloomFilter(group.getBloomFilterBitsPerKey(), false);
+    closeables.add(filter);
+    final var tableConfig = createTableFormatConfig(closeables, group.getBlockSize(), filter);
+
+    final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
+    final var options =
+        userProvidedColumnFamilyOptions.isEmpty()
+            ? createDefaultColumnFamilyOptions(tableConfig)
+            : createFromUserOptions(userProvidedColumnFamilyOptions)
+                .setTableFormatConfig(tableConfig);
+
+    return options.setCompactionStyle(group.getCompactionStyle());
+  }
+
+  /**
+   * The memory budget is shared equally between all physical column families, as each of them has
+   * its own memtables and block cache.
+   */
+  private int physicalColumnFamilyCount() {
+    return 1 + rocksDbConfiguration.getColumnFamilyGroups().size();
   }
 
   private ColumnFamilyOptions createFromUserOptions(
@@ -195,12 +280,12 @@ public final class ZeebeRocksDbFactory<
   }
 
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
-      final List<AutoCloseable> closeables) {
+      final TableFormatConfig tableConfig) {
     final var columnFamilyOptions = new ColumnFamilyOptions();
 
     final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
-    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
-    // and filters into the block cache, so we don't need to account for more memory there
+    final var columnFamilyCount = physicalColumnFamilyCount();
+    // a third of the budget is reserved for the block cache, see createTableFormatConfig
     final var blockCacheMemory = totalMemoryBudget / 3;
     // flushing the memtables is done asynchronously, so there may be multiple memtables in memory,
     // although only a single one is writable. once we have too many memtables, writes will stop.
@@ -216,19 +301,19 @@ public final class ZeebeRocksDbFactory<
     final var memtablePrefixFilterMemory = 0.15;
     final var memtableMemory =
         Math.round(
-            ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
+            ((totalMemoryBudget - blockCacheMemory)
+                    / (double) (maxConcurrentMemtableCount * columnFamilyCount))
                 * (1 - memtablePrefixFilterMemory));
 
-    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
-
     if (rocksDbConfiguration.isSstPartitioningEnabled()) {
       columnFamilyOptions.setSstPartitionerFactory(
           new SstPartitionerFixedPrefixFactory(Long.BYTES));
     }
 
     return columnFamilyOptions
-        // to extract our column family type (used as prefix) and seek faster
-        .useFixedLengthPrefixExtractor(Long.BYTES)
+        // to extract our column family type and the first part of the key (used as prefix) and
+        // seek faster; shorter keys are used as a whole
+        .useCappedPrefixExtractor(rocksDbConfiguration.getPrefixExtractorLength())
         .setMemtablePrefixBloomSizeRatio(memtablePrefixFilterMemory)
         // memtables
         // merge at least 3 memtables per L0 file, otherwise all memtables are flushed as individual
@@ -276,19 +361,23 @@ public final class ZeebeRocksDbFactory<
   }
 
   private TableFormatConfig createTableFormatConfig(
-      final List<AutoCloseable> closeables, final long blockCacheMemory) {
+      final List<AutoCloseable> closeables, final long blockSize, final Filter filter) {
+    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
+    // and filters into the block cache, so we don't need to account for more memory there
+    final var blockCacheMemory =
+        rocksDbConfiguration.getMemoryLimit() / 3 / physicalColumnFamilyCount();
     // you can use the perf context to check if we're often blocked on the block cache mutex, in
-    // which case we want to increase the number of shards (shard count == 2^shardBits)
-    final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
+    // which case we want to increase the number of shards (shard count == 2^shardBits). we let
+    // RocksDB pick the shard count based on the capacity: a block larger than its shard cannot be
+    // cached, and with too many shards the filter and index blocks of large SST files would be
+    // read again on every seek
+    final var cache = new LRUCache(blockCacheMemory, -1, false, 0.15);
     closeables.add(cache);
 
-    final var filter = new BloomFilter(10, false);
-    closeables.add(filter);
-
     return new BlockBasedTableConfig()
         .setBlockCache(cache)
         // increasing block size means reducing memory usage, but increasing read iops
-        .setBlockSize(32 * 1024L)
+        .setBlockSize(blockSize)
         // full and partitioned filters use a more efficient bloom filter implementation when
         // using format 5
         .setFormatVersion(5)
@@ -7,16 +7,19 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.metrics;
 
+import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.util.micrometer.StatefulGauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
-import org.rocksdb.RocksDB;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** This class exports metrics for a RocksDB instance to Micrometer. */
+/**
+ * This class exports metrics for a RocksDB instance to Micrometer. The properties are read through
+ * {@link ZeebeDb#getProperty(String)}, which aggregates them over all physical column families.
+ */
 public final class RocksDBMetricExporter {
 
   private static final Logger LOG = LoggerFactory.getLogger(RocksDBMetricExporter.class.getName());
@@ -29,7 +32,7 @@ public final class RocksDBMetricExporter {
     this.registry = registry;
   }
 
-  public void exportMetrics(final RocksDB database) {
+  public void exportMetrics(final ZeebeDb<?> database) {
     final long startTime = System.nanoTime();
 
     for (final var metric : RocksDbMetricsDoc.values()) {
@@ -50,12 +53,9 @@ public final class RocksDBMetricExporter {
   }
 
   private void exportMetric(
-      final RocksDB database, final String propertyName, final StatefulGauge gauge) {
+      final ZeebeDb<?> database, final String propertyName, final StatefulGauge gauge) {
     try {
-      final var value = database.getProperty(propertyName);
-      if (value != null) {
-        gauge.set(Double.parseDouble(value));
-      }
+      database.getProperty(propertyName).ifPresent(value -> gauge.set(Double.parseDouble(value)));
     } catch (final Exception exception) {
       LOG.debug("Error occurred on exporting metric {}", propertyName, exception);
     }
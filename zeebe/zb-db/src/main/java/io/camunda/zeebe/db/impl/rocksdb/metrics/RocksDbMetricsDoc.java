@@ -232,6 +232,11 @@ public enum RocksDbMetricsDoc implements RocksDbMeterDoc {
     public String propertyName() {
       return "rocksdb.is-write-stopped";
     }
+
+    @Override
+    public boolean isColumnFamilyProperty() {
+      return false;
+    }
   },
 
   ACTUAL_DELAYED_WRITE_RATE {
@@ -249,6 +254,11 @@ public enum RocksDbMetricsDoc implements RocksDbMeterDoc {
     public String propertyName() {
       return "rocksdb.actual-delayed-write-rate";
     }
+
+    @Override
+    public boolean isColumnFamilyProperty() {
+      return false;
+    }
   },
 
   MEM_TABLE_FLUSH_PENDING {
@@ -283,6 +293,11 @@ public enum RocksDbMetricsDoc implements RocksDbMeterDoc {
     public String propertyName() {
       return "rocksdb.num-running-flushes";
     }
+
+    @Override
+    public boolean isColumnFamilyProperty() {
+      return false;
+    }
   },
 
   NUM_RUNNING_COMPACTIONS {
@@ -300,6 +315,11 @@ public enum RocksDbMetricsDoc implements RocksDbMeterDoc {
     public String propertyName() {
       return "rocksdb.num-running-compactions";
     }
+
+    @Override
+    public boolean isColumnFamilyProperty() {
+      return false;
+    }
   };
 
   private static final String ZEEBE_NAMESPACE = "zeebe";
@@ -316,6 +336,14 @@ public enum RocksDbMetricsDoc implements RocksDbMeterDoc {
       "Properties related to writes, flushes and compactions for RocksDb per column family and partition";
   private static final String WRITE_METRICS_PREFIX = "rocksdb.writes";
 
+  /**
+   * @return true if the property is reported per column family, so it must be summed up over all
+   *     column families, or false if it is reported for the whole database
+   */
+  public boolean isColumnFamilyProperty() {
+    return true;
+  }
+
   protected String gaugeSuffix() {
     final var propertyName = propertyName();
 
@@ -0,0 +1,174 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
+import io.camunda.zeebe.db.impl.rocksdb.Loggers;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.IntFunction;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.FlushOptions;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
+import org.slf4j.Logger;
+
+/**
+ * Moves the entries of logical column families between physical RocksDB column families, whenever
+ * the configured column family groups do not match the layout of the opened database. This is the
+ * case when opening a snapshot which was taken with a different group configuration, e.g. when
+ * enabling groups for the first time, or when disabling them again.
+ *
+ * <p>Since every key keeps its logical column family prefix regardless of where it is stored,
+ * entries can be moved verbatim. Each physical column family is scanned prefix by prefix: if the
+ * prefix belongs where it is stored, the scan skips directly to the next prefix, so an up-to-date
+ * database only costs a single seek per logical column family.
+ *
+ * <p>The migration must run before any transaction is opened on the database.
+ */
+final class ColumnFamilyGroupMigration {
+
+  private static final Logger LOG = Loggers.DB_LOGGER;
+  private static final int MAX_BATCH_SIZE = 10_000;
+
+  private final RocksDB db;
+  private final IntFunction<ColumnFamilyHandle> targetResolver;
+
+  /**
+   * @param db the database to migrate
+   * @param targetResolver resolves the physical column family in which a logical column family,
+   *     identified by its value, should be stored
+   */
+  ColumnFamilyGroupMigration(
+      final RocksDB db, final IntFunction<ColumnFamilyHandle> targetResolver) {
+    this.db = db;
+    this.targetResolver = targetResolver;
+  }
+
+  /**
+   * Moves all misplaced entries of the given physical column families and flushes them afterwards.
+   *
+   * @return the number of moved entries
+   */
+  long migrate(final List<ColumnFamilyHandle> handles) throws RocksDBException {
+    long movedEntries = 0;
+
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final var writeOptions = new WriteOptions();
+        final var batch = new WriteBatch()) {
+      for (final var handle : handles) {
+        movedEntries += migrate(handle, readOptions, writeOptions, batch);
+      }
+    }
+
+    if (movedEntries > 0) {
+      // the WAL may be disabled, so make sure the moved entries are persisted
+      try (final var flushOptions = new FlushOptions().setWaitForFlush(true)) {
+        db.flush(flushOptions, handles);
+      }
+    }
+
+    return movedEntries;
+  }
+
+  private long migrate(
+      final ColumnFamilyHandle source,
+      final ReadOptions readOptions,
+      final WriteOptions writeOptions,
+      final WriteBatch batch)
+      throws RocksDBException {
+    long movedEntries = 0;
+
+    try (final RocksIterator iterator = db.newIterator(source, readOptions)) {
+      iterator.seekToFirst();
+      while (iterator.isValid()) {
+        final var prefix = readPrefix(iterator.key());
+        final var target = targetResolver.apply(prefix);
+
+        if (target.getID() == source.getID()) {
+          seekToNextPrefix(iterator, prefix);
+          continue;
+        }
+
+        final var movedPrefixEntries = move(iterator, source, target, prefix, writeOptions, batch);
+        LOG.info(
+            "Moved {} entries of column family {} from '{}' to '{}'",
+            movedPrefixEntries,
+            prefix,
+            new String(source.getName()),
+            new String(target.getName()));
+        movedEntries += movedPrefixEntries;
+      }
+    }
+
+    return movedEntries;
+  }
+
+  private long move(
+      final RocksIterator iterator,
+      final ColumnFamilyHandle source,
+      final ColumnFamilyHandle target,
+      final int prefix,
+      final WriteOptions writeOptions,
+      final WriteBatch batch)
+      throws RocksDBException {
+    long movedEntries = 0;
+
+    while (iterator.isValid()) {
+      final var key = iterator.key();
+      if (readPrefix(key) != prefix) {
+        break;
+      }
+
+      batch.put(target, key, iterator.value());
+      batch.delete(source, key);
+      movedEntries++;
+
+      if (batch.count() >= MAX_BATCH_SIZE) {
+        db.write(writeOptions, batch);
+        batch.clear();
+      }
+
+      iterator.next();
+    }
+
+    if (batch.count() > 0) {
+      db.write(writeOptions, batch);
+      batch.clear();
+    }
+
+    return movedEntries;
+  }
+
+  private void seekToNextPrefix(final RocksIterator iterator, final int prefix) {
+    if (prefix == Integer.MAX_VALUE) {
+      iterator.seekToLast();
+      iterator.next();
+      return;
+    }
+
+    final var nextPrefix = ByteBuffer.allocate(Long.BYTES).order(ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    nextPrefix.putLong(0, prefix + 1L);
+    iterator.seek(nextPrefix.array());
+  }
+
+  private int readPrefix(final byte[] key) {
+    if (key.length < Long.BYTES) {
+      throw new IllegalStateException(
+          "Expected every key to be prefixed with its column family, but found a key of length %d"
+              .formatted(key.length));
+    }
+
+    return (int)
+        ByteBuffer.wrap(key, 0, Long.BYTES).order(ZeebeDbConstants.ZB_DB_BYTE_ORDER).getLong();
+  }
+}
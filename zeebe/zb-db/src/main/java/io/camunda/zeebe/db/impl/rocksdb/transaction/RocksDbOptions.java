@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import java.util.List;
+import java.util.Set;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
 
@@ -15,11 +17,26 @@ import org.rocksdb.DBOptions;
  * change these depending on its own configuration. As each of the parts must be individually
  * closed, this record allows easily passing both configurations around within Zeebe.
  *
- * <p>While each column family in RocksDB can be configured differently, Zeebe only uses a single
- * RocksDB column family. We therefore don't have to differentiate further than a single database
- * options and a single column family options.
+ * <p>By default, Zeebe only uses a single RocksDB column family, in which every logical column
+ * family is distinguished by its key prefix. Optionally, groups of logical column families can be
+ * stored in their own physical column family, each with its own options.
  *
  * @param dbOptions The database options used to open the RocksDB database
- * @param cfOptions The column family options used to open the RocksDB database
+ * @param cfOptions The column family options used to open the default RocksDB column family
+ * @param groups The options of each physical column family besides the default one
  */
-public record RocksDbOptions(DBOptions dbOptions, ColumnFamilyOptions cfOptions) {}
+public record RocksDbOptions(
+    DBOptions dbOptions, ColumnFamilyOptions cfOptions, List<ColumnFamilyGroupOptions> groups) {
+
+  public RocksDbOptions(final DBOptions dbOptions, final ColumnFamilyOptions cfOptions) {
+    this(dbOptions, cfOptions, List.of());
+  }
+
+  /**
+   * @param name the name of the physical column family
+   * @param columnFamilies the values of the logical column families stored in it
+   * @param cfOptions the options used to open the physical column family
+   */
+  public record ColumnFamilyGroupOptions(
+      String name, Set<Integer> columnFamilies, ColumnFamilyOptions cfOptions) {}
+}
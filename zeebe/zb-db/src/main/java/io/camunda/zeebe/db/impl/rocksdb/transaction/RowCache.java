@@ -0,0 +1,132 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A bounded, least recently used cache of the committed rows of a single logical column family,
+ * shared by all transactions of a database. It maps the full key (including the column family
+ * prefix) to the serialized value, or to {@link #ABSENT} if the key is known not to exist.
+ *
+ * <p>Transactions never write into the cache directly: their writes are collected by {@link
+ * ZeebeTransaction} and only applied once the transaction is committed, so other transactions never
+ * see uncommitted rows, and a rollback leaves the cache untouched.
+ *
+ * <p>Readers populate the cache on a miss. Since a writer may commit between a reader reading the
+ * row from RocksDB and putting it into the cache, every applied commit increments the cache's
+ * version, and a reader only puts its row if the version did not change since before it read it.
+ *
+ * <p>The cache is thread-safe, as transactions of different contexts may be used from different
+ * threads. Cached values are shared and must never be modified.
+ */
+final class RowCache {
+
+  /** Marks a key which is known not to exist */
+  static final byte[] ABSENT = new byte[0];
+
+  /** Rough estimate of the memory used by a cache entry besides the key and value bytes */
+  private static final int ENTRY_OVERHEAD = 96;
+
+  private final long capacity;
+  private final LinkedHashMap<DirectBuffer, byte[]> rows = new LinkedHashMap<>(16, 0.75f, true);
+  private long size;
+  private long version;
+
+  /**
+   * @param capacity the maximum size of the cached keys and values in bytes
+   */
+  RowCache(final long capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * @return the cached value of the given key, {@link #ABSENT} if the key is known not to exist, or
+   *     null if it is not cached
+   */
+  synchronized byte[] get(final DirectBuffer key) {
+    return rows.get(key);
+  }
+
+  /**
+   * @return the current version of the cache, to be passed to {@link #putIfUnchanged(long,
+   *     DirectBuffer, byte[])}
+   */
+  synchronized long version() {
+    return version;
+  }
+
+  /**
+   * Caches the committed value of the given key, read by the caller from RocksDB, unless a commit
+   * was applied since the caller obtained the given version, in which case the value may be
+   * outdated.
+   *
+   * @param expectedVersion the version of the cache before the value was read
+   * @param key the key, which is copied
+   * @param value the value or null if the key does not exist; it must not be modified afterwards
+   */
+  synchronized void putIfUnchanged(
+      final long expectedVersion, final DirectBuffer key, final byte[] value) {
+    if (version != expectedVersion) {
+      return;
+    }
+
+    put(copyOf(key), value == null ? ABSENT : value);
+  }
+
+  /**
+   * Applies the rows written by a committed transaction, i.e. values or {@link #ABSENT} for deleted
+   * keys. The given keys are owned by the cache afterwards.
+   */
+  synchronized void apply(final Map<DirectBuffer, byte[]> committedRows) {
+    version++;
+    for (final var row : committedRows.entrySet()) {
+      put(row.getKey(), row.getValue());
+    }
+  }
+
+  synchronized long size() {
+    return size;
+  }
+
+  static DirectBuffer copyOf(final DirectBuffer key) {
+    final var bytes = new byte[key.capacity()];
+    key.getBytes(0, bytes);
+    return new UnsafeBuffer(bytes);
+  }
+
+  private void put(final DirectBuffer key, final byte[] value) {
+    final var entrySize = entrySize(key, value);
+    final var previous = rows.remove(key);
+    if (previous != null) {
+      size -= entrySize(key, previous);
+    }
+
+    if (entrySize > capacity) {
+      return;
+    }
+
+    rows.put(key, value);
+    size += entrySize;
+
+    final var iterator = rows.entrySet().iterator();
+    while (size > capacity && iterator.hasNext()) {
+      final Entry<DirectBuffer, byte[]> eldest = iterator.next();
+      size -= entrySize(eldest.getKey(), eldest.getValue());
+      iterator.remove();
+    }
+  }
+
+  private static long entrySize(final DirectBuffer key, final byte[] value) {
+    return ENTRY_OVERHEAD + key.capacity() + value.length;
+  }
+}
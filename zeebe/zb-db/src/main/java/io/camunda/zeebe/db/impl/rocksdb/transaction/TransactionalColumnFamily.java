@@ -19,14 +19,21 @@ import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import io.camunda.zeebe.protocol.EnumValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.IntArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.Slice;
 
 /**
  * Some code conventions that we should follow here:
@@ -56,6 +63,10 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final ColumnFamilyHandle handle;
+  private final long nativeHandle;
+  private final RowCache rowCache;
+  private final UnsafeBuffer cacheKey = new UnsafeBuffer(0, 0);
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -72,6 +83,9 @@ class TransactionalColumnFamily<
     this.keyInstance = keyInstance;
     this.valueInstance = valueInstance;
     this.metrics = metrics;
+    handle = transactionDb.getHandle(columnFamily.getValue());
+    nativeHandle = transactionDb.getNativeHandle(columnFamily.getValue());
+    rowCache = transactionDb.getRowCache(columnFamily.getValue());
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
   }
@@ -86,12 +100,7 @@ class TransactionalColumnFamily<
 
             assertKeyDoesNotExist(transaction);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
@@ -105,12 +114,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeValue(value);
             assertKeyExists(transaction);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
@@ -123,12 +127,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             columnFamilyContext.writeValue(value);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
@@ -139,12 +138,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+            final byte[] value = getValue(transaction);
             columnFamilyContext.wrapValueView(value);
           });
       final var valueBuffer = columnFamilyContext.getValueView();
@@ -156,6 +150,36 @@ class TransactionalColumnFamily<
     }
   }
 
+  @Override
+  public void multiGet(
+      final List<KeyType> keys, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    Objects.requireNonNull(visitor);
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    ensureInOpenTransaction(
+        transaction -> {
+          final byte[][] values;
+          try (final var timer = metrics.measureGetLatency()) {
+            values = multiGetValues(transaction, keys);
+          }
+
+          for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+              continue;
+            }
+
+            columnFamilyContext.wrapValueView(values[i]);
+            final var valueBuffer = columnFamilyContext.getValueView();
+            valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
+            if (!visitor.visit(keys.get(i), valueInstance)) {
+              return;
+            }
+          }
+        });
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     ensureInOpenTransaction(
@@ -225,10 +249,7 @@ class TransactionalColumnFamily<
           transaction -> {
             columnFamilyContext.writeKey(key);
             assertKeyExists(transaction);
-            transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength());
+            deleteValue(transaction);
           });
     }
   }
@@ -239,10 +260,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength());
+            deleteValue(transaction);
           });
     }
   }
@@ -253,12 +271,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+            final byte[] value = getValue(transaction);
             columnFamilyContext.wrapValueView(value);
           });
       return !columnFamilyContext.isValueViewEmpty();
@@ -306,12 +319,7 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
+    final var value = getValue(transaction);
     if (value != null) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " already exists");
@@ -322,15 +330,133 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
+    final var value = getValue(transaction);
+    if (value == null) {
+      throw new ZeebeDbInconsistentException(
+          "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
+    }
+  }
+
+  /**
+   * Reads the value of the key in the column family context, from the row cache if possible.
+   *
+   * @return the value or null if the key does not exist
+   */
+  private byte[] getValue(final ZeebeTransaction transaction) throws Exception {
+    if (rowCache == null) {
+      return transaction.get(
+          nativeHandle,
+          transactionDb.getReadOptionsNativeHandle(),
+          columnFamilyContext.getKeyBufferArray(),
+          columnFamilyContext.getKeyLength());
+    }
+
+    final var cachedValue = getCachedValue(transaction);
+    if (cachedValue != null) {
+      return cachedValue == RowCache.ABSENT ? null : cachedValue;
+    }
+
+    final var version = rowCache.version();
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            nativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
+    rowCache.putIfUnchanged(version, cacheKey, value);
+    return value;
+  }
+
+  /**
+   * Looks up the key in the column family context in the row cache, which must exist.
+   *
+   * @return the cached value, {@link RowCache#ABSENT} if the key is known not to exist, or null if
+   *     it is not cached
+   */
+  private byte[] getCachedValue(final ZeebeTransaction transaction) {
+    cacheKey.wrap(columnFamilyContext.getKeyBufferArray(), 0, columnFamilyContext.getKeyLength());
+    // our own writes take precedence, and are not visible in the cache before the commit
+    byte[] value = transaction.getUncommittedRows(rowCache).get(cacheKey);
     if (value == null) {
-      throw new ZeebeDbInconsistentException(
-          "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
+      value = rowCache.get(cacheKey);
+    }
+
+    if (value != null) {
+      metrics.countCacheHit();
+    } else {
+      metrics.countCacheMiss();
+    }
+    return value;
+  }
+
+  /**
+   * Reads the values of the given keys, serving what it can from the row cache and reading all
+   * other keys from RocksDB with a single MultiGet call.
+   *
+   * @return the values in the order of the given keys, with null for keys which do not exist
+   */
+  private byte[][] multiGetValues(final ZeebeTransaction transaction, final List<KeyType> keys)
+      throws Exception {
+    final var values = new byte[keys.size()][];
+    final var readKeys = new ArrayList<byte[]>(keys.size());
+    final var readIndexes = new IntArrayList(keys.size(), IntArrayList.DEFAULT_NULL_VALUE);
+    final var version = rowCache == null ? 0 : rowCache.version();
+
+    for (int i = 0; i < keys.size(); i++) {
+      columnFamilyContext.writeKey(keys.get(i));
+      if (rowCache != null) {
+        final var cachedValue = getCachedValue(transaction);
+        if (cachedValue != null) {
+          values[i] = cachedValue == RowCache.ABSENT ? null : cachedValue;
+          continue;
+        }
+      }
+
+      readKeys.add(
+          Arrays.copyOf(
+              columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength()));
+      readIndexes.addInt(i);
+    }
+
+    if (readKeys.isEmpty()) {
+      return values;
+    }
+
+    final var readValues = transaction.multiGet(transactionDb.getReadOptions(), handle, readKeys);
+    for (int i = 0; i < readKeys.size(); i++) {
+      final var value = readValues.get(i);
+      values[readIndexes.getInt(i)] = value;
+      if (rowCache != null) {
+        rowCache.putIfUnchanged(version, new UnsafeBuffer(readKeys.get(i)), value);
+      }
+    }
+    return values;
+  }
+
+  private void putValue(final ZeebeTransaction transaction, final int valueLength)
+      throws Exception {
+    transaction.put(
+        nativeHandle,
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength(),
+        columnFamilyContext.getValueBufferArray(),
+        valueLength);
+
+    if (rowCache != null) {
+      cacheKey.wrap(columnFamilyContext.getKeyBufferArray(), 0, columnFamilyContext.getKeyLength());
+      final var value = new byte[valueLength];
+      System.arraycopy(columnFamilyContext.getValueBufferArray(), 0, value, 0, valueLength);
+      transaction.getUncommittedRows(rowCache).put(RowCache.copyOf(cacheKey), value);
+    }
+  }
+
+  private void deleteValue(final ZeebeTransaction transaction) throws Exception {
+    transaction.delete(
+        nativeHandle, columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+
+    if (rowCache != null) {
+      cacheKey.wrap(columnFamilyContext.getKeyBufferArray(), 0, columnFamilyContext.getKeyLength());
+      transaction.getUncommittedRows(rowCache).put(RowCache.copyOf(cacheKey), RowCache.ABSENT);
     }
   }
 
@@ -346,7 +472,7 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, handle);
   }
 
   /**
@@ -380,19 +506,21 @@ class TransactionalColumnFamily<
       Objects.requireNonNull(visitor);
 
       /*
-       * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on
-       * iterators at the moment, so using prefixes seem to be mostly related to skipping files that
-       * do not contain keys with the given prefix (which is useful anyway), but it will still iterate
-       * over all keys contained in those files, so we still need to make sure the key actually
-       * matches the prefix.
+       * NOTE: RocksDB uses the prefix bloom filters and the upper bound to skip memtables, files
+       * and blocks which cannot contain keys with the given prefix, and stops once the upper bound
+       * is reached. The uncommitted writes of the transaction are however merged into the
+       * iteration, so we still make sure the key actually matches the prefix.
        *
        * <p>While iterating over subsequent keys we have to validate it.
        */
       columnFamilyContext.withPrefixKey(
           prefix,
           (prefixKey, prefixLength) -> {
-            try (final RocksIterator iterator =
-                newIterator(context, transactionDb.getPrefixReadOptions())) {
+            try (final Slice upperBound =
+                    ZeebeTransactionDb.createUpperBound(prefixKey, prefixLength);
+                final RocksIterator iterator =
+                    newIterator(
+                        context, transactionDb.getPrefixReadOptions(prefixLength, upperBound))) {
 
               boolean shouldVisitNext = true;
 
@@ -427,19 +555,17 @@ class TransactionalColumnFamily<
     final var count = new AtomicLong(0);
 
     /*
-     * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on
-     * iterators at the moment, so using prefixes seem to be mostly related to skipping files that
-     * do not contain keys with the given prefix (which is useful anyway), but it will still iterate
-     * over all keys contained in those files, so we still need to make sure the key actually
-     * matches the prefix.
-     *
-     * <p>While iterating over subsequent keys we have to validate it.
+     * NOTE: see forEachInPrefix, RocksDB skips what it can, but we still have to make sure the key
+     * actually matches the prefix.
      */
     columnFamilyContext.withPrefixKey(
         prefix,
         (prefixKey, prefixLength) -> {
-          try (final RocksIterator iterator =
-              newIterator(context, transactionDb.getPrefixReadOptions())) {
+          try (final Slice upperBound =
+                  ZeebeTransactionDb.createUpperBound(prefixKey, prefixLength);
+              final RocksIterator iterator =
+                  newIterator(
+                      context, transactionDb.getPrefixReadOptions(prefixLength, upperBound))) {
 
             for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
                 iterator.isValid();
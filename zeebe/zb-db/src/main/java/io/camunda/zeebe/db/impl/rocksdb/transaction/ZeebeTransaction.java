@@ -9,9 +9,17 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
 
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
@@ -23,6 +31,10 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  // rows written by the current transaction to column families with a row cache, which are
+  // applied to the caches once committed
+  private final Map<RowCache, Map<DirectBuffer, byte[]>> uncommittedRows = new IdentityHashMap<>();
+  private final List<TransactionListener> listeners = new ArrayList<>();
 
   private boolean inCurrentTransaction;
   private Transaction transaction;
@@ -90,13 +102,39 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * Reads the values of the given keys of a single column family in one batch, including the
+   * uncommitted writes of this transaction.
+   *
+   * @return the values in the order of the given keys, with null for keys which do not exist
+   */
+  public List<byte[]> multiGet(
+      final ReadOptions options, final ColumnFamilyHandle handle, final List<byte[]> keys)
+      throws RocksDBException {
+    return transaction.multiGetAsList(options, Collections.nCopies(keys.size(), handle), keys);
+  }
+
   public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
     return transaction.getIterator(options, handle);
   }
 
+  /**
+   * Returns the rows written by the current transaction to the column family of the given cache,
+   * mapping keys to values or {@link RowCache#ABSENT} for deleted keys. Writers must add their rows
+   * here to keep the cache up to date.
+   */
+  Map<DirectBuffer, byte[]> getUncommittedRows(final RowCache rowCache) {
+    return uncommittedRows.computeIfAbsent(rowCache, ignored -> new HashMap<>());
+  }
+
+  void addListener(final TransactionListener listener) {
+    listeners.add(listener);
+  }
+
   void resetTransaction() {
     transaction = transactionRenovator.renewTransaction(transaction);
     inCurrentTransaction = true;
+    discardUncommittedRows();
   }
 
   boolean isInCurrentTransaction() {
@@ -145,11 +183,34 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.commit();
+    applyUncommittedRows();
+    for (final var listener : listeners) {
+      listener.onCommit();
+    }
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    discardUncommittedRows();
     transaction.rollback();
+    for (final var listener : listeners) {
+      listener.onRollback();
+    }
+  }
+
+  private void applyUncommittedRows() {
+    for (final var rows : uncommittedRows.entrySet()) {
+      if (!rows.getValue().isEmpty()) {
+        rows.getKey().apply(rows.getValue());
+        rows.getValue().clear();
+      }
+    }
+  }
+
+  private void discardUncommittedRows() {
+    for (final var rows : uncommittedRows.values()) {
+      rows.clear();
+    }
   }
 
   @Override
@@ -21,24 +21,37 @@ import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.metrics.RocksDBMetricExporter;
+import io.camunda.zeebe.db.impl.rocksdb.metrics.RocksDbMetricsDoc;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbOptions.ColumnFamilyGroupOptions;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Long2LongHashMap;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.OptimisticTransactionDB;
+import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksObject;
+import org.rocksdb.Slice;
 import org.rocksdb.Transaction;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
@@ -47,15 +60,29 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     implements ZeebeDb<ColumnFamilyNames>, TransactionRenovator {
 
   private static final Logger LOG = Loggers.DB_LOGGER;
+  private static final String DEFAULT_COLUMN_FAMILY_NAME =
+      new String(RocksDB.DEFAULT_COLUMN_FAMILY, StandardCharsets.UTF_8);
+  // properties which are reported for the whole database, and not per column family
+  private static final Set<String> DATABASE_PROPERTIES =
+      Stream.of(RocksDbMetricsDoc.values())
+          .filter(metric -> !metric.isColumnFamilyProperty())
+          .map(RocksDbMetricsDoc::propertyName)
+          .collect(Collectors.toUnmodifiableSet());
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
   private final OptimisticTransactionDB optimisticTransactionDB;
   private final List<AutoCloseable> closables;
+  private final int prefixExtractorLength;
   private final ReadOptions prefixReadOptions;
+  private final ReadOptions totalOrderReadOptions;
   private final ReadOptions defaultReadOptions;
   private final WriteOptions defaultWriteOptions;
   private final ColumnFamilyHandle defaultHandle;
   private final long defaultNativeHandle;
+  private final Int2ObjectHashMap<ColumnFamilyHandle> groupHandles;
+  private final Long2LongHashMap groupNativeHandles;
+  private final List<ColumnFamilyHandle> physicalHandles;
+  private final Int2ObjectHashMap<RowCache> rowCaches = new Int2ObjectHashMap<>();
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
   private final MeterRegistry meterRegistry;
@@ -63,6 +90,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
+      final Int2ObjectHashMap<ColumnFamilyHandle> groupHandles,
       final OptimisticTransactionDB optimisticTransactionDB,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
@@ -71,6 +99,20 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
       final MeterRegistry meterRegistry) {
     this.defaultHandle = defaultHandle;
     defaultNativeHandle = getNativeHandle(defaultHandle);
+    this.groupHandles = groupHandles;
+    groupNativeHandles = new Long2LongHashMap(defaultNativeHandle);
+    groupHandles.forEach(
+        (columnFamily, handle) -> groupNativeHandles.put(columnFamily, getNativeHandle(handle)));
+    physicalHandles = new ArrayList<>();
+    physicalHandles.add(defaultHandle);
+    groupHandles
+        .values()
+        .forEach(
+            handle -> {
+              if (!physicalHandles.contains(handle)) {
+                physicalHandles.add(handle);
+              }
+            });
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
@@ -78,6 +120,10 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     this.meterRegistry = meterRegistry;
     metricExporter = new RocksDBMetricExporter(meterRegistry);
 
+    rocksDbConfiguration
+        .getRowCacheSizes()
+        .forEach((columnFamily, size) -> rowCaches.put(columnFamily, new RowCache(size)));
+    prefixExtractorLength = rocksDbConfiguration.getPrefixExtractorLength();
     prefixReadOptions =
         new ReadOptions()
             .setPrefixSameAsStart(true)
@@ -87,6 +133,9 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
             // wise)
             .setReadaheadSize(0);
     closables.add(prefixReadOptions);
+    totalOrderReadOptions =
+        new ReadOptions().setPrefixSameAsStart(false).setTotalOrderSeek(true).setReadaheadSize(0);
+    closables.add(totalOrderReadOptions);
     defaultReadOptions = new ReadOptions();
     closables.add(defaultReadOptions);
     defaultWriteOptions = new WriteOptions().setDisableWAL(rocksDbConfiguration.isWalDisabled());
@@ -103,28 +152,65 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           final AccessMetricsConfiguration metrics,
           final Supplier<MeterRegistry> meterRegistryFactory)
           throws RocksDBException {
-    final var cfDescriptors =
-        Arrays.asList( // todo: could consider using List.of
-            new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    final var groupsByName = new HashMap<String, ColumnFamilyGroupOptions>();
+    options.groups().forEach(group -> groupsByName.put(group.name(), group));
+
+    // open all existing column families as well, even if they are not configured anymore, so
+    // their entries can be moved back to where they belong
+    final var uniqueCfNames = new LinkedHashSet<String>();
+    uniqueCfNames.add(DEFAULT_COLUMN_FAMILY_NAME);
+    uniqueCfNames.addAll(groupsByName.keySet());
+    uniqueCfNames.addAll(listExistingColumnFamilies(options, path));
+    final var cfNames = List.copyOf(uniqueCfNames);
+
+    final var cfDescriptors = new ArrayList<ColumnFamilyDescriptor>(cfNames.size());
+    for (final var cfName : cfNames) {
+      final var group = groupsByName.get(cfName);
+      cfDescriptors.add(
+          new ColumnFamilyDescriptor(
+              cfName.getBytes(StandardCharsets.UTF_8),
+              group != null ? group.cfOptions() : options.cfOptions()));
+    }
+
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
     final OptimisticTransactionDB optimisticTransactionDB =
         OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
     closables.add(optimisticTransactionDB);
 
-    if (cfHandles.size() != 1) {
+    if (cfHandles.size() != cfDescriptors.size()) {
       throw new IllegalStateException(
-          "Expected a handle for the default column family but found %d handles"
-              .formatted(cfHandles.size()));
+          "Expected a handle for each of the %d column families but found %d handles"
+              .formatted(cfDescriptors.size(), cfHandles.size()));
     }
 
     final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
     closables.add(defaultColumnFamilyHandle);
 
+    final var groupHandles = new Int2ObjectHashMap<ColumnFamilyHandle>();
+    final var unusedHandles = new ArrayList<ColumnFamilyHandle>();
+    for (int i = 1; i < cfHandles.size(); i++) {
+      final var handle = cfHandles.get(i);
+      final var group = groupsByName.get(cfNames.get(i));
+      closables.add(handle);
+      if (group != null) {
+        group.columnFamilies().forEach(columnFamily -> groupHandles.put(columnFamily, handle));
+      } else {
+        unusedHandles.add(handle);
+      }
+    }
+
+    migrateColumnFamilyGroups(
+        optimisticTransactionDB,
+        cfHandles,
+        columnFamily -> groupHandles.getOrDefault(columnFamily, defaultColumnFamilyHandle),
+        unusedHandles);
+
     final var meterRegistry = meterRegistryFactory.get();
     closables.add(() -> MicrometerUtil.close(meterRegistry));
 
     return new ZeebeTransactionDb<>(
         defaultColumnFamilyHandle,
+        groupHandles,
         optimisticTransactionDB,
         closables,
         rocksDbConfiguration,
@@ -133,6 +219,39 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         meterRegistry);
   }
 
+  private static List<String> listExistingColumnFamilies(
+      final RocksDbOptions options, final String path) throws RocksDBException {
+    if (!new File(path, "CURRENT").exists()) {
+      return List.of();
+    }
+
+    try (final var listOptions = new Options(options.dbOptions(), options.cfOptions())) {
+      return RocksDB.listColumnFamilies(listOptions, path).stream()
+          .map(name -> new String(name, StandardCharsets.UTF_8))
+          .toList();
+    }
+  }
+
+  private static void migrateColumnFamilyGroups(
+      final OptimisticTransactionDB db,
+      final List<ColumnFamilyHandle> handles,
+      final IntFunction<ColumnFamilyHandle> targetResolver,
+      final List<ColumnFamilyHandle> unusedHandles)
+      throws RocksDBException {
+    final var movedEntries = new ColumnFamilyGroupMigration(db, targetResolver).migrate(handles);
+    if (movedEntries > 0) {
+      LOG.info("Moved {} entries to match the configured column family groups", movedEntries);
+    }
+
+    // all entries have been moved out of them, so they can be dropped safely
+    for (final var handle : unusedHandles) {
+      LOG.info(
+          "Dropping column family '{}' which is not configured anymore",
+          new String(handle.getName(), StandardCharsets.UTF_8));
+      db.dropColumnFamily(handle);
+    }
+  }
+
   static long getNativeHandle(final RocksObject object) {
     try {
       return RocksDbInternal.nativeHandle.getLong(object);
@@ -142,14 +261,52 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     }
   }
 
-  protected ReadOptions getPrefixReadOptions() {
-    return prefixReadOptions;
+  /**
+   * Creates the exclusive upper bound of all keys starting with the given prefix, i.e. the smallest
+   * key which is greater than all of them. Setting it as iterate upper bound lets RocksDB stop at
+   * the end of the prefix, instead of reading the next block or file only for us to discard the key
+   * it finds there.
+   *
+   * <p>The returned slice must be closed once the iterator using it is closed.
+   */
+  static Slice createUpperBound(final byte[] prefix, final int prefixLength) {
+    for (int i = prefixLength - 1; i >= 0; i--) {
+      if (prefix[i] != (byte) 0xFF) {
+        final var upperBound = Arrays.copyOf(prefix, i + 1);
+        upperBound[i]++;
+        return new Slice(upperBound);
+      }
+    }
+
+    throw new IllegalArgumentException(
+        "Expected prefix to start with a column family prefix, but it consists only of 0xFF bytes");
+  }
+
+  /**
+   * Returns the read options to iterate over the keys starting with a prefix of the given length,
+   * stopping at the given upper bound (see {@link #createUpperBound(byte[], int)}).
+   *
+   * <p>Prefix seek, which lets RocksDB skip memtables and files via the prefix bloom filters, is
+   * only correct if the prefix covers the extracted prefix. Shorter prefixes use a total order
+   * seek, which still skips files outside the range thanks to the upper bound.
+   *
+   * <p>NOTE: the options are shared and only valid until the next call; the upper bound is copied
+   * into the iterator when it is created, and must stay open as long as the iterator.
+   */
+  protected ReadOptions getPrefixReadOptions(final int prefixLength, final Slice upperBound) {
+    final var readOptions =
+        prefixLength >= prefixExtractorLength ? prefixReadOptions : totalOrderReadOptions;
+    return readOptions.setIterateUpperBound(upperBound);
   }
 
   protected ColumnFamilyHandle getDefaultHandle() {
     return defaultHandle;
   }
 
+  protected ReadOptions getReadOptions() {
+    return defaultReadOptions;
+  }
+
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
@@ -158,6 +315,30 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return defaultNativeHandle;
   }
 
+  /**
+   * @return the handle of the physical column family in which the given logical column family is
+   *     stored
+   */
+  protected ColumnFamilyHandle getHandle(final int columnFamily) {
+    return groupHandles.getOrDefault(columnFamily, defaultHandle);
+  }
+
+  /**
+   * @return the native handle of the physical column family in which the given logical column
+   *     family is stored
+   */
+  protected long getNativeHandle(final int columnFamily) {
+    return groupNativeHandles.get(columnFamily);
+  }
+
+  /**
+   * @return the row cache shared by all transactions for the given logical column family, or null
+   *     if the column family is not cached
+   */
+  protected RowCache getRowCache(final int columnFamily) {
+    return rowCaches.get(columnFamily);
+  }
+
   @Override
   public <KeyType extends DbKey, ValueType extends DbValue>
       ColumnFamily<KeyType, ValueType> createColumnFamily(
@@ -192,8 +373,27 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     }
   }
 
+  /**
+   * Returns the value of the given RocksDB property. Numeric properties which are reported per
+   * column family, e.g. the size of the memtables, are summed up over all physical column families,
+   * so they cover the column family groups as well. Any other property is read from the default
+   * column family only.
+   */
   @Override
   public Optional<String> getProperty(final String propertyName) {
+    if (physicalHandles.size() > 1 && !DATABASE_PROPERTIES.contains(propertyName)) {
+      try {
+        long aggregatedValue = 0;
+        for (final var handle : physicalHandles) {
+          aggregatedValue += optimisticTransactionDB.getLongProperty(handle, propertyName);
+        }
+        return Optional.of(String.valueOf(aggregatedValue));
+      } catch (final RocksDBException rde) {
+        // not a numeric property, fall back to the default column family
+        LOG.trace(rde.getMessage(), rde);
+      }
+    }
+
     String propertyValue = null;
     try {
       propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
@@ -225,7 +425,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
 
   @Override
   public void exportMetrics() {
-    metricExporter.exportMetrics(optimisticTransactionDB);
+    metricExporter.exportMetrics(this);
   }
 
   @Override
@@ -124,6 +124,77 @@ public final class ColumnFamilyTest {
     assertThat(longValue.getValue()).isEqualTo(12345);
   }
 
+  @Test
+  public void shouldMultiGetExistingKeysInOrder() {
+    // given
+    upsertKeyValuePair(4567, 123);
+    upsertKeyValuePair(1213, 255);
+    upsertKeyValuePair(6734, 921);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final List<Long> values = new ArrayList<>();
+    columnFamily.multiGet(
+        List.of(newKey(6734), newKey(1), newKey(4567), newKey(1213)),
+        (key, value) -> {
+          keys.add(key.getValue());
+          values.add(value.getValue());
+          return true;
+        });
+
+    // then
+    assertThat(keys).containsExactly(6734L, 4567L, 1213L);
+    assertThat(values).containsExactly(921L, 123L, 255L);
+  }
+
+  @Test
+  public void shouldStopMultiGet() {
+    // given
+    upsertKeyValuePair(4567, 123);
+    upsertKeyValuePair(1213, 255);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    columnFamily.multiGet(
+        List.of(newKey(4567), newKey(1213)),
+        (key, value) -> {
+          keys.add(key.getValue());
+          return false;
+        });
+
+    // then
+    assertThat(keys).containsExactly(4567L);
+  }
+
+  @Test
+  public void shouldMultiGetUncommittedWrites() throws Exception {
+    // given
+    upsertKeyValuePair(4567, 123);
+    upsertKeyValuePair(1213, 255);
+    final var context = zeebeDb.createContext();
+    final var transactionalColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, new DbLong(), value);
+    final var transaction = context.getCurrentTransaction();
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    transaction.run(
+        () -> {
+          key.wrapLong(4567);
+          transactionalColumnFamily.deleteExisting(key);
+          key.wrapLong(1213);
+          value.wrapLong(256);
+          transactionalColumnFamily.update(key, value);
+
+          transactionalColumnFamily.multiGet(
+              List.of(newKey(4567), newKey(1213)), (key, value) -> values.add(value.getValue()));
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(values).containsExactly(256L);
+  }
+
   @Test
   public void shouldCheckForExistence() {
     // given
@@ -466,6 +537,12 @@ public final class ColumnFamilyTest {
         .hasMessageContaining("Foreign key");
   }
 
+  private DbLong newKey(final long value) {
+    final var key = new DbLong();
+    key.wrapLong(value);
+    return key;
+  }
+
   private void upsertKeyValuePair(final int key, final int value) {
     this.key.wrapLong(key);
     this.value.wrapLong(value);
@@ -12,11 +12,13 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
@@ -235,6 +237,35 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldNotifyListenersOnCommitAndRollback() throws Exception {
+    // given
+    final var events = new ArrayList<String>();
+    transactionContext.addTransactionListener(
+        new TransactionListener() {
+          @Override
+          public void onCommit() {
+            events.add("commit");
+          }
+
+          @Override
+          public void onRollback() {
+            events.add("rollback");
+          }
+        });
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    // when
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+    transaction.commit();
+    transactionContext.getCurrentTransaction().rollback();
+
+    // then
+    assertThat(events).containsExactly("commit", "rollback");
+  }
+
   @Test
   public void shouldGetValueInTransaction() {
     // given
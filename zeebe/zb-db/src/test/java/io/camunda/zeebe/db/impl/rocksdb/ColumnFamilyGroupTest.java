@@ -0,0 +1,231 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.rocksdb.metrics.RocksDbMetricsDoc;
+import io.camunda.zeebe.protocol.EnumValue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+
+final class ColumnFamilyGroupTest {
+
+  @TempDir File path;
+
+  @Test
+  void shouldStoreGroupInSeparateColumnFamily() throws Exception {
+    // given
+    final var factory = createFactory(hotGroup());
+
+    // when
+    try (final var db = factory.createDb(path)) {
+      put(db, ColumnFamilies.HOT, 1, 10);
+      put(db, ColumnFamilies.COLD, 1, 20);
+
+      // then
+      assertThat(get(db, ColumnFamilies.HOT, 1)).isEqualTo(10);
+      assertThat(get(db, ColumnFamilies.COLD, 1)).isEqualTo(20);
+      assertThat(db.isEmpty(ColumnFamilies.HOT, db.createContext())).isFalse();
+    }
+
+    assertThat(listColumnFamilies()).containsExactlyInAnyOrder("default", "hot");
+  }
+
+  @Test
+  void shouldMoveEntriesIntoGroup() throws Exception {
+    // given
+    try (final var db = createFactory().createDb(path)) {
+      put(db, ColumnFamilies.HOT, 1, 10);
+      put(db, ColumnFamilies.HOT, 2, 11);
+      put(db, ColumnFamilies.COLD, 1, 20);
+    }
+
+    // when
+    try (final var db = createFactory(hotGroup()).createDb(path)) {
+      // then
+      assertThat(get(db, ColumnFamilies.HOT, 1)).isEqualTo(10);
+      assertThat(get(db, ColumnFamilies.HOT, 2)).isEqualTo(11);
+      assertThat(get(db, ColumnFamilies.COLD, 1)).isEqualTo(20);
+      assertThat(count(db, ColumnFamilies.HOT)).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void shouldMoveEntriesBackWhenGroupIsRemoved() throws Exception {
+    // given
+    try (final var db = createFactory(hotGroup()).createDb(path)) {
+      put(db, ColumnFamilies.HOT, 1, 10);
+      put(db, ColumnFamilies.COLD, 1, 20);
+    }
+
+    // when
+    try (final var db = createFactory().createDb(path)) {
+      // then
+      assertThat(get(db, ColumnFamilies.HOT, 1)).isEqualTo(10);
+      assertThat(get(db, ColumnFamilies.COLD, 1)).isEqualTo(20);
+    }
+
+    assertThat(listColumnFamilies()).containsExactly("default");
+  }
+
+  @Test
+  void shouldIncludeGroupsInSnapshot(final @TempDir File snapshotRoot) throws Exception {
+    // given
+    final var factory = createFactory(hotGroup());
+    try (final var db = factory.createDb(path)) {
+      put(db, ColumnFamilies.HOT, 1, 10);
+      put(db, ColumnFamilies.COLD, 1, 20);
+    }
+
+    // when
+    final var snapshotPath = new File(snapshotRoot, "snapshot");
+    try (final var db = factory.openSnapshotOnlyDb(path)) {
+      db.createSnapshot(snapshotPath);
+    }
+
+    // then
+    try (final var db = factory.createDb(snapshotPath)) {
+      assertThat(get(db, ColumnFamilies.HOT, 1)).isEqualTo(10);
+      assertThat(get(db, ColumnFamilies.COLD, 1)).isEqualTo(20);
+    }
+  }
+
+  @Test
+  void shouldAggregatePropertiesOverGroups() throws Exception {
+    // given
+    final var factory = createFactory(hotGroup());
+
+    try (final var db = factory.createDb(path)) {
+      // when
+      put(db, ColumnFamilies.HOT, 1, 10);
+      put(db, ColumnFamilies.COLD, 1, 20);
+
+      // then
+      assertThat(db.getProperty("rocksdb.estimate-num-keys")).hasValue("2");
+      assertThat(db.getProperty("rocksdb.num-running-compactions")).hasValue("0");
+    }
+  }
+
+  @Test
+  void shouldIncludeGroupsInMemtableSize() throws Exception {
+    // given
+    final var factory = createFactory(hotGroup());
+    final var memtableSizeProperty = RocksDbMetricsDoc.CUR_SIZE_ALL_MEM_TABLES.propertyName();
+
+    try (final var db = factory.createDb(path)) {
+      final long initialSize = Long.parseLong(db.getProperty(memtableSizeProperty).orElseThrow());
+
+      // when
+      for (int i = 0; i < 10_000; i++) {
+        put(db, ColumnFamilies.HOT, i, i);
+      }
+
+      // then
+      assertThat(Long.parseLong(db.getProperty(memtableSizeProperty).orElseThrow()))
+          .isGreaterThan(initialSize);
+    }
+  }
+
+  @Test
+  void shouldRejectColumnFamilyInMultipleGroups() {
+    // given
+    final var factory =
+        createFactory(
+            hotGroup(),
+            new ColumnFamilyGroupConfiguration("other").addColumnFamily(ColumnFamilies.HOT));
+
+    // when - then
+    //noinspection resource
+    assertThatThrownBy(() -> factory.createDb(path))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("assigned to multiple groups");
+  }
+
+  @Test
+  void shouldRejectFifoCompaction() {
+    // when - then
+    assertThatThrownBy(() -> hotGroup().setCompactionStyle(CompactionStyle.FIFO))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private ColumnFamilyGroupConfiguration hotGroup() {
+    return new ColumnFamilyGroupConfiguration("hot")
+        .addColumnFamily(ColumnFamilies.HOT)
+        .setBlockSize(4 * 1024L)
+        .setCompactionStyle(CompactionStyle.UNIVERSAL);
+  }
+
+  private ZeebeRocksDbFactory<ColumnFamilies> createFactory(
+      final ColumnFamilyGroupConfiguration... groups) {
+    return new ZeebeRocksDbFactory<>(
+        new RocksDbConfiguration().setColumnFamilyGroups(List.of(groups)),
+        new ConsistencyChecksSettings(true, true),
+        new AccessMetricsConfiguration(Kind.NONE, 1),
+        SimpleMeterRegistry::new);
+  }
+
+  private List<String> listColumnFamilies() throws RocksDBException {
+    try (final var options = new Options()) {
+      return RocksDB.listColumnFamilies(options, path.getAbsolutePath()).stream()
+          .map(name -> new String(name, StandardCharsets.UTF_8))
+          .toList();
+    }
+  }
+
+  private void put(
+      final ZeebeDb<ColumnFamilies> db,
+      final ColumnFamilies columnFamily,
+      final long key,
+      final long value) {
+    final var dbKey = new DbLong();
+    final var dbValue = new DbLong();
+    final var column = db.createColumnFamily(columnFamily, db.createContext(), dbKey, dbValue);
+    dbKey.wrapLong(key);
+    dbValue.wrapLong(value);
+    column.insert(dbKey, dbValue);
+  }
+
+  private long get(
+      final ZeebeDb<ColumnFamilies> db, final ColumnFamilies columnFamily, final long key) {
+    final var dbKey = new DbLong();
+    final var column = db.createColumnFamily(columnFamily, db.createContext(), dbKey, new DbLong());
+    dbKey.wrapLong(key);
+    return column.get(dbKey).getValue();
+  }
+
+  private long count(final ZeebeDb<ColumnFamilies> db, final ColumnFamilies columnFamily) {
+    return db.createColumnFamily(columnFamily, db.createContext(), new DbLong(), new DbLong())
+        .count();
+  }
+
+  private enum ColumnFamilies implements EnumValue {
+    DEFAULT,
+    HOT,
+    COLD;
+
+    @Override
+    public int getValue() {
+      return ordinal();
+    }
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.perf;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.KeyValuePairVisitor;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures how prefix scans over small scopes, e.g. the variables of a single element instance,
+ * scale with the size of the state. A scan should only touch the blocks containing the scope, so
+ * its throughput should stay roughly flat as the state grows.
+ *
+ * <p>Every scope is an even key with {@link #SCOPE_SIZE} entries; odd keys are scopes without any
+ * entries, which the prefix bloom filters should rule out without reading any data block.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class PrefixIterationPerformanceTest {
+  private static final Logger LOG = LoggerFactory.getLogger(PrefixIterationPerformanceTest.class);
+  private static final int SCOPE_SIZE = 10;
+  private static final int BATCH_SIZE = 10_000;
+
+  /** The total amount of entries in the state */
+  @Param({"100000", "1000000", "10000000"})
+  public int stateSize;
+
+  private final DbLong scopeKey = new DbLong();
+  private final DbLong entryKey = new DbLong();
+  private final DbCompositeKey<DbLong, DbLong> key = new DbCompositeKey<>(scopeKey, entryKey);
+  private final DbLong value = new DbLong();
+  private long visitedEntries;
+  private final KeyValuePairVisitor<DbCompositeKey<DbLong, DbLong>, DbLong> visitor =
+      (ignoredKey, ignoredValue) -> {
+        visitedEntries++;
+        return true;
+      };
+
+  private Path tempDir;
+  private ZeebeDb<DefaultColumnFamily> db;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+  private int scopeCount;
+
+  @Setup
+  public void setup() throws Exception {
+    tempDir = Files.createTempDirectory("prefix-iteration");
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration(),
+            new ConsistencyChecksSettings(false, false),
+            new AccessMetricsConfiguration(Kind.NONE, 1),
+            SimpleMeterRegistry::new);
+    scopeCount = stateSize / SCOPE_SIZE;
+
+    LOG.info("Creating a state with {} entries; please hold the line...", stateSize);
+    final var runtimePath = tempDir.resolve("runtime");
+    try (final var runtimeDb = factory.createDb(runtimePath.toFile())) {
+      fillState(runtimeDb);
+
+      // taking a snapshot flushes the memtables, so that the scans are served from SST files
+      runtimeDb.createSnapshot(tempDir.resolve("snapshot").toFile());
+    }
+
+    db = factory.createDb(tempDir.resolve("snapshot").toFile());
+    columnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, db.createContext(), key, value);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    db.close();
+    FileUtil.deleteFolder(tempDir);
+  }
+
+  @JMHTest("measureScopeScan")
+  void shouldScanScopeWithinDeviation(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = 30_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("stateSize", "10000000")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @Benchmark
+  public long measureScopeScan() {
+    return scan(2L * ThreadLocalRandom.current().nextInt(scopeCount));
+  }
+
+  @Benchmark
+  public long measureEmptyScopeScan() {
+    return scan(2L * ThreadLocalRandom.current().nextInt(scopeCount) + 1);
+  }
+
+  private long scan(final long scope) {
+    visitedEntries = 0;
+    scopeKey.wrapLong(scope);
+    columnFamily.whileEqualPrefix(scopeKey, visitor);
+    return visitedEntries;
+  }
+
+  private void fillState(final ZeebeDb<DefaultColumnFamily> runtimeDb) {
+    final TransactionContext context = runtimeDb.createContext();
+    final var runtimeColumnFamily =
+        runtimeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+
+    for (int batchStart = 0; batchStart < stateSize; batchStart += BATCH_SIZE) {
+      final var start = batchStart;
+      context.runInTransaction(
+          () -> {
+            for (int entry = start; entry < Math.min(start + BATCH_SIZE, stateSize); entry++) {
+              scopeKey.wrapLong(2L * (entry / SCOPE_SIZE));
+              entryKey.wrapLong(entry);
+              value.wrapLong(entry);
+              runtimeColumnFamily.insert(key, value);
+            }
+          });
+    }
+  }
+}
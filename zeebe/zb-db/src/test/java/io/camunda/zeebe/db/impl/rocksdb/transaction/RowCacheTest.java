@@ -0,0 +1,240 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ColumnFamilyMetricsDoc;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class RowCacheTest {
+
+  @TempDir File path;
+
+  private ZeebeDb<DefaultColumnFamily> db;
+  private TransactionContext context;
+  private TransactionContext otherContext;
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private ColumnFamily<DbLong, DbLong> otherColumnFamily;
+
+  @BeforeEach
+  void setup() {
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration()
+                .setRowCacheSizes(Map.of(DefaultColumnFamily.DEFAULT.getValue(), 1024 * 1024L)),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.FINE, 1),
+            SimpleMeterRegistry::new);
+    db = factory.createDb(path);
+    context = db.createContext();
+    otherContext = db.createContext();
+    columnFamily = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+    otherColumnFamily =
+        db.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, otherContext, new DbLong(), new DbLong());
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    db.close();
+  }
+
+  @Test
+  void shouldServeCommittedWritesFromCache() {
+    // given
+    upsert(1, 10);
+
+    // when
+    final var value = get(otherColumnFamily, 1);
+
+    // then
+    assertThat(value).isEqualTo(10);
+    assertThat(cacheCount("hit")).isOne();
+    assertThat(cacheCount("miss")).isZero();
+  }
+
+  @Test
+  void shouldServeRepeatedGetsFromCache() {
+    // when
+    final var first = get(otherColumnFamily, 2);
+    final var second = get(otherColumnFamily, 2);
+
+    // then
+    assertThat(first).isEqualTo(-1);
+    assertThat(second).isEqualTo(-1);
+    assertThat(cacheCount("hit")).isOne();
+    assertThat(cacheCount("miss")).isOne();
+  }
+
+  @Test
+  void shouldCacheAbsentKeys() {
+    // when
+    key.wrapLong(1);
+    final var firstExists = columnFamily.exists(key);
+    final var secondExists = columnFamily.exists(key);
+
+    // then
+    assertThat(firstExists).isFalse();
+    assertThat(secondExists).isFalse();
+    assertThat(cacheCount("hit")).isOne();
+  }
+
+  @Test
+  void shouldNotExposeUncommittedWrites() throws Exception {
+    // given
+    upsert(1, 10);
+    assertThat(get(otherColumnFamily, 1)).isEqualTo(10);
+    final var transaction = context.getCurrentTransaction();
+
+    // when
+    transaction.run(() -> upsert(1, 20));
+
+    // then
+    assertThat(get(columnFamily, 1)).isEqualTo(20);
+    assertThat(get(otherColumnFamily, 1)).isEqualTo(10);
+    transaction.commit();
+    assertThat(get(otherColumnFamily, 1)).isEqualTo(20);
+  }
+
+  @Test
+  void shouldDiscardWritesOnRollback() throws Exception {
+    // given
+    upsert(1, 10);
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          upsert(1, 20);
+          key.wrapLong(2);
+          value.wrapLong(30);
+          columnFamily.insert(key, value);
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(get(columnFamily, 1)).isEqualTo(10);
+    key.wrapLong(2);
+    assertThat(columnFamily.exists(key)).isFalse();
+  }
+
+  @Test
+  void shouldApplyDeletesOnCommit() {
+    // given
+    upsert(1, 10);
+    assertThat(get(otherColumnFamily, 1)).isEqualTo(10);
+
+    // when
+    key.wrapLong(1);
+    columnFamily.deleteExisting(key);
+
+    // then
+    key.wrapLong(1);
+    assertThat(columnFamily.exists(key)).isFalse();
+    assertThat(get(otherColumnFamily, 1)).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldMultiGetFromCacheAndPopulateMisses() {
+    // given
+    upsert(1, 10);
+    final var keys = List.of(new DbLong(), new DbLong());
+    keys.get(0).wrapLong(1);
+    keys.get(1).wrapLong(2);
+
+    // when
+    final var values = new ArrayList<Long>();
+    otherColumnFamily.multiGet(keys, (key, value) -> values.add(value.getValue()));
+    upsert(2, 20);
+    otherColumnFamily.multiGet(keys, (key, value) -> values.add(value.getValue()));
+
+    // then
+    assertThat(values).containsExactly(10L, 10L, 20L);
+    assertThat(cacheCount("hit")).isEqualTo(3);
+    assertThat(cacheCount("miss")).isOne();
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedRows() {
+    // given
+    final var cache = new RowCache(300);
+    cache.apply(Map.of(buffer(1), new byte[50]));
+    cache.apply(Map.of(buffer(2), new byte[50]));
+    cache.get(buffer(1));
+
+    // when
+    cache.apply(Map.of(buffer(3), new byte[50]));
+
+    // then
+    assertThat(cache.get(buffer(1))).isNotNull();
+    assertThat(cache.get(buffer(2))).isNull();
+    assertThat(cache.get(buffer(3))).isNotNull();
+    assertThat(cache.size()).isLessThanOrEqualTo(300);
+  }
+
+  @Test
+  void shouldNotCacheOutdatedRead() {
+    // given
+    final var cache = new RowCache(1024);
+    final var version = cache.version();
+
+    // when
+    cache.apply(Map.of(buffer(1), new byte[] {2}));
+    cache.putIfUnchanged(version, buffer(1), new byte[] {1});
+
+    // then
+    assertThat(cache.get(buffer(1))).containsExactly(2);
+  }
+
+  private UnsafeBuffer buffer(final int key) {
+    return new UnsafeBuffer(new byte[] {(byte) key});
+  }
+
+  private void upsert(final long key, final long value) {
+    this.key.wrapLong(key);
+    this.value.wrapLong(value);
+    columnFamily.upsert(this.key, this.value);
+  }
+
+  private long get(final ColumnFamily<DbLong, DbLong> columnFamily, final long key) {
+    final var dbKey = new DbLong();
+    dbKey.wrapLong(key);
+    final var result = columnFamily.get(dbKey);
+    return result == null ? -1 : result.getValue();
+  }
+
+  private double cacheCount(final String result) {
+    return db.getMeterRegistry()
+        .get(ColumnFamilyMetricsDoc.ROW_CACHE.getName())
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+}
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -15,6 +17,8 @@ import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Before;
 import org.junit.Rule;
@@ -85,4 +89,31 @@ public final class ZeebeRocksDbIterationTest {
     // then
     Mockito.verify(spyIterator.get(), Mockito.times((int) suffixes)).next();
   }
+
+  @Test
+  public void shouldIterateOverPrefixWithMaxBytes() {
+    // given
+    final var prefixes = new long[] {Long.MAX_VALUE, -1, 0};
+    for (final long prefix : prefixes) {
+      firstKey.wrapLong(prefix);
+      for (long suffix = 0; suffix < 3; suffix++) {
+        secondKey.wrapLong(suffix);
+        columnFamily.upsert(compositeKey, DbNil.INSTANCE);
+      }
+    }
+
+    // when
+    final List<Long> visitedPrefixes = new ArrayList<>();
+    firstKey.wrapLong(-1);
+    columnFamily.whileEqualPrefix(
+        firstKey,
+        (key, value) -> {
+          visitedPrefixes.add(key.first().getValue());
+        });
+
+    // then
+    assertThat(visitedPrefixes).containsExactly(-1L, -1L, -1L);
+    assertThat(columnFamily.countEqualPrefix(firstKey)).isEqualTo(3);
+    assertThat(columnFamily.count()).isEqualTo(9);
+  }
 }